@@ -0,0 +1,381 @@
+/**
+ * DISCLAIMER
+ * <p>
+ * This java code consisting in java interfaces and classes, hereafter <b>The Code</b>, has been prepared by <b>St&eacute;phane Coutant</b>, 
+ * hereafter <b>The Author</b>, who is the owner of <b>The Code</b> therein.
+ * <p>
+ * Permission is hereby granted to use <b>The Code</b> for both private and commercial usage, subject to the following conditions: 
+ * <ul>
+ * 	<li>(i) that <b>The Author</b> shall not have any responsibility or liability whatsoever to any other party from the use or 
+ * publication of <b>The Code</b>;
+ * 	<li>(ii) that one cannot rely on the accuracy or finality of <b>The Code</b>; 
+ * 	<li>(iii) that the willingness of <b>The Author</b> to provide the <b>The Code</b> does not in any way convey or imply any 
+ * responsibility for any product or service using <b>The Code</b> and <b>The Author</b> specifically disclaims any such responsibility 
+ * to any party;
+ *  <li>and (iv) that <b>The Code</b> package domain name <code>org.iso4j</code> refers to a fake domain created for the need of publication 
+ *  of <b>The Code>/b> on public repository and should not be used as is (the user of <b>The Code</b> should rather copy the content in 
+ *  own project with own package naming policy). In any case, <b>The Author</b> disclaims any responsibility in case this domain name 
+ *  enters or may enter in collision with any registered domain, past or future.
+ * </ul> 
+ * <p>
+ * Implementation of <b>The Code</b> may require licenses under third party intellectual property rights, including without limitation, 
+ * patent rights. <b>The Author</b> is not, and shall not be held responsible in any manner for identifying or failing to identify any 
+ * or all such third party intellectual property rights.
+ * <p>
+ * <b>The Code</b> is provided "AS IS", "WHERE IS" and "WITH ALL FAULTS", and <b>The Author</b> makes any warranty of any kind, 
+ * express or implied, including any implied warranties of merchantability, non-infringement of third party intellectual property rights 
+ * (whether or not <b>The Author</b> has been advised, has reason to know, or is otherwise in fact aware of any information), 
+ * and fitness for a particular purpose (including any errors and omissions in <b>The Code</b>).
+ * <p>
+ * To the extent permitted by applicable law, <b>The Author</b> shall not be liable to any user of <b>The Code</b> for any damages 
+ * (other than direct actual out-of-pocket damages) under any theory of law, including, without limitation, any special, consequential, 
+ * incidental, or punitive damages, nor any damages for loss of business profits, business interruption, loss of business information, or
+ * other monetary loss, nor any damages arising out of third party claims (including claims of intellectual property infringement) 
+ * arising out of the use of or inability to use <b>The Code</b>, even if advised of the possibility of such damages.
+ * <p>
+ * <b>The Code</b> may be subject to export or import regulations in different countries.
+ * Any user of <b>The Code</b> agrees to comply strictly with all such regulations and acknowledges that it has the
+ * responsibility to obtain licenses to export, re-export, or import <b>The Code</b>.
+ * <p>
+ */
+
+package org.iso4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.iso4j.ICountries.Iso3166CountryCode;
+import org.iso4j.ICurrencies.Iso4217CurrencyCode;
+import org.iso4j.IMerchantCategoryCodes.Iso18245MerchantCategoryCode;
+import org.iso4j.IMerchantCategoryCodes.MerchantCategorySet;
+
+/**
+ * <code>IDecisionTables</code> is an interface wrapping decision tables keyed by ISO 18245 Merchant Category Code, ISO 3166 country and 
+ * ISO 4217 currency, such as the processing route or pricing plan of an acquirer. Rules (with wildcards and MCC ranges) are compiled into 
+ * a dense lookup table, resolved in constant time without allocation, and live tables can be swapped atomically when rules change.
+ * <p>
+ * @author St&eacute;phane Coutant (fra)
+ * @see {@link Iso18245MerchantCategoryCode}
+ * @see {@link Iso3166CountryCode}
+ * @see {@link Iso4217CurrencyCode}
+ */
+
+public interface IDecisionTables {
+
+	/**
+	 * Immutable decision table over (MCC, country, currency), compiled from an ordered list of rules: the value of a key is the value of 
+	 * the first rule matching it, or the default value if none does.
+	 * <p>
+	 * Each rule condition is, for each dimension, either a wildcard or a set of values (MCC codes, ranges or sets, countries, currencies). 
+	 * At compilation, the values of each dimension are partitioned in equivalence classes (values matched by exactly the same rules), and 
+	 * the decision of each (MCC class, country class, currency class) cell is precomputed in a dense array. A lookup is then 3 class reads 
+	 * and 1 cell read: constant time, allocation free, whatever the number of rules. Thread-safe (immutable).
+	 * <p>
+	 * For instance, to route domestic euro airline transactions and quasi-cash transactions on dedicated routes:
+	 * <pre>
+	 * DecisionTable&lt;Route&gt; table = DecisionTable.builder(Route.DEFAULT)
+	 *     .when().mccRange(3000, 3299).country(Iso3166CountryCode.FR).currency(Iso4217CurrencyCode.EUR).then(Route.DOMESTIC_AIRLINES)
+	 *     .when().mcc(VisaMerchantCategoryGroup.MCG_10_QUASI_CASH.getMerchantCategorySet()).then(Route.QUASI_CASH)
+	 *     .build();
+	 * Route route = table.get(mcc, country, currency);
+	 * </pre>
+	 */
+	public final class DecisionTable<V> {
+		
+		/** Maximum number of cells of a compiled table */
+		private static final int MAX_CELLS = 1 << 26;
+		
+		/** The number of rules the table was compiled from */
+		private final int ruleCount;
+		/** The MCC class by code (0 to {@link Iso18245MerchantCategoryCode#MAX_CODE}) */
+		private final int[] mccClasses;
+		/** The MCC class of codes outside the code space (matched by MCC wildcards only) */
+		private final int otherMccClass;
+		/** The country class by country ordinal */
+		private final int[] countryClasses;
+		/** The country class of a null country (matched by country wildcards only) */
+		private final int otherCountryClass;
+		/** The currency class by currency ordinal */
+		private final int[] currencyClasses;
+		/** The currency class of a null currency (matched by currency wildcards only) */
+		private final int otherCurrencyClass;
+		/** The number of country classes */
+		private final int countryClassCount;
+		/** The number of currency classes */
+		private final int currencyClassCount;
+		/** The decision of each (MCC class, country class, currency class) cell */
+		private final Object[] cells;
+		
+		/** 
+		 * Compiles <code>rules</code> into a decision table
+		 * @throws IllegalArgumentException if the compiled table would exceed {@link #MAX_CELLS} cells
+		 */
+		private DecisionTable(List<Rule<V>> rules, V defaultValue) throws IllegalArgumentException {
+			int words = (rules.size() + 63) >>> 6;
+			int codes = Iso18245MerchantCategoryCode.MAX_CODE + 1;
+			Iso3166CountryCode[] countries = Iso3166CountryCode.values();
+			Iso4217CurrencyCode[] currencies = Iso4217CurrencyCode.values();
+			// Rules matched by each dimension value (the last element being the "other" value, matched by wildcards only)
+			long[][] mccRules = new long[codes + 1][words], countryRules = new long[countries.length + 1][words], currencyRules = new long[currencies.length + 1][words];
+			for (int r=0; r<rules.size(); r++) {
+				Rule<V> rule = rules.get(r);
+				if (rule.mccs == null) for (long[] matched : mccRules) set(matched, r);
+				else for (int code : rule.mccs.toCodeArray()) set(mccRules[code], r);
+				if (rule.countries == null) for (long[] matched : countryRules) set(matched, r);
+				else for (Iso3166CountryCode country : rule.countries) set(countryRules[country.ordinal()], r);
+				if (rule.currencies == null) for (long[] matched : currencyRules) set(matched, r);
+				else for (Iso4217CurrencyCode currency : rule.currencies) set(currencyRules[currency.ordinal()], r);
+			}
+			List<long[]> mccSignatures = new ArrayList<>(), countrySignatures = new ArrayList<>(), currencySignatures = new ArrayList<>();
+			int[] mccClassOf = classify(mccRules, mccSignatures);
+			int[] countryClassOf = classify(countryRules, countrySignatures);
+			int[] currencyClassOf = classify(currencyRules, currencySignatures);
+			long cellCount = (long) mccSignatures.size() * countrySignatures.size() * currencySignatures.size();
+			if (cellCount > MAX_CELLS) throw new IllegalArgumentException ("Decision table too large: " + cellCount + " cells"); //$NON-NLS-1$ //$NON-NLS-2$
+			
+			this.ruleCount = rules.size();
+			this.mccClasses = Arrays.copyOf(mccClassOf, codes);
+			this.otherMccClass = mccClassOf[codes];
+			this.countryClasses = Arrays.copyOf(countryClassOf, countries.length);
+			this.otherCountryClass = countryClassOf[countries.length];
+			this.currencyClasses = Arrays.copyOf(currencyClassOf, currencies.length);
+			this.otherCurrencyClass = currencyClassOf[currencies.length];
+			this.countryClassCount = countrySignatures.size();
+			this.currencyClassCount = currencySignatures.size();
+			this.cells = new Object[(int) cellCount];
+			int cell = 0;
+			for (long[] mccSignature : mccSignatures) {
+				for (long[] countrySignature : countrySignatures) {
+					for (long[] currencySignature : currencySignatures) {
+						int rule = firstRule(mccSignature, countrySignature, currencySignature);
+						cells[cell++] = rule < 0 ? defaultValue : rules.get(rule).value;
+					}
+				}
+			}
+		}
+		
+		/** Starts the rules of a decision table whose value is <code>defaultValue</code> for keys matched by no rule */
+		public static <V> Builder<V> builder(V defaultValue) { return new Builder<>(defaultValue); }
+		
+		/** 
+		 * Returns the decision for MCC <code>mcc</code> (any int: codes outside the MCC code space are matched by MCC wildcards only), 
+		 * <code>country</code> and <code>currency</code> (null being matched by wildcards only). Constant time, allocation free.
+		 */
+		@SuppressWarnings("unchecked")
+		public V get(int mcc, Iso3166CountryCode country, Iso4217CurrencyCode currency) {
+			int mccClass = (mcc >= 0 && mcc < mccClasses.length) ? mccClasses[mcc] : otherMccClass;
+			int countryClass = country == null ? otherCountryClass : countryClasses[country.ordinal()];
+			int currencyClass = currency == null ? otherCurrencyClass : currencyClasses[currency.ordinal()];
+			return (V) cells[(mccClass * countryClassCount + countryClass) * currencyClassCount + currencyClass];
+		}
+		
+		/** Returns the decision for <code>mcc</code> (null being matched by MCC wildcards only), <code>country</code> and <code>currency</code>. */
+		public V get(Iso18245MerchantCategoryCode mcc, Iso3166CountryCode country, Iso4217CurrencyCode currency) {
+			return get(mcc == null ? -1 : mcc.getCode(), country, currency);
+		}
+		
+		/** Returns the number of rules this table was compiled from */
+		public int getRuleCount() { return ruleCount; }
+		
+		/** Returns the number of cells of the compiled table (product of the number of equivalence classes of each dimension) */
+		public int getCellCount() { return cells.length; }
+		
+		/** Return a Human readable representation of this table size. */
+		@Override public String toString() {
+			return ruleCount + " rules, " + cells.length / (countryClassCount * currencyClassCount) + " x " + countryClassCount + " x " + currencyClassCount + " cells"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+		
+		/** Sets bit <code>bit</code> of <code>words</code> */
+		private static void set(long[] words, int bit) { words[bit >>> 6] |= 1L << bit; }
+		
+		/** 
+		 * Partitions dimension values in equivalence classes by matched rules.
+		 * @param matchedRules the rules bitset matched by each value
+		 * @param signatures receives the matched rules bitset of each class
+		 * @return the class of each value
+		 */
+		private static int[] classify(long[][] matchedRules, List<long[]> signatures) {
+			Map<Signature, Integer> classes = new HashMap<>();
+			int[] classOf = new int[matchedRules.length];
+			for (int i=0; i<matchedRules.length; i++) {
+				Signature signature = new Signature(matchedRules[i]);
+				Integer index = classes.get(signature);
+				if (index == null) {
+					index = signatures.size();
+					classes.put(signature, index);
+					signatures.add(matchedRules[i]);
+				}
+				classOf[i] = index;
+			}
+			return classOf;
+		}
+		
+		/** Returns the index of the first rule matched in the 3 dimensions, -1 if none */
+		private static int firstRule(long[] mccRules, long[] countryRules, long[] currencyRules) {
+			for (int i=0; i<mccRules.length; i++) {
+				long matched = mccRules[i] & countryRules[i] & currencyRules[i];
+				if (matched != 0) return (i << 6) + Long.numberOfTrailingZeros(matched);
+			}
+			return -1;
+		}
+		
+		/** A matched rules bitset as a hash key */
+		private static final class Signature {
+			
+			private final long[] words;
+			private final int hash;
+			
+			private Signature(long[] words) {
+				this.words = words;
+				this.hash = Arrays.hashCode(words);
+			}
+			
+			@Override public boolean equals(Object obj) { return obj instanceof Signature && Arrays.equals(words, ((Signature) obj).words); }
+			@Override public int hashCode() { return hash; }
+		}
+		
+		/** A compiled rule condition (null for a wildcard dimension) and value */
+		private static final class Rule<V> {
+			
+			private final MerchantCategorySet mccs;
+			private final EnumSet<Iso3166CountryCode> countries;
+			private final EnumSet<Iso4217CurrencyCode> currencies;
+			private final V value;
+			
+			private Rule(MerchantCategorySet mccs, EnumSet<Iso3166CountryCode> countries, EnumSet<Iso4217CurrencyCode> currencies, V value) {
+				this.mccs = mccs;
+				this.countries = countries;
+				this.currencies = currencies;
+				this.value = value;
+			}
+		}
+		
+		/** Mutable builder of the ordered rules of a decision table. Not thread-safe. */
+		public static final class Builder<V> {
+			
+			/** The value of keys matched by no rule */
+			private final V defaultValue;
+			/** The rules, in priority order */
+			private final List<Rule<V>> rules = new ArrayList<>();
+			
+			private Builder(V defaultValue) {
+				this.defaultValue = defaultValue;
+			}
+			
+			/** Starts a new rule (of lower priority than the rules already given), matching any key until conditions are given */
+			public RuleBuilder<V> when() { return new RuleBuilder<>(this); }
+			
+			/** 
+			 * Compiles the rules given so far into a decision table; the builder can still be used.
+			 * @throws IllegalArgumentException if the rules are too fragmented for a dense table (more than 2<sup>26</sup> cells)
+			 */
+			public DecisionTable<V> build() throws IllegalArgumentException {
+				return new DecisionTable<>(rules, defaultValue);
+			}
+		}
+		
+		/** 
+		 * Mutable builder of a rule condition: conditions given for a same dimension are cumulative (e.g. <code>country(FR).country(DE)</code> 
+		 * matches both countries), a dimension without condition is a wildcard.
+		 */
+		public static final class RuleBuilder<V> {
+			
+			/** The table builder */
+			private final Builder<V> builder;
+			/** The matched MCC codes, null for any */
+			private MerchantCategorySet mccs;
+			/** The matched countries, null for any */
+			private EnumSet<Iso3166CountryCode> countries;
+			/** The matched currencies, null for any */
+			private EnumSet<Iso4217CurrencyCode> currencies;
+			
+			private RuleBuilder(Builder<V> builder) {
+				this.builder = builder;
+			}
+			
+			/** Matches the codes of <code>codes</code>; returns this rule builder */
+			public RuleBuilder<V> mcc(MerchantCategorySet codes) {
+				mccs = mccs == null ? codes : mccs.union(codes);
+				return this;
+			}
+			
+			/** 
+			 * Matches the MCC <code>codes</code>; returns this rule builder 
+			 * @throws IllegalArgumentException if a code is outside 0..{@link Iso18245MerchantCategoryCode#MAX_CODE}
+			 */
+			public RuleBuilder<V> mcc(int... codes) throws IllegalArgumentException { return mcc(MerchantCategorySet.ofCodes(codes)); }
+			
+			/** Matches the codes of <code>mccs</code>; returns this rule builder */
+			public RuleBuilder<V> mcc(Iso18245MerchantCategoryCode... mccs) { return mcc(MerchantCategorySet.of(mccs)); }
+			
+			/** 
+			 * Matches the codes from <code>fromCode</code> to <code>toCode</code> (both inclusive); returns this rule builder 
+			 * @throws IllegalArgumentException if a bound is outside 0..{@link Iso18245MerchantCategoryCode#MAX_CODE}
+			 */
+			public RuleBuilder<V> mccRange(int fromCode, int toCode) throws IllegalArgumentException { return mcc(MerchantCategorySet.ofRange(fromCode, toCode)); }
+			
+			/** Matches the <code>countries</code>; returns this rule builder */
+			public RuleBuilder<V> country(Iso3166CountryCode... countries) {
+				if (this.countries == null) this.countries = EnumSet.noneOf(Iso3166CountryCode.class);
+				this.countries.addAll(Arrays.asList(countries));
+				return this;
+			}
+			
+			/** Matches the <code>currencies</code>; returns this rule builder */
+			public RuleBuilder<V> currency(Iso4217CurrencyCode... currencies) {
+				if (this.currencies == null) this.currencies = EnumSet.noneOf(Iso4217CurrencyCode.class);
+				this.currencies.addAll(Arrays.asList(currencies));
+				return this;
+			}
+			
+			/** Ends this rule, deciding <code>value</code> for the keys it matches; returns the table builder */
+			public Builder<V> then(V value) {
+				builder.rules.add(new Rule<>(mccs, countries == null ? null : countries.clone(), currencies == null ? null : currencies.clone(), value));
+				return builder;
+			}
+		}
+		
+	}
+	
+	/** 
+	 * Holder of the decision table in use, swapped atomically when rules change: lookups in progress complete on the table they started 
+	 * with, later ones use the new table. Thread-safe, lock free.
+	 */
+	public final class LiveDecisionTable<V> {
+		
+		/** The table in use */
+		private final AtomicReference<DecisionTable<V>> table;
+		
+		/** Builds a holder using <code>table</code> */
+		public LiveDecisionTable(DecisionTable<V> table) {
+			if (table == null) throw new NullPointerException ("Decision table is null"); //$NON-NLS-1$
+			this.table = new AtomicReference<>(table);
+		}
+		
+		/** Returns the decision of the table in use (see {@link DecisionTable#get(int, Iso3166CountryCode, Iso4217CurrencyCode)}). */
+		public V get(int mcc, Iso3166CountryCode country, Iso4217CurrencyCode currency) {
+			return table.get().get(mcc, country, currency);
+		}
+		
+		/** Returns the decision of the table in use (see {@link DecisionTable#get(Iso18245MerchantCategoryCode, Iso3166CountryCode, Iso4217CurrencyCode)}). */
+		public V get(Iso18245MerchantCategoryCode mcc, Iso3166CountryCode country, Iso4217CurrencyCode currency) {
+			return table.get().get(mcc, country, currency);
+		}
+		
+		/** Returns the table in use (e.g. to resolve several keys against the same version of the rules) */
+		public DecisionTable<V> getTable() { return table.get(); }
+		
+		/** Replaces the table in use by <code>table</code>; returns the previous one. */
+		public DecisionTable<V> swap(DecisionTable<V> table) {
+			if (table == null) throw new NullPointerException ("Decision table is null"); //$NON-NLS-1$
+			return this.table.getAndSet(table);
+		}
+		
+	}
+	
+}
@@ -41,16 +41,54 @@
 
 package org.iso4j;
 
+import java.io.ByteArrayOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Serializable;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.ref.WeakReference;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.regex.Pattern;
+import java.util.stream.Collector;
+import java.util.zip.GZIPOutputStream;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.Expose;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * <code>IMerchantCategoryCodes</code> is an interface wrapping the ISO 18245 Merchant Category Codes (MCC) as a java enumeration with access methods 
@@ -73,6 +111,8 @@ public interface IMerchantCategoryCodes {
 		public int 			getCode();
 		public String		getDescription();
 		public ITaxonomy	getParent();
+		/** Gets the description in <code>locale</code> (the default one if not localised) */
+		public default String getDescription(Locale locale) { return getDescription(); }
 	}
 	
 	/** Common taxonomy getters */
@@ -86,35 +126,44 @@ public interface IMerchantCategoryCodes {
 	public enum MerchantCategoryRange implements ITaxonomy {
 		
 		// General
-		AGRICULTURAL_SERVICES								(   1, 1499, Messages.getString("IMerchantCategoryCodes.MerchantCategoryRange.1")), //$NON-NLS-1$
-		CONTRACTED_SERVICES									(1500, 2999, Messages.getString("IMerchantCategoryCodes.MerchantCategoryRange.2")), //$NON-NLS-1$
-		TRANSPORTATION_SERVICES								(4000, 4799, Messages.getString("IMerchantCategoryCodes.MerchantCategoryRange.3")), //$NON-NLS-1$
-		UTILITY_SERVICES 									(4800, 4999, Messages.getString("IMerchantCategoryCodes.MerchantCategoryRange.4")), //$NON-NLS-1$
-		RETAIL_OUTLET_SERVICES								(5000, 5599, Messages.getString("IMerchantCategoryCodes.MerchantCategoryRange.5")), //$NON-NLS-1$
-		CLOTHING_STORES										(5600, 5699, Messages.getString("IMerchantCategoryCodes.MerchantCategoryRange.6")), //$NON-NLS-1$
-		MISCELLANEOUS_STORES								(5700, 7299, Messages.getString("IMerchantCategoryCodes.MerchantCategoryRange.7")), //$NON-NLS-1$
-		BUSINESS_SERVICES 									(7300, 7999, Messages.getString("IMerchantCategoryCodes.MerchantCategoryRange.8")), //$NON-NLS-1$
-		PROFESSIONAL_SERVICES_AND_MEMBERSHIP_ORGANISATIONS	(8000, 8999, Messages.getString("IMerchantCategoryCodes.MerchantCategoryRange.9")), //$NON-NLS-1$
-		GOVERNMENT_SERVICES 								(9000, 9999, Messages.getString("IMerchantCategoryCodes.MerchantCategoryRange.10")), //$NON-NLS-1$
+		AGRICULTURAL_SERVICES								(   1, 1499, "IMerchantCategoryCodes.MerchantCategoryRange.1"), //$NON-NLS-1$
+		CONTRACTED_SERVICES									(1500, 2999, "IMerchantCategoryCodes.MerchantCategoryRange.2"), //$NON-NLS-1$
+		TRANSPORTATION_SERVICES								(4000, 4799, "IMerchantCategoryCodes.MerchantCategoryRange.3"), //$NON-NLS-1$
+		UTILITY_SERVICES 									(4800, 4999, "IMerchantCategoryCodes.MerchantCategoryRange.4"), //$NON-NLS-1$
+		RETAIL_OUTLET_SERVICES								(5000, 5599, "IMerchantCategoryCodes.MerchantCategoryRange.5"), //$NON-NLS-1$
+		CLOTHING_STORES										(5600, 5699, "IMerchantCategoryCodes.MerchantCategoryRange.6"), //$NON-NLS-1$
+		MISCELLANEOUS_STORES								(5700, 7299, "IMerchantCategoryCodes.MerchantCategoryRange.7"), //$NON-NLS-1$
+		BUSINESS_SERVICES 									(7300, 7999, "IMerchantCategoryCodes.MerchantCategoryRange.8"), //$NON-NLS-1$
+		PROFESSIONAL_SERVICES_AND_MEMBERSHIP_ORGANISATIONS	(8000, 8999, "IMerchantCategoryCodes.MerchantCategoryRange.9"), //$NON-NLS-1$
+		GOVERNMENT_SERVICES 								(9000, 9999, "IMerchantCategoryCodes.MerchantCategoryRange.10"), //$NON-NLS-1$
 		
 		// Travel & Entertainment
-		TE_AIRLINES											(3000, 3299, Messages.getString("IMerchantCategoryCodes.MerchantCategoryRange.11")), //$NON-NLS-1$
-		TE_CAR_RENTA										(3300, 3499, Messages.getString("IMerchantCategoryCodes.MerchantCategoryRange.12")), //$NON-NLS-1$
-		TE_LODGING											(3500, 3999, Messages.getString("IMerchantCategoryCodes.MerchantCategoryRange.13")); //$NON-NLS-1$
+		TE_AIRLINES											(3000, 3299, "IMerchantCategoryCodes.MerchantCategoryRange.11"), //$NON-NLS-1$
+		TE_CAR_RENTA										(3300, 3499, "IMerchantCategoryCodes.MerchantCategoryRange.12"), //$NON-NLS-1$
+		TE_LODGING											(3500, 3999, "IMerchantCategoryCodes.MerchantCategoryRange.13"); //$NON-NLS-1$
 		
-		private String description;
+		/** The message key of the description */
+		private String descriptionKey;
 		private int startRange;
 		private int endRange;
+		/** The descriptions by locale, resolved on first use */
+		private static final Messages.Table<MerchantCategoryRange> DESCRIPTIONS = new Messages.Table<>(MerchantCategoryRange.class, range -> range.descriptionKey);
+		/** The ranges, by ordinal (values() copy) */
+		private static final MerchantCategoryRange[] RANGES = values();
+		/** The range ordinal by MCC code (0 to 9999), -1 outside of allocated ranges */
+		private static final byte[] ORDINAL_BY_CODE = buildCodeIndex();
 		
 		/** Builds a new Merchant Category range given start and range and description */
 		private MerchantCategoryRange (int start, int end, String description) {
-			this.description = description;
+			this.descriptionKey = description;
 			this.startRange = start;
 			this.endRange = end;
 		}
 
 		/** Gets the description for this Merchant Category range */
-		@Override public String getDescription() { return description; }
+		@Override public String getDescription() { return getDescription(Locale.getDefault()); }
+		/** Gets the description for this Merchant Category range in <code>locale</code> */
+		@Override public String getDescription(Locale locale) { return DESCRIPTIONS.get(this, locale); }
 		/** Gets the Merchant Category range code = sum of start and end range */
 		@Override public int getCode() { return startRange + endRange; }
 		/** Gets the Parent classification. Returns null as this is the root taxonomy */
@@ -122,19 +171,39 @@ public interface IMerchantCategoryCodes {
 
 		public int getStartRange() { return startRange; }
 		public int getEndRange() { return endRange; }
+		/** Gets the precomputed set of MCC codes allocated in this range */
+		public MerchantCategorySet getMerchantCategorySet() { return MerchantCategorySet.of(this); }
 
+		/** 
+		 * Returns the range the MCC <code>code</code> falls in.
+		 * @throws IllegalArgumentException if the code is outside of allocated ranges
+		 * @see #lookup(int)
+		 */
 		public static MerchantCategoryRange valueOf(int code) throws IllegalArgumentException {
-			MerchantCategoryRange schemeCategory = null;
-			for (MerchantCategoryRange category : values()) {
-				if (code >= category.startRange && code <= category.endRange) { schemeCategory = category; break; }
-			}
+			MerchantCategoryRange schemeCategory = lookup(code);
 			if (schemeCategory == null) throw new IllegalArgumentException ("Invalid code (" + code + "): outside of allocated ranges"); //$NON-NLS-1$ //$NON-NLS-2$
 			return schemeCategory;
 		}
 		
+		/** Returns the range the MCC <code>code</code> falls in, or null if the code is outside of allocated ranges. Constant time, allocation free. */
+		public static MerchantCategoryRange lookup(int code) {
+			int ordinal = (code >= 0 && code < ORDINAL_BY_CODE.length) ? ORDINAL_BY_CODE[code] : -1;
+			return ordinal < 0 ? null : RANGES[ordinal];
+		}
+		
+		/** Builds the table of range ordinal by code (0 to 9999), -1 outside of allocated ranges */
+		private static byte[] buildCodeIndex() {
+			byte[] index = new byte[10000];
+			Arrays.fill(index, (byte) -1);
+			for (MerchantCategoryRange range : values()) {
+				for (int code=range.startRange; code<=range.endRange; code++) if (index[code] < 0) index[code] = (byte) range.ordinal();
+			}
+			return index;
+		}
+		
 		/** Return a Human readable representation of this Country Code. */
 		@Override public String toString() {
-			return "["+String.format("%04d", startRange)+"-"+String.format("%04d", endRange)+ "] "+ description; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			return "["+String.format("%04d", startRange)+"-"+String.format("%04d", endRange)+ "] "+ getDescription(); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
 		}
 
 	}
@@ -143,48 +212,54 @@ public interface IMerchantCategoryCodes {
 	public enum MastercardMerchantCategory implements ITaxonomy {
 		
 		// As per Mastercard Merchant Categories
-		AIRLINES							 		(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.1")), //$NON-NLS-1$
-		AMUSEMENT_AND_ENTERTAINMENT			 		(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.2")), //$NON-NLS-1$
-		AUTOMOBILE_VEHICLE_RENTAL			 		(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.3")), //$NON-NLS-1$
-		AUTOMOBILES_AND_VEHICLES               		(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.4")), //$NON-NLS-1$
-		BUSINESS_SERVICES					 		(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.5")), //$NON-NLS-1$
-		CLOTHING_STORES						 		(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.6")), //$NON-NLS-1$
-		CONTRACTED_SERVICES					 		(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.7")), //$NON-NLS-1$
-		GOVERNMENT_SERVICES					 		(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.8")), //$NON-NLS-1$
-		HOTELS_MOTELS						 		(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.9")), //$NON-NLS-1$
-		MOTO								 		(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.10")), //$NON-NLS-1$
-		MISCELLANEOUS_STORES				 		(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.11")), //$NON-NLS-1$
-		PERSONAL_SERVICE_PROVIDERS			 		(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.12")), //$NON-NLS-1$
-		PROFESSIONAL_SERVICES_AND_MEMBERSHIP 		(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.13")), //$NON-NLS-1$
-		REPAIR_SERVICES								(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.14")), //$NON-NLS-1$
-		RETAIL_STORES 								(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.15")), //$NON-NLS-1$
-		SERVICE_PROVIDERS 							(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.16")), //$NON-NLS-1$
-		TRANSPORTATION 								(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.17")), //$NON-NLS-1$
-		MASTERCARD_UK								(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.18")), //$NON-NLS-1$
-		UTILITIES 									(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.19")), //$NON-NLS-1$
-		WHOLESALE 									(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.20")), //$NON-NLS-1$
+		AIRLINES							 		("IMerchantCategoryCodes.MastercardMerchantCategory.1"), //$NON-NLS-1$
+		AMUSEMENT_AND_ENTERTAINMENT			 		("IMerchantCategoryCodes.MastercardMerchantCategory.2"), //$NON-NLS-1$
+		AUTOMOBILE_VEHICLE_RENTAL			 		("IMerchantCategoryCodes.MastercardMerchantCategory.3"), //$NON-NLS-1$
+		AUTOMOBILES_AND_VEHICLES               		("IMerchantCategoryCodes.MastercardMerchantCategory.4"), //$NON-NLS-1$
+		BUSINESS_SERVICES					 		("IMerchantCategoryCodes.MastercardMerchantCategory.5"), //$NON-NLS-1$
+		CLOTHING_STORES						 		("IMerchantCategoryCodes.MastercardMerchantCategory.6"), //$NON-NLS-1$
+		CONTRACTED_SERVICES					 		("IMerchantCategoryCodes.MastercardMerchantCategory.7"), //$NON-NLS-1$
+		GOVERNMENT_SERVICES					 		("IMerchantCategoryCodes.MastercardMerchantCategory.8"), //$NON-NLS-1$
+		HOTELS_MOTELS						 		("IMerchantCategoryCodes.MastercardMerchantCategory.9"), //$NON-NLS-1$
+		MOTO								 		("IMerchantCategoryCodes.MastercardMerchantCategory.10"), //$NON-NLS-1$
+		MISCELLANEOUS_STORES				 		("IMerchantCategoryCodes.MastercardMerchantCategory.11"), //$NON-NLS-1$
+		PERSONAL_SERVICE_PROVIDERS			 		("IMerchantCategoryCodes.MastercardMerchantCategory.12"), //$NON-NLS-1$
+		PROFESSIONAL_SERVICES_AND_MEMBERSHIP 		("IMerchantCategoryCodes.MastercardMerchantCategory.13"), //$NON-NLS-1$
+		REPAIR_SERVICES								("IMerchantCategoryCodes.MastercardMerchantCategory.14"), //$NON-NLS-1$
+		RETAIL_STORES 								("IMerchantCategoryCodes.MastercardMerchantCategory.15"), //$NON-NLS-1$
+		SERVICE_PROVIDERS 							("IMerchantCategoryCodes.MastercardMerchantCategory.16"), //$NON-NLS-1$
+		TRANSPORTATION 								("IMerchantCategoryCodes.MastercardMerchantCategory.17"), //$NON-NLS-1$
+		MASTERCARD_UK								("IMerchantCategoryCodes.MastercardMerchantCategory.18"), //$NON-NLS-1$
+		UTILITIES 									("IMerchantCategoryCodes.MastercardMerchantCategory.19"), //$NON-NLS-1$
+		WHOLESALE 									("IMerchantCategoryCodes.MastercardMerchantCategory.20"), //$NON-NLS-1$
 		
 		// Visa ONLY
-		VISA_SERVICES								(Messages.getString("IMerchantCategoryCodes.MastercardMerchantCategory.21")); //$NON-NLS-1$
+		VISA_SERVICES								("IMerchantCategoryCodes.MastercardMerchantCategory.21"); //$NON-NLS-1$
 		
-		/** The description for this Merchant Head Category*/
-		private String description;
+		/** The message key of the description for this Merchant Head Category*/
+		private String descriptionKey;
+		/** The descriptions by locale, resolved on first use */
+		private static final Messages.Table<MastercardMerchantCategory> DESCRIPTIONS = new Messages.Table<>(MastercardMerchantCategory.class, category -> category.descriptionKey);
 		
 		/** Builds a new MastercardMerchantCategory given its description */
 		private MastercardMerchantCategory(String description) {
-			this.description = description;
+			this.descriptionKey = description;
 		}
 		
 		/** Gets this MastercardMerchantCategory description */
-		@Override public String getDescription() { return description; }
+		@Override public String getDescription() { return getDescription(Locale.getDefault()); }
+		/** Gets this MastercardMerchantCategory description in <code>locale</code> */
+		@Override public String getDescription(Locale locale) { return DESCRIPTIONS.get(this, locale); }
 		/** Gets the code for this MastercardMerchantCategory = enum ordinal value */
 		@Override public int getCode() { return this.ordinal(); }
 		/** Gets the Parent classification. Return nulls as this is not related to a specific range, even if the top taxonomy is the MerchantCategoryRange */
 		@Override public ITaxonomy getParent() { return null; }
+		/** Gets the precomputed set of MCC codes of this MastercardMerchantCategory */
+		public MerchantCategorySet getMerchantCategorySet() { return MerchantCategorySet.of(this); }
 		
 		/** Return a Human readable representation of this Country Code. */
 		@Override public String toString() {
-			return "(" + getCode() + ") " + description; //$NON-NLS-1$ //$NON-NLS-2$
+			return "(" + getCode() + ") " + getDescription(); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
 	}
@@ -216,32 +291,66 @@ public interface IMerchantCategoryCodes {
 	/** Visa Merchant Category Group codes (expense types) */
 	public enum VisaMerchantCategoryGroup {
 		
-		MCG_1_COMMERCIAL_TRAVEL_AIRLINES	(1, Messages.getString("IMerchantCategoryCodes.VisaMerchantCategoryGroup.1")), //$NON-NLS-1$
-		MCG_2_LODGING						(2, Messages.getString("IMerchantCategoryCodes.VisaMerchantCategoryGroup.2")), //$NON-NLS-1$
-		MCG_3_AUTO_RENTAL					(3, Messages.getString("IMerchantCategoryCodes.VisaMerchantCategoryGroup.3")), //$NON-NLS-1$
-		MCG_4_RESTAURANT					(4, Messages.getString("IMerchantCategoryCodes.VisaMerchantCategoryGroup.4")), //$NON-NLS-1$
-		MCG_5_MOTO_EC						(5, Messages.getString("IMerchantCategoryCodes.VisaMerchantCategoryGroup.5")), //$NON-NLS-1$
-		MCG_6_RISKY_PURCHASE				(6, Messages.getString("IMerchantCategoryCodes.VisaMerchantCategoryGroup.6")), //$NON-NLS-1$
-		MCG_7_OTHER							(7, Messages.getString("IMerchantCategoryCodes.VisaMerchantCategoryGroup.7")), //$NON-NLS-1$
-		MCG_8_OTHER_MANUAL_CASH				(8, Messages.getString("IMerchantCategoryCodes.VisaMerchantCategoryGroup.8")), //$NON-NLS-1$
-		MCG_9_ATM							(9, Messages.getString("IMerchantCategoryCodes.VisaMerchantCategoryGroup.9")), //$NON-NLS-1$
-		MCG_10_QUASI_CASH					(10, Messages.getString("IMerchantCategoryCodes.VisaMerchantCategoryGroup.10")), //$NON-NLS-1$
-		MCG_11_MEDICAL						(11, Messages.getString("IMerchantCategoryCodes.VisaMerchantCategoryGroup.11")); //$NON-NLS-1$
+		MCG_1_COMMERCIAL_TRAVEL_AIRLINES	(1, "IMerchantCategoryCodes.VisaMerchantCategoryGroup.1"), //$NON-NLS-1$
+		MCG_2_LODGING						(2, "IMerchantCategoryCodes.VisaMerchantCategoryGroup.2"), //$NON-NLS-1$
+		MCG_3_AUTO_RENTAL					(3, "IMerchantCategoryCodes.VisaMerchantCategoryGroup.3"), //$NON-NLS-1$
+		MCG_4_RESTAURANT					(4, "IMerchantCategoryCodes.VisaMerchantCategoryGroup.4"), //$NON-NLS-1$
+		MCG_5_MOTO_EC						(5, "IMerchantCategoryCodes.VisaMerchantCategoryGroup.5"), //$NON-NLS-1$
+		MCG_6_RISKY_PURCHASE				(6, "IMerchantCategoryCodes.VisaMerchantCategoryGroup.6"), //$NON-NLS-1$
+		MCG_7_OTHER							(7, "IMerchantCategoryCodes.VisaMerchantCategoryGroup.7"), //$NON-NLS-1$
+		MCG_8_OTHER_MANUAL_CASH				(8, "IMerchantCategoryCodes.VisaMerchantCategoryGroup.8"), //$NON-NLS-1$
+		MCG_9_ATM							(9, "IMerchantCategoryCodes.VisaMerchantCategoryGroup.9"), //$NON-NLS-1$
+		MCG_10_QUASI_CASH					(10, "IMerchantCategoryCodes.VisaMerchantCategoryGroup.10"), //$NON-NLS-1$
+		MCG_11_MEDICAL						(11, "IMerchantCategoryCodes.VisaMerchantCategoryGroup.11"); //$NON-NLS-1$
 		
 		private int code;
-		private String label;
+		/** The message key of the label */
+		private String labelKey;
+		/** The labels by locale, resolved on first use */
+		private static final Messages.Table<VisaMerchantCategoryGroup> LABELS = new Messages.Table<>(VisaMerchantCategoryGroup.class, group -> group.labelKey);
+		/** The groups indexed by code, null where no group is defined */
+		private static final VisaMerchantCategoryGroup[] BY_CODE = buildCodeIndex();
 		
 		private VisaMerchantCategoryGroup(int code, String label) {
 			this.code = code;
-			this.label = label;
+			this.labelKey = label;
 		}
 		
-		public String getLabel() { return label; } 
+		public String getLabel() { return getLabel(Locale.getDefault()); }
+		/** Gets the label in <code>locale</code> */
+		public String getLabel(Locale locale) { return LABELS.get(this, locale); } 
 		public int getCode() { return code; }
+		/** Gets the precomputed set of MCC codes of this Merchant Category Group */
+		public MerchantCategorySet getMerchantCategorySet() { return MerchantCategorySet.of(this); }
+		
+		/** 
+		 * Returns the Merchant Category Group of (MCG) <code>code</code>.
+		 * @throws IllegalArgumentException if no group is defined for this code
+		 * @see #lookup(int)
+		 */
+		public static VisaMerchantCategoryGroup valueOf(int code) throws IllegalArgumentException {
+			VisaMerchantCategoryGroup group = lookup(code);
+			if (group == null) throw new IllegalArgumentException ("Invalid Visa MCG " + code); //$NON-NLS-1$
+			return group;
+		}
+		
+		/** Returns the Merchant Category Group of (MCG) <code>code</code>, or null if no group is defined for this code (e.g. raw value of a clearing record). Constant time, allocation free. */
+		public static VisaMerchantCategoryGroup lookup(int code) {
+			return (code >= 0 && code < BY_CODE.length) ? BY_CODE[code] : null;
+		}
+		
+		/** Builds the table of groups indexed by code */
+		private static VisaMerchantCategoryGroup[] buildCodeIndex() {
+			int max = 0;
+			for (VisaMerchantCategoryGroup group : values()) max = Math.max(max, group.code);
+			VisaMerchantCategoryGroup[] index = new VisaMerchantCategoryGroup[max + 1];
+			for (VisaMerchantCategoryGroup group : values()) if (index[group.code] == null) index[group.code] = group;
+			return index;
+		}
 		
 		/** Return a Human readable representation of this Country Code. */
 		@Override public String toString() {
-			return "(" + getCode() + ") " + label; //$NON-NLS-1$ //$NON-NLS-2$
+			return "(" + getCode() + ") " + getLabel(); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
 	}
@@ -262,38 +371,67 @@ public interface IMerchantCategoryCodes {
 	/** Mastercard Transaction Category Codes */
 	public enum MastercardTransactionCategoryCode {
 		
-		TCC_A_AUTOMOBILE_VEHICLE_RENTAL						('A', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.A")), //$NON-NLS-1$
-		TCC_C_CASH_DISBURSEMENT								('C', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.C")), //$NON-NLS-1$
-		TCC_Z_CASH_DISBURSEMENT_ATM							('Z', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.Z")), //$NON-NLS-1$
-		TCC_F_RESTAURANT									('F', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.F")), //$NON-NLS-1$
-		TCC_H_HOTEL_MOTEL									('H', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.H")), //$NON-NLS-1$
-		TCC_O_COLLEGE_SCHOOL_EXPENSE						('O', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.OC")), //$NON-NLS-1$
-		TCC_O_HOSPITAL										('O', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.OH")), //$NON-NLS-1$
-		TCC_P_PAYMENT_TRANSACTION							('P', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.P")), //$NON-NLS-1$
-		TCC_R_ALL_OTHER_MERCHANTS							('R', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.R")), //$NON-NLS-1$
-		TCC_T_ALL_OTHER_NON_F2F_TRANSACTION					('T', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.T")), //$NON-NLS-1$
-		TCC_U_UNIQUE_TRANSACTION_QUASI_CASH_DISBURSEMENT	('U', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.UQ")), //$NON-NLS-1$
-		TCC_U_CARDHOLDER_ACTIVATED_TERMINAL_IFC				('U', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.UC")), //$NON-NLS-1$
-		TCC_U_OTHER											('U', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.UO")), //$NON-NLS-1$
-		TCC_R_CARDHOLDER_ACTIVATED_TERMINAL_OTHER			('R', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.RCAT")), //$NON-NLS-1$
-		TCC_X_AIRLINES										('X', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.XA")), //$NON-NLS-1$
-		TCC_X_RAILROAD										('X', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.XR")), //$NON-NLS-1$
-		TCC_X_TRAVEL_AGENCY_TRANSPORTATION					('X', Messages.getString("IMerchantCategoryCodes.MastercardTransactionCategoryCode.XT")); //$NON-NLS-1$
+		TCC_A_AUTOMOBILE_VEHICLE_RENTAL						('A', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.A"), //$NON-NLS-1$
+		TCC_C_CASH_DISBURSEMENT								('C', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.C"), //$NON-NLS-1$
+		TCC_Z_CASH_DISBURSEMENT_ATM							('Z', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.Z"), //$NON-NLS-1$
+		TCC_F_RESTAURANT									('F', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.F"), //$NON-NLS-1$
+		TCC_H_HOTEL_MOTEL									('H', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.H"), //$NON-NLS-1$
+		TCC_O_COLLEGE_SCHOOL_EXPENSE						('O', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.OC"), //$NON-NLS-1$
+		TCC_O_HOSPITAL										('O', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.OH"), //$NON-NLS-1$
+		TCC_P_PAYMENT_TRANSACTION							('P', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.P"), //$NON-NLS-1$
+		TCC_R_ALL_OTHER_MERCHANTS							('R', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.R"), //$NON-NLS-1$
+		TCC_T_ALL_OTHER_NON_F2F_TRANSACTION					('T', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.T"), //$NON-NLS-1$
+		TCC_U_UNIQUE_TRANSACTION_QUASI_CASH_DISBURSEMENT	('U', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.UQ"), //$NON-NLS-1$
+		TCC_U_CARDHOLDER_ACTIVATED_TERMINAL_IFC				('U', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.UC"), //$NON-NLS-1$
+		TCC_U_OTHER											('U', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.UO"), //$NON-NLS-1$
+		TCC_R_CARDHOLDER_ACTIVATED_TERMINAL_OTHER			('R', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.RCAT"), //$NON-NLS-1$
+		TCC_X_AIRLINES										('X', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.XA"), //$NON-NLS-1$
+		TCC_X_RAILROAD										('X', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.XR"), //$NON-NLS-1$
+		TCC_X_TRAVEL_AGENCY_TRANSPORTATION					('X', "IMerchantCategoryCodes.MastercardTransactionCategoryCode.XT"); //$NON-NLS-1$
 
 		private char code;
-		private String label;
+		/** The message key of the label */
+		private String labelKey;
+		/** The labels by locale, resolved on first use */
+		private static final Messages.Table<MastercardTransactionCategoryCode> LABELS = new Messages.Table<>(MastercardTransactionCategoryCode.class, tcc -> tcc.labelKey);
+		/** The (unmodifiable) sets of transaction categories indexed by TCC letter (ASCII), empty where no category is defined */
+		private static final List<Set<MastercardTransactionCategoryCode>> BY_CODE = buildCodeIndex();
 		
 		private MastercardTransactionCategoryCode(char code, String label) {
 			this.code = code;
-			this.label = label;
+			this.labelKey = label;
 		}
 		
-		public String getLabel() { return label; }
+		public String getLabel() { return getLabel(Locale.getDefault()); }
+		/** Gets the label in <code>locale</code> */
+		public String getLabel(Locale locale) { return LABELS.get(this, locale); }
 		public char getCode() { return code; }
+		/** Gets the precomputed set of MCC codes of this Transaction Category Code */
+		public MerchantCategorySet getMerchantCategorySet() { return MerchantCategorySet.of(this); }
+		
+		/** 
+		 * Returns the transaction categories sharing the TCC <code>code</code> (e.g. 'O' for both college / school expenses and hospitals), 
+		 * as an unmodifiable set, empty if no category is defined for this code (e.g. raw value of a clearing record). 
+		 * Constant time, allocation free (precomputed sets).
+		 */
+		public static Set<MastercardTransactionCategoryCode> lookup(char code) {
+			return code < BY_CODE.size() ? BY_CODE.get(code) : Collections.<MastercardTransactionCategoryCode>emptySet();
+		}
+		
+		/** Builds the sets of transaction categories indexed by TCC letter */
+		private static List<Set<MastercardTransactionCategoryCode>> buildCodeIndex() {
+			List<Set<MastercardTransactionCategoryCode>> index = new ArrayList<>(128);
+			for (char code=0; code<128; code++) {
+				EnumSet<MastercardTransactionCategoryCode> tccs = EnumSet.noneOf(MastercardTransactionCategoryCode.class);
+				for (MastercardTransactionCategoryCode tcc : values()) if (tcc.code == code) tccs.add(tcc);
+				index.add(tccs.isEmpty() ? Collections.<MastercardTransactionCategoryCode>emptySet() : Collections.unmodifiableSet(tccs));
+			}
+			return Collections.unmodifiableList(index);
+		}
 		
 		/** Return a Human readable representation of this Country Code. */
 		@Override public String toString() {
-			return "(" + getCode() + ") " + label; //$NON-NLS-1$ //$NON-NLS-2$
+			return "(" + getCode() + ") " + getLabel(); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
 	}
@@ -317,6 +455,16 @@ public interface IMerchantCategoryCodes {
 	final static MastercardTransactionCategoryCode TCC_X_RLW = MastercardTransactionCategoryCode.TCC_X_RAILROAD;									
 	final static MastercardTransactionCategoryCode TCC_X_TRA = MastercardTransactionCategoryCode.TCC_X_TRAVEL_AGENCY_TRANSPORTATION;					
 	
+	/** The payment schemes (or processors) with their own MCC specific data, e.g. airline brand required abbreviations */
+	public enum PaymentScheme {
+		/** Visa */
+		VISA,
+		/** Mastercard */
+		MASTERCARD,
+		/** TSYS (Germany) */
+		TSYS
+	}
+	
 	
 	// **************************************************
 	
@@ -326,35 +474,119 @@ public interface IMerchantCategoryCodes {
 	// Indeed, the schemes have in view Corporate services and Risks when they categorise the MCCs, which is not a "natural" way to classify
 	// a merchant activity. 
 	
+	/** 
+	 * Common contract of the Thomson Reuters Business Classification levels, giving constant time (allocation free) hierarchy queries.
+	 * <p>
+	 * Each node links its ancestor at each level, so that {@link #ancestorAt(int)} and {@link #isDescendantOf(ITRBCTaxonomy)} are a 
+	 * field read. Each node is also labelled by the interval of industry codes (8 digits, or 9 for the fake public sector/membership/other 
+	 * sectors) it covers: a TRBC code being its parent code followed by 2 digits, an industry group <code>g</code> covers 
+	 * <code>[g*100, g*100+99]</code>, a business sector <code>b</code> covers <code>[b*10000, b*10000+9999]</code>, and so on. 
+	 * Intervals are only meant for range scans over stored industry codes (e.g. a <code>BETWEEN</code> on an indexed column): 
+	 * as a few nodes share a code (business sector 5230, industry 50102030), intervals may overlap, so hierarchy queries must 
+	 * use {@link #ancestorAt(int)} or {@link #isDescendantOf(ITRBCTaxonomy)} instead.
+	 */
+	public interface ITRBCTaxonomy extends ITaxonomy {
+		
+		/** Level of TRBCEconomicSector */
+		public static final int ECONOMIC_SECTOR = 0;
+		/** Level of TRBCBusinessSector */
+		public static final int BUSINESS_SECTOR = 1;
+		/** Level of TRBCIndustryGroup */
+		public static final int INDUSTRY_GROUP = 2;
+		/** Level of TRBCIndustry */
+		public static final int INDUSTRY = 3;
+		
+		/** Gets this node level, from {@link #ECONOMIC_SECTOR} (root) to {@link #INDUSTRY} (leaf) */
+		public int getLevel();
+		/** Gets the first industry code of the interval labelling this node, for range scans only (intervals may overlap) */
+		public int getIntervalStart();
+		/** Gets the last industry code of the interval labelling this node, for range scans only (intervals may overlap) */
+		public int getIntervalEnd();
+		
+		/** 
+		 * Gets the ancestor of this node at <code>level</code> (this node itself at its own level), null if <code>level</code> is deeper than this node.
+		 * <p>
+		 * @throws IllegalArgumentException if <code>level</code> is not a TRBC level
+		 */
+		public ITRBCTaxonomy ancestorAt(int level) throws IllegalArgumentException;
+		
+		/** Returns true if this node is a (strict) descendant of <code>other</code>, comparing its ancestor at <code>other</code> level */
+		public default boolean isDescendantOf(ITRBCTaxonomy other) {
+			return getLevel() > other.getLevel() && ancestorAt(other.getLevel()) == other;
+		}
+		
+		/** Checks <code>level</code> is a TRBC level (for {@link #ancestorAt(int)} on a level deeper than the node, which has no ancestor there) */
+		public static void checkLevel(int level) throws IllegalArgumentException {
+			if (level < ECONOMIC_SECTOR || level > INDUSTRY) throw new IllegalArgumentException ("Invalid TRBC level " + level); //$NON-NLS-1$
+		}
+	}
+	
 	/** The Thomson Reuters Rusiness Classification - Economic Sector categories, plus public sector (and other). */
-	public enum TRBCEconomicSector implements ITaxonomy {
+	public enum TRBCEconomicSector implements ITRBCTaxonomy {
 	
 		// As per TRBC
-		ENERGY										(50, Messages.getString("IMerchantCategoryCodes.TRBCEconomicSector.50")), //$NON-NLS-1$
-		BASIC_MATERIALS								(51, Messages.getString("IMerchantCategoryCodes.TRBCEconomicSector.51")), //$NON-NLS-1$
-		INDUSTRIALS									(52, Messages.getString("IMerchantCategoryCodes.TRBCEconomicSector.52")), //$NON-NLS-1$
-		CONSUMER_CYCLICALS							(53, Messages.getString("IMerchantCategoryCodes.TRBCEconomicSector.53")), //$NON-NLS-1$
-		CONSUMER_NON_CYCLICALS						(54, Messages.getString("IMerchantCategoryCodes.TRBCEconomicSector.54")), //$NON-NLS-1$
-		FINANCIALS									(55, Messages.getString("IMerchantCategoryCodes.TRBCEconomicSector.55")), //$NON-NLS-1$
-		HEALTH_CARE									(56, Messages.getString("IMerchantCategoryCodes.TRBCEconomicSector.56")), //$NON-NLS-1$
-		TECHNOLOGY									(57, Messages.getString("IMerchantCategoryCodes.TRBCEconomicSector.57")), //$NON-NLS-1$
-		TELECOMMUNICATION_SERVICES					(58, Messages.getString("IMerchantCategoryCodes.TRBCEconomicSector.58")), //$NON-NLS-1$
-		UTILITIES									(59, Messages.getString("IMerchantCategoryCodes.TRBCEconomicSector.59")), //$NON-NLS-1$
+		ENERGY										(50, "IMerchantCategoryCodes.TRBCEconomicSector.50"), //$NON-NLS-1$
+		BASIC_MATERIALS								(51, "IMerchantCategoryCodes.TRBCEconomicSector.51"), //$NON-NLS-1$
+		INDUSTRIALS									(52, "IMerchantCategoryCodes.TRBCEconomicSector.52"), //$NON-NLS-1$
+		CONSUMER_CYCLICALS							(53, "IMerchantCategoryCodes.TRBCEconomicSector.53"), //$NON-NLS-1$
+		CONSUMER_NON_CYCLICALS						(54, "IMerchantCategoryCodes.TRBCEconomicSector.54"), //$NON-NLS-1$
+		FINANCIALS									(55, "IMerchantCategoryCodes.TRBCEconomicSector.55"), //$NON-NLS-1$
+		HEALTH_CARE									(56, "IMerchantCategoryCodes.TRBCEconomicSector.56"), //$NON-NLS-1$
+		TECHNOLOGY									(57, "IMerchantCategoryCodes.TRBCEconomicSector.57"), //$NON-NLS-1$
+		TELECOMMUNICATION_SERVICES					(58, "IMerchantCategoryCodes.TRBCEconomicSector.58"), //$NON-NLS-1$
+		UTILITIES									(59, "IMerchantCategoryCodes.TRBCEconomicSector.59"), //$NON-NLS-1$
 		
 		// Not in TRBC, but needed
-		PUBLIC_SECTOR								(100, Messages.getString("IMerchantCategoryCodes.TRBCEconomicSector.100")), //$NON-NLS-1$
-		MEMBERSHIP_ORGANIZATIONS					(101, Messages.getString("IMerchantCategoryCodes.TRBCEconomicSector.101")), //$NON-NLS-1$
-		OTHER										(102, Messages.getString("IMerchantCategoryCodes.TRBCEconomicSector.102")); //$NON-NLS-1$
+		PUBLIC_SECTOR								(100, "IMerchantCategoryCodes.TRBCEconomicSector.100"), //$NON-NLS-1$
+		MEMBERSHIP_ORGANIZATIONS					(101, "IMerchantCategoryCodes.TRBCEconomicSector.101"), //$NON-NLS-1$
+		OTHER										(102, "IMerchantCategoryCodes.TRBCEconomicSector.102"); //$NON-NLS-1$
 		
 		/** The TRBC 2 digit code, or fake one if not in TRBC classification */
 		private int code;
-		/** The description for this economic sector */
-		private String description;
+		/** The TRBC code (= code), as for the other levels */
+		private int fullCode;
+		/** The first industry code of the interval labelling this node */
+		private int intervalStart;
+		/** The message key of the description for this economic sector */
+		private String descriptionKey;
+		/** The descriptions by locale, resolved on first use */
+		private static final Messages.Table<TRBCEconomicSector> DESCRIPTIONS = new Messages.Table<>(TRBCEconomicSector.class, sector -> sector.descriptionKey);
 		
 		/** Builds a new TRBC Economic Sector enumeration value with given code and description. */
 		private TRBCEconomicSector (int code, String description) {
 			this.code = code;
-			this.description = description;
+			this.fullCode = code;
+			this.intervalStart = code * 1000000;
+			this.descriptionKey = description;
+		}
+
+		/** The enumeration values sorted by code, for {@link #lookup(int)} */
+		private static final TRBCEconomicSector[] BY_CODE = values();
+		/** The codes of BY_CODE, ascending */
+		private static final int[] CODES = new int[BY_CODE.length];
+		
+		static {
+			Arrays.sort(BY_CODE, (a, b) -> Integer.compare(a.fullCode, b.fullCode)); // stable: declaration order kept for equal codes
+			for (int i=0; i<BY_CODE.length; i++) CODES[i] = BY_CODE[i].fullCode;
+		}
+		
+		/** Returns the economic sector whose (full) TRBC code is <code>code</code> (the first declared one if several share it), or null if none. O(log n), allocation free. */
+		public static TRBCEconomicSector lookup(int code) {
+			int index = Arrays.binarySearch(CODES, code);
+			if (index < 0) return null;
+			while (index > 0 && CODES[index - 1] == code) index--;
+			return BY_CODE[index];
+		}
+		
+		/** 
+		 * Returns the economic sector whose (full) TRBC code is <code>code</code>.
+		 * <p>
+		 * @throws IllegalArgumentException if the code is not recognised
+		 */
+		public static TRBCEconomicSector valueOf(int code) throws IllegalArgumentException {
+			TRBCEconomicSector value = lookup(code);
+			if (value == null) throw new IllegalArgumentException ("Invalid TRBC economic sector code " + code); //$NON-NLS-1$
+			return value;
 		}
 		
 		// Fulfils IClassification contract
@@ -363,358 +595,569 @@ public interface IMerchantCategoryCodes {
 		/** Gets the code allocated by TR */
 		@Override public int getCode() { return code; }
 		/** Gets the description for TR */
-		@Override public String getDescription() {return description; }
+		@Override public String getDescription() { return getDescription(Locale.getDefault()); }
+		/** Gets the description for TR in <code>locale</code> */
+		@Override public String getDescription(Locale locale) { return DESCRIPTIONS.get(this, locale); }
 		/** Gets the Parent classification = null: root. */
 		@Override public ITaxonomy getParent() { return null; }
+
+		// Fulfils ITRBCTaxonomy contract
+		// ------------------------------
+		
+		/** Gets this level in the TRBC hierarchy ({@link ITRBCTaxonomy#ECONOMIC_SECTOR}) */
+		@Override public int getLevel() { return ECONOMIC_SECTOR; }
+		/** Gets the first industry code of the interval labelling this node */
+		@Override public int getIntervalStart() { return intervalStart; }
+		/** Gets the last industry code of the interval labelling this node */
+		@Override public int getIntervalEnd() { return intervalStart + 1000000 - 1; }
+		/** Gets the ancestor (or self) of this node at <code>level</code>, null if deeper than this node. */
+		@Override public ITRBCTaxonomy ancestorAt(int level) throws IllegalArgumentException {
+			switch (level) {
+				case ECONOMIC_SECTOR: return this;
+				default:
+					ITRBCTaxonomy.checkLevel(level);
+					return null;
+			}
+		}
 		
 		/** Return a Human readable representation of this Country Code. */
 		@Override public String toString() {
-			return description + " (" + getCode() + "), root"; //$NON-NLS-1$ //$NON-NLS-2$
+			return getDescription() + " (" + getCode() + "), root"; //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
 	}
 	
 	/** The Thomson Reuters Business Classification - Business Sector categories. */
-	public enum TRBCBusinessSector implements ITaxonomy {
+	public enum TRBCBusinessSector implements ITRBCTaxonomy {
 
 		// As per TRBC
-		ENERGY_FOSSIL_FUELS																(10, TRBCEconomicSector.ENERGY, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5010")), //$NON-NLS-1$
-		RENEWABLE_ENERGY																(20, TRBCEconomicSector.ENERGY, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5020")), //$NON-NLS-1$
-		URANIUM																			(30, TRBCEconomicSector.ENERGY, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5030")), //$NON-NLS-1$
-		CHEMICALS																		(10, TRBCEconomicSector.BASIC_MATERIALS , Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5110")), //$NON-NLS-1$
-		MINERAL_RESOURCES																(20, TRBCEconomicSector.BASIC_MATERIALS , Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5120")), //$NON-NLS-1$
-		APPLIED_RESOURCES																(30, TRBCEconomicSector.BASIC_MATERIALS , Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5130")), //$NON-NLS-1$
-		INDUSTRIAL_GOODS																(10, TRBCEconomicSector.INDUSTRIALS , Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5210")), 	 //$NON-NLS-1$
-		INDUSTRIAL_AND_COMMERCIAL_SERVICES												(20, TRBCEconomicSector.INDUSTRIALS, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5220")), 	 //$NON-NLS-1$
-		INDUSTRIAL_CONGLOMERATES														(30, TRBCEconomicSector.INDUSTRIALS, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5230")), 	 //$NON-NLS-1$
-		TRANSPORTATION																	(30, TRBCEconomicSector.INDUSTRIALS, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5240")), 	 //$NON-NLS-1$
-		AUTOMOBILES_AND_AUTO_PARTS														(10, TRBCEconomicSector.CONSUMER_CYCLICALS ,Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5310")), 	 //$NON-NLS-1$
-		CYCLICAL_CONSUMER_PRODUCTS														(20, TRBCEconomicSector.CONSUMER_CYCLICALS, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5320")), 	 //$NON-NLS-1$
-		CYCLICAL_CONSUMER_SERVICES														(30, TRBCEconomicSector.CONSUMER_CYCLICALS , Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5330")), 	 //$NON-NLS-1$
-		RETAILERS																		(40, TRBCEconomicSector.CONSUMER_CYCLICALS , Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5340")), 	 //$NON-NLS-1$
-		FOOD_AND_BEVERAGES																(10, TRBCEconomicSector.CONSUMER_NON_CYCLICALS, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5410")), 	 //$NON-NLS-1$
-		PERSONAL_AND_HOUSEHOLD_PRODUCTS_AND_SERVICES									(20, TRBCEconomicSector.CONSUMER_NON_CYCLICALS , Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5420")), 	 //$NON-NLS-1$
-		FOOD_AND_DRUG_RETAILING															(30, TRBCEconomicSector.CONSUMER_NON_CYCLICALS, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5430")), 	 //$NON-NLS-1$
-		BANKING_AND_INVESTMENT_SERVICES													(10, TRBCEconomicSector.FINANCIALS, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5510")), 	 //$NON-NLS-1$
-		INSURANCE																		(30, TRBCEconomicSector.FINANCIALS , Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5530")), 	 //$NON-NLS-1$
-		REAL_ESTATE																		(40, TRBCEconomicSector.FINANCIALS , Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5540")),	 //$NON-NLS-1$
-		COLLECTIVE_INVESTMENTS															(50, TRBCEconomicSector.FINANCIALS, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5550")), 	 //$NON-NLS-1$
-		HOLDING_COMPANIES																(60, TRBCEconomicSector.FINANCIALS, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5560")), 	 //$NON-NLS-1$
-		HEALTH_CARE_SERVICES															(10, TRBCEconomicSector.HEALTH_CARE, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5610")), 	 //$NON-NLS-1$
-		PHARMACEUTICALS_AND_MEDICAL_RESEARCH											(20, TRBCEconomicSector.HEALTH_CARE, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5620")), 	 //$NON-NLS-1$
-		TECHNOLOGY_EQUIPMENT															(10, TRBCEconomicSector.TECHNOLOGY,  Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5710")), 	 //$NON-NLS-1$
-		SOFTWARE_AND_IT_SERVICES														(20, TRBCEconomicSector.TECHNOLOGY,  Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5720")), 	 //$NON-NLS-1$
-		TELECOMMUNICATION_SERVICES														(10, TRBCEconomicSector.TELECOMMUNICATION_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5810")), 	 //$NON-NLS-1$
-		UTILITIES																		(10, TRBCEconomicSector.UTILITIES, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.5910")), 	 //$NON-NLS-1$
+		ENERGY_FOSSIL_FUELS																(10, TRBCEconomicSector.ENERGY, "IMerchantCategoryCodes.TRBCBusinessSector.5010"), //$NON-NLS-1$
+		RENEWABLE_ENERGY																(20, TRBCEconomicSector.ENERGY, "IMerchantCategoryCodes.TRBCBusinessSector.5020"), //$NON-NLS-1$
+		URANIUM																			(30, TRBCEconomicSector.ENERGY, "IMerchantCategoryCodes.TRBCBusinessSector.5030"), //$NON-NLS-1$
+		CHEMICALS																		(10, TRBCEconomicSector.BASIC_MATERIALS , "IMerchantCategoryCodes.TRBCBusinessSector.5110"), //$NON-NLS-1$
+		MINERAL_RESOURCES																(20, TRBCEconomicSector.BASIC_MATERIALS , "IMerchantCategoryCodes.TRBCBusinessSector.5120"), //$NON-NLS-1$
+		APPLIED_RESOURCES																(30, TRBCEconomicSector.BASIC_MATERIALS , "IMerchantCategoryCodes.TRBCBusinessSector.5130"), //$NON-NLS-1$
+		INDUSTRIAL_GOODS																(10, TRBCEconomicSector.INDUSTRIALS , "IMerchantCategoryCodes.TRBCBusinessSector.5210"), 	 //$NON-NLS-1$
+		INDUSTRIAL_AND_COMMERCIAL_SERVICES												(20, TRBCEconomicSector.INDUSTRIALS, "IMerchantCategoryCodes.TRBCBusinessSector.5220"), 	 //$NON-NLS-1$
+		INDUSTRIAL_CONGLOMERATES														(30, TRBCEconomicSector.INDUSTRIALS, "IMerchantCategoryCodes.TRBCBusinessSector.5230"), 	 //$NON-NLS-1$
+		TRANSPORTATION																	(30, TRBCEconomicSector.INDUSTRIALS, "IMerchantCategoryCodes.TRBCBusinessSector.5240"), 	 //$NON-NLS-1$
+		AUTOMOBILES_AND_AUTO_PARTS														(10, TRBCEconomicSector.CONSUMER_CYCLICALS ,"IMerchantCategoryCodes.TRBCBusinessSector.5310"), 	 //$NON-NLS-1$
+		CYCLICAL_CONSUMER_PRODUCTS														(20, TRBCEconomicSector.CONSUMER_CYCLICALS, "IMerchantCategoryCodes.TRBCBusinessSector.5320"), 	 //$NON-NLS-1$
+		CYCLICAL_CONSUMER_SERVICES														(30, TRBCEconomicSector.CONSUMER_CYCLICALS , "IMerchantCategoryCodes.TRBCBusinessSector.5330"), 	 //$NON-NLS-1$
+		RETAILERS																		(40, TRBCEconomicSector.CONSUMER_CYCLICALS , "IMerchantCategoryCodes.TRBCBusinessSector.5340"), 	 //$NON-NLS-1$
+		FOOD_AND_BEVERAGES																(10, TRBCEconomicSector.CONSUMER_NON_CYCLICALS, "IMerchantCategoryCodes.TRBCBusinessSector.5410"), 	 //$NON-NLS-1$
+		PERSONAL_AND_HOUSEHOLD_PRODUCTS_AND_SERVICES									(20, TRBCEconomicSector.CONSUMER_NON_CYCLICALS , "IMerchantCategoryCodes.TRBCBusinessSector.5420"), 	 //$NON-NLS-1$
+		FOOD_AND_DRUG_RETAILING															(30, TRBCEconomicSector.CONSUMER_NON_CYCLICALS, "IMerchantCategoryCodes.TRBCBusinessSector.5430"), 	 //$NON-NLS-1$
+		BANKING_AND_INVESTMENT_SERVICES													(10, TRBCEconomicSector.FINANCIALS, "IMerchantCategoryCodes.TRBCBusinessSector.5510"), 	 //$NON-NLS-1$
+		INSURANCE																		(30, TRBCEconomicSector.FINANCIALS , "IMerchantCategoryCodes.TRBCBusinessSector.5530"), 	 //$NON-NLS-1$
+		REAL_ESTATE																		(40, TRBCEconomicSector.FINANCIALS , "IMerchantCategoryCodes.TRBCBusinessSector.5540"),	 //$NON-NLS-1$
+		COLLECTIVE_INVESTMENTS															(50, TRBCEconomicSector.FINANCIALS, "IMerchantCategoryCodes.TRBCBusinessSector.5550"), 	 //$NON-NLS-1$
+		HOLDING_COMPANIES																(60, TRBCEconomicSector.FINANCIALS, "IMerchantCategoryCodes.TRBCBusinessSector.5560"), 	 //$NON-NLS-1$
+		HEALTH_CARE_SERVICES															(10, TRBCEconomicSector.HEALTH_CARE, "IMerchantCategoryCodes.TRBCBusinessSector.5610"), 	 //$NON-NLS-1$
+		PHARMACEUTICALS_AND_MEDICAL_RESEARCH											(20, TRBCEconomicSector.HEALTH_CARE, "IMerchantCategoryCodes.TRBCBusinessSector.5620"), 	 //$NON-NLS-1$
+		TECHNOLOGY_EQUIPMENT															(10, TRBCEconomicSector.TECHNOLOGY,  "IMerchantCategoryCodes.TRBCBusinessSector.5710"), 	 //$NON-NLS-1$
+		SOFTWARE_AND_IT_SERVICES														(20, TRBCEconomicSector.TECHNOLOGY,  "IMerchantCategoryCodes.TRBCBusinessSector.5720"), 	 //$NON-NLS-1$
+		TELECOMMUNICATION_SERVICES														(10, TRBCEconomicSector.TELECOMMUNICATION_SERVICES, "IMerchantCategoryCodes.TRBCBusinessSector.5810"), 	 //$NON-NLS-1$
+		UTILITIES																		(10, TRBCEconomicSector.UTILITIES, "IMerchantCategoryCodes.TRBCBusinessSector.5910"), 	 //$NON-NLS-1$
 
 		// Not in TRBC, but needed
-		GOVERNMENT_SERVICES																(10, TRBCEconomicSector.PUBLIC_SECTOR, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.10010")),  //$NON-NLS-1$
-		MEMBERSHIP_ORGANIZATIONS														(10, TRBCEconomicSector.MEMBERSHIP_ORGANIZATIONS, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.10110")), //$NON-NLS-1$
-		OTHER																			(10, TRBCEconomicSector.OTHER, Messages.getString("IMerchantCategoryCodes.TRBCBusinessSector.10210")); //$NON-NLS-1$
+		GOVERNMENT_SERVICES																(10, TRBCEconomicSector.PUBLIC_SECTOR, "IMerchantCategoryCodes.TRBCBusinessSector.10010"),  //$NON-NLS-1$
+		MEMBERSHIP_ORGANIZATIONS														(10, TRBCEconomicSector.MEMBERSHIP_ORGANIZATIONS, "IMerchantCategoryCodes.TRBCBusinessSector.10110"), //$NON-NLS-1$
+		OTHER																			(10, TRBCEconomicSector.OTHER, "IMerchantCategoryCodes.TRBCBusinessSector.10210"); //$NON-NLS-1$
 		
 		
 		/** The economic sector this business sector belongs to */
 		private TRBCEconomicSector economicSector;
-		/** The last 2 digits of the TRBC code, rebuilt when invoking {@link #getCode()} */
+		/** The last 2 digits of the TRBC code */
 		private int code;
-		/** This industry description */
-		private String description;
+		/** The full TRBC code = parent code followed by the 2 digits of <code>code</code>, computed once */
+		private int fullCode;
+		/** The first industry code of the interval labelling this node */
+		private int intervalStart;
+		/** The message key of this industry description */
+		private String descriptionKey;
+		/** The descriptions by locale, resolved on first use */
+		private static final Messages.Table<TRBCBusinessSector> DESCRIPTIONS = new Messages.Table<>(TRBCBusinessSector.class, sector -> sector.descriptionKey);
 
 		/** Builds a new TRBC Business Sector enumeration value, linking this value with parent <code>economicSector</code> classification */
 		private TRBCBusinessSector (int code, TRBCEconomicSector economicSector, String description) {
 			this.code = code;
 			this.economicSector = economicSector;
-			this.description = description;
+			this.descriptionKey = description;
+			this.fullCode = economicSector.fullCode * 100 + code;
+			this.intervalStart = fullCode * 10000;
+		}
+
+		/** The enumeration values sorted by code, for {@link #lookup(int)} */
+		private static final TRBCBusinessSector[] BY_CODE = values();
+		/** The codes of BY_CODE, ascending */
+		private static final int[] CODES = new int[BY_CODE.length];
+		
+		static {
+			Arrays.sort(BY_CODE, (a, b) -> Integer.compare(a.fullCode, b.fullCode)); // stable: declaration order kept for equal codes
+			for (int i=0; i<BY_CODE.length; i++) CODES[i] = BY_CODE[i].fullCode;
+		}
+		
+		/** 
+		 * Returns the business sector whose (full) TRBC code is <code>code</code>, or null if none. O(log n), allocation free.
+		 * <p>
+		 * Code 5230 is shared by INDUSTRIAL_CONGLOMERATES and TRANSPORTATION: the first declared one (INDUSTRIAL_CONGLOMERATES) is returned, 
+		 * TRANSPORTATION being only reachable by its enumeration constant.
+		 */
+		public static TRBCBusinessSector lookup(int code) {
+			int index = Arrays.binarySearch(CODES, code);
+			if (index < 0) return null;
+			while (index > 0 && CODES[index - 1] == code) index--;
+			return BY_CODE[index];
+		}
+		
+		/** 
+		 * Returns the business sector whose (full) TRBC code is <code>code</code>.
+		 * <p>
+		 * @throws IllegalArgumentException if the code is not recognised
+		 */
+		public static TRBCBusinessSector valueOf(int code) throws IllegalArgumentException {
+			TRBCBusinessSector value = lookup(code);
+			if (value == null) throw new IllegalArgumentException ("Invalid TRBC business sector code " + code); //$NON-NLS-1$
+			return value;
 		}
 		
 		// Fulfils IClassification contract
 		// --------------------------------
 		
-		/** Gets the TRBC code (or fake for non-TRBC enum value); rebuilds the entire code by invoking parent one. */
-		@Override public int getCode() { return Integer.valueOf(Integer.toString(getParent().getCode())+Integer.toString(code)); }
+		/** Gets the TRBC code (or fake for non-TRBC enum value) = parent code followed by this level 2 digits (precomputed). */
+		@Override public int getCode() { return fullCode; }
 		/** Gets this sub-Industry description. */
-		@Override public String getDescription() {return description; }
+		@Override public String getDescription() { return getDescription(Locale.getDefault()); }
+		/** Gets this sub-Industry description in <code>locale</code> */
+		@Override public String getDescription(Locale locale) { return DESCRIPTIONS.get(this, locale); }
 		/** Gets the Parent classification = economic sector. */
 		@Override public ITaxonomy getParent() { return economicSector; }
 
+		// Fulfils ITRBCTaxonomy contract
+		// ------------------------------
+		
+		/** Gets this level in the TRBC hierarchy ({@link ITRBCTaxonomy#BUSINESS_SECTOR}) */
+		@Override public int getLevel() { return BUSINESS_SECTOR; }
+		/** Gets the first industry code of the interval labelling this node */
+		@Override public int getIntervalStart() { return intervalStart; }
+		/** Gets the last industry code of the interval labelling this node */
+		@Override public int getIntervalEnd() { return intervalStart + 10000 - 1; }
+		/** Gets the ancestor (or self) of this node at <code>level</code>, null if deeper than this node. */
+		@Override public ITRBCTaxonomy ancestorAt(int level) throws IllegalArgumentException {
+			switch (level) {
+				case ECONOMIC_SECTOR: return economicSector;
+				case BUSINESS_SECTOR: return this;
+				default:
+					ITRBCTaxonomy.checkLevel(level);
+					return null;
+			}
+		}
+
 		/** Return a Human readable representation of this Country Code. */
 		@Override public String toString() {
-			return description + " (" + getCode() + ") <- " + economicSector; //$NON-NLS-1$ //$NON-NLS-2$
+			return getDescription() + " (" + getCode() + ") <- " + economicSector; //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
 	}
 	
 	/** The Thomson Reuters Rusiness Classification - Industry Group categories, plus public sector (from NAICS). */
-	public enum TRBCIndustryGroup implements ITaxonomy {
+	public enum TRBCIndustryGroup implements ITRBCTaxonomy {
 
 		// As per TRBC
-		COAL																			(10, TRBCBusinessSector.ENERGY_FOSSIL_FUELS, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.501010")), //$NON-NLS-1$
-		OIL_AND_GAS																		(20, TRBCBusinessSector.ENERGY_FOSSIL_FUELS, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.501020")),	 //$NON-NLS-1$
-		OIL_AND_GAS_RELATED_EQUIPMENT_AND_SERVICES										(30, TRBCBusinessSector.ENERGY_FOSSIL_FUELS, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.501030")), //$NON-NLS-1$
-		RENEWABLE_ENERGY																(10, TRBCBusinessSector.RENEWABLE_ENERGY, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.502010")), //$NON-NLS-1$
-		URANIUM																			(10, TRBCBusinessSector.URANIUM, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.503010")), //$NON-NLS-1$
-		CHEMICALS																		(10, TRBCBusinessSector.CHEMICALS, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.511010")), 	 //$NON-NLS-1$
-		METALS_AND_MINING																(10, TRBCBusinessSector.MINERAL_RESOURCES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.512010")), 	 //$NON-NLS-1$
-		CONSTRUCTION_MATERIALS															(20, TRBCBusinessSector.MINERAL_RESOURCES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.512020")), 	 //$NON-NLS-1$
-		PAPER_AND_FOREST_PRODUCTS														(10, TRBCBusinessSector.APPLIED_RESOURCES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.513010")), 	 //$NON-NLS-1$
-		CONTAINERS_AND_PACKAGING														(20, TRBCBusinessSector.APPLIED_RESOURCES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.513020")), 	 //$NON-NLS-1$
-		AEROSPACE_AND_DEFENSE															(10, TRBCBusinessSector.INDUSTRIAL_GOODS, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.521010")), 	 //$NON-NLS-1$
-		MACHINERY_EQUIPMENT_AND_COMPONENTS												(20, TRBCBusinessSector.INDUSTRIAL_GOODS, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.521020")), 	 //$NON-NLS-1$
-		CONSTRUCTION_AND_ENGINEERING													(10, TRBCBusinessSector.INDUSTRIAL_AND_COMMERCIAL_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.522010")), 	 //$NON-NLS-1$
-		DIVERSIFIED_TRADING_AND_DISTRIBUTING											(20, TRBCBusinessSector.INDUSTRIAL_AND_COMMERCIAL_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.522020")), 	 //$NON-NLS-1$
-		PROFESSIONAL_AND_COMMERCIAL_SERVICES											(30, TRBCBusinessSector.INDUSTRIAL_AND_COMMERCIAL_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.522030")), 	 //$NON-NLS-1$
-		INDUSTRIAL_CONGLOMERATES														(10, TRBCBusinessSector.INDUSTRIAL_CONGLOMERATES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.523010")), 	 //$NON-NLS-1$
-		FREIGHT_AND_LOGISTICS_SERVICES													(50, TRBCBusinessSector.TRANSPORTATION, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.524050")), 	 //$NON-NLS-1$
-		PASSENGER_TRANSPORTATION_SERVICES												(60, TRBCBusinessSector.TRANSPORTATION, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.524060")),  //$NON-NLS-1$
-		TRANSPORT_INFRASTRUCTURE														(70, TRBCBusinessSector.TRANSPORTATION, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.524070")), 	 //$NON-NLS-1$
-		AUTOMOBILES_AND_AUTO_PARTS														(10, TRBCBusinessSector.AUTOMOBILES_AND_AUTO_PARTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.531010")), 	 //$NON-NLS-1$
-		TEXTILES_AND_APPAREL															(20, TRBCBusinessSector.CYCLICAL_CONSUMER_PRODUCTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.531020")), 	 //$NON-NLS-1$
-		HOMEBUILDING_AND_CONSTRUCTION_SUPPLIES											(30, TRBCBusinessSector.CYCLICAL_CONSUMER_PRODUCTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.531030")), 	 //$NON-NLS-1$
-		HOUSEHOLD_GOODS																	(40, TRBCBusinessSector.CYCLICAL_CONSUMER_PRODUCTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.531040")), 	 //$NON-NLS-1$
-		LEISURE_PRODUCTS																(50, TRBCBusinessSector.CYCLICAL_CONSUMER_PRODUCTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.531050")), 	 //$NON-NLS-1$
-		HOTELS_AND_ENTERTAINMENT_SERVICES												(10, TRBCBusinessSector.CYCLICAL_CONSUMER_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.533010")), 	 //$NON-NLS-1$
-		MEDIA_AND_PUBLISHING															(20, TRBCBusinessSector.CYCLICAL_CONSUMER_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.533030")), 	 //$NON-NLS-1$
-		DIVERSIFIED_RETAIL																(20, TRBCBusinessSector.RETAILERS, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.534020")), 	 //$NON-NLS-1$
-		OTHER_SPECIALTY_RETAILERS														(30, TRBCBusinessSector.RETAILERS, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.534030")), 	 //$NON-NLS-1$
-		BEVERAGES																		(10, TRBCBusinessSector.FOOD_AND_BEVERAGES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.541010")), 	 //$NON-NLS-1$
-		FOOD_AND_TOBACCO																(20, TRBCBusinessSector.FOOD_AND_BEVERAGES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.541020")), 	 //$NON-NLS-1$
-		PERSONAL_AND_HOUSEHOLD_PRODUCTS_AND_SERVICES									(10, TRBCBusinessSector.PERSONAL_AND_HOUSEHOLD_PRODUCTS_AND_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.542010")), 	 //$NON-NLS-1$
-		FOOD_AND_DRUG_RETAILING															(10, TRBCBusinessSector.FOOD_AND_DRUG_RETAILING, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.543010")), 	 //$NON-NLS-1$
-		BANKING_SERVICES																(10, TRBCBusinessSector.BANKING_AND_INVESTMENT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.551010")), 	 //$NON-NLS-1$
-		INVESTMENT_BANKING_AND_INVESTMENT_SERVICES										(20, TRBCBusinessSector.BANKING_AND_INVESTMENT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.551020")), 	 //$NON-NLS-1$
-		INSURANCE																		(10, TRBCBusinessSector.INSURANCE, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.553010")), 	 //$NON-NLS-1$
-		REAL_ESTATE_OPERATIONS															(20, TRBCBusinessSector.REAL_ESTATE, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.554020")), 	 //$NON-NLS-1$
-		RESIDENTIAL_AND_COMMERCIAL_REITS												(30, TRBCBusinessSector.REAL_ESTATE, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.554030")), //$NON-NLS-1$
-		COLLECTIVE_INVESTMENTS															(10, TRBCBusinessSector.COLLECTIVE_INVESTMENTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.555010")), 	 //$NON-NLS-1$
-		HOLDING_COMPANIES																(10, TRBCBusinessSector.HOLDING_COMPANIES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.556010")), 	 //$NON-NLS-1$
-		HEALTH_CARE_EQUIPMENT_AND_SUPPLIES												(10, TRBCBusinessSector.HEALTH_CARE_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.561010")), 	 //$NON-NLS-1$
-		HEALTH_CARE_PROVIDERS_AND_SERVICES												(20, TRBCBusinessSector.HEALTH_CARE_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.561020")), 	 //$NON-NLS-1$
-		PHARMACEUTICALS																	(10, TRBCBusinessSector.PHARMACEUTICALS_AND_MEDICAL_RESEARCH, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.562010")), 	 //$NON-NLS-1$
-		BIOTECHNOLOGY_AND_MEDICAL_RESEARCH												(20, TRBCBusinessSector.PHARMACEUTICALS_AND_MEDICAL_RESEARCH, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.562020")), 	 //$NON-NLS-1$
-		SEMICONDUCTORS_AND_SEMICONDUCTOR_EQUIPMENT										(10, TRBCBusinessSector.TECHNOLOGY_EQUIPMENT, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.571010")), 	 //$NON-NLS-1$
-		COMMUNICATIONS_AND_NETWORKING													(20, TRBCBusinessSector.TECHNOLOGY_EQUIPMENT, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.571020")), 	 //$NON-NLS-1$
-		ELECTRONIC_EQUIPMENT_AND_PARTS													(40, TRBCBusinessSector.TECHNOLOGY_EQUIPMENT, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.571040")), 	 //$NON-NLS-1$
-		OFFICE_EQUIPMENT																(50, TRBCBusinessSector.TECHNOLOGY_EQUIPMENT, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.571050")), 	 //$NON-NLS-1$
-		COMPUTERS_PHONES_AND_HOUSEHOLD_ELECTRONICS										(60, TRBCBusinessSector.TECHNOLOGY_EQUIPMENT, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.571060")), 	 //$NON-NLS-1$
-		SOFTWARE_AND_IT_SERVICES														(10, TRBCBusinessSector.SOFTWARE_AND_IT_SERVICES,  Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.572010")), 	 //$NON-NLS-1$
-		TELECOMMUNICATION_SERVICES														(10, TRBCBusinessSector.TELECOMMUNICATION_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.581010")), 	 //$NON-NLS-1$
-		ELECTRIC_UTILITIES_AND_IPPs														(10, TRBCBusinessSector.UTILITIES , Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.591010")), 	 //$NON-NLS-1$
-		NATURAL_GAS_UTILITIES															(20, TRBCBusinessSector.UTILITIES , Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.591020")), 	 //$NON-NLS-1$
-		WATER_AND_OTHER_UTILITIES														(30, TRBCBusinessSector.UTILITIES , Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.591030")), 	 //$NON-NLS-1$
-		MULTILINE_UTILITIES																(40, TRBCBusinessSector.UTILITIES , Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.591040")), 	 //$NON-NLS-1$
+		COAL																			(10, TRBCBusinessSector.ENERGY_FOSSIL_FUELS, "IMerchantCategoryCodes.TRBCIndustryGroup.501010"), //$NON-NLS-1$
+		OIL_AND_GAS																		(20, TRBCBusinessSector.ENERGY_FOSSIL_FUELS, "IMerchantCategoryCodes.TRBCIndustryGroup.501020"),	 //$NON-NLS-1$
+		OIL_AND_GAS_RELATED_EQUIPMENT_AND_SERVICES										(30, TRBCBusinessSector.ENERGY_FOSSIL_FUELS, "IMerchantCategoryCodes.TRBCIndustryGroup.501030"), //$NON-NLS-1$
+		RENEWABLE_ENERGY																(10, TRBCBusinessSector.RENEWABLE_ENERGY, "IMerchantCategoryCodes.TRBCIndustryGroup.502010"), //$NON-NLS-1$
+		URANIUM																			(10, TRBCBusinessSector.URANIUM, "IMerchantCategoryCodes.TRBCIndustryGroup.503010"), //$NON-NLS-1$
+		CHEMICALS																		(10, TRBCBusinessSector.CHEMICALS, "IMerchantCategoryCodes.TRBCIndustryGroup.511010"), 	 //$NON-NLS-1$
+		METALS_AND_MINING																(10, TRBCBusinessSector.MINERAL_RESOURCES, "IMerchantCategoryCodes.TRBCIndustryGroup.512010"), 	 //$NON-NLS-1$
+		CONSTRUCTION_MATERIALS															(20, TRBCBusinessSector.MINERAL_RESOURCES, "IMerchantCategoryCodes.TRBCIndustryGroup.512020"), 	 //$NON-NLS-1$
+		PAPER_AND_FOREST_PRODUCTS														(10, TRBCBusinessSector.APPLIED_RESOURCES, "IMerchantCategoryCodes.TRBCIndustryGroup.513010"), 	 //$NON-NLS-1$
+		CONTAINERS_AND_PACKAGING														(20, TRBCBusinessSector.APPLIED_RESOURCES, "IMerchantCategoryCodes.TRBCIndustryGroup.513020"), 	 //$NON-NLS-1$
+		AEROSPACE_AND_DEFENSE															(10, TRBCBusinessSector.INDUSTRIAL_GOODS, "IMerchantCategoryCodes.TRBCIndustryGroup.521010"), 	 //$NON-NLS-1$
+		MACHINERY_EQUIPMENT_AND_COMPONENTS												(20, TRBCBusinessSector.INDUSTRIAL_GOODS, "IMerchantCategoryCodes.TRBCIndustryGroup.521020"), 	 //$NON-NLS-1$
+		CONSTRUCTION_AND_ENGINEERING													(10, TRBCBusinessSector.INDUSTRIAL_AND_COMMERCIAL_SERVICES, "IMerchantCategoryCodes.TRBCIndustryGroup.522010"), 	 //$NON-NLS-1$
+		DIVERSIFIED_TRADING_AND_DISTRIBUTING											(20, TRBCBusinessSector.INDUSTRIAL_AND_COMMERCIAL_SERVICES, "IMerchantCategoryCodes.TRBCIndustryGroup.522020"), 	 //$NON-NLS-1$
+		PROFESSIONAL_AND_COMMERCIAL_SERVICES											(30, TRBCBusinessSector.INDUSTRIAL_AND_COMMERCIAL_SERVICES, "IMerchantCategoryCodes.TRBCIndustryGroup.522030"), 	 //$NON-NLS-1$
+		INDUSTRIAL_CONGLOMERATES														(10, TRBCBusinessSector.INDUSTRIAL_CONGLOMERATES, "IMerchantCategoryCodes.TRBCIndustryGroup.523010"), 	 //$NON-NLS-1$
+		FREIGHT_AND_LOGISTICS_SERVICES													(50, TRBCBusinessSector.TRANSPORTATION, "IMerchantCategoryCodes.TRBCIndustryGroup.524050"), 	 //$NON-NLS-1$
+		PASSENGER_TRANSPORTATION_SERVICES												(60, TRBCBusinessSector.TRANSPORTATION, "IMerchantCategoryCodes.TRBCIndustryGroup.524060"),  //$NON-NLS-1$
+		TRANSPORT_INFRASTRUCTURE														(70, TRBCBusinessSector.TRANSPORTATION, "IMerchantCategoryCodes.TRBCIndustryGroup.524070"), 	 //$NON-NLS-1$
+		AUTOMOBILES_AND_AUTO_PARTS														(10, TRBCBusinessSector.AUTOMOBILES_AND_AUTO_PARTS, "IMerchantCategoryCodes.TRBCIndustryGroup.531010"), 	 //$NON-NLS-1$
+		TEXTILES_AND_APPAREL															(20, TRBCBusinessSector.CYCLICAL_CONSUMER_PRODUCTS, "IMerchantCategoryCodes.TRBCIndustryGroup.531020"), 	 //$NON-NLS-1$
+		HOMEBUILDING_AND_CONSTRUCTION_SUPPLIES											(30, TRBCBusinessSector.CYCLICAL_CONSUMER_PRODUCTS, "IMerchantCategoryCodes.TRBCIndustryGroup.531030"), 	 //$NON-NLS-1$
+		HOUSEHOLD_GOODS																	(40, TRBCBusinessSector.CYCLICAL_CONSUMER_PRODUCTS, "IMerchantCategoryCodes.TRBCIndustryGroup.531040"), 	 //$NON-NLS-1$
+		LEISURE_PRODUCTS																(50, TRBCBusinessSector.CYCLICAL_CONSUMER_PRODUCTS, "IMerchantCategoryCodes.TRBCIndustryGroup.531050"), 	 //$NON-NLS-1$
+		HOTELS_AND_ENTERTAINMENT_SERVICES												(10, TRBCBusinessSector.CYCLICAL_CONSUMER_SERVICES, "IMerchantCategoryCodes.TRBCIndustryGroup.533010"), 	 //$NON-NLS-1$
+		MEDIA_AND_PUBLISHING															(20, TRBCBusinessSector.CYCLICAL_CONSUMER_SERVICES, "IMerchantCategoryCodes.TRBCIndustryGroup.533030"), 	 //$NON-NLS-1$
+		DIVERSIFIED_RETAIL																(20, TRBCBusinessSector.RETAILERS, "IMerchantCategoryCodes.TRBCIndustryGroup.534020"), 	 //$NON-NLS-1$
+		OTHER_SPECIALTY_RETAILERS														(30, TRBCBusinessSector.RETAILERS, "IMerchantCategoryCodes.TRBCIndustryGroup.534030"), 	 //$NON-NLS-1$
+		BEVERAGES																		(10, TRBCBusinessSector.FOOD_AND_BEVERAGES, "IMerchantCategoryCodes.TRBCIndustryGroup.541010"), 	 //$NON-NLS-1$
+		FOOD_AND_TOBACCO																(20, TRBCBusinessSector.FOOD_AND_BEVERAGES, "IMerchantCategoryCodes.TRBCIndustryGroup.541020"), 	 //$NON-NLS-1$
+		PERSONAL_AND_HOUSEHOLD_PRODUCTS_AND_SERVICES									(10, TRBCBusinessSector.PERSONAL_AND_HOUSEHOLD_PRODUCTS_AND_SERVICES, "IMerchantCategoryCodes.TRBCIndustryGroup.542010"), 	 //$NON-NLS-1$
+		FOOD_AND_DRUG_RETAILING															(10, TRBCBusinessSector.FOOD_AND_DRUG_RETAILING, "IMerchantCategoryCodes.TRBCIndustryGroup.543010"), 	 //$NON-NLS-1$
+		BANKING_SERVICES																(10, TRBCBusinessSector.BANKING_AND_INVESTMENT_SERVICES, "IMerchantCategoryCodes.TRBCIndustryGroup.551010"), 	 //$NON-NLS-1$
+		INVESTMENT_BANKING_AND_INVESTMENT_SERVICES										(20, TRBCBusinessSector.BANKING_AND_INVESTMENT_SERVICES, "IMerchantCategoryCodes.TRBCIndustryGroup.551020"), 	 //$NON-NLS-1$
+		INSURANCE																		(10, TRBCBusinessSector.INSURANCE, "IMerchantCategoryCodes.TRBCIndustryGroup.553010"), 	 //$NON-NLS-1$
+		REAL_ESTATE_OPERATIONS															(20, TRBCBusinessSector.REAL_ESTATE, "IMerchantCategoryCodes.TRBCIndustryGroup.554020"), 	 //$NON-NLS-1$
+		RESIDENTIAL_AND_COMMERCIAL_REITS												(30, TRBCBusinessSector.REAL_ESTATE, "IMerchantCategoryCodes.TRBCIndustryGroup.554030"), //$NON-NLS-1$
+		COLLECTIVE_INVESTMENTS															(10, TRBCBusinessSector.COLLECTIVE_INVESTMENTS, "IMerchantCategoryCodes.TRBCIndustryGroup.555010"), 	 //$NON-NLS-1$
+		HOLDING_COMPANIES																(10, TRBCBusinessSector.HOLDING_COMPANIES, "IMerchantCategoryCodes.TRBCIndustryGroup.556010"), 	 //$NON-NLS-1$
+		HEALTH_CARE_EQUIPMENT_AND_SUPPLIES												(10, TRBCBusinessSector.HEALTH_CARE_SERVICES, "IMerchantCategoryCodes.TRBCIndustryGroup.561010"), 	 //$NON-NLS-1$
+		HEALTH_CARE_PROVIDERS_AND_SERVICES												(20, TRBCBusinessSector.HEALTH_CARE_SERVICES, "IMerchantCategoryCodes.TRBCIndustryGroup.561020"), 	 //$NON-NLS-1$
+		PHARMACEUTICALS																	(10, TRBCBusinessSector.PHARMACEUTICALS_AND_MEDICAL_RESEARCH, "IMerchantCategoryCodes.TRBCIndustryGroup.562010"), 	 //$NON-NLS-1$
+		BIOTECHNOLOGY_AND_MEDICAL_RESEARCH												(20, TRBCBusinessSector.PHARMACEUTICALS_AND_MEDICAL_RESEARCH, "IMerchantCategoryCodes.TRBCIndustryGroup.562020"), 	 //$NON-NLS-1$
+		SEMICONDUCTORS_AND_SEMICONDUCTOR_EQUIPMENT										(10, TRBCBusinessSector.TECHNOLOGY_EQUIPMENT, "IMerchantCategoryCodes.TRBCIndustryGroup.571010"), 	 //$NON-NLS-1$
+		COMMUNICATIONS_AND_NETWORKING													(20, TRBCBusinessSector.TECHNOLOGY_EQUIPMENT, "IMerchantCategoryCodes.TRBCIndustryGroup.571020"), 	 //$NON-NLS-1$
+		ELECTRONIC_EQUIPMENT_AND_PARTS													(40, TRBCBusinessSector.TECHNOLOGY_EQUIPMENT, "IMerchantCategoryCodes.TRBCIndustryGroup.571040"), 	 //$NON-NLS-1$
+		OFFICE_EQUIPMENT																(50, TRBCBusinessSector.TECHNOLOGY_EQUIPMENT, "IMerchantCategoryCodes.TRBCIndustryGroup.571050"), 	 //$NON-NLS-1$
+		COMPUTERS_PHONES_AND_HOUSEHOLD_ELECTRONICS										(60, TRBCBusinessSector.TECHNOLOGY_EQUIPMENT, "IMerchantCategoryCodes.TRBCIndustryGroup.571060"), 	 //$NON-NLS-1$
+		SOFTWARE_AND_IT_SERVICES														(10, TRBCBusinessSector.SOFTWARE_AND_IT_SERVICES,  "IMerchantCategoryCodes.TRBCIndustryGroup.572010"), 	 //$NON-NLS-1$
+		TELECOMMUNICATION_SERVICES														(10, TRBCBusinessSector.TELECOMMUNICATION_SERVICES, "IMerchantCategoryCodes.TRBCIndustryGroup.581010"), 	 //$NON-NLS-1$
+		ELECTRIC_UTILITIES_AND_IPPs														(10, TRBCBusinessSector.UTILITIES , "IMerchantCategoryCodes.TRBCIndustryGroup.591010"), 	 //$NON-NLS-1$
+		NATURAL_GAS_UTILITIES															(20, TRBCBusinessSector.UTILITIES , "IMerchantCategoryCodes.TRBCIndustryGroup.591020"), 	 //$NON-NLS-1$
+		WATER_AND_OTHER_UTILITIES														(30, TRBCBusinessSector.UTILITIES , "IMerchantCategoryCodes.TRBCIndustryGroup.591030"), 	 //$NON-NLS-1$
+		MULTILINE_UTILITIES																(40, TRBCBusinessSector.UTILITIES , "IMerchantCategoryCodes.TRBCIndustryGroup.591040"), 	 //$NON-NLS-1$
 		
 		// Not in TRBC, but needed
-		GOVERNMENT_SERVICES																(10, TRBCBusinessSector.GOVERNMENT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.1001010")),  //$NON-NLS-1$
-		MEMBERSHIP_ORGANIZATIONS														(10, TRBCBusinessSector.MEMBERSHIP_ORGANIZATIONS, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.1011010")), //$NON-NLS-1$
-		OTHER																			(10, TRBCBusinessSector.OTHER, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.1021010")); //$NON-NLS-1$
+		GOVERNMENT_SERVICES																(10, TRBCBusinessSector.GOVERNMENT_SERVICES, "IMerchantCategoryCodes.TRBCIndustryGroup.1001010"),  //$NON-NLS-1$
+		MEMBERSHIP_ORGANIZATIONS														(10, TRBCBusinessSector.MEMBERSHIP_ORGANIZATIONS, "IMerchantCategoryCodes.TRBCIndustryGroup.1011010"), //$NON-NLS-1$
+		OTHER																			(10, TRBCBusinessSector.OTHER, "IMerchantCategoryCodes.TRBCIndustryGroup.1021010"); //$NON-NLS-1$
 
 		/** The business sector this industry group belongs to */
 		private TRBCBusinessSector businessSector;
-		/** The last 2 digits of the TRBC code, rebuilt when invoking {@link #getCode()} */
+		/** The last 2 digits of the TRBC code */
 		private int code;
-		/** This industry description */
-		private String description;
+		/** The full TRBC code = parent code followed by the 2 digits of <code>code</code>, computed once */
+		private int fullCode;
+		/** The first industry code of the interval labelling this node */
+		private int intervalStart;
+		/** The message key of this industry description */
+		private String descriptionKey;
+		/** The descriptions by locale, resolved on first use */
+		private static final Messages.Table<TRBCIndustryGroup> DESCRIPTIONS = new Messages.Table<>(TRBCIndustryGroup.class, group -> group.descriptionKey);
 
 		
 		/** Builds a new TRBC Industry Group enumeration value, linking this value with parent <code>businessSector</code> classification */
 		private TRBCIndustryGroup (int code, TRBCBusinessSector businessSector, String description) {
 			this.code = code;
 			this.businessSector = businessSector;
-			this.description = description;
+			this.descriptionKey = description;
+			this.fullCode = businessSector.fullCode * 100 + code;
+			this.intervalStart = fullCode * 100;
+		}
+
+		/** The enumeration values sorted by code, for {@link #lookup(int)} */
+		private static final TRBCIndustryGroup[] BY_CODE = values();
+		/** The codes of BY_CODE, ascending */
+		private static final int[] CODES = new int[BY_CODE.length];
+		
+		static {
+			Arrays.sort(BY_CODE, (a, b) -> Integer.compare(a.fullCode, b.fullCode)); // stable: declaration order kept for equal codes
+			for (int i=0; i<BY_CODE.length; i++) CODES[i] = BY_CODE[i].fullCode;
+		}
+		
+		/** Returns the industry group whose (full) TRBC code is <code>code</code> (the first declared one if several share it), or null if none. O(log n), allocation free. */
+		public static TRBCIndustryGroup lookup(int code) {
+			int index = Arrays.binarySearch(CODES, code);
+			if (index < 0) return null;
+			while (index > 0 && CODES[index - 1] == code) index--;
+			return BY_CODE[index];
+		}
+		
+		/** 
+		 * Returns the industry group whose (full) TRBC code is <code>code</code>.
+		 * <p>
+		 * @throws IllegalArgumentException if the code is not recognised
+		 */
+		public static TRBCIndustryGroup valueOf(int code) throws IllegalArgumentException {
+			TRBCIndustryGroup value = lookup(code);
+			if (value == null) throw new IllegalArgumentException ("Invalid TRBC industry group code " + code); //$NON-NLS-1$
+			return value;
 		}
 		
 		// Fulfils IClassification contract
 		// --------------------------------
 		
-		/** Gets the TRBC code (or fake for non-TRBC enum value); rebuilds the entire code by invoking parent one. */
-		@Override public int getCode() { return Integer.valueOf(Integer.toString(getParent().getCode())+Integer.toString(code)); }
+		/** Gets the TRBC code (or fake for non-TRBC enum value) = parent code followed by this level 2 digits (precomputed). */
+		@Override public int getCode() { return fullCode; }
 		/** Gets this Industry group description. */
-		@Override public String getDescription() {return description; }
+		@Override public String getDescription() { return getDescription(Locale.getDefault()); }
+		/** Gets this Industry group description in <code>locale</code> */
+		@Override public String getDescription(Locale locale) { return DESCRIPTIONS.get(this, locale); }
 		/** Gets the Parent classification = business sector. */
 		@Override public ITaxonomy getParent() { return businessSector; }
+
+		// Fulfils ITRBCTaxonomy contract
+		// ------------------------------
+		
+		/** Gets this level in the TRBC hierarchy ({@link ITRBCTaxonomy#INDUSTRY_GROUP}) */
+		@Override public int getLevel() { return INDUSTRY_GROUP; }
+		/** Gets the first industry code of the interval labelling this node */
+		@Override public int getIntervalStart() { return intervalStart; }
+		/** Gets the last industry code of the interval labelling this node */
+		@Override public int getIntervalEnd() { return intervalStart + 100 - 1; }
+		/** Gets the ancestor (or self) of this node at <code>level</code>, null if deeper than this node. */
+		@Override public ITRBCTaxonomy ancestorAt(int level) throws IllegalArgumentException {
+			switch (level) {
+				case ECONOMIC_SECTOR: return businessSector.economicSector;
+				case BUSINESS_SECTOR: return businessSector;
+				case INDUSTRY_GROUP: return this;
+				default:
+					ITRBCTaxonomy.checkLevel(level);
+					return null;
+			}
+		}
 		
 		/** Return a Human readable representation of this Country Code. */
 		@Override public String toString() {
-			return description + " (" + getCode() + ") <- " + businessSector; //$NON-NLS-1$ //$NON-NLS-2$
+			return getDescription() + " (" + getCode() + ") <- " + businessSector; //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
 	}
 	
 	
 	/** The The Thomson Reuters Rusiness Classification - Industry categories, plus public sector (from NAICS). */
-	public enum TRBCIndustry implements ITaxonomy {
+	public enum TRBCIndustry implements ITRBCTaxonomy {
 		
 		// As per TRBC
-		COAL																				(10, TRBCIndustryGroup.COAL, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.50101010")), //$NON-NLS-1$
-		INTEGRATED_OIL_AND_GAS																(10, TRBCIndustryGroup.OIL_AND_GAS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.50102010")), //$NON-NLS-1$
-		OIL_AND_GAS_EXPLORATION_AND_PRODUCTION												(20, TRBCIndustryGroup.OIL_AND_GAS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.50102020")), //$NON-NLS-1$
-		OIL_AND_GAS_REFINING_AND_MARKETING													(30, TRBCIndustryGroup.OIL_AND_GAS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.50102030")), //$NON-NLS-1$
-		OIL_AND_GAS_DRILLING																(10, TRBCIndustryGroup.OIL_AND_GAS_RELATED_EQUIPMENT_AND_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.50103010")), //$NON-NLS-1$
-		OIL_AND_GAS_RELATED_SERVICES_AND_EQUIPMENT											(20, TRBCIndustryGroup.OIL_AND_GAS_RELATED_EQUIPMENT_AND_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.50103020")), //$NON-NLS-1$
-		OIL_AND_GAS_TRANSPORTATION_SERVICES													(30, TRBCIndustryGroup.OIL_AND_GAS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.50103030")), //$NON-NLS-1$
-		RENEWABLE_ENERGY_EQUIPMENT_AND_SERVICES 											(10, TRBCIndustryGroup.RENEWABLE_ENERGY , Messages.getString("IMerchantCategoryCodes.TRBCIndustry.50201010")), //$NON-NLS-1$
-		RENEWABLE_FUELS																		(20, TRBCIndustryGroup.RENEWABLE_ENERGY , Messages.getString("IMerchantCategoryCodes.TRBCIndustry.50201020")), //$NON-NLS-1$
-		URANIUM																				(10, TRBCIndustryGroup.URANIUM, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.50301010")),  //$NON-NLS-1$
-		COMMODITY_CHEMICALS																	(10, TRBCIndustryGroup.CHEMICALS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51101010")), //$NON-NLS-1$
-		AGRICULTURAL_CHEMICALS																(20, TRBCIndustryGroup.CHEMICALS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51101020")), //$NON-NLS-1$
-		SPECIALTY_CHEMICALS																	(30, TRBCIndustryGroup.CHEMICALS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51101030")), //$NON-NLS-1$
-		DIVERSIFIED_CHEMICALS																(90, TRBCIndustryGroup.CHEMICALS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51101090")), //$NON-NLS-1$
-		PRECIOUS_METALS_AND_MINERALS														(10, TRBCIndustryGroup.METALS_AND_MINING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51201010")), //$NON-NLS-1$
-		STEEL																				(20, TRBCIndustryGroup.METALS_AND_MINING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51201020")), //$NON-NLS-1$
-		ALUMINUM																			(30, TRBCIndustryGroup.METALS_AND_MINING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51201030")), //$NON-NLS-1$
-		SPECIALTY_MINING_AND_METALS															(50, TRBCIndustryGroup.METALS_AND_MINING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51201050")), //$NON-NLS-1$
-		GOLD																				(60, TRBCIndustryGroup.METALS_AND_MINING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51201060")), //$NON-NLS-1$
-		MINING_SUPPORT_SERVICES_AND_EQUIPMENT												(70, TRBCIndustryGroup.METALS_AND_MINING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51201070")), //$NON-NLS-1$
-		INTEGRATED_MINING																	(80, TRBCIndustryGroup.METALS_AND_MINING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51201080")), //$NON-NLS-1$
-		CONSTRUCTION_MATERIALS																(10, TRBCIndustryGroup.CONSTRUCTION_MATERIALS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51202010")), //$NON-NLS-1$
-		FOREST_AND_WOOD_PRODUCTS															(10, TRBCIndustryGroup.PAPER_AND_FOREST_PRODUCTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51301010")), //$NON-NLS-1$
-		PAPER_PRODUCTS																		(20, TRBCIndustryGroup.PAPER_AND_FOREST_PRODUCTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51301020")), //$NON-NLS-1$
-		NON_PAPER_CONTAINERS_AND_PACKAGING													(10, TRBCIndustryGroup.CONTAINERS_AND_PACKAGING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51302010")), //$NON-NLS-1$
-		PAPER_PACKAGING																		(20, TRBCIndustryGroup.CONTAINERS_AND_PACKAGING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.51302020")), //$NON-NLS-1$
-		AEROSPACE_AND_DEFENSE																(10, TRBCIndustryGroup.AEROSPACE_AND_DEFENSE, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52101010")), //$NON-NLS-1$
-		INDUSTRIAL_MACHINERY_AND_EQUIPMENT													(10, TRBCIndustryGroup.MACHINERY_EQUIPMENT_AND_COMPONENTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52102010")), //$NON-NLS-1$
-		HEAVY_MACHINERY_AND_VEHICLES														(20, TRBCIndustryGroup.MACHINERY_EQUIPMENT_AND_COMPONENTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52102020")), //$NON-NLS-1$
-		ELECTRICAL_COMPONENTS_AND_EQUIPMENT													(30, TRBCIndustryGroup.MACHINERY_EQUIPMENT_AND_COMPONENTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52102030")), //$NON-NLS-1$
-		HEAVY_ELECTRICAL_EQUIPMENT															(40, TRBCIndustryGroup.MACHINERY_EQUIPMENT_AND_COMPONENTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52102040")), //$NON-NLS-1$
-		SHIPBUILDING																		(50, TRBCIndustryGroup.MACHINERY_EQUIPMENT_AND_COMPONENTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52102050")), //$NON-NLS-1$
-		CONSTRUCTION_AND_ENGINEERING														(20, TRBCIndustryGroup.CONSTRUCTION_AND_ENGINEERING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52201020")), //$NON-NLS-1$
-		DIVERSIFIED_TRADING_AND_DISTRIBUTING												(10, TRBCIndustryGroup.DIVERSIFIED_TRADING_AND_DISTRIBUTING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52202010")), //$NON-NLS-1$
-		ENVIRONMENTAL_SERVICES_AND_EQUIPMENT												(10, TRBCIndustryGroup.PROFESSIONAL_AND_COMMERCIAL_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52203010")), //$NON-NLS-1$
-		COMMERCIAL_PRINTING_SERVICES														(20, TRBCIndustryGroup.PROFESSIONAL_AND_COMMERCIAL_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52203020")), //$NON-NLS-1$
-		EMPLOYMENT_SERVICES																	(30, TRBCIndustryGroup.PROFESSIONAL_AND_COMMERCIAL_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52203030")), //$NON-NLS-1$
-		BUSINESS_SUPPORT_SERVICES															(40, TRBCIndustryGroup.PROFESSIONAL_AND_COMMERCIAL_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52203040")), //$NON-NLS-1$
-		BUSINESS_SUPPORT_SUPPLIES															(60, TRBCIndustryGroup.PROFESSIONAL_AND_COMMERCIAL_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52203060")), //$NON-NLS-1$
-		PROFESSIONAL_INFORMATION_SERVICES													(70, TRBCIndustryGroup.PROFESSIONAL_AND_COMMERCIAL_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52203070")), //$NON-NLS-1$
-		INDUSTRIAL_CONGLOMERATES															(10, TRBCIndustryGroup.INDUSTRIAL_CONGLOMERATES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52301010")), 	 //$NON-NLS-1$
-		AIR_FREIGHT_AND_lOGISTICS															(10, TRBCIndustryGroup.FREIGHT_AND_LOGISTICS_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52405010")), //$NON-NLS-1$
-		MARINE_FREIGHT_AND_LOGISTICS														(20, TRBCIndustryGroup.FREIGHT_AND_LOGISTICS_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52405020")), //$NON-NLS-1$
-		GROUND_FREIGHT_AND_LOGISTICS														(30, TRBCIndustryGroup.FREIGHT_AND_LOGISTICS_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52405030")), //$NON-NLS-1$
-		AIRLINES 																			(10, TRBCIndustryGroup.PASSENGER_TRANSPORTATION_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52406010")), //$NON-NLS-1$
-		PASSENGER_TRANSPORTATION_GROUND_AND_SEA												(20, TRBCIndustryGroup.PASSENGER_TRANSPORTATION_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52406020")), //$NON-NLS-1$
-		AIRPORT_SERVICES																	(10, TRBCIndustryGroup.TRANSPORT_INFRASTRUCTURE, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52407010")), //$NON-NLS-1$
-		MARINE_PORTS_SERVICES																(20, TRBCIndustryGroup.TRANSPORT_INFRASTRUCTURE, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52407020")), //$NON-NLS-1$
-		HIGHWAYS_AND_RAILTRACKS																(30, TRBCIndustryGroup.TRANSPORT_INFRASTRUCTURE, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.52407030")), //$NON-NLS-1$
-		AUTO_AND_TRUCK_MANUFACTURERS														(10, TRBCIndustryGroup.AUTOMOBILES_AND_AUTO_PARTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53101010")), //$NON-NLS-1$
-		AUTO_TRUCK_AND_MOTORCYCLE_PARTS														(20, TRBCIndustryGroup.AUTOMOBILES_AND_AUTO_PARTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53101020")), //$NON-NLS-1$
-		TIRES_AND_RUBBER_PRODUCTS															(30, TRBCIndustryGroup.AUTOMOBILES_AND_AUTO_PARTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53101030")), //$NON-NLS-1$
-		TEXTILES_AND_LEATHER_GOODS															(10, TRBCIndustryGroup.TEXTILES_AND_APPAREL, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53202010")), //$NON-NLS-1$
-		APPAREL_AND_ACCESSORIES																(20, TRBCIndustryGroup.TEXTILES_AND_APPAREL, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53202020")), //$NON-NLS-1$
-		FOOTWEAR																			(30, TRBCIndustryGroup.TEXTILES_AND_APPAREL, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53202030")), //$NON-NLS-1$
-		HOMEBUILDING																		(10, TRBCIndustryGroup.HOMEBUILDING_AND_CONSTRUCTION_SUPPLIES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53203010")), //$NON-NLS-1$
-		CONSTRUCTION_SUPPLIES_AND_FIXTURES													(20, TRBCIndustryGroup.HOMEBUILDING_AND_CONSTRUCTION_SUPPLIES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53203020")), //$NON-NLS-1$
-		APPLIANCES_TOOLS_AND_HOUSEWARES														(30, TRBCIndustryGroup.HOUSEHOLD_GOODS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53204030")), //$NON-NLS-1$
-		HOME_FURNISHINGS																	(40, TRBCIndustryGroup.HOUSEHOLD_GOODS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53204040")), //$NON-NLS-1$
-		TOYS_AND_JUVENILE_PRODUCTS															(10, TRBCIndustryGroup.LEISURE_PRODUCTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53205010")), //$NON-NLS-1$
-		RECREATIONAL_PRODUCTS																(20, TRBCIndustryGroup.LEISURE_PRODUCTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53205020")), //$NON-NLS-1$
-		HOTELS_MOTELS_AND_CRUISE_LINES														(10, TRBCIndustryGroup.HOTELS_AND_ENTERTAINMENT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53201010")), //$NON-NLS-1$
-		RESTAURANTS_AND_BARS																(20, TRBCIndustryGroup.HOTELS_AND_ENTERTAINMENT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53201020")), //$NON-NLS-1$
-		CASINOS_AND_GAMING																	(30, TRBCIndustryGroup.HOTELS_AND_ENTERTAINMENT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53201030")), //$NON-NLS-1$
-		LEISURE_AND_RECREATION																(40, TRBCIndustryGroup.HOTELS_AND_ENTERTAINMENT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53201040")), //$NON-NLS-1$
-		ADVERTISING_AND_MARKETING															(10, TRBCIndustryGroup.MEDIA_AND_PUBLISHING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53302010")), //$NON-NLS-1$
-		BROADCASTING																		(20, TRBCIndustryGroup.MEDIA_AND_PUBLISHING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53302020")), //$NON-NLS-1$
-		ENTERTAINMENT_PRODUCTION															(30, TRBCIndustryGroup.MEDIA_AND_PUBLISHING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53302030")), //$NON-NLS-1$
-		CONSUMER_PUBLISHING																	(40, TRBCIndustryGroup.MEDIA_AND_PUBLISHING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53302040")), //$NON-NLS-1$
-		DEPARTMENT_STORES																	(10, TRBCIndustryGroup.DIVERSIFIED_RETAIL, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53402010")), //$NON-NLS-1$
-		DISCOUNT_STORES																		(20, TRBCIndustryGroup.DIVERSIFIED_RETAIL, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53402020")), //$NON-NLS-1$
-		AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS											(10, TRBCIndustryGroup.OTHER_SPECIALTY_RETAILERS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53403010")), //$NON-NLS-1$
-		HOME_IMPROVEMENT_PRODUCTS_AND_SERVICES_RETAILERS									(20, TRBCIndustryGroup.OTHER_SPECIALTY_RETAILERS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53403020")), //$NON-NLS-1$
-		HOME_FURNISHINGS_RETAILERS															(30, TRBCIndustryGroup.OTHER_SPECIALTY_RETAILERS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53403030")), //$NON-NLS-1$
-		APPAREL_AND_ACCESSORIES_RETAILERS													(40, TRBCIndustryGroup.OTHER_SPECIALTY_RETAILERS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53403040")), //$NON-NLS-1$
-		COMPUTER_AND_ELECTRONIC_RETAILERS													(50, TRBCIndustryGroup.OTHER_SPECIALTY_RETAILERS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53403050")), //$NON-NLS-1$
-		OTHER_SPECIALTY_RETAILERS															(90, TRBCIndustryGroup.OTHER_SPECIALTY_RETAILERS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.53403090")), //$NON-NLS-1$
-		BREWERS																				(10, TRBCIndustryGroup.BEVERAGES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.54101010")), //$NON-NLS-1$
-		DISTILLERS_AND_WINERIES																(20, TRBCIndustryGroup.BEVERAGES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.54101020")), //$NON-NLS-1$
-		NON_ALCOHOLIC_BEVERAGES																(30, TRBCIndustryGroup.BEVERAGES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.54101030")), //$NON-NLS-1$
-		FISHING_AND_FARMING																	(10, TRBCIndustryGroup.FOOD_AND_TOBACCO, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.54102010")), //$NON-NLS-1$
-		FOOD_PROCESSING																		(20, TRBCIndustryGroup.FOOD_AND_TOBACCO, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.54102020")), //$NON-NLS-1$
-		TOBACCO																				(30, TRBCIndustryGroup.FOOD_AND_TOBACCO, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.54102030")), //$NON-NLS-1$
-		HOUSEHOLD_PRODUCTS 																	(10, TRBCIndustryGroup.PERSONAL_AND_HOUSEHOLD_PRODUCTS_AND_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.54201010")), //$NON-NLS-1$
-		PERSONAL_PRODUCTS																	(20, TRBCIndustryGroup.PERSONAL_AND_HOUSEHOLD_PRODUCTS_AND_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.54201020")), //$NON-NLS-1$
-		PERSONAL_SERVICES																	(30, TRBCIndustryGroup.PERSONAL_AND_HOUSEHOLD_PRODUCTS_AND_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.54201030")), //$NON-NLS-1$
-		DRUG_RETAILERS																		(10, TRBCIndustryGroup.FOOD_AND_DRUG_RETAILING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.54301010")), //$NON-NLS-1$
-		FOOD_RETAIL_AND_DISTRIBUTION														(20, TRBCIndustryGroup.FOOD_AND_DRUG_RETAILING, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.54301020")), //$NON-NLS-1$
-		BANKS																				(10, TRBCIndustryGroup.BANKING_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55101010")), //$NON-NLS-1$
-		CONSUMER_LENDING																	(20, TRBCIndustryGroup.BANKING_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55101020")), 	 //$NON-NLS-1$
-		CORPORATE_FINANCIAL_SERVICES														(30, TRBCIndustryGroup.BANKING_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55101030")), 	 //$NON-NLS-1$
-		INVESTMENT_BANKING_AND_BROKERAGE_SERVICES											(10, TRBCIndustryGroup.INVESTMENT_BANKING_AND_INVESTMENT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55102010")), //$NON-NLS-1$
-		INVESTMENT_MANAGEMENT_AND_FUND_OPERATORS											(20, TRBCIndustryGroup.INVESTMENT_BANKING_AND_INVESTMENT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55102020")), //$NON-NLS-1$
-		DIVERSIFIED_INVESTMENT_SERVICES														(30, TRBCIndustryGroup.INVESTMENT_BANKING_AND_INVESTMENT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55102030")), //$NON-NLS-1$
-		FINANCIAL_AND_COMMODITY_MARKET_OPERATORS											(50, TRBCIndustryGroup.INVESTMENT_BANKING_AND_INVESTMENT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55102050")), //$NON-NLS-1$
-		MULTILINE_INSURANCE_AND_BROKERS														(10, TRBCIndustryGroup.INSURANCE, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55301010")), //$NON-NLS-1$
-		PROPERTY_AND_CASUALTY_INSURANCE														(20, TRBCIndustryGroup.INSURANCE, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55301020")), //$NON-NLS-1$
-		LIFE_AND_HEALTH_INSURANCE															(30, TRBCIndustryGroup.INSURANCE, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55301030")), //$NON-NLS-1$
-		REINSURANCE																			(50, TRBCIndustryGroup.INSURANCE, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55301050")), //$NON-NLS-1$
-		REAL_ESTATE_DEVELOPMENT_AND_OPERATIONS												(10, TRBCIndustryGroup.REAL_ESTATE_OPERATIONS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55402010")), //$NON-NLS-1$
-		REAL_ESTATE_SERVICES																(20, TRBCIndustryGroup.REAL_ESTATE_OPERATIONS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55402030")), //$NON-NLS-1$
-		DIVERSIFIED_REITS																	(10, TRBCIndustryGroup.RESIDENTIAL_AND_COMMERCIAL_REITS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55403010")), //$NON-NLS-1$
-		COMMERCIAL_REITS																	(20, TRBCIndustryGroup.RESIDENTIAL_AND_COMMERCIAL_REITS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55403020")), //$NON-NLS-1$
-		SPECIALIZED_REITS																	(30, TRBCIndustryGroup.RESIDENTIAL_AND_COMMERCIAL_REITS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55403030")), //$NON-NLS-1$
-		INVESTMENT_TRUSTS																	(10, TRBCIndustryGroup.COLLECTIVE_INVESTMENTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55501010")), //$NON-NLS-1$
-		MUTUAL_FUNDS																		(20, TRBCIndustryGroup.COLLECTIVE_INVESTMENTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55501020")), //$NON-NLS-1$
-		CLOSE_END_FUNDS																		(30, TRBCIndustryGroup.COLLECTIVE_INVESTMENTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55501030")), //$NON-NLS-1$
-		EXCHANGE_TRADED_FUNDS																(40, TRBCIndustryGroup.COLLECTIVE_INVESTMENTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55501040")), //$NON-NLS-1$
-		PENSION_FUNDS																		(50, TRBCIndustryGroup.COLLECTIVE_INVESTMENTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55501050")), //$NON-NLS-1$
-		INSURANCE_FUNDS																		(60, TRBCIndustryGroup.COLLECTIVE_INVESTMENTS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55501060")), //$NON-NLS-1$
-		HOLDING_COMPANIES																	(10, TRBCIndustryGroup.HOLDING_COMPANIES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.55601010")), //$NON-NLS-1$
-		ADVANCED_MEDICAL_EQUIPMENT_AND_TECHNOLOGY											(10, TRBCIndustryGroup.HEALTH_CARE_EQUIPMENT_AND_SUPPLIES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.56101010")), //$NON-NLS-1$
-		MEDICAL_EQUIPMENT_SUPPLIES_AND_DISTRIBUTION											(20, TRBCIndustryGroup.HEALTH_CARE_EQUIPMENT_AND_SUPPLIES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.56101020")), //$NON-NLS-1$
-		HEALTH_CARE_FACILITIES_AND_SERVICES													(10, TRBCIndustryGroup.HEALTH_CARE_PROVIDERS_AND_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.56102010")), //$NON-NLS-1$
-		MANAGED_HEALTH_CARE																	(20, TRBCIndustryGroup.HEALTH_CARE_PROVIDERS_AND_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.56102020")), //$NON-NLS-1$
-		PHARMACEUTICALS																		(10, TRBCIndustryGroup.PHARMACEUTICALS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.56201040")), //$NON-NLS-1$
-		BIOTECHNOLOGY_AND_MEDICAL_RESEARCH													(10, TRBCIndustryGroup.BIOTECHNOLOGY_AND_MEDICAL_RESEARCH, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.56202010")), //$NON-NLS-1$
-		SEMICONDUCTORS																		(10, TRBCIndustryGroup.SEMICONDUCTORS_AND_SEMICONDUCTOR_EQUIPMENT, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.57101010")), //$NON-NLS-1$
-		SEMICONDUCTOR_EQUIPMENT_AND_TESTING													(20, TRBCIndustryGroup.SEMICONDUCTORS_AND_SEMICONDUCTOR_EQUIPMENT, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.57101020")), //$NON-NLS-1$
-		COMMUNICATIONS_AND_NETWORKING														(10, TRBCIndustryGroup.COMMUNICATIONS_AND_NETWORKING,  Messages.getString("IMerchantCategoryCodes.TRBCIndustry.57102010")), //$NON-NLS-1$
-		ELECTRONIC_EQUIPMENT_AND_PARTS														(10, TRBCIndustryGroup.ELECTRONIC_EQUIPMENT_AND_PARTS,  Messages.getString("IMerchantCategoryCodes.TRBCIndustry.57104010")), //$NON-NLS-1$
-		OFFICE_EQUIPMENT																	(10, TRBCIndustryGroup.OFFICE_EQUIPMENT,  Messages.getString("IMerchantCategoryCodes.TRBCIndustry.57105010")), //$NON-NLS-1$
-		COMPUTER_HARDWARE 																	(10, TRBCIndustryGroup.COMPUTERS_PHONES_AND_HOUSEHOLD_ELECTRONICS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.57106010")), //$NON-NLS-1$
-		PHONES_AND_HANDHELD_DEVICES 														(20, TRBCIndustryGroup.COMPUTERS_PHONES_AND_HOUSEHOLD_ELECTRONICS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.57106020")), //$NON-NLS-1$
-		HOUSEHOLD_ELECTRONICS																(30, TRBCIndustryGroup.COMPUTERS_PHONES_AND_HOUSEHOLD_ELECTRONICS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.57106030")), //$NON-NLS-1$
-		IT_SERVICES_AND_CONSULTING															(10, TRBCIndustryGroup.SOFTWARE_AND_IT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.57201010")), //$NON-NLS-1$
-		SOFTWARE																			(20, TRBCIndustryGroup.SOFTWARE_AND_IT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.57201020")), //$NON-NLS-1$
-		INTERNET_SERVICES																	(30, TRBCIndustryGroup.SOFTWARE_AND_IT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.57201030")), //$NON-NLS-1$
-		INTEGRATED_TELECOMMUNICATION_SERVICES												(10, TRBCIndustryGroup.TELECOMMUNICATION_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.58101010")), //$NON-NLS-1$
-		WIRELESS_TELECOMMUNICATION_SERVICES													(20, TRBCIndustryGroup.TELECOMMUNICATION_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.58101020")), //$NON-NLS-1$
-		ELECTRIC_UTILITIES																	(10, TRBCIndustryGroup.ELECTRIC_UTILITIES_AND_IPPs , Messages.getString("IMerchantCategoryCodes.TRBCIndustry.59101010")), //$NON-NLS-1$
-		INDEPENDENT_POWER_PRODUCERS															(20, TRBCIndustryGroup.ELECTRIC_UTILITIES_AND_IPPs , Messages.getString("IMerchantCategoryCodes.TRBCIndustry.59101020")), 	 //$NON-NLS-1$
-		NATURAL_GAS_UTILITIES																(10, TRBCIndustryGroup.NATURAL_GAS_UTILITIES , Messages.getString("IMerchantCategoryCodes.TRBCIndustry.59102010")), //$NON-NLS-1$
-		WATER_UTILITIES																		(10, TRBCIndustryGroup.WATER_AND_OTHER_UTILITIES , Messages.getString("IMerchantCategoryCodes.TRBCIndustry.59103010")), //$NON-NLS-1$
-		MULTILINE_UTILITIES																	(10, TRBCIndustryGroup.MULTILINE_UTILITIES , Messages.getString("IMerchantCategoryCodes.TRBCIndustry.59104010")), //$NON-NLS-1$
+		COAL																				(10, TRBCIndustryGroup.COAL, "IMerchantCategoryCodes.TRBCIndustry.50101010"), //$NON-NLS-1$
+		INTEGRATED_OIL_AND_GAS																(10, TRBCIndustryGroup.OIL_AND_GAS, "IMerchantCategoryCodes.TRBCIndustry.50102010"), //$NON-NLS-1$
+		OIL_AND_GAS_EXPLORATION_AND_PRODUCTION												(20, TRBCIndustryGroup.OIL_AND_GAS, "IMerchantCategoryCodes.TRBCIndustry.50102020"), //$NON-NLS-1$
+		OIL_AND_GAS_REFINING_AND_MARKETING													(30, TRBCIndustryGroup.OIL_AND_GAS, "IMerchantCategoryCodes.TRBCIndustry.50102030"), //$NON-NLS-1$
+		OIL_AND_GAS_DRILLING																(10, TRBCIndustryGroup.OIL_AND_GAS_RELATED_EQUIPMENT_AND_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.50103010"), //$NON-NLS-1$
+		OIL_AND_GAS_RELATED_SERVICES_AND_EQUIPMENT											(20, TRBCIndustryGroup.OIL_AND_GAS_RELATED_EQUIPMENT_AND_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.50103020"), //$NON-NLS-1$
+		OIL_AND_GAS_TRANSPORTATION_SERVICES													(30, TRBCIndustryGroup.OIL_AND_GAS, "IMerchantCategoryCodes.TRBCIndustry.50103030"), //$NON-NLS-1$
+		RENEWABLE_ENERGY_EQUIPMENT_AND_SERVICES 											(10, TRBCIndustryGroup.RENEWABLE_ENERGY , "IMerchantCategoryCodes.TRBCIndustry.50201010"), //$NON-NLS-1$
+		RENEWABLE_FUELS																		(20, TRBCIndustryGroup.RENEWABLE_ENERGY , "IMerchantCategoryCodes.TRBCIndustry.50201020"), //$NON-NLS-1$
+		URANIUM																				(10, TRBCIndustryGroup.URANIUM, "IMerchantCategoryCodes.TRBCIndustry.50301010"),  //$NON-NLS-1$
+		COMMODITY_CHEMICALS																	(10, TRBCIndustryGroup.CHEMICALS, "IMerchantCategoryCodes.TRBCIndustry.51101010"), //$NON-NLS-1$
+		AGRICULTURAL_CHEMICALS																(20, TRBCIndustryGroup.CHEMICALS, "IMerchantCategoryCodes.TRBCIndustry.51101020"), //$NON-NLS-1$
+		SPECIALTY_CHEMICALS																	(30, TRBCIndustryGroup.CHEMICALS, "IMerchantCategoryCodes.TRBCIndustry.51101030"), //$NON-NLS-1$
+		DIVERSIFIED_CHEMICALS																(90, TRBCIndustryGroup.CHEMICALS, "IMerchantCategoryCodes.TRBCIndustry.51101090"), //$NON-NLS-1$
+		PRECIOUS_METALS_AND_MINERALS														(10, TRBCIndustryGroup.METALS_AND_MINING, "IMerchantCategoryCodes.TRBCIndustry.51201010"), //$NON-NLS-1$
+		STEEL																				(20, TRBCIndustryGroup.METALS_AND_MINING, "IMerchantCategoryCodes.TRBCIndustry.51201020"), //$NON-NLS-1$
+		ALUMINUM																			(30, TRBCIndustryGroup.METALS_AND_MINING, "IMerchantCategoryCodes.TRBCIndustry.51201030"), //$NON-NLS-1$
+		SPECIALTY_MINING_AND_METALS															(50, TRBCIndustryGroup.METALS_AND_MINING, "IMerchantCategoryCodes.TRBCIndustry.51201050"), //$NON-NLS-1$
+		GOLD																				(60, TRBCIndustryGroup.METALS_AND_MINING, "IMerchantCategoryCodes.TRBCIndustry.51201060"), //$NON-NLS-1$
+		MINING_SUPPORT_SERVICES_AND_EQUIPMENT												(70, TRBCIndustryGroup.METALS_AND_MINING, "IMerchantCategoryCodes.TRBCIndustry.51201070"), //$NON-NLS-1$
+		INTEGRATED_MINING																	(80, TRBCIndustryGroup.METALS_AND_MINING, "IMerchantCategoryCodes.TRBCIndustry.51201080"), //$NON-NLS-1$
+		CONSTRUCTION_MATERIALS																(10, TRBCIndustryGroup.CONSTRUCTION_MATERIALS, "IMerchantCategoryCodes.TRBCIndustry.51202010"), //$NON-NLS-1$
+		FOREST_AND_WOOD_PRODUCTS															(10, TRBCIndustryGroup.PAPER_AND_FOREST_PRODUCTS, "IMerchantCategoryCodes.TRBCIndustry.51301010"), //$NON-NLS-1$
+		PAPER_PRODUCTS																		(20, TRBCIndustryGroup.PAPER_AND_FOREST_PRODUCTS, "IMerchantCategoryCodes.TRBCIndustry.51301020"), //$NON-NLS-1$
+		NON_PAPER_CONTAINERS_AND_PACKAGING													(10, TRBCIndustryGroup.CONTAINERS_AND_PACKAGING, "IMerchantCategoryCodes.TRBCIndustry.51302010"), //$NON-NLS-1$
+		PAPER_PACKAGING																		(20, TRBCIndustryGroup.CONTAINERS_AND_PACKAGING, "IMerchantCategoryCodes.TRBCIndustry.51302020"), //$NON-NLS-1$
+		AEROSPACE_AND_DEFENSE																(10, TRBCIndustryGroup.AEROSPACE_AND_DEFENSE, "IMerchantCategoryCodes.TRBCIndustry.52101010"), //$NON-NLS-1$
+		INDUSTRIAL_MACHINERY_AND_EQUIPMENT													(10, TRBCIndustryGroup.MACHINERY_EQUIPMENT_AND_COMPONENTS, "IMerchantCategoryCodes.TRBCIndustry.52102010"), //$NON-NLS-1$
+		HEAVY_MACHINERY_AND_VEHICLES														(20, TRBCIndustryGroup.MACHINERY_EQUIPMENT_AND_COMPONENTS, "IMerchantCategoryCodes.TRBCIndustry.52102020"), //$NON-NLS-1$
+		ELECTRICAL_COMPONENTS_AND_EQUIPMENT													(30, TRBCIndustryGroup.MACHINERY_EQUIPMENT_AND_COMPONENTS, "IMerchantCategoryCodes.TRBCIndustry.52102030"), //$NON-NLS-1$
+		HEAVY_ELECTRICAL_EQUIPMENT															(40, TRBCIndustryGroup.MACHINERY_EQUIPMENT_AND_COMPONENTS, "IMerchantCategoryCodes.TRBCIndustry.52102040"), //$NON-NLS-1$
+		SHIPBUILDING																		(50, TRBCIndustryGroup.MACHINERY_EQUIPMENT_AND_COMPONENTS, "IMerchantCategoryCodes.TRBCIndustry.52102050"), //$NON-NLS-1$
+		CONSTRUCTION_AND_ENGINEERING														(20, TRBCIndustryGroup.CONSTRUCTION_AND_ENGINEERING, "IMerchantCategoryCodes.TRBCIndustry.52201020"), //$NON-NLS-1$
+		DIVERSIFIED_TRADING_AND_DISTRIBUTING												(10, TRBCIndustryGroup.DIVERSIFIED_TRADING_AND_DISTRIBUTING, "IMerchantCategoryCodes.TRBCIndustry.52202010"), //$NON-NLS-1$
+		ENVIRONMENTAL_SERVICES_AND_EQUIPMENT												(10, TRBCIndustryGroup.PROFESSIONAL_AND_COMMERCIAL_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.52203010"), //$NON-NLS-1$
+		COMMERCIAL_PRINTING_SERVICES														(20, TRBCIndustryGroup.PROFESSIONAL_AND_COMMERCIAL_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.52203020"), //$NON-NLS-1$
+		EMPLOYMENT_SERVICES																	(30, TRBCIndustryGroup.PROFESSIONAL_AND_COMMERCIAL_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.52203030"), //$NON-NLS-1$
+		BUSINESS_SUPPORT_SERVICES															(40, TRBCIndustryGroup.PROFESSIONAL_AND_COMMERCIAL_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.52203040"), //$NON-NLS-1$
+		BUSINESS_SUPPORT_SUPPLIES															(60, TRBCIndustryGroup.PROFESSIONAL_AND_COMMERCIAL_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.52203060"), //$NON-NLS-1$
+		PROFESSIONAL_INFORMATION_SERVICES													(70, TRBCIndustryGroup.PROFESSIONAL_AND_COMMERCIAL_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.52203070"), //$NON-NLS-1$
+		INDUSTRIAL_CONGLOMERATES															(10, TRBCIndustryGroup.INDUSTRIAL_CONGLOMERATES, "IMerchantCategoryCodes.TRBCIndustry.52301010"), 	 //$NON-NLS-1$
+		AIR_FREIGHT_AND_lOGISTICS															(10, TRBCIndustryGroup.FREIGHT_AND_LOGISTICS_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.52405010"), //$NON-NLS-1$
+		MARINE_FREIGHT_AND_LOGISTICS														(20, TRBCIndustryGroup.FREIGHT_AND_LOGISTICS_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.52405020"), //$NON-NLS-1$
+		GROUND_FREIGHT_AND_LOGISTICS														(30, TRBCIndustryGroup.FREIGHT_AND_LOGISTICS_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.52405030"), //$NON-NLS-1$
+		AIRLINES 																			(10, TRBCIndustryGroup.PASSENGER_TRANSPORTATION_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.52406010"), //$NON-NLS-1$
+		PASSENGER_TRANSPORTATION_GROUND_AND_SEA												(20, TRBCIndustryGroup.PASSENGER_TRANSPORTATION_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.52406020"), //$NON-NLS-1$
+		AIRPORT_SERVICES																	(10, TRBCIndustryGroup.TRANSPORT_INFRASTRUCTURE, "IMerchantCategoryCodes.TRBCIndustry.52407010"), //$NON-NLS-1$
+		MARINE_PORTS_SERVICES																(20, TRBCIndustryGroup.TRANSPORT_INFRASTRUCTURE, "IMerchantCategoryCodes.TRBCIndustry.52407020"), //$NON-NLS-1$
+		HIGHWAYS_AND_RAILTRACKS																(30, TRBCIndustryGroup.TRANSPORT_INFRASTRUCTURE, "IMerchantCategoryCodes.TRBCIndustry.52407030"), //$NON-NLS-1$
+		AUTO_AND_TRUCK_MANUFACTURERS														(10, TRBCIndustryGroup.AUTOMOBILES_AND_AUTO_PARTS, "IMerchantCategoryCodes.TRBCIndustry.53101010"), //$NON-NLS-1$
+		AUTO_TRUCK_AND_MOTORCYCLE_PARTS														(20, TRBCIndustryGroup.AUTOMOBILES_AND_AUTO_PARTS, "IMerchantCategoryCodes.TRBCIndustry.53101020"), //$NON-NLS-1$
+		TIRES_AND_RUBBER_PRODUCTS															(30, TRBCIndustryGroup.AUTOMOBILES_AND_AUTO_PARTS, "IMerchantCategoryCodes.TRBCIndustry.53101030"), //$NON-NLS-1$
+		TEXTILES_AND_LEATHER_GOODS															(10, TRBCIndustryGroup.TEXTILES_AND_APPAREL, "IMerchantCategoryCodes.TRBCIndustry.53202010"), //$NON-NLS-1$
+		APPAREL_AND_ACCESSORIES																(20, TRBCIndustryGroup.TEXTILES_AND_APPAREL, "IMerchantCategoryCodes.TRBCIndustry.53202020"), //$NON-NLS-1$
+		FOOTWEAR																			(30, TRBCIndustryGroup.TEXTILES_AND_APPAREL, "IMerchantCategoryCodes.TRBCIndustry.53202030"), //$NON-NLS-1$
+		HOMEBUILDING																		(10, TRBCIndustryGroup.HOMEBUILDING_AND_CONSTRUCTION_SUPPLIES, "IMerchantCategoryCodes.TRBCIndustry.53203010"), //$NON-NLS-1$
+		CONSTRUCTION_SUPPLIES_AND_FIXTURES													(20, TRBCIndustryGroup.HOMEBUILDING_AND_CONSTRUCTION_SUPPLIES, "IMerchantCategoryCodes.TRBCIndustry.53203020"), //$NON-NLS-1$
+		APPLIANCES_TOOLS_AND_HOUSEWARES														(30, TRBCIndustryGroup.HOUSEHOLD_GOODS, "IMerchantCategoryCodes.TRBCIndustry.53204030"), //$NON-NLS-1$
+		HOME_FURNISHINGS																	(40, TRBCIndustryGroup.HOUSEHOLD_GOODS, "IMerchantCategoryCodes.TRBCIndustry.53204040"), //$NON-NLS-1$
+		TOYS_AND_JUVENILE_PRODUCTS															(10, TRBCIndustryGroup.LEISURE_PRODUCTS, "IMerchantCategoryCodes.TRBCIndustry.53205010"), //$NON-NLS-1$
+		RECREATIONAL_PRODUCTS																(20, TRBCIndustryGroup.LEISURE_PRODUCTS, "IMerchantCategoryCodes.TRBCIndustry.53205020"), //$NON-NLS-1$
+		HOTELS_MOTELS_AND_CRUISE_LINES														(10, TRBCIndustryGroup.HOTELS_AND_ENTERTAINMENT_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.53201010"), //$NON-NLS-1$
+		RESTAURANTS_AND_BARS																(20, TRBCIndustryGroup.HOTELS_AND_ENTERTAINMENT_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.53201020"), //$NON-NLS-1$
+		CASINOS_AND_GAMING																	(30, TRBCIndustryGroup.HOTELS_AND_ENTERTAINMENT_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.53201030"), //$NON-NLS-1$
+		LEISURE_AND_RECREATION																(40, TRBCIndustryGroup.HOTELS_AND_ENTERTAINMENT_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.53201040"), //$NON-NLS-1$
+		ADVERTISING_AND_MARKETING															(10, TRBCIndustryGroup.MEDIA_AND_PUBLISHING, "IMerchantCategoryCodes.TRBCIndustry.53302010"), //$NON-NLS-1$
+		BROADCASTING																		(20, TRBCIndustryGroup.MEDIA_AND_PUBLISHING, "IMerchantCategoryCodes.TRBCIndustry.53302020"), //$NON-NLS-1$
+		ENTERTAINMENT_PRODUCTION															(30, TRBCIndustryGroup.MEDIA_AND_PUBLISHING, "IMerchantCategoryCodes.TRBCIndustry.53302030"), //$NON-NLS-1$
+		CONSUMER_PUBLISHING																	(40, TRBCIndustryGroup.MEDIA_AND_PUBLISHING, "IMerchantCategoryCodes.TRBCIndustry.53302040"), //$NON-NLS-1$
+		DEPARTMENT_STORES																	(10, TRBCIndustryGroup.DIVERSIFIED_RETAIL, "IMerchantCategoryCodes.TRBCIndustry.53402010"), //$NON-NLS-1$
+		DISCOUNT_STORES																		(20, TRBCIndustryGroup.DIVERSIFIED_RETAIL, "IMerchantCategoryCodes.TRBCIndustry.53402020"), //$NON-NLS-1$
+		AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS											(10, TRBCIndustryGroup.OTHER_SPECIALTY_RETAILERS, "IMerchantCategoryCodes.TRBCIndustry.53403010"), //$NON-NLS-1$
+		HOME_IMPROVEMENT_PRODUCTS_AND_SERVICES_RETAILERS									(20, TRBCIndustryGroup.OTHER_SPECIALTY_RETAILERS, "IMerchantCategoryCodes.TRBCIndustry.53403020"), //$NON-NLS-1$
+		HOME_FURNISHINGS_RETAILERS															(30, TRBCIndustryGroup.OTHER_SPECIALTY_RETAILERS, "IMerchantCategoryCodes.TRBCIndustry.53403030"), //$NON-NLS-1$
+		APPAREL_AND_ACCESSORIES_RETAILERS													(40, TRBCIndustryGroup.OTHER_SPECIALTY_RETAILERS, "IMerchantCategoryCodes.TRBCIndustry.53403040"), //$NON-NLS-1$
+		COMPUTER_AND_ELECTRONIC_RETAILERS													(50, TRBCIndustryGroup.OTHER_SPECIALTY_RETAILERS, "IMerchantCategoryCodes.TRBCIndustry.53403050"), //$NON-NLS-1$
+		OTHER_SPECIALTY_RETAILERS															(90, TRBCIndustryGroup.OTHER_SPECIALTY_RETAILERS, "IMerchantCategoryCodes.TRBCIndustry.53403090"), //$NON-NLS-1$
+		BREWERS																				(10, TRBCIndustryGroup.BEVERAGES, "IMerchantCategoryCodes.TRBCIndustry.54101010"), //$NON-NLS-1$
+		DISTILLERS_AND_WINERIES																(20, TRBCIndustryGroup.BEVERAGES, "IMerchantCategoryCodes.TRBCIndustry.54101020"), //$NON-NLS-1$
+		NON_ALCOHOLIC_BEVERAGES																(30, TRBCIndustryGroup.BEVERAGES, "IMerchantCategoryCodes.TRBCIndustry.54101030"), //$NON-NLS-1$
+		FISHING_AND_FARMING																	(10, TRBCIndustryGroup.FOOD_AND_TOBACCO, "IMerchantCategoryCodes.TRBCIndustry.54102010"), //$NON-NLS-1$
+		FOOD_PROCESSING																		(20, TRBCIndustryGroup.FOOD_AND_TOBACCO, "IMerchantCategoryCodes.TRBCIndustry.54102020"), //$NON-NLS-1$
+		TOBACCO																				(30, TRBCIndustryGroup.FOOD_AND_TOBACCO, "IMerchantCategoryCodes.TRBCIndustry.54102030"), //$NON-NLS-1$
+		HOUSEHOLD_PRODUCTS 																	(10, TRBCIndustryGroup.PERSONAL_AND_HOUSEHOLD_PRODUCTS_AND_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.54201010"), //$NON-NLS-1$
+		PERSONAL_PRODUCTS																	(20, TRBCIndustryGroup.PERSONAL_AND_HOUSEHOLD_PRODUCTS_AND_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.54201020"), //$NON-NLS-1$
+		PERSONAL_SERVICES																	(30, TRBCIndustryGroup.PERSONAL_AND_HOUSEHOLD_PRODUCTS_AND_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.54201030"), //$NON-NLS-1$
+		DRUG_RETAILERS																		(10, TRBCIndustryGroup.FOOD_AND_DRUG_RETAILING, "IMerchantCategoryCodes.TRBCIndustry.54301010"), //$NON-NLS-1$
+		FOOD_RETAIL_AND_DISTRIBUTION														(20, TRBCIndustryGroup.FOOD_AND_DRUG_RETAILING, "IMerchantCategoryCodes.TRBCIndustry.54301020"), //$NON-NLS-1$
+		BANKS																				(10, TRBCIndustryGroup.BANKING_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.55101010"), //$NON-NLS-1$
+		CONSUMER_LENDING																	(20, TRBCIndustryGroup.BANKING_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.55101020"), 	 //$NON-NLS-1$
+		CORPORATE_FINANCIAL_SERVICES														(30, TRBCIndustryGroup.BANKING_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.55101030"), 	 //$NON-NLS-1$
+		INVESTMENT_BANKING_AND_BROKERAGE_SERVICES											(10, TRBCIndustryGroup.INVESTMENT_BANKING_AND_INVESTMENT_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.55102010"), //$NON-NLS-1$
+		INVESTMENT_MANAGEMENT_AND_FUND_OPERATORS											(20, TRBCIndustryGroup.INVESTMENT_BANKING_AND_INVESTMENT_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.55102020"), //$NON-NLS-1$
+		DIVERSIFIED_INVESTMENT_SERVICES														(30, TRBCIndustryGroup.INVESTMENT_BANKING_AND_INVESTMENT_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.55102030"), //$NON-NLS-1$
+		FINANCIAL_AND_COMMODITY_MARKET_OPERATORS											(50, TRBCIndustryGroup.INVESTMENT_BANKING_AND_INVESTMENT_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.55102050"), //$NON-NLS-1$
+		MULTILINE_INSURANCE_AND_BROKERS														(10, TRBCIndustryGroup.INSURANCE, "IMerchantCategoryCodes.TRBCIndustry.55301010"), //$NON-NLS-1$
+		PROPERTY_AND_CASUALTY_INSURANCE														(20, TRBCIndustryGroup.INSURANCE, "IMerchantCategoryCodes.TRBCIndustry.55301020"), //$NON-NLS-1$
+		LIFE_AND_HEALTH_INSURANCE															(30, TRBCIndustryGroup.INSURANCE, "IMerchantCategoryCodes.TRBCIndustry.55301030"), //$NON-NLS-1$
+		REINSURANCE																			(50, TRBCIndustryGroup.INSURANCE, "IMerchantCategoryCodes.TRBCIndustry.55301050"), //$NON-NLS-1$
+		REAL_ESTATE_DEVELOPMENT_AND_OPERATIONS												(10, TRBCIndustryGroup.REAL_ESTATE_OPERATIONS, "IMerchantCategoryCodes.TRBCIndustry.55402010"), //$NON-NLS-1$
+		REAL_ESTATE_SERVICES																(20, TRBCIndustryGroup.REAL_ESTATE_OPERATIONS, "IMerchantCategoryCodes.TRBCIndustry.55402030"), //$NON-NLS-1$
+		DIVERSIFIED_REITS																	(10, TRBCIndustryGroup.RESIDENTIAL_AND_COMMERCIAL_REITS, "IMerchantCategoryCodes.TRBCIndustry.55403010"), //$NON-NLS-1$
+		COMMERCIAL_REITS																	(20, TRBCIndustryGroup.RESIDENTIAL_AND_COMMERCIAL_REITS, "IMerchantCategoryCodes.TRBCIndustry.55403020"), //$NON-NLS-1$
+		SPECIALIZED_REITS																	(30, TRBCIndustryGroup.RESIDENTIAL_AND_COMMERCIAL_REITS, "IMerchantCategoryCodes.TRBCIndustry.55403030"), //$NON-NLS-1$
+		INVESTMENT_TRUSTS																	(10, TRBCIndustryGroup.COLLECTIVE_INVESTMENTS, "IMerchantCategoryCodes.TRBCIndustry.55501010"), //$NON-NLS-1$
+		MUTUAL_FUNDS																		(20, TRBCIndustryGroup.COLLECTIVE_INVESTMENTS, "IMerchantCategoryCodes.TRBCIndustry.55501020"), //$NON-NLS-1$
+		CLOSE_END_FUNDS																		(30, TRBCIndustryGroup.COLLECTIVE_INVESTMENTS, "IMerchantCategoryCodes.TRBCIndustry.55501030"), //$NON-NLS-1$
+		EXCHANGE_TRADED_FUNDS																(40, TRBCIndustryGroup.COLLECTIVE_INVESTMENTS, "IMerchantCategoryCodes.TRBCIndustry.55501040"), //$NON-NLS-1$
+		PENSION_FUNDS																		(50, TRBCIndustryGroup.COLLECTIVE_INVESTMENTS, "IMerchantCategoryCodes.TRBCIndustry.55501050"), //$NON-NLS-1$
+		INSURANCE_FUNDS																		(60, TRBCIndustryGroup.COLLECTIVE_INVESTMENTS, "IMerchantCategoryCodes.TRBCIndustry.55501060"), //$NON-NLS-1$
+		HOLDING_COMPANIES																	(10, TRBCIndustryGroup.HOLDING_COMPANIES, "IMerchantCategoryCodes.TRBCIndustry.55601010"), //$NON-NLS-1$
+		ADVANCED_MEDICAL_EQUIPMENT_AND_TECHNOLOGY											(10, TRBCIndustryGroup.HEALTH_CARE_EQUIPMENT_AND_SUPPLIES, "IMerchantCategoryCodes.TRBCIndustry.56101010"), //$NON-NLS-1$
+		MEDICAL_EQUIPMENT_SUPPLIES_AND_DISTRIBUTION											(20, TRBCIndustryGroup.HEALTH_CARE_EQUIPMENT_AND_SUPPLIES, "IMerchantCategoryCodes.TRBCIndustry.56101020"), //$NON-NLS-1$
+		HEALTH_CARE_FACILITIES_AND_SERVICES													(10, TRBCIndustryGroup.HEALTH_CARE_PROVIDERS_AND_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.56102010"), //$NON-NLS-1$
+		MANAGED_HEALTH_CARE																	(20, TRBCIndustryGroup.HEALTH_CARE_PROVIDERS_AND_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.56102020"), //$NON-NLS-1$
+		PHARMACEUTICALS																		(10, TRBCIndustryGroup.PHARMACEUTICALS, "IMerchantCategoryCodes.TRBCIndustry.56201040"), //$NON-NLS-1$
+		BIOTECHNOLOGY_AND_MEDICAL_RESEARCH													(10, TRBCIndustryGroup.BIOTECHNOLOGY_AND_MEDICAL_RESEARCH, "IMerchantCategoryCodes.TRBCIndustry.56202010"), //$NON-NLS-1$
+		SEMICONDUCTORS																		(10, TRBCIndustryGroup.SEMICONDUCTORS_AND_SEMICONDUCTOR_EQUIPMENT, "IMerchantCategoryCodes.TRBCIndustry.57101010"), //$NON-NLS-1$
+		SEMICONDUCTOR_EQUIPMENT_AND_TESTING													(20, TRBCIndustryGroup.SEMICONDUCTORS_AND_SEMICONDUCTOR_EQUIPMENT, "IMerchantCategoryCodes.TRBCIndustry.57101020"), //$NON-NLS-1$
+		COMMUNICATIONS_AND_NETWORKING														(10, TRBCIndustryGroup.COMMUNICATIONS_AND_NETWORKING,  "IMerchantCategoryCodes.TRBCIndustry.57102010"), //$NON-NLS-1$
+		ELECTRONIC_EQUIPMENT_AND_PARTS														(10, TRBCIndustryGroup.ELECTRONIC_EQUIPMENT_AND_PARTS,  "IMerchantCategoryCodes.TRBCIndustry.57104010"), //$NON-NLS-1$
+		OFFICE_EQUIPMENT																	(10, TRBCIndustryGroup.OFFICE_EQUIPMENT,  "IMerchantCategoryCodes.TRBCIndustry.57105010"), //$NON-NLS-1$
+		COMPUTER_HARDWARE 																	(10, TRBCIndustryGroup.COMPUTERS_PHONES_AND_HOUSEHOLD_ELECTRONICS, "IMerchantCategoryCodes.TRBCIndustry.57106010"), //$NON-NLS-1$
+		PHONES_AND_HANDHELD_DEVICES 														(20, TRBCIndustryGroup.COMPUTERS_PHONES_AND_HOUSEHOLD_ELECTRONICS, "IMerchantCategoryCodes.TRBCIndustry.57106020"), //$NON-NLS-1$
+		HOUSEHOLD_ELECTRONICS																(30, TRBCIndustryGroup.COMPUTERS_PHONES_AND_HOUSEHOLD_ELECTRONICS, "IMerchantCategoryCodes.TRBCIndustry.57106030"), //$NON-NLS-1$
+		IT_SERVICES_AND_CONSULTING															(10, TRBCIndustryGroup.SOFTWARE_AND_IT_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.57201010"), //$NON-NLS-1$
+		SOFTWARE																			(20, TRBCIndustryGroup.SOFTWARE_AND_IT_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.57201020"), //$NON-NLS-1$
+		INTERNET_SERVICES																	(30, TRBCIndustryGroup.SOFTWARE_AND_IT_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.57201030"), //$NON-NLS-1$
+		INTEGRATED_TELECOMMUNICATION_SERVICES												(10, TRBCIndustryGroup.TELECOMMUNICATION_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.58101010"), //$NON-NLS-1$
+		WIRELESS_TELECOMMUNICATION_SERVICES													(20, TRBCIndustryGroup.TELECOMMUNICATION_SERVICES, "IMerchantCategoryCodes.TRBCIndustry.58101020"), //$NON-NLS-1$
+		ELECTRIC_UTILITIES																	(10, TRBCIndustryGroup.ELECTRIC_UTILITIES_AND_IPPs , "IMerchantCategoryCodes.TRBCIndustry.59101010"), //$NON-NLS-1$
+		INDEPENDENT_POWER_PRODUCERS															(20, TRBCIndustryGroup.ELECTRIC_UTILITIES_AND_IPPs , "IMerchantCategoryCodes.TRBCIndustry.59101020"), 	 //$NON-NLS-1$
+		NATURAL_GAS_UTILITIES																(10, TRBCIndustryGroup.NATURAL_GAS_UTILITIES , "IMerchantCategoryCodes.TRBCIndustry.59102010"), //$NON-NLS-1$
+		WATER_UTILITIES																		(10, TRBCIndustryGroup.WATER_AND_OTHER_UTILITIES , "IMerchantCategoryCodes.TRBCIndustry.59103010"), //$NON-NLS-1$
+		MULTILINE_UTILITIES																	(10, TRBCIndustryGroup.MULTILINE_UTILITIES , "IMerchantCategoryCodes.TRBCIndustry.59104010"), //$NON-NLS-1$
 
 		// NOt in TRBC but needed
-		EXECUTIVE_LEGISLATIVE_AND_OTHER_GENERAL_GOVERNMENT_SUPPORT							(10, TRBCIndustryGroup.GOVERNMENT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.100101010")),  //$NON-NLS-1$
-		JUSTICE_PUBLIC_ORDER_AND_SAFETY_ACTIVITIES											(20, TRBCIndustryGroup.GOVERNMENT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.100101020")),  //$NON-NLS-1$
-		ADMINISTRATION_OF_ECONOMIC_PROGRAMS													(30, TRBCIndustryGroup.GOVERNMENT_SERVICES, Messages.getString("IMerchantCategoryCodes.TRBCIndustryGroup.100101030")),  //$NON-NLS-1$
-		MEMBERSHIP_ORGANIZATIONS															(10, TRBCIndustryGroup.MEMBERSHIP_ORGANIZATIONS, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.101101010")), //$NON-NLS-1$
-		OTHER																				(10, TRBCIndustryGroup.OTHER, Messages.getString("IMerchantCategoryCodes.TRBCIndustry.102101010")); //$NON-NLS-1$
+		EXECUTIVE_LEGISLATIVE_AND_OTHER_GENERAL_GOVERNMENT_SUPPORT							(10, TRBCIndustryGroup.GOVERNMENT_SERVICES, "IMerchantCategoryCodes.TRBCIndustryGroup.100101010"),  //$NON-NLS-1$
+		JUSTICE_PUBLIC_ORDER_AND_SAFETY_ACTIVITIES											(20, TRBCIndustryGroup.GOVERNMENT_SERVICES, "IMerchantCategoryCodes.TRBCIndustryGroup.100101020"),  //$NON-NLS-1$
+		ADMINISTRATION_OF_ECONOMIC_PROGRAMS													(30, TRBCIndustryGroup.GOVERNMENT_SERVICES, "IMerchantCategoryCodes.TRBCIndustryGroup.100101030"),  //$NON-NLS-1$
+		MEMBERSHIP_ORGANIZATIONS															(10, TRBCIndustryGroup.MEMBERSHIP_ORGANIZATIONS, "IMerchantCategoryCodes.TRBCIndustry.101101010"), //$NON-NLS-1$
+		OTHER																				(10, TRBCIndustryGroup.OTHER, "IMerchantCategoryCodes.TRBCIndustry.102101010"); //$NON-NLS-1$
 		
 		/** The industry this sub-industry belongs to */
 		private TRBCIndustryGroup industryGroup;
-		/** The last 2 digits of the TRBC code, rebuilt when invoking {@link #getCode()} */
+		/** The last 2 digits of the TRBC code */
 		private int code;
-		/** This sub-industry description */
-		private String description;
+		/** The full TRBC code = parent code followed by the 2 digits of <code>code</code>, computed once */
+		private int fullCode;
+		/** The first industry code of the interval labelling this node */
+		private int intervalStart;
+		/** The message key of this sub-industry description */
+		private String descriptionKey;
+		/** The descriptions by locale, resolved on first use */
+		private static final Messages.Table<TRBCIndustry> DESCRIPTIONS = new Messages.Table<>(TRBCIndustry.class, industry -> industry.descriptionKey);
 		
 		/** Builds a new TRBC Sub-Industry enumeration value, linking this value with parent <code>industry</code> classification */
 		private TRBCIndustry (int code, TRBCIndustryGroup industryGroup, String description) {
 			this.code = code;
 			this.industryGroup = industryGroup;
-			this.description = description;
+			this.descriptionKey = description;
+			this.fullCode = industryGroup.fullCode * 100 + code;
+			this.intervalStart = fullCode;
+		}
+
+		/** The enumeration values sorted by code, for {@link #lookup(int)} */
+		private static final TRBCIndustry[] BY_CODE = values();
+		/** The codes of BY_CODE, ascending */
+		private static final int[] CODES = new int[BY_CODE.length];
+		
+		static {
+			Arrays.sort(BY_CODE, (a, b) -> Integer.compare(a.fullCode, b.fullCode)); // stable: declaration order kept for equal codes
+			for (int i=0; i<BY_CODE.length; i++) CODES[i] = BY_CODE[i].fullCode;
+		}
+		
+		/** 
+		 * Returns the industry whose (full) TRBC code is <code>code</code>, or null if none. O(log n), allocation free.
+		 * <p>
+		 * Code 50102030 is shared by OIL_AND_GAS_REFINING_AND_MARKETING and OIL_AND_GAS_TRANSPORTATION_SERVICES: the first declared one 
+		 * (OIL_AND_GAS_REFINING_AND_MARKETING) is returned, OIL_AND_GAS_TRANSPORTATION_SERVICES being only reachable by its enumeration constant.
+		 */
+		public static TRBCIndustry lookup(int code) {
+			int index = Arrays.binarySearch(CODES, code);
+			if (index < 0) return null;
+			while (index > 0 && CODES[index - 1] == code) index--;
+			return BY_CODE[index];
+		}
+		
+		/** 
+		 * Returns the industry whose (full) TRBC code is <code>code</code>.
+		 * <p>
+		 * @throws IllegalArgumentException if the code is not recognised
+		 */
+		public static TRBCIndustry valueOf(int code) throws IllegalArgumentException {
+			TRBCIndustry value = lookup(code);
+			if (value == null) throw new IllegalArgumentException ("Invalid TRBC industry code " + code); //$NON-NLS-1$
+			return value;
 		}
 
 		// Fulfils IClassification contract
 		// --------------------------------
 		
-		/** Gets the TRBC code (or fake for non-TRBC enum value); rebuilds the entire code by invoking parent one. */
-		@Override public int getCode() { return Integer.valueOf(Integer.toString(getParent().getCode())+Integer.toString(code)); }
+		/** Gets the TRBC code (or fake for non-TRBC enum value) = parent code followed by this level 2 digits (precomputed). */
+		@Override public int getCode() { return fullCode; }
 		/** Gets this sub-Industry description. */
-		@Override public String getDescription() {return description; }
+		@Override public String getDescription() { return getDescription(Locale.getDefault()); }
+		/** Gets this sub-Industry description in <code>locale</code> */
+		@Override public String getDescription(Locale locale) { return DESCRIPTIONS.get(this, locale); }
 		/** Gets the Parent classification. */
 		@Override public ITaxonomy getParent() { return industryGroup; }
+
+		// Fulfils ITRBCTaxonomy contract
+		// ------------------------------
+		
+		/** Gets this level in the TRBC hierarchy ({@link ITRBCTaxonomy#INDUSTRY}) */
+		@Override public int getLevel() { return INDUSTRY; }
+		/** Gets the first industry code of the interval labelling this node */
+		@Override public int getIntervalStart() { return intervalStart; }
+		/** Gets the last industry code of the interval labelling this node */
+		@Override public int getIntervalEnd() { return intervalStart; }
+		/** Gets the ancestor (or self) of this node at <code>level</code>, null if deeper than this node. */
+		@Override public ITRBCTaxonomy ancestorAt(int level) throws IllegalArgumentException {
+			switch (level) {
+				case ECONOMIC_SECTOR: return industryGroup.businessSector.economicSector;
+				case BUSINESS_SECTOR: return industryGroup.businessSector;
+				case INDUSTRY_GROUP: return industryGroup;
+				case INDUSTRY: return this;
+				default:
+					ITRBCTaxonomy.checkLevel(level);
+					return null;
+			}
+		}
 		
 		/** Return a Human readable representation of this Country Code. */
 		@Override public String toString() {
-			return description + " (" + getCode() + ") <- " + industryGroup; //$NON-NLS-1$ //$NON-NLS-2$
+			return getDescription() + " (" + getCode() + ") <- " + industryGroup; //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
 	}
@@ -729,384 +1172,384 @@ public interface IMerchantCategoryCodes {
 		// Agricultural Services
 		// ----------------------
 
-		MCC_0742_VETERINARY_SERVICES 															(742, CONTRACTED_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.0742")), //$NON-NLS-1$
-		MCC_0763_AGRICULTURAL_COOPERATIVES 														(763, CONTRACTED_SERVICES, TRBCIndustry.FISHING_AND_FARMING, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.0763")), //$NON-NLS-1$
-		MCC_0780_HORTICULTURAL_AND_LANDSCAPING_SERVICES 										(780, CONTRACTED_SERVICES, TRBCIndustry.ENVIRONMENTAL_SERVICES_AND_EQUIPMENT, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.0780")), //$NON-NLS-1$
+		MCC_0742_VETERINARY_SERVICES 															(742, CONTRACTED_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.0742"), //$NON-NLS-1$
+		MCC_0763_AGRICULTURAL_COOPERATIVES 														(763, CONTRACTED_SERVICES, TRBCIndustry.FISHING_AND_FARMING, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.0763"), //$NON-NLS-1$
+		MCC_0780_HORTICULTURAL_AND_LANDSCAPING_SERVICES 										(780, CONTRACTED_SERVICES, TRBCIndustry.ENVIRONMENTAL_SERVICES_AND_EQUIPMENT, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.0780"), //$NON-NLS-1$
 
 		// ----------------------
 		// Contracted Services
 		// ----------------------
 
-		MCC_1520_GENERAL_CONTRACTORS_RESIDENTIAL_AND_COMMERCIAL 								(1520, CONTRACTED_SERVICES, TRBCIndustry.HOMEBUILDING, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1520")),																 //$NON-NLS-1$
-		MCC_1711_AIR_CONDITIONING_HEATING_AND_PLUMBING_CONTRACTORS 								(1711, CONTRACTED_SERVICES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1711")),																 //$NON-NLS-1$
-		MCC_1731_ELECTRICAL_CONTRACTORS 														(1731, CONTRACTED_SERVICES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1731")),																 //$NON-NLS-1$
-		MCC_1740_INSULATION_MASONRY_PLATERING_STONEWORK_AND_TILE_SETTING_CONTRACTORS 			(1740, CONTRACTED_SERVICES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1740")),																 //$NON-NLS-1$
-		MCC_1750_CARPENTRY_CONTRACTORS 															(1750, CONTRACTED_SERVICES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1750")),																 //$NON-NLS-1$
-		MCC_1761_ROOFING_AND_SIDING_SHEET_METAL_WORK_CONTRACTORS 								(1761, CONTRACTED_SERVICES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1761")),																 //$NON-NLS-1$
-		MCC_1771_CONCRETE_WORK_CONTRACTORS 														(1771, CONTRACTED_SERVICES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1771")),																 //$NON-NLS-1$
-		MCC_1799_CONTRACTORS_SPECIAL_TRADE_NOT_ELSESWHERE_CLASSIFIED 							(1799, CONTRACTED_SERVICES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1799")), //$NON-NLS-1$
+		MCC_1520_GENERAL_CONTRACTORS_RESIDENTIAL_AND_COMMERCIAL 								(1520, CONTRACTED_SERVICES, TRBCIndustry.HOMEBUILDING, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1520"),																 //$NON-NLS-1$
+		MCC_1711_AIR_CONDITIONING_HEATING_AND_PLUMBING_CONTRACTORS 								(1711, CONTRACTED_SERVICES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1711"),																 //$NON-NLS-1$
+		MCC_1731_ELECTRICAL_CONTRACTORS 														(1731, CONTRACTED_SERVICES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1731"),																 //$NON-NLS-1$
+		MCC_1740_INSULATION_MASONRY_PLATERING_STONEWORK_AND_TILE_SETTING_CONTRACTORS 			(1740, CONTRACTED_SERVICES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1740"),																 //$NON-NLS-1$
+		MCC_1750_CARPENTRY_CONTRACTORS 															(1750, CONTRACTED_SERVICES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1750"),																 //$NON-NLS-1$
+		MCC_1761_ROOFING_AND_SIDING_SHEET_METAL_WORK_CONTRACTORS 								(1761, CONTRACTED_SERVICES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1761"),																 //$NON-NLS-1$
+		MCC_1771_CONCRETE_WORK_CONTRACTORS 														(1771, CONTRACTED_SERVICES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1771"),																 //$NON-NLS-1$
+		MCC_1799_CONTRACTORS_SPECIAL_TRADE_NOT_ELSESWHERE_CLASSIFIED 							(1799, CONTRACTED_SERVICES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.1799"), //$NON-NLS-1$
 		
-		MCC_2741_MISCELLANEOUS_PUBLISHING_AND_PRINTING 											(2741, WHOLESALE, TRBCIndustry.COMMERCIAL_PRINTING_SERVICES, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.2741")),																 //$NON-NLS-1$
-		MCC_2791_TYPESETTING_PLATE_MAKING_AND_RELATED_SERVICES 									(2791, WHOLESALE, TRBCIndustry.COMMERCIAL_PRINTING_SERVICES, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.2791")),																 //$NON-NLS-1$
-		MCC_2842_SANITATION_POLISHING_AND_SPECIALTY_CLEANING_PREPARATIONS 						(2842, WHOLESALE, TRBCIndustry.BUSINESS_SUPPORT_SUPPLIES, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.2842")), //$NON-NLS-1$
+		MCC_2741_MISCELLANEOUS_PUBLISHING_AND_PRINTING 											(2741, WHOLESALE, TRBCIndustry.COMMERCIAL_PRINTING_SERVICES, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.2741"),																 //$NON-NLS-1$
+		MCC_2791_TYPESETTING_PLATE_MAKING_AND_RELATED_SERVICES 									(2791, WHOLESALE, TRBCIndustry.COMMERCIAL_PRINTING_SERVICES, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.2791"),																 //$NON-NLS-1$
+		MCC_2842_SANITATION_POLISHING_AND_SPECIALTY_CLEANING_PREPARATIONS 						(2842, WHOLESALE, TRBCIndustry.BUSINESS_SUPPORT_SUPPLIES, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.2842"), //$NON-NLS-1$
 		
 		// -----------------------
 		// Transportation Services
 		// -----------------------
 
-		MCC_4011_RAILROADS_FREIGHT 																(4011, TRANSPORTATION, TRBCIndustry.GROUND_FREIGHT_AND_LOGISTICS, TCC_X_RLW, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4011")),																 //$NON-NLS-1$
-		MCC_4111_SUBURBAN_AND_LOCAL_COMMUTER_PASSENGER_INCLUDING_FERRIES 						(4111, TRANSPORTATION, TRBCIndustry.PASSENGER_TRANSPORTATION_GROUND_AND_SEA, TCC_X_RLW, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4111")),																 //$NON-NLS-1$
-		MCC_4112_PASSENGER_RAILWAYS																(4112, TRANSPORTATION, TRBCIndustry.PASSENGER_TRANSPORTATION_GROUND_AND_SEA, TCC_X_RLW, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4112")),																 //$NON-NLS-1$
-		MCC_4119_AMBULANCE_SERVICES																(4119, TRANSPORTATION, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4119")),																 //$NON-NLS-1$
-		MCC_4121_TAXICABS_AND_LIMOUSINES														(4121, TRANSPORTATION, TRBCIndustry.PASSENGER_TRANSPORTATION_GROUND_AND_SEA, TCC_R_OTH, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4121")),																 //$NON-NLS-1$
-		MCC_4131_BUS_LINES 																		(4131, TRANSPORTATION, TRBCIndustry.PASSENGER_TRANSPORTATION_GROUND_AND_SEA, TCC_X_TRA, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4131")),																 //$NON-NLS-1$
-		MCC_4214_MOTOR_FREIGHT_CARRIERS_TRUCKING 												(4214, TRANSPORTATION, TRBCIndustry.GROUND_FREIGHT_AND_LOGISTICS, TCC_R_OTH, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4214")),																 //$NON-NLS-1$
-		MCC_4215_COURIER_SERVICES 																(4215, TRANSPORTATION, TRBCIndustry.GROUND_FREIGHT_AND_LOGISTICS, TCC_R_OTH, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4215")),																 //$NON-NLS-1$
-		MCC_4225_PUBLIC_WAREHOUSING 															(4225, TRANSPORTATION, TRBCIndustry.GROUND_FREIGHT_AND_LOGISTICS, TCC_R_OTH, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4225")),																 //$NON-NLS-1$
-		MCC_4411_CRUISE_LINES 																	(4411, TRANSPORTATION, TRBCIndustry.HOTELS_MOTELS_AND_CRUISE_LINES, TCC_X_TRA, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4411")), // TCC_H_HOT for on-board sales																 //$NON-NLS-1$
-		MCC_4457_BOAT_LEASES_AND_RENTALS 														(4457, TRANSPORTATION, TRBCIndustry.MARINE_FREIGHT_AND_LOGISTICS, TCC_R_OTH, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4457")),																 //$NON-NLS-1$
-		MCC_4468_MARINAS_AND_MARINE_SERVICE_SUPPLIES											(4468, TRANSPORTATION, TRBCIndustry.MARINE_PORTS_SERVICES, TCC_R_OTH, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4468")),																 //$NON-NLS-1$
-		MCC_4511_AIR_LINES_AIR_CARRIERS_NOT_ELSEWHERE_CLASSIFIED 								(4511, TRANSPORTATION, TRBCIndustry.AIRLINES, TCC_X_AIR, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4511")), //$NON-NLS-1$
-		MCC_4582_AIRPORTS_FLYING_FIELDS_AIRPORT_TERMINALS 										(4582, TRANSPORTATION, TRBCIndustry.AIRPORT_SERVICES, TCC_R_OTH, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4582")),																 //$NON-NLS-1$
-		MCC_4722_TRAVEL_AGENCIES_AND_TOUR_OPERATORS 											(4722, TRANSPORTATION, TRBCIndustry.LEISURE_AND_RECREATION, TCC_X_TRA, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4722")),																 //$NON-NLS-1$
-		MCC_4723_PACKAGE_TOUR_OPERATORS_GERMANY_VISA 											(4723, TRANSPORTATION, TRBCIndustry.LEISURE_AND_RECREATION, null, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4723")), // not valid for MC																 //$NON-NLS-1$
-		MCC_4784_BRIDGE_AND_ROAD_FEES_TOLLS														(4784, TRANSPORTATION, TRBCIndustry.HIGHWAYS_AND_RAILTRACKS, TCC_R_OTH, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4784")),																 //$NON-NLS-1$
-		MCC_4789_TRANSPORTATION_SERVICES_NOT_ELSEWHERE_CLASSIFIED								(4789, TRANSPORTATION, TRBCIndustry.PASSENGER_TRANSPORTATION_GROUND_AND_SEA, TCC_X_TRA, MCG_1_TRA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4789")), //$NON-NLS-1$
+		MCC_4011_RAILROADS_FREIGHT 																(4011, TRANSPORTATION, TRBCIndustry.GROUND_FREIGHT_AND_LOGISTICS, TCC_X_RLW, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4011"),																 //$NON-NLS-1$
+		MCC_4111_SUBURBAN_AND_LOCAL_COMMUTER_PASSENGER_INCLUDING_FERRIES 						(4111, TRANSPORTATION, TRBCIndustry.PASSENGER_TRANSPORTATION_GROUND_AND_SEA, TCC_X_RLW, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4111"),																 //$NON-NLS-1$
+		MCC_4112_PASSENGER_RAILWAYS																(4112, TRANSPORTATION, TRBCIndustry.PASSENGER_TRANSPORTATION_GROUND_AND_SEA, TCC_X_RLW, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4112"),																 //$NON-NLS-1$
+		MCC_4119_AMBULANCE_SERVICES																(4119, TRANSPORTATION, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4119"),																 //$NON-NLS-1$
+		MCC_4121_TAXICABS_AND_LIMOUSINES														(4121, TRANSPORTATION, TRBCIndustry.PASSENGER_TRANSPORTATION_GROUND_AND_SEA, TCC_R_OTH, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4121"),																 //$NON-NLS-1$
+		MCC_4131_BUS_LINES 																		(4131, TRANSPORTATION, TRBCIndustry.PASSENGER_TRANSPORTATION_GROUND_AND_SEA, TCC_X_TRA, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4131"),																 //$NON-NLS-1$
+		MCC_4214_MOTOR_FREIGHT_CARRIERS_TRUCKING 												(4214, TRANSPORTATION, TRBCIndustry.GROUND_FREIGHT_AND_LOGISTICS, TCC_R_OTH, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4214"),																 //$NON-NLS-1$
+		MCC_4215_COURIER_SERVICES 																(4215, TRANSPORTATION, TRBCIndustry.GROUND_FREIGHT_AND_LOGISTICS, TCC_R_OTH, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4215"),																 //$NON-NLS-1$
+		MCC_4225_PUBLIC_WAREHOUSING 															(4225, TRANSPORTATION, TRBCIndustry.GROUND_FREIGHT_AND_LOGISTICS, TCC_R_OTH, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4225"),																 //$NON-NLS-1$
+		MCC_4411_CRUISE_LINES 																	(4411, TRANSPORTATION, TRBCIndustry.HOTELS_MOTELS_AND_CRUISE_LINES, TCC_X_TRA, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4411"), // TCC_H_HOT for on-board sales																 //$NON-NLS-1$
+		MCC_4457_BOAT_LEASES_AND_RENTALS 														(4457, TRANSPORTATION, TRBCIndustry.MARINE_FREIGHT_AND_LOGISTICS, TCC_R_OTH, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4457"),																 //$NON-NLS-1$
+		MCC_4468_MARINAS_AND_MARINE_SERVICE_SUPPLIES											(4468, TRANSPORTATION, TRBCIndustry.MARINE_PORTS_SERVICES, TCC_R_OTH, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4468"),																 //$NON-NLS-1$
+		MCC_4511_AIR_LINES_AIR_CARRIERS_NOT_ELSEWHERE_CLASSIFIED 								(4511, TRANSPORTATION, TRBCIndustry.AIRLINES, TCC_X_AIR, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4511"), //$NON-NLS-1$
+		MCC_4582_AIRPORTS_FLYING_FIELDS_AIRPORT_TERMINALS 										(4582, TRANSPORTATION, TRBCIndustry.AIRPORT_SERVICES, TCC_R_OTH, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4582"),																 //$NON-NLS-1$
+		MCC_4722_TRAVEL_AGENCIES_AND_TOUR_OPERATORS 											(4722, TRANSPORTATION, TRBCIndustry.LEISURE_AND_RECREATION, TCC_X_TRA, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4722"),																 //$NON-NLS-1$
+		MCC_4723_PACKAGE_TOUR_OPERATORS_GERMANY_VISA 											(4723, TRANSPORTATION, TRBCIndustry.LEISURE_AND_RECREATION, null, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4723"), // not valid for MC																 //$NON-NLS-1$
+		MCC_4784_BRIDGE_AND_ROAD_FEES_TOLLS														(4784, TRANSPORTATION, TRBCIndustry.HIGHWAYS_AND_RAILTRACKS, TCC_R_OTH, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4784"),																 //$NON-NLS-1$
+		MCC_4789_TRANSPORTATION_SERVICES_NOT_ELSEWHERE_CLASSIFIED								(4789, TRANSPORTATION, TRBCIndustry.PASSENGER_TRANSPORTATION_GROUND_AND_SEA, TCC_X_TRA, MCG_1_TRA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4789"), //$NON-NLS-1$
 		
 		// ---------
 		// Utilities
 		// ---------
 		
-		MCC_4812_TELECOMMUNICATIONS_EQUIPMENT_INCLUDING_TELEPHONE_SALES 						(4812, UTILITIES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4812")),																 //$NON-NLS-1$
-		MCC_4813_KEY_ENTRY_TELECOM_MERCHANT_MASTERCARD 											(4813, UTILITIES, TRBCIndustry.INTEGRATED_TELECOMMUNICATION_SERVICES, TCC_R_OTH, null, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4813")), // Mastercard only																 //$NON-NLS-1$
-		MCC_4814_TELECOMMUNICATION_SERVICES 													(4814, UTILITIES, TRBCIndustry.INTEGRATED_TELECOMMUNICATION_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4814")),																 //$NON-NLS-1$
-		MCC_4816_COMPUTER_NETWORK_INFORMATION_SERVICES 											(4816, UTILITIES, TRBCIndustry.IT_SERVICES_AND_CONSULTING, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4816")),																 //$NON-NLS-1$
-		MCC_4821_TELEGRAPH_SERVICES 															(4821, UTILITIES, TRBCIndustry.INTEGRATED_TELECOMMUNICATION_SERVICES , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4821")),																 //$NON-NLS-1$
-		MCC_4829_MONEY_TRANSFER_MERCHANT 														(4829, UTILITIES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_U_QEC, MCG_5_MEC, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4829")),																 //$NON-NLS-1$
-		MCC_4899_CABLE_AND_OTHER_PAY_TELEVISION 												(4899, UTILITIES, TRBCIndustry.BROADCASTING, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4899")),																 //$NON-NLS-1$
-		MCC_4900_UTILITIES_ELECTRICITY_GAS_HEATING_OIL_SANITARY_WATER 							(4900, UTILITIES, TRBCIndustry.ELECTRIC_UTILITIES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4900")),																 //$NON-NLS-1$
+		MCC_4812_TELECOMMUNICATIONS_EQUIPMENT_INCLUDING_TELEPHONE_SALES 						(4812, UTILITIES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4812"),																 //$NON-NLS-1$
+		MCC_4813_KEY_ENTRY_TELECOM_MERCHANT_MASTERCARD 											(4813, UTILITIES, TRBCIndustry.INTEGRATED_TELECOMMUNICATION_SERVICES, TCC_R_OTH, null, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4813"), // Mastercard only																 //$NON-NLS-1$
+		MCC_4814_TELECOMMUNICATION_SERVICES 													(4814, UTILITIES, TRBCIndustry.INTEGRATED_TELECOMMUNICATION_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4814"),																 //$NON-NLS-1$
+		MCC_4816_COMPUTER_NETWORK_INFORMATION_SERVICES 											(4816, UTILITIES, TRBCIndustry.IT_SERVICES_AND_CONSULTING, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4816"),																 //$NON-NLS-1$
+		MCC_4821_TELEGRAPH_SERVICES 															(4821, UTILITIES, TRBCIndustry.INTEGRATED_TELECOMMUNICATION_SERVICES , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4821"),																 //$NON-NLS-1$
+		MCC_4829_MONEY_TRANSFER_MERCHANT 														(4829, UTILITIES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_U_QEC, MCG_5_MEC, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4829"),																 //$NON-NLS-1$
+		MCC_4899_CABLE_AND_OTHER_PAY_TELEVISION 												(4899, UTILITIES, TRBCIndustry.BROADCASTING, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4899"),																 //$NON-NLS-1$
+		MCC_4900_UTILITIES_ELECTRICITY_GAS_HEATING_OIL_SANITARY_WATER 							(4900, UTILITIES, TRBCIndustry.ELECTRIC_UTILITIES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.4900"),																 //$NON-NLS-1$
 
 		// ----------------------
 		// Retail Outlet Services
 		// ----------------------
 		
-		MCC_5013_MOTOR_VEHICLE_SUPPLIES_AND_NEW_PARTS 											(5013, WHOLESALE, TRBCIndustry.AUTO_TRUCK_AND_MOTORCYCLE_PARTS, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5013")),																 //$NON-NLS-1$
-		MCC_5021_OFFICE_AND_COMMERCIAL_FURNITURE 												(5021, WHOLESALE, TRBCIndustry.BUSINESS_SUPPORT_SUPPLIES, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5021")),																 //$NON-NLS-1$
-		MCC_5039_CONSTRUCTION_MATERIALS_NOT_ELSEWHERE_CLASSIFIED 								(5039, WHOLESALE, TRBCIndustry.CONSTRUCTION_MATERIALS, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5039")),																 //$NON-NLS-1$
-		MCC_5044_OFFICE_PHOTOGRAPHIC_PHOTOCOPY_AND_MICROFILM_EQUIPMENT 							(5044, WHOLESALE, TRBCIndustry.BUSINESS_SUPPORT_SUPPLIES, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5044")),																 //$NON-NLS-1$
-		MCC_5045_COMPUTERS_COMPUTER_PERIPHERAL_EQUIPMENT_SOFTWARE 								(5045, WHOLESALE, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5045")),																 //$NON-NLS-1$
-		MCC_5046_COMMERCIAL_EQUIPMENT_NOT_ELSEWHERE_CLASSIFIED 									(5046, WHOLESALE, TRBCIndustry.BUSINESS_SUPPORT_SUPPLIES, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5046")),																 //$NON-NLS-1$
-		MCC_5047_MEDICAL_DENTAL_LABOTORY_OPHTALMIC_AND_HOSPITAL_EQUIPMENT_AND_SUPPLIES 			(5047, WHOLESALE, TRBCIndustry.MEDICAL_EQUIPMENT_SUPPLIES_AND_DISTRIBUTION, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5047")),																 //$NON-NLS-1$
-		MCC_5051_METAL_SERVICE_CENTERS_AND_OFFICES 												(5051, WHOLESALE, TRBCIndustry.STEEL, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5051")),																 //$NON-NLS-1$
-		MCC_5065_ELECTRICAL_PARTS_AND_EQUIPMENT 												(5065, WHOLESALE, TRBCIndustry.ELECTRICAL_COMPONENTS_AND_EQUIPMENT, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5065")),																 //$NON-NLS-1$
-		MCC_5072_HARDWARE_EQUIPMENT_AND_SUPPLIES 												(5072, WHOLESALE, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5072")),																 //$NON-NLS-1$
-		MCC_5074_PLUMBING_AND_HEATING_EQUIPMENT_AND_SUPPLIES 									(5074, WHOLESALE, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5074")),																 //$NON-NLS-1$
-		MCC_5085_INDUSTRIAL_SUPPLIES_NOT_ELSEWHERE_CLASSIFIED 									(5085, WHOLESALE, TRBCIndustry.INDUSTRIAL_MACHINERY_AND_EQUIPMENT, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5085")),																 //$NON-NLS-1$
-		MCC_5094_PRECIOUS_STONES_AND_METALS_WATCHES_AND_JEWELRY									(5094, WHOLESALE, TRBCIndustry.APPAREL_AND_ACCESSORIES, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5094")),																 //$NON-NLS-1$
-		MCC_5099_DURABLE_GOODS_NOT_ELSEWHERE_CLASSIFIED 										(5099, WHOLESALE, TRBCIndustry.DIVERSIFIED_TRADING_AND_DISTRIBUTING, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5099")),																 //$NON-NLS-1$
-		MCC_5111_STATIONERY_OFFICE_SUPPLIES_PRINTING_AND_WRITING_PAPER 							(5111, WHOLESALE, TRBCIndustry.BUSINESS_SUPPORT_SUPPLIES, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5111")),																 //$NON-NLS-1$
-		MCC_5122_DRUGS_DRUG_PROPRIETORS_AND_DRUGGIST_SUNDRIES 									(5122, WHOLESALE, TRBCIndustry.DRUG_RETAILERS, TCC_T_OTH, MCG_6_RSK, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5122")),																 //$NON-NLS-1$
-		MCC_5131_PIECE_GOODS_NOTIONS_AND_OTHER_DRY_GOODS 										(5131, WHOLESALE, TRBCIndustry.PERSONAL_PRODUCTS, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5131")),																 //$NON-NLS-1$
-		MCC_5137_MEN_WOMEN_CHILDREN_UNIFORMS_AND_COMMERCIAL_CLOTHING 							(5137, WHOLESALE, TRBCIndustry.APPAREL_AND_ACCESSORIES, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5137")),																 //$NON-NLS-1$
-		MCC_5139_COMMERCIAL_FOOTWEAR 															(5139, WHOLESALE, TRBCIndustry.APPAREL_AND_ACCESSORIES, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5139")),																 //$NON-NLS-1$
-		MCC_5169_CHEMICAL_AND_ALLIED_PRODUCTS_NOT_ELSEWHERE_CLASSIFIED 							(5169, WHOLESALE, TRBCIndustry.COMMODITY_CHEMICALS, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5169")),																 //$NON-NLS-1$
-		MCC_5172_PETROLEUM_AND_PETROLEUM_PRODUCTS 												(5172, WHOLESALE, TRBCIndustry.OIL_AND_GAS_REFINING_AND_MARKETING, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5172")),																 //$NON-NLS-1$
-		MCC_5192_BOOKS_PERIODICALS_AND_NEWSPAPERS 												(5192, WHOLESALE, TRBCIndustry.CONSUMER_PUBLISHING, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5192")),																 //$NON-NLS-1$
-		MCC_5193_FLORISTS_SUPPLIES_NURSERY_STOCK_AND_FLOWERS 									(5193, WHOLESALE, TRBCIndustry.FISHING_AND_FARMING, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5193")),																 //$NON-NLS-1$
-		MCC_5198_PAINTS_VARNISHES_AND_SUPPLIES 													(5198, WHOLESALE, TRBCIndustry.HOME_IMPROVEMENT_PRODUCTS_AND_SERVICES_RETAILERS, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5198")),																 //$NON-NLS-1$
-		MCC_5199_NON_DURABLE_GOODS_NOT_ELSEWHERE_CLASSIFIED 									(5199, WHOLESALE, TRBCIndustry.DIVERSIFIED_TRADING_AND_DISTRIBUTING, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5199")),																 //$NON-NLS-1$
-
-		MCC_5200_HOME_SUPPLY_WAREHOUSE_STORES 													(5200, RETAIL_STORES, TRBCIndustry.HOME_FURNISHINGS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5200")),																 //$NON-NLS-1$
-		MCC_5211_BUILDING_MATERIALS_LUMBER_STORES 												(5211, RETAIL_STORES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5211")),																 //$NON-NLS-1$
-		MCC_5231_GLASS_PAINT_AND_WALLPAPER_STORES 												(5231, RETAIL_STORES, TRBCIndustry.HOME_IMPROVEMENT_PRODUCTS_AND_SERVICES_RETAILERS  , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5231")),																 //$NON-NLS-1$
-		MCC_5251_HARDWARE_STORES 																(5251, RETAIL_STORES, TRBCIndustry.APPLIANCES_TOOLS_AND_HOUSEWARES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5251")),																 //$NON-NLS-1$
-		MCC_5261_NURSERIES_LAWN_AND_GARDEN_SUPPLY_STORE 										(5261, RETAIL_STORES, TRBCIndustry.HOME_IMPROVEMENT_PRODUCTS_AND_SERVICES_RETAILERS , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5261")),																 //$NON-NLS-1$
-		MCC_5271_MOBILE_HOME_DEALERS 															(5271, RETAIL_STORES, TRBCIndustry.HOMEBUILDING, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5271")),																 //$NON-NLS-1$
-		MCC_5300_WHOLESALE_CLUBS 																(5300, RETAIL_STORES, TRBCIndustry.DISCOUNT_STORES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5300")),																 //$NON-NLS-1$
-		MCC_5309_DUTY_FREE_STORES 																(5309, RETAIL_STORES, TRBCIndustry.DISCOUNT_STORES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5309")),	// In-Flight Commerce transaction															 //$NON-NLS-1$
-		MCC_5310_DISCOUNT_STORES 																(5310, RETAIL_STORES, TRBCIndustry.DISCOUNT_STORES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5310")),																 //$NON-NLS-1$
-		MCC_5311_DEPARTMENT_STORES 																(5311, RETAIL_STORES, TRBCIndustry.DEPARTMENT_STORES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5311")),																 //$NON-NLS-1$
-		MCC_5331_VARIETY_STORES 																(5331, RETAIL_STORES, TRBCIndustry.DISCOUNT_STORES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5331")),																 //$NON-NLS-1$
-		MCC_5399_MISCELLANEOUS_GENERAL_MERCHANDISE_STORES 										(5399, RETAIL_STORES, TRBCIndustry.DISCOUNT_STORES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5399")),																 //$NON-NLS-1$
-		MCC_5411_GROCERY_STORES_SUPERMARKETS 													(5411, RETAIL_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5411")),																 //$NON-NLS-1$
-		MCC_5422_FREEZER_AND_LOCKER_MEAT_PROVISIONERS 											(5422, RETAIL_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5422")),																 //$NON-NLS-1$
-		MCC_5441_CANDY_NUT_AND_CONFECTIONERY_STORES 											(5441, RETAIL_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5441")),																 //$NON-NLS-1$
-		MCC_5451_DAIRY_PRODUCTS_STORES															(5451, RETAIL_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5451")),																 //$NON-NLS-1$
-		MCC_5462_BAKERIES 																		(5462, RETAIL_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5462")),																 //$NON-NLS-1$
-		MCC_5499_MISCELLANEOUS_FOOD_STORES 														(5499, RETAIL_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5499")),																 //$NON-NLS-1$
-
-		MCC_5511_AUTOMOBILE_AND_TRUCK_DEALERS 													(5511, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5511")),																 //$NON-NLS-1$
-		MCC_5521_AUTOMOBILE_AND_TRUCK_DEALERS_USED_ONLY 										(5521, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5521")),																 //$NON-NLS-1$
-		MCC_5531_AUTO_STORE_HOME_SUPPLY_STORES 													(5531, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.HOME_FURNISHINGS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5531")),																 //$NON-NLS-1$
-		MCC_5532_AUTOMOTIVE_TIRE_STORES 														(5532, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5532")),																 //$NON-NLS-1$
-		MCC_5533_AUTOMOTIVE_PARTS_ACCESSORIES_STORES 											(5533, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5533")),																 //$NON-NLS-1$
-		MCC_5541_SERVICE_STATIONS 																(5541, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.OIL_AND_GAS_REFINING_AND_MARKETING, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5541")),																 //$NON-NLS-1$
-		MCC_5542_AUTOMATED_FUEL_DISPENSERS 														(5542, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.OIL_AND_GAS_REFINING_AND_MARKETING, TCC_R_CAT, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5542")),																 //$NON-NLS-1$
-		MCC_5551_BOAT_DEALERS 																	(5551, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.RECREATIONAL_PRODUCTS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5551")),																 //$NON-NLS-1$
-		MCC_5561_CAMP_DEALERS_RECREATIONAL_AND_UTILITY_TRAILERS 								(5561, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5561")),																 //$NON-NLS-1$
-		MCC_5571_MOTORCYCLE_SHOPS_AND_DEALERS 													(5571, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5571")),																 //$NON-NLS-1$
-		MCC_5592_MOTOR_HOME_DEALERS 															(5592, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5592")),																 //$NON-NLS-1$
-		MCC_5598_SNOWMOBILE_DEALERS 															(5598, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5598")),																 //$NON-NLS-1$
-		MCC_5599_MISCELLANEOUS_AUTOMOTIVE_AIRCRAFTS_AND_FARMS_EQUIPMENT_DEALERS 				(5599, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5599")), //$NON-NLS-1$
+		MCC_5013_MOTOR_VEHICLE_SUPPLIES_AND_NEW_PARTS 											(5013, WHOLESALE, TRBCIndustry.AUTO_TRUCK_AND_MOTORCYCLE_PARTS, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5013"),																 //$NON-NLS-1$
+		MCC_5021_OFFICE_AND_COMMERCIAL_FURNITURE 												(5021, WHOLESALE, TRBCIndustry.BUSINESS_SUPPORT_SUPPLIES, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5021"),																 //$NON-NLS-1$
+		MCC_5039_CONSTRUCTION_MATERIALS_NOT_ELSEWHERE_CLASSIFIED 								(5039, WHOLESALE, TRBCIndustry.CONSTRUCTION_MATERIALS, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5039"),																 //$NON-NLS-1$
+		MCC_5044_OFFICE_PHOTOGRAPHIC_PHOTOCOPY_AND_MICROFILM_EQUIPMENT 							(5044, WHOLESALE, TRBCIndustry.BUSINESS_SUPPORT_SUPPLIES, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5044"),																 //$NON-NLS-1$
+		MCC_5045_COMPUTERS_COMPUTER_PERIPHERAL_EQUIPMENT_SOFTWARE 								(5045, WHOLESALE, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5045"),																 //$NON-NLS-1$
+		MCC_5046_COMMERCIAL_EQUIPMENT_NOT_ELSEWHERE_CLASSIFIED 									(5046, WHOLESALE, TRBCIndustry.BUSINESS_SUPPORT_SUPPLIES, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5046"),																 //$NON-NLS-1$
+		MCC_5047_MEDICAL_DENTAL_LABOTORY_OPHTALMIC_AND_HOSPITAL_EQUIPMENT_AND_SUPPLIES 			(5047, WHOLESALE, TRBCIndustry.MEDICAL_EQUIPMENT_SUPPLIES_AND_DISTRIBUTION, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5047"),																 //$NON-NLS-1$
+		MCC_5051_METAL_SERVICE_CENTERS_AND_OFFICES 												(5051, WHOLESALE, TRBCIndustry.STEEL, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5051"),																 //$NON-NLS-1$
+		MCC_5065_ELECTRICAL_PARTS_AND_EQUIPMENT 												(5065, WHOLESALE, TRBCIndustry.ELECTRICAL_COMPONENTS_AND_EQUIPMENT, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5065"),																 //$NON-NLS-1$
+		MCC_5072_HARDWARE_EQUIPMENT_AND_SUPPLIES 												(5072, WHOLESALE, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5072"),																 //$NON-NLS-1$
+		MCC_5074_PLUMBING_AND_HEATING_EQUIPMENT_AND_SUPPLIES 									(5074, WHOLESALE, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5074"),																 //$NON-NLS-1$
+		MCC_5085_INDUSTRIAL_SUPPLIES_NOT_ELSEWHERE_CLASSIFIED 									(5085, WHOLESALE, TRBCIndustry.INDUSTRIAL_MACHINERY_AND_EQUIPMENT, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5085"),																 //$NON-NLS-1$
+		MCC_5094_PRECIOUS_STONES_AND_METALS_WATCHES_AND_JEWELRY									(5094, WHOLESALE, TRBCIndustry.APPAREL_AND_ACCESSORIES, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5094"),																 //$NON-NLS-1$
+		MCC_5099_DURABLE_GOODS_NOT_ELSEWHERE_CLASSIFIED 										(5099, WHOLESALE, TRBCIndustry.DIVERSIFIED_TRADING_AND_DISTRIBUTING, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5099"),																 //$NON-NLS-1$
+		MCC_5111_STATIONERY_OFFICE_SUPPLIES_PRINTING_AND_WRITING_PAPER 							(5111, WHOLESALE, TRBCIndustry.BUSINESS_SUPPORT_SUPPLIES, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5111"),																 //$NON-NLS-1$
+		MCC_5122_DRUGS_DRUG_PROPRIETORS_AND_DRUGGIST_SUNDRIES 									(5122, WHOLESALE, TRBCIndustry.DRUG_RETAILERS, TCC_T_OTH, MCG_6_RSK, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5122"),																 //$NON-NLS-1$
+		MCC_5131_PIECE_GOODS_NOTIONS_AND_OTHER_DRY_GOODS 										(5131, WHOLESALE, TRBCIndustry.PERSONAL_PRODUCTS, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5131"),																 //$NON-NLS-1$
+		MCC_5137_MEN_WOMEN_CHILDREN_UNIFORMS_AND_COMMERCIAL_CLOTHING 							(5137, WHOLESALE, TRBCIndustry.APPAREL_AND_ACCESSORIES, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5137"),																 //$NON-NLS-1$
+		MCC_5139_COMMERCIAL_FOOTWEAR 															(5139, WHOLESALE, TRBCIndustry.APPAREL_AND_ACCESSORIES, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5139"),																 //$NON-NLS-1$
+		MCC_5169_CHEMICAL_AND_ALLIED_PRODUCTS_NOT_ELSEWHERE_CLASSIFIED 							(5169, WHOLESALE, TRBCIndustry.COMMODITY_CHEMICALS, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5169"),																 //$NON-NLS-1$
+		MCC_5172_PETROLEUM_AND_PETROLEUM_PRODUCTS 												(5172, WHOLESALE, TRBCIndustry.OIL_AND_GAS_REFINING_AND_MARKETING, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5172"),																 //$NON-NLS-1$
+		MCC_5192_BOOKS_PERIODICALS_AND_NEWSPAPERS 												(5192, WHOLESALE, TRBCIndustry.CONSUMER_PUBLISHING, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5192"),																 //$NON-NLS-1$
+		MCC_5193_FLORISTS_SUPPLIES_NURSERY_STOCK_AND_FLOWERS 									(5193, WHOLESALE, TRBCIndustry.FISHING_AND_FARMING, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5193"),																 //$NON-NLS-1$
+		MCC_5198_PAINTS_VARNISHES_AND_SUPPLIES 													(5198, WHOLESALE, TRBCIndustry.HOME_IMPROVEMENT_PRODUCTS_AND_SERVICES_RETAILERS, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5198"),																 //$NON-NLS-1$
+		MCC_5199_NON_DURABLE_GOODS_NOT_ELSEWHERE_CLASSIFIED 									(5199, WHOLESALE, TRBCIndustry.DIVERSIFIED_TRADING_AND_DISTRIBUTING, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5199"),																 //$NON-NLS-1$
+
+		MCC_5200_HOME_SUPPLY_WAREHOUSE_STORES 													(5200, RETAIL_STORES, TRBCIndustry.HOME_FURNISHINGS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5200"),																 //$NON-NLS-1$
+		MCC_5211_BUILDING_MATERIALS_LUMBER_STORES 												(5211, RETAIL_STORES, TRBCIndustry.CONSTRUCTION_SUPPLIES_AND_FIXTURES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5211"),																 //$NON-NLS-1$
+		MCC_5231_GLASS_PAINT_AND_WALLPAPER_STORES 												(5231, RETAIL_STORES, TRBCIndustry.HOME_IMPROVEMENT_PRODUCTS_AND_SERVICES_RETAILERS  , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5231"),																 //$NON-NLS-1$
+		MCC_5251_HARDWARE_STORES 																(5251, RETAIL_STORES, TRBCIndustry.APPLIANCES_TOOLS_AND_HOUSEWARES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5251"),																 //$NON-NLS-1$
+		MCC_5261_NURSERIES_LAWN_AND_GARDEN_SUPPLY_STORE 										(5261, RETAIL_STORES, TRBCIndustry.HOME_IMPROVEMENT_PRODUCTS_AND_SERVICES_RETAILERS , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5261"),																 //$NON-NLS-1$
+		MCC_5271_MOBILE_HOME_DEALERS 															(5271, RETAIL_STORES, TRBCIndustry.HOMEBUILDING, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5271"),																 //$NON-NLS-1$
+		MCC_5300_WHOLESALE_CLUBS 																(5300, RETAIL_STORES, TRBCIndustry.DISCOUNT_STORES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5300"),																 //$NON-NLS-1$
+		MCC_5309_DUTY_FREE_STORES 																(5309, RETAIL_STORES, TRBCIndustry.DISCOUNT_STORES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5309"),	// In-Flight Commerce transaction															 //$NON-NLS-1$
+		MCC_5310_DISCOUNT_STORES 																(5310, RETAIL_STORES, TRBCIndustry.DISCOUNT_STORES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5310"),																 //$NON-NLS-1$
+		MCC_5311_DEPARTMENT_STORES 																(5311, RETAIL_STORES, TRBCIndustry.DEPARTMENT_STORES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5311"),																 //$NON-NLS-1$
+		MCC_5331_VARIETY_STORES 																(5331, RETAIL_STORES, TRBCIndustry.DISCOUNT_STORES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5331"),																 //$NON-NLS-1$
+		MCC_5399_MISCELLANEOUS_GENERAL_MERCHANDISE_STORES 										(5399, RETAIL_STORES, TRBCIndustry.DISCOUNT_STORES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5399"),																 //$NON-NLS-1$
+		MCC_5411_GROCERY_STORES_SUPERMARKETS 													(5411, RETAIL_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5411"),																 //$NON-NLS-1$
+		MCC_5422_FREEZER_AND_LOCKER_MEAT_PROVISIONERS 											(5422, RETAIL_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5422"),																 //$NON-NLS-1$
+		MCC_5441_CANDY_NUT_AND_CONFECTIONERY_STORES 											(5441, RETAIL_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5441"),																 //$NON-NLS-1$
+		MCC_5451_DAIRY_PRODUCTS_STORES															(5451, RETAIL_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5451"),																 //$NON-NLS-1$
+		MCC_5462_BAKERIES 																		(5462, RETAIL_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5462"),																 //$NON-NLS-1$
+		MCC_5499_MISCELLANEOUS_FOOD_STORES 														(5499, RETAIL_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5499"),																 //$NON-NLS-1$
+
+		MCC_5511_AUTOMOBILE_AND_TRUCK_DEALERS 													(5511, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5511"),																 //$NON-NLS-1$
+		MCC_5521_AUTOMOBILE_AND_TRUCK_DEALERS_USED_ONLY 										(5521, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5521"),																 //$NON-NLS-1$
+		MCC_5531_AUTO_STORE_HOME_SUPPLY_STORES 													(5531, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.HOME_FURNISHINGS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5531"),																 //$NON-NLS-1$
+		MCC_5532_AUTOMOTIVE_TIRE_STORES 														(5532, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5532"),																 //$NON-NLS-1$
+		MCC_5533_AUTOMOTIVE_PARTS_ACCESSORIES_STORES 											(5533, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5533"),																 //$NON-NLS-1$
+		MCC_5541_SERVICE_STATIONS 																(5541, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.OIL_AND_GAS_REFINING_AND_MARKETING, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5541"),																 //$NON-NLS-1$
+		MCC_5542_AUTOMATED_FUEL_DISPENSERS 														(5542, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.OIL_AND_GAS_REFINING_AND_MARKETING, TCC_R_CAT, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5542"),																 //$NON-NLS-1$
+		MCC_5551_BOAT_DEALERS 																	(5551, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.RECREATIONAL_PRODUCTS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5551"),																 //$NON-NLS-1$
+		MCC_5561_CAMP_DEALERS_RECREATIONAL_AND_UTILITY_TRAILERS 								(5561, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5561"),																 //$NON-NLS-1$
+		MCC_5571_MOTORCYCLE_SHOPS_AND_DEALERS 													(5571, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5571"),																 //$NON-NLS-1$
+		MCC_5592_MOTOR_HOME_DEALERS 															(5592, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5592"),																 //$NON-NLS-1$
+		MCC_5598_SNOWMOBILE_DEALERS 															(5598, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5598"),																 //$NON-NLS-1$
+		MCC_5599_MISCELLANEOUS_AUTOMOTIVE_AIRCRAFTS_AND_FARMS_EQUIPMENT_DEALERS 				(5599, AUTOMOBILES_AND_VEHICLES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5599"), //$NON-NLS-1$
 		
 		// ---------------
 		// Clothing Stores
 		// ---------------
 			
-		MCC_5611_MEN_AND_BOY_CLOTHING_AND_ACCESSORIES_STORES 									(5611, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5611")),																 //$NON-NLS-1$
-		MCC_5621_WOMEN_READY_TO_WEAR_STORES 													(5621, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5621")),																 //$NON-NLS-1$
-		MCC_5631_WOMEN_ACCESSORY_AND_SPECIALTY_STORES 											(5631, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5631")),																 //$NON-NLS-1$
-		MCC_5641_CHILDREN_AND_INFANTS_WEAR_STORES 												(5641, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5641")),																 //$NON-NLS-1$
-		MCC_5651_FAMILY_CLOTHING_STORES 														(5651, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5651")),																 //$NON-NLS-1$
-		MCC_5655_SPORTS_APPAREL_RIDING_APPAREL_STORES 											(5655, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS  , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5655")),																 //$NON-NLS-1$
-		MCC_5661_SHOE_STORES 																	(5661, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5661")),																 //$NON-NLS-1$
-		MCC_5681_FURRIERS_AND_FUR_SHOPS 														(5681, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5681")),																 //$NON-NLS-1$
-		MCC_5691_MEN_AND_WOMEN_CLOTHING_STORES 													(5691, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5691")),																 //$NON-NLS-1$
-		MCC_5697_ALTERATIONS_MENDING_SEAMSTRESSES_TAILORS 										(5697, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5697")),																 //$NON-NLS-1$
-		MCC_5698_WIG_AND_TOUPEE_STORES 															(5698, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5698")),																 //$NON-NLS-1$
-		MCC_5699_MISCELLANEOUS_APPAREL_AND_ACCESSORY_STORES 									(5699, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5699")), //$NON-NLS-1$
+		MCC_5611_MEN_AND_BOY_CLOTHING_AND_ACCESSORIES_STORES 									(5611, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5611"),																 //$NON-NLS-1$
+		MCC_5621_WOMEN_READY_TO_WEAR_STORES 													(5621, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5621"),																 //$NON-NLS-1$
+		MCC_5631_WOMEN_ACCESSORY_AND_SPECIALTY_STORES 											(5631, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5631"),																 //$NON-NLS-1$
+		MCC_5641_CHILDREN_AND_INFANTS_WEAR_STORES 												(5641, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5641"),																 //$NON-NLS-1$
+		MCC_5651_FAMILY_CLOTHING_STORES 														(5651, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5651"),																 //$NON-NLS-1$
+		MCC_5655_SPORTS_APPAREL_RIDING_APPAREL_STORES 											(5655, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS  , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5655"),																 //$NON-NLS-1$
+		MCC_5661_SHOE_STORES 																	(5661, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5661"),																 //$NON-NLS-1$
+		MCC_5681_FURRIERS_AND_FUR_SHOPS 														(5681, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5681"),																 //$NON-NLS-1$
+		MCC_5691_MEN_AND_WOMEN_CLOTHING_STORES 													(5691, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5691"),																 //$NON-NLS-1$
+		MCC_5697_ALTERATIONS_MENDING_SEAMSTRESSES_TAILORS 										(5697, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5697"),																 //$NON-NLS-1$
+		MCC_5698_WIG_AND_TOUPEE_STORES 															(5698, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5698"),																 //$NON-NLS-1$
+		MCC_5699_MISCELLANEOUS_APPAREL_AND_ACCESSORY_STORES 									(5699, CLOTHING_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5699"), //$NON-NLS-1$
 		
 		// --------------------
 		// Miscellaneous Stores
 		// --------------------
 		
-		MCC_5712_EQUIMENT_FURNITURE_AND_HOME_FURNISHINGS_STORES_EXCEPT_APPLIANCES 				(5712, MISCELLANEOUS_STORES, TRBCIndustry.HOME_FURNISHINGS_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5712")),																 //$NON-NLS-1$
-		MCC_5713_FLOOR_COVERING_STORES 															(5713, MISCELLANEOUS_STORES, TRBCIndustry.HOME_FURNISHINGS_RETAILERS , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5713")),																 //$NON-NLS-1$
-		MCC_5714_DRAPERY_WINDOW_COVERING_AND_UPHOLSTERY_STORES 									(5714, MISCELLANEOUS_STORES, TRBCIndustry.HOME_IMPROVEMENT_PRODUCTS_AND_SERVICES_RETAILERS , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5714")),																 //$NON-NLS-1$
-		MCC_5718_FIREPLACE_FIREPLACE_SCREENS_AND_ACCESSORIES_STORES 							(5718, MISCELLANEOUS_STORES, TRBCIndustry.HOME_IMPROVEMENT_PRODUCTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5718")),																 //$NON-NLS-1$
-		MCC_5719_MISCELLANEOUS_HOUSE_FURNISHING_SPECIALTY_SHOPS 								(5719, MISCELLANEOUS_STORES, TRBCIndustry.HOME_FURNISHINGS_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5719")),																 //$NON-NLS-1$
-		MCC_5722_HOUSEHOLD_APPLIANCE_STORES 													(5722, MISCELLANEOUS_STORES, TRBCIndustry.APPLIANCES_TOOLS_AND_HOUSEWARES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5722")),																 //$NON-NLS-1$
-		MCC_5732_ELECTRONIC_SALES 																(5732, MISCELLANEOUS_STORES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5732")),																 //$NON-NLS-1$
-		MCC_5733_MUSIC_STORES 																	(5733, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5733")),																 //$NON-NLS-1$
-		MCC_5734_COMPUTER_SOFTWARE_STORES 														(5734, MISCELLANEOUS_STORES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5734")),																 //$NON-NLS-1$
-		MCC_5735_RECORD_SHOPS 																	(5735, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5735")),																 //$NON-NLS-1$
-
-		MCC_5811_CATERERS																		(5811, SERVICE_PROVIDERS, TRBCIndustry.FOOD_PROCESSING, TCC_F_RES, MCG_4_RES, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5811")),																 //$NON-NLS-1$
-
-		MCC_5812_EATING_PLACES_AND_RESTAURANTS 													(5812, MISCELLANEOUS_STORES, TRBCIndustry.RESTAURANTS_AND_BARS, TCC_F_RES, MCG_4_RES, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5812")),																 //$NON-NLS-1$
-		MCC_5813_DRINKING_PLACES_ALCOHOLIC_BEVERAGES 											(5813, MISCELLANEOUS_STORES, TRBCIndustry.RESTAURANTS_AND_BARS, TCC_F_RES, MCG_4_RES, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5813")),																 //$NON-NLS-1$
-		MCC_5814_FAST_FOOD_RESTAURANTS 															(5814, MISCELLANEOUS_STORES, TRBCIndustry.RESTAURANTS_AND_BARS, TCC_F_RES, MCG_4_RES, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5814")),																 //$NON-NLS-1$
-		
-		MCC_5815_DIGITAL_GOODS_MEDIA_BOOKS_MOVIES_MUSIC 										(5815, MISCELLANEOUS_STORES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, null, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5815")), // Not recognised by MC															 //$NON-NLS-1$
-		MCC_5816_DIGITAL_GOODS_GAMES_EXCEPT_GAMBLING 											(5816, MISCELLANEOUS_STORES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, null, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5816")), // Not recognised by MC				 //$NON-NLS-1$
-		MCC_5817_DIGITAL_GOODS_APPLICATION_EXCEPT_GAMES											(5817, MISCELLANEOUS_STORES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, null, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5817")), // Not recognised by MC											 //$NON-NLS-1$
-		MCC_5818_DIGITAL_GOODS_LARGE_DIGITAL_GOODS_MERCHANT										(5818, MISCELLANEOUS_STORES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, null, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5818")), // Not recognised by MC											 //$NON-NLS-1$
-		
-		MCC_5912_DRUG_STORES_PHARMACIES 														(5912, MISCELLANEOUS_STORES, TRBCIndustry.DRUG_RETAILERS, TCC_R_OTH, MCG_6_RSK, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5912")),																 //$NON-NLS-1$
-		MCC_5921_PACKAGE_STORES_BEER_WINE_AND_LIQUOR 											(5921, MISCELLANEOUS_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5921")),																 //$NON-NLS-1$
-		MCC_5931_USED_MERCHANDISE_AND_SECONDHAND_STORES 										(5931, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5931")),																 //$NON-NLS-1$
-		MCC_5932_ANTIQUE_SHOPS 																	(5932, MISCELLANEOUS_STORES, TRBCIndustry.HOME_FURNISHINGS_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5932")),																 //$NON-NLS-1$
-		MCC_5933_PAWN_SHOPS 																	(5933, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5933")),																 //$NON-NLS-1$
-		MCC_5935_WRECKLING_AND_SALVAGE_YARDS 													(5935, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5935")),																 //$NON-NLS-1$
-		MCC_5937_ANTIQUE_REPRODUCTIONS_STORES 													(5937, MISCELLANEOUS_STORES, TRBCIndustry.HOME_FURNISHINGS_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5937")),																 //$NON-NLS-1$
-		MCC_5940_BICYCLE_SHOPS 																	(5940, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5940")),																 //$NON-NLS-1$
-		MCC_5941_SPORTING_GOODS_STORES 															(5941, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5941")),																 //$NON-NLS-1$
-		MCC_5942_BOOK_STORES 																	(5942, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5942")),																 //$NON-NLS-1$
-		MCC_5943_OFFICE_SCHOOL_SUPPLY_AND_STATIONERY_STORES 									(5943, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5943")),																 //$NON-NLS-1$
-		MCC_5944_CLOCK_JEWELRY_WATCH_AND_SILVERWARE_STORES 										(5944, MISCELLANEOUS_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5944")),																 //$NON-NLS-1$
-		MCC_5945_GAME_TOY_AND_HOBBY_SHOPS														(5945, MISCELLANEOUS_STORES, TRBCIndustry.TOYS_AND_JUVENILE_PRODUCTS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5945")),																 //$NON-NLS-1$
-		MCC_5946_CAMERA_AND_PHOTOGRAPHIC_SUPPLY_STORES 											(5946, MISCELLANEOUS_STORES, TRBCIndustry.HOUSEHOLD_ELECTRONICS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5946")),																 //$NON-NLS-1$
-		MCC_5947_CARD_GIFT_NOVELTY_AND_SOUVENIR_SHOPS 											(5947, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5947")),																 //$NON-NLS-1$
-		MCC_5948_LEATHER_GOODS_AND_LUGGAGE_STORES 												(5948, MISCELLANEOUS_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5948")),																 //$NON-NLS-1$
-		MCC_5949_FABRIC_NEEDLEWORK_PIECE_GOODS_AND_SEWING_STORES 								(5949, MISCELLANEOUS_STORES, TRBCIndustry.PERSONAL_PRODUCTS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5949")),																 //$NON-NLS-1$
-		MCC_5950_GLASSWARE_CRYSTAL_STORES 														(5950, MISCELLANEOUS_STORES, TRBCIndustry.HOME_FURNISHINGS_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5950")),																 //$NON-NLS-1$
-		
-		MCC_5960_DIRECT_MARKETING_INSURANCE_SERVICES 											(5960, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_5_MEC, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5960")),																 //$NON-NLS-1$
-		MCC_5962_DIRECT_MARKETING_TRAVEL_RELATED_ARRANGEMENT_SERVICES 							(5962, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_6_RSK, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5962")),																 //$NON-NLS-1$
-		
-		MCC_5963_DOOR_TO_DOOR_SALES 															(5963, MISCELLANEOUS_STORES, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5963")),																 //$NON-NLS-1$
-		
-		MCC_5964_DIRECT_MARKETING_CATALOG_MERCHANTS 											(5964, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_5_MEC, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5964")),																 //$NON-NLS-1$
-		MCC_5965_DIRECT_MARKETING_COMBINATION_CATALOG_AND_RETAIL_MERCHANTS 						(5965, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_5_MEC, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5965")),																 //$NON-NLS-1$
-		MCC_5966_DIRECT_MARKETING_OUTBOUND_TELEMARKETING_MERCHANTS 								(5966, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_6_RSK, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5966")),																 //$NON-NLS-1$
-		MCC_5967_DIRECT_MARKETING_INBOUND_TELEMARKETING_MERCHANTS 								(5967, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_6_RSK, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5967")),																 //$NON-NLS-1$
-		MCC_5968_DIRECT_MARKETING_CONTINUITY_SUBSCRIPTION_MERCHANTS 							(5968, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_5_MEC, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5968")),																 //$NON-NLS-1$
-		MCC_5969_DIRECT_MARKETING_OTHER_DIRECT_MARKETERS_NOT_ELSEWHERE_CLASSIFIED 				(5969, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_5_MEC, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5969")),																 //$NON-NLS-1$
-		
-		MCC_5970_ARTIST_SUPPLY_AND_CRAFT_SHOPS 													(5970, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5970")),																 //$NON-NLS-1$
-		MCC_5971_ART_DEALERS_AND_GALLERIES 														(5971, MISCELLANEOUS_STORES, TRBCIndustry.HOME_FURNISHINGS_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5971")),																 //$NON-NLS-1$
-		MCC_5972_STAMP_AND_COIN_STORES 															(5972, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5972")),																 //$NON-NLS-1$
-		MCC_5973_RELIGIOUS_GOODS_STORES 														(5973, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5973")),																 //$NON-NLS-1$
-		MCC_5975_HEARING_AIDS_SALES_SERVICE_AND_SUPPLY_STORES 									(5975, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5975")),																 //$NON-NLS-1$
-		MCC_5976_ORTHOPEDIC_GOODS_ARTIFICIAL_LIMB_STORES 										(5976, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5976")),																 //$NON-NLS-1$
-		MCC_5977_COSMETIC_STORES 																(5977, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5977")),																 //$NON-NLS-1$
-		MCC_5978_TYPE_WRITER_STORES 															(5978, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5978")),																 //$NON-NLS-1$
-		MCC_5983_FUEL_DEALERS 																	(5983, MISCELLANEOUS_STORES, TRBCIndustry.OIL_AND_GAS_REFINING_AND_MARKETING, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5983")), //$NON-NLS-1$
-		MCC_5992_FLORISTS 																		(5992, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5992")),																 //$NON-NLS-1$
-		MCC_5993_CIGAR_STORES_AND_STANDS 														(5993, MISCELLANEOUS_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5993")),																 //$NON-NLS-1$
-		MCC_5994_NEWS_DEALERS_AND_NEWSSTANDS 													(5994, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5994")),																 //$NON-NLS-1$
-		MCC_5995_PET_SHOPS 																		(5995, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5995")),																 //$NON-NLS-1$
-		MCC_5996_SWIMMING_POOLS_SALES_SERVICE_AND_SUPPLIES 										(5996, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5996")),																 //$NON-NLS-1$
-		MCC_5997_ELECTRIC_RAZOR_STORES_SALES_AND_SERVICES 										(5997, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5997")),																 //$NON-NLS-1$
-		MCC_5998_TENT_AND_AWNING_SHOPS 															(5998, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5998")),																 //$NON-NLS-1$
-		MCC_5999_MISCELLANEOUS_AND_SPECIALTY_RETAIL_STORES 										(5999, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5999")),																 //$NON-NLS-1$
-		
-		MCC_6010_MEMBER_FINANCIAL_INSTITUTIONS_MANUAL_CASH 										(6010, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_C_CSH, MCG_8_CSH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6010")),																 //$NON-NLS-1$
-		MCC_6011_MEMBER_FINANCIAL_INSTITUTIONS_AUTOMATED_CASH 									(6011, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_Z_ATM, MCG_9_ATM, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6011")),																 //$NON-NLS-1$
-		MCC_6012_MEMBER_FINANCIAL_INSTITUTIONS_MERCHANDISE_AND_SERVICES 						(6012, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6012")),																 //$NON-NLS-1$
-		MCC_6050_QUASI_CASH_MEMBER_FINANCIAL_INSTITUTION 										(6050, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_U_QEC, MCG_10_QUA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6050")),																 //$NON-NLS-1$
-		MCC_6051_QUASI_CASH_MERCHANT 															(6051, SERVICE_PROVIDERS, TRBCIndustry.CASINOS_AND_GAMING, TCC_U_QEC, MCG_10_QUA, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6051")),																 //$NON-NLS-1$
-		MCC_6211_SECURITIES_BROKERS_DEALERS 													(6211, SERVICE_PROVIDERS, TRBCIndustry.INVESTMENT_BANKING_AND_BROKERAGE_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6211")),																 //$NON-NLS-1$
-		MCC_6300_INSURANCE_SALES_UNDERWRITING_AND_PREMIUMS 										(6300, SERVICE_PROVIDERS, TRBCIndustry.MULTILINE_INSURANCE_AND_BROKERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6300")), //$NON-NLS-1$
-		MCC_6513_REAL_ESTATE_AGENTS_AND_MANAGERS_RENTALS 										(6513, SERVICE_PROVIDERS, TRBCIndustry.REAL_ESTATE_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6513")), //$NON-NLS-1$
-		MCC_6529_REMOTE_STORED_VALUE_LOAD_MEMBER_FINANCIAL_INSTITUTION 							(6529, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_U_QEC, null, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6529")), // Not recognised by Visa //$NON-NLS-1$
-		MCC_6530_REMOTE_STORED_VALUE_LOAD_MERCHANT 												(6530, SERVICE_PROVIDERS, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_U_QEC, null, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6530")), // Not recognised by Visa //$NON-NLS-1$
-		MCC_6531_PAYMENT_SERVICE_PROVIDER_MONEY_TRANSFER_FOR_A_PURCHASE 						(6531,  SERVICE_PROVIDERS, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_T_OTH, null, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6531")), // Not recognised by Visa																 //$NON-NLS-1$
-		MCC_6532_PAYMENT_SERVICE_PROIDER_MEMBER_FINANCIAL_INSTITUTION_PAYMENT_TRANSACTION 		(6532, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_P_TRX, null, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6532")), // Not recognised by Visa																 //$NON-NLS-1$
-		MCC_6533_PAYMENT_SERVICE_PROVIDER_MERCHANT_PAYMENT_TRANSACTION 							(6533, SERVICE_PROVIDERS, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_P_TRX, null, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6533")), // Not recognised by Visa //$NON-NLS-1$
-		MCC_6534_MONEY_TRANSFER_MEMBER_FINANCIAL_INSTITUTION 									(6534, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_U_QEC, null, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6534")), // Not recognised by Visa				 //$NON-NLS-1$
-		MCC_6535_VALUE_PURCHASE_MEMBER_FINANCIAL_INSTITUTION 									(6535, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_T_OTH, null, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6535")), // Not recognised by Visa				 //$NON-NLS-1$
-		
-		MCC_7011_LODGING_HOTELS_MOTELS_RESORTS_NOT_ELSEWHERE_CLASSIFIED 						(7011, HOTELS_MOTELS, TRBCIndustry.HOTELS_MOTELS_AND_CRUISE_LINES, TCC_H_HOT, MCG_2_HOT, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7011")),																 //$NON-NLS-1$
-
-		MCC_7012_TIMESHARES 																	(7012, SERVICE_PROVIDERS, TRBCIndustry.HOTELS_MOTELS_AND_CRUISE_LINES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7012")),																 //$NON-NLS-1$
-		MCC_7032_SPORTING_AND_RECREATIONAL_CAMPS 												(7032, SERVICE_PROVIDERS, TRBCIndustry.HOTELS_MOTELS_AND_CRUISE_LINES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7032")),																 //$NON-NLS-1$
-		MCC_7033_TRAILER_PARKS_AND_CAMP_GROUNDS 												(7033, SERVICE_PROVIDERS, TRBCIndustry.HOTELS_MOTELS_AND_CRUISE_LINES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7033")), //$NON-NLS-1$
-		
-		MCC_7210_LAUNDRY_CLEANSING_AND_ARMENT_SERVICES 											(7210, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7210")),																 //$NON-NLS-1$
-		MCC_7211_LAUNDRY_FAMILY_AND_COMMERCIAL 													(7211, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7211")),																 //$NON-NLS-1$
-		MCC_7216_DRY_CLEANERS 																	(7216, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7216")),																 //$NON-NLS-1$
-		MCC_7217_CARPET_AND_UPHOLSTERY_CLEANING 												(7217, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7217")),																 //$NON-NLS-1$
-		MCC_7221_PHOTOGRAPHIC_STUDIOS 															(7221, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7221")),																 //$NON-NLS-1$
-		MCC_7230_BARBER_AND_BEAUTY_SHOPS 														(7230, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7230")),																 //$NON-NLS-1$
-		MCC_7251_SHOE_REPAIR_SHOPS_AND_SHOE_SHINE_PARLORS_AND_HAT_CLEANING_SHOPS 				(7251, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7251")),																 //$NON-NLS-1$
-		MCC_7261_FUNERAL_SERVICE_AND_CREMATORIES 												(7261, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7261")),																 //$NON-NLS-1$
-		MCC_7273_DATING_AND_ESCORT_SERVICES 													(7273, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7273")),																 //$NON-NLS-1$
-		MCC_7276_TAX_PREPARATION_SERVICE 														(7276, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7276")),																 //$NON-NLS-1$
-		MCC_7277_DEBT_MARRIAGE_PERSONAL_COUNSELING_SERVICE 										(7277, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7277")),																 //$NON-NLS-1$
-		MCC_7278_BUYING_SHOPPING_CLUBS_SERVICES 												(7278, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7278")),																 //$NON-NLS-1$
-		MCC_7296_CLOTHING_RENTAL_COSTUME_FORMAL_WEAR_UNIFORMS 									(7296, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7296")),																 //$NON-NLS-1$
-		MCC_7297_MASSAGE_PARLORS 																(7297, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7297")),																 //$NON-NLS-1$
-		MCC_7298_HEALTH_AND_BEAUTY_SPAS 														(7298, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7298")),																 //$NON-NLS-1$
-		MCC_7299_MISCELLANEOUS_PERSONAL_SERVICES_NOT_ELSEWHERE_CLASSIFIED 						(7299, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_6_RSK, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7299")), // IFC Transaction //$NON-NLS-1$
+		MCC_5712_EQUIMENT_FURNITURE_AND_HOME_FURNISHINGS_STORES_EXCEPT_APPLIANCES 				(5712, MISCELLANEOUS_STORES, TRBCIndustry.HOME_FURNISHINGS_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5712"),																 //$NON-NLS-1$
+		MCC_5713_FLOOR_COVERING_STORES 															(5713, MISCELLANEOUS_STORES, TRBCIndustry.HOME_FURNISHINGS_RETAILERS , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5713"),																 //$NON-NLS-1$
+		MCC_5714_DRAPERY_WINDOW_COVERING_AND_UPHOLSTERY_STORES 									(5714, MISCELLANEOUS_STORES, TRBCIndustry.HOME_IMPROVEMENT_PRODUCTS_AND_SERVICES_RETAILERS , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5714"),																 //$NON-NLS-1$
+		MCC_5718_FIREPLACE_FIREPLACE_SCREENS_AND_ACCESSORIES_STORES 							(5718, MISCELLANEOUS_STORES, TRBCIndustry.HOME_IMPROVEMENT_PRODUCTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5718"),																 //$NON-NLS-1$
+		MCC_5719_MISCELLANEOUS_HOUSE_FURNISHING_SPECIALTY_SHOPS 								(5719, MISCELLANEOUS_STORES, TRBCIndustry.HOME_FURNISHINGS_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5719"),																 //$NON-NLS-1$
+		MCC_5722_HOUSEHOLD_APPLIANCE_STORES 													(5722, MISCELLANEOUS_STORES, TRBCIndustry.APPLIANCES_TOOLS_AND_HOUSEWARES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5722"),																 //$NON-NLS-1$
+		MCC_5732_ELECTRONIC_SALES 																(5732, MISCELLANEOUS_STORES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5732"),																 //$NON-NLS-1$
+		MCC_5733_MUSIC_STORES 																	(5733, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5733"),																 //$NON-NLS-1$
+		MCC_5734_COMPUTER_SOFTWARE_STORES 														(5734, MISCELLANEOUS_STORES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5734"),																 //$NON-NLS-1$
+		MCC_5735_RECORD_SHOPS 																	(5735, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5735"),																 //$NON-NLS-1$
+
+		MCC_5811_CATERERS																		(5811, SERVICE_PROVIDERS, TRBCIndustry.FOOD_PROCESSING, TCC_F_RES, MCG_4_RES, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5811"),																 //$NON-NLS-1$
+
+		MCC_5812_EATING_PLACES_AND_RESTAURANTS 													(5812, MISCELLANEOUS_STORES, TRBCIndustry.RESTAURANTS_AND_BARS, TCC_F_RES, MCG_4_RES, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5812"),																 //$NON-NLS-1$
+		MCC_5813_DRINKING_PLACES_ALCOHOLIC_BEVERAGES 											(5813, MISCELLANEOUS_STORES, TRBCIndustry.RESTAURANTS_AND_BARS, TCC_F_RES, MCG_4_RES, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5813"),																 //$NON-NLS-1$
+		MCC_5814_FAST_FOOD_RESTAURANTS 															(5814, MISCELLANEOUS_STORES, TRBCIndustry.RESTAURANTS_AND_BARS, TCC_F_RES, MCG_4_RES, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5814"),																 //$NON-NLS-1$
+		
+		MCC_5815_DIGITAL_GOODS_MEDIA_BOOKS_MOVIES_MUSIC 										(5815, MISCELLANEOUS_STORES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, null, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5815"), // Not recognised by MC															 //$NON-NLS-1$
+		MCC_5816_DIGITAL_GOODS_GAMES_EXCEPT_GAMBLING 											(5816, MISCELLANEOUS_STORES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, null, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5816"), // Not recognised by MC				 //$NON-NLS-1$
+		MCC_5817_DIGITAL_GOODS_APPLICATION_EXCEPT_GAMES											(5817, MISCELLANEOUS_STORES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, null, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5817"), // Not recognised by MC											 //$NON-NLS-1$
+		MCC_5818_DIGITAL_GOODS_LARGE_DIGITAL_GOODS_MERCHANT										(5818, MISCELLANEOUS_STORES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, null, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5818"), // Not recognised by MC											 //$NON-NLS-1$
+		
+		MCC_5912_DRUG_STORES_PHARMACIES 														(5912, MISCELLANEOUS_STORES, TRBCIndustry.DRUG_RETAILERS, TCC_R_OTH, MCG_6_RSK, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5912"),																 //$NON-NLS-1$
+		MCC_5921_PACKAGE_STORES_BEER_WINE_AND_LIQUOR 											(5921, MISCELLANEOUS_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5921"),																 //$NON-NLS-1$
+		MCC_5931_USED_MERCHANDISE_AND_SECONDHAND_STORES 										(5931, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5931"),																 //$NON-NLS-1$
+		MCC_5932_ANTIQUE_SHOPS 																	(5932, MISCELLANEOUS_STORES, TRBCIndustry.HOME_FURNISHINGS_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5932"),																 //$NON-NLS-1$
+		MCC_5933_PAWN_SHOPS 																	(5933, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5933"),																 //$NON-NLS-1$
+		MCC_5935_WRECKLING_AND_SALVAGE_YARDS 													(5935, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5935"),																 //$NON-NLS-1$
+		MCC_5937_ANTIQUE_REPRODUCTIONS_STORES 													(5937, MISCELLANEOUS_STORES, TRBCIndustry.HOME_FURNISHINGS_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5937"),																 //$NON-NLS-1$
+		MCC_5940_BICYCLE_SHOPS 																	(5940, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5940"),																 //$NON-NLS-1$
+		MCC_5941_SPORTING_GOODS_STORES 															(5941, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5941"),																 //$NON-NLS-1$
+		MCC_5942_BOOK_STORES 																	(5942, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5942"),																 //$NON-NLS-1$
+		MCC_5943_OFFICE_SCHOOL_SUPPLY_AND_STATIONERY_STORES 									(5943, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5943"),																 //$NON-NLS-1$
+		MCC_5944_CLOCK_JEWELRY_WATCH_AND_SILVERWARE_STORES 										(5944, MISCELLANEOUS_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5944"),																 //$NON-NLS-1$
+		MCC_5945_GAME_TOY_AND_HOBBY_SHOPS														(5945, MISCELLANEOUS_STORES, TRBCIndustry.TOYS_AND_JUVENILE_PRODUCTS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5945"),																 //$NON-NLS-1$
+		MCC_5946_CAMERA_AND_PHOTOGRAPHIC_SUPPLY_STORES 											(5946, MISCELLANEOUS_STORES, TRBCIndustry.HOUSEHOLD_ELECTRONICS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5946"),																 //$NON-NLS-1$
+		MCC_5947_CARD_GIFT_NOVELTY_AND_SOUVENIR_SHOPS 											(5947, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5947"),																 //$NON-NLS-1$
+		MCC_5948_LEATHER_GOODS_AND_LUGGAGE_STORES 												(5948, MISCELLANEOUS_STORES, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5948"),																 //$NON-NLS-1$
+		MCC_5949_FABRIC_NEEDLEWORK_PIECE_GOODS_AND_SEWING_STORES 								(5949, MISCELLANEOUS_STORES, TRBCIndustry.PERSONAL_PRODUCTS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5949"),																 //$NON-NLS-1$
+		MCC_5950_GLASSWARE_CRYSTAL_STORES 														(5950, MISCELLANEOUS_STORES, TRBCIndustry.HOME_FURNISHINGS_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5950"),																 //$NON-NLS-1$
+		
+		MCC_5960_DIRECT_MARKETING_INSURANCE_SERVICES 											(5960, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_5_MEC, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5960"),																 //$NON-NLS-1$
+		MCC_5962_DIRECT_MARKETING_TRAVEL_RELATED_ARRANGEMENT_SERVICES 							(5962, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_6_RSK, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5962"),																 //$NON-NLS-1$
+		
+		MCC_5963_DOOR_TO_DOOR_SALES 															(5963, MISCELLANEOUS_STORES, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5963"),																 //$NON-NLS-1$
+		
+		MCC_5964_DIRECT_MARKETING_CATALOG_MERCHANTS 											(5964, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_5_MEC, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5964"),																 //$NON-NLS-1$
+		MCC_5965_DIRECT_MARKETING_COMBINATION_CATALOG_AND_RETAIL_MERCHANTS 						(5965, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_5_MEC, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5965"),																 //$NON-NLS-1$
+		MCC_5966_DIRECT_MARKETING_OUTBOUND_TELEMARKETING_MERCHANTS 								(5966, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_6_RSK, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5966"),																 //$NON-NLS-1$
+		MCC_5967_DIRECT_MARKETING_INBOUND_TELEMARKETING_MERCHANTS 								(5967, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_6_RSK, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5967"),																 //$NON-NLS-1$
+		MCC_5968_DIRECT_MARKETING_CONTINUITY_SUBSCRIPTION_MERCHANTS 							(5968, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_5_MEC, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5968"),																 //$NON-NLS-1$
+		MCC_5969_DIRECT_MARKETING_OTHER_DIRECT_MARKETERS_NOT_ELSEWHERE_CLASSIFIED 				(5969, MOTO, TRBCIndustry.ADVERTISING_AND_MARKETING, TCC_T_OTH, MCG_5_MEC, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5969"),																 //$NON-NLS-1$
+		
+		MCC_5970_ARTIST_SUPPLY_AND_CRAFT_SHOPS 													(5970, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5970"),																 //$NON-NLS-1$
+		MCC_5971_ART_DEALERS_AND_GALLERIES 														(5971, MISCELLANEOUS_STORES, TRBCIndustry.HOME_FURNISHINGS_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5971"),																 //$NON-NLS-1$
+		MCC_5972_STAMP_AND_COIN_STORES 															(5972, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5972"),																 //$NON-NLS-1$
+		MCC_5973_RELIGIOUS_GOODS_STORES 														(5973, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5973"),																 //$NON-NLS-1$
+		MCC_5975_HEARING_AIDS_SALES_SERVICE_AND_SUPPLY_STORES 									(5975, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5975"),																 //$NON-NLS-1$
+		MCC_5976_ORTHOPEDIC_GOODS_ARTIFICIAL_LIMB_STORES 										(5976, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5976"),																 //$NON-NLS-1$
+		MCC_5977_COSMETIC_STORES 																(5977, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5977"),																 //$NON-NLS-1$
+		MCC_5978_TYPE_WRITER_STORES 															(5978, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5978"),																 //$NON-NLS-1$
+		MCC_5983_FUEL_DEALERS 																	(5983, MISCELLANEOUS_STORES, TRBCIndustry.OIL_AND_GAS_REFINING_AND_MARKETING, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5983"), //$NON-NLS-1$
+		MCC_5992_FLORISTS 																		(5992, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5992"),																 //$NON-NLS-1$
+		MCC_5993_CIGAR_STORES_AND_STANDS 														(5993, MISCELLANEOUS_STORES, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5993"),																 //$NON-NLS-1$
+		MCC_5994_NEWS_DEALERS_AND_NEWSSTANDS 													(5994, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5994"),																 //$NON-NLS-1$
+		MCC_5995_PET_SHOPS 																		(5995, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5995"),																 //$NON-NLS-1$
+		MCC_5996_SWIMMING_POOLS_SALES_SERVICE_AND_SUPPLIES 										(5996, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5996"),																 //$NON-NLS-1$
+		MCC_5997_ELECTRIC_RAZOR_STORES_SALES_AND_SERVICES 										(5997, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5997"),																 //$NON-NLS-1$
+		MCC_5998_TENT_AND_AWNING_SHOPS 															(5998, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5998"),																 //$NON-NLS-1$
+		MCC_5999_MISCELLANEOUS_AND_SPECIALTY_RETAIL_STORES 										(5999, MISCELLANEOUS_STORES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.5999"),																 //$NON-NLS-1$
+		
+		MCC_6010_MEMBER_FINANCIAL_INSTITUTIONS_MANUAL_CASH 										(6010, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_C_CSH, MCG_8_CSH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6010"),																 //$NON-NLS-1$
+		MCC_6011_MEMBER_FINANCIAL_INSTITUTIONS_AUTOMATED_CASH 									(6011, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_Z_ATM, MCG_9_ATM, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6011"),																 //$NON-NLS-1$
+		MCC_6012_MEMBER_FINANCIAL_INSTITUTIONS_MERCHANDISE_AND_SERVICES 						(6012, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6012"),																 //$NON-NLS-1$
+		MCC_6050_QUASI_CASH_MEMBER_FINANCIAL_INSTITUTION 										(6050, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_U_QEC, MCG_10_QUA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6050"),																 //$NON-NLS-1$
+		MCC_6051_QUASI_CASH_MERCHANT 															(6051, SERVICE_PROVIDERS, TRBCIndustry.CASINOS_AND_GAMING, TCC_U_QEC, MCG_10_QUA, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6051"),																 //$NON-NLS-1$
+		MCC_6211_SECURITIES_BROKERS_DEALERS 													(6211, SERVICE_PROVIDERS, TRBCIndustry.INVESTMENT_BANKING_AND_BROKERAGE_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6211"),																 //$NON-NLS-1$
+		MCC_6300_INSURANCE_SALES_UNDERWRITING_AND_PREMIUMS 										(6300, SERVICE_PROVIDERS, TRBCIndustry.MULTILINE_INSURANCE_AND_BROKERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6300"), //$NON-NLS-1$
+		MCC_6513_REAL_ESTATE_AGENTS_AND_MANAGERS_RENTALS 										(6513, SERVICE_PROVIDERS, TRBCIndustry.REAL_ESTATE_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6513"), //$NON-NLS-1$
+		MCC_6529_REMOTE_STORED_VALUE_LOAD_MEMBER_FINANCIAL_INSTITUTION 							(6529, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_U_QEC, null, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6529"), // Not recognised by Visa //$NON-NLS-1$
+		MCC_6530_REMOTE_STORED_VALUE_LOAD_MERCHANT 												(6530, SERVICE_PROVIDERS, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_U_QEC, null, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6530"), // Not recognised by Visa //$NON-NLS-1$
+		MCC_6531_PAYMENT_SERVICE_PROVIDER_MONEY_TRANSFER_FOR_A_PURCHASE 						(6531,  SERVICE_PROVIDERS, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_T_OTH, null, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6531"), // Not recognised by Visa																 //$NON-NLS-1$
+		MCC_6532_PAYMENT_SERVICE_PROIDER_MEMBER_FINANCIAL_INSTITUTION_PAYMENT_TRANSACTION 		(6532, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_P_TRX, null, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6532"), // Not recognised by Visa																 //$NON-NLS-1$
+		MCC_6533_PAYMENT_SERVICE_PROVIDER_MERCHANT_PAYMENT_TRANSACTION 							(6533, SERVICE_PROVIDERS, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_P_TRX, null, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6533"), // Not recognised by Visa //$NON-NLS-1$
+		MCC_6534_MONEY_TRANSFER_MEMBER_FINANCIAL_INSTITUTION 									(6534, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_U_QEC, null, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6534"), // Not recognised by Visa				 //$NON-NLS-1$
+		MCC_6535_VALUE_PURCHASE_MEMBER_FINANCIAL_INSTITUTION 									(6535, SERVICE_PROVIDERS, TRBCIndustry.BANKS, TCC_T_OTH, null, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.6535"), // Not recognised by Visa				 //$NON-NLS-1$
+		
+		MCC_7011_LODGING_HOTELS_MOTELS_RESORTS_NOT_ELSEWHERE_CLASSIFIED 						(7011, HOTELS_MOTELS, TRBCIndustry.HOTELS_MOTELS_AND_CRUISE_LINES, TCC_H_HOT, MCG_2_HOT, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7011"),																 //$NON-NLS-1$
+
+		MCC_7012_TIMESHARES 																	(7012, SERVICE_PROVIDERS, TRBCIndustry.HOTELS_MOTELS_AND_CRUISE_LINES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7012"),																 //$NON-NLS-1$
+		MCC_7032_SPORTING_AND_RECREATIONAL_CAMPS 												(7032, SERVICE_PROVIDERS, TRBCIndustry.HOTELS_MOTELS_AND_CRUISE_LINES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7032"),																 //$NON-NLS-1$
+		MCC_7033_TRAILER_PARKS_AND_CAMP_GROUNDS 												(7033, SERVICE_PROVIDERS, TRBCIndustry.HOTELS_MOTELS_AND_CRUISE_LINES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7033"), //$NON-NLS-1$
+		
+		MCC_7210_LAUNDRY_CLEANSING_AND_ARMENT_SERVICES 											(7210, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7210"),																 //$NON-NLS-1$
+		MCC_7211_LAUNDRY_FAMILY_AND_COMMERCIAL 													(7211, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7211"),																 //$NON-NLS-1$
+		MCC_7216_DRY_CLEANERS 																	(7216, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7216"),																 //$NON-NLS-1$
+		MCC_7217_CARPET_AND_UPHOLSTERY_CLEANING 												(7217, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7217"),																 //$NON-NLS-1$
+		MCC_7221_PHOTOGRAPHIC_STUDIOS 															(7221, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7221"),																 //$NON-NLS-1$
+		MCC_7230_BARBER_AND_BEAUTY_SHOPS 														(7230, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7230"),																 //$NON-NLS-1$
+		MCC_7251_SHOE_REPAIR_SHOPS_AND_SHOE_SHINE_PARLORS_AND_HAT_CLEANING_SHOPS 				(7251, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7251"),																 //$NON-NLS-1$
+		MCC_7261_FUNERAL_SERVICE_AND_CREMATORIES 												(7261, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7261"),																 //$NON-NLS-1$
+		MCC_7273_DATING_AND_ESCORT_SERVICES 													(7273, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7273"),																 //$NON-NLS-1$
+		MCC_7276_TAX_PREPARATION_SERVICE 														(7276, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7276"),																 //$NON-NLS-1$
+		MCC_7277_DEBT_MARRIAGE_PERSONAL_COUNSELING_SERVICE 										(7277, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7277"),																 //$NON-NLS-1$
+		MCC_7278_BUYING_SHOPPING_CLUBS_SERVICES 												(7278, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7278"),																 //$NON-NLS-1$
+		MCC_7296_CLOTHING_RENTAL_COSTUME_FORMAL_WEAR_UNIFORMS 									(7296, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.APPAREL_AND_ACCESSORIES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7296"),																 //$NON-NLS-1$
+		MCC_7297_MASSAGE_PARLORS 																(7297, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7297"),																 //$NON-NLS-1$
+		MCC_7298_HEALTH_AND_BEAUTY_SPAS 														(7298, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7298"),																 //$NON-NLS-1$
+		MCC_7299_MISCELLANEOUS_PERSONAL_SERVICES_NOT_ELSEWHERE_CLASSIFIED 						(7299, PERSONAL_SERVICES_PROVIDERS, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_6_RSK, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7299"), // IFC Transaction //$NON-NLS-1$
 		
 		// --------------------
 		// Business Services
 		// --------------------
 		
-		MCC_7311_ADVERTISING_SERVICES															(7311, BUSINESS_SERVICES, TRBCIndustry.ADVERTISING_AND_MARKETING , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7311")),																 //$NON-NLS-1$
-		MCC_7321_CONSUMER_CREDIT_REPORTING_AGENCIES 											(7321, BUSINESS_SERVICES, TRBCIndustry.PROFESSIONAL_INFORMATION_SERVICES , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7321")),																 //$NON-NLS-1$
-		MCC_7333_COMMERCIAL_ART_PHOTOGRAPHY_AND_GRAPHICS										(7333, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7333")),																 //$NON-NLS-1$
-		MCC_7338_QUICK_COPY_REPRODUCTION_AND_BLUE_PRINTING_SERVICES 							(7338, BUSINESS_SERVICES, TRBCIndustry.COMMERCIAL_PRINTING_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7338")),																 //$NON-NLS-1$
-		MCC_7339_STENOGRAPHIC_AND_SECRETATIAL_SUPPORT_SERVICES 									(7339, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7339")),																 //$NON-NLS-1$
-		MCC_7342_EXTERMINATING_AND_DISINFECTING_SERVICES 										(7342, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7342")),																 //$NON-NLS-1$
-		MCC_7349_CLEANING_AND_MAINTENANCE_JANITORIAL_SERVICES 									(7349, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7349")),																 //$NON-NLS-1$
-		MCC_7361_EMPLOYMENT_AGENCIES_TEMPORARY_HELP_SERVICES 									(7361, BUSINESS_SERVICES, TRBCIndustry.EMPLOYMENT_SERVICES , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7361")),																 //$NON-NLS-1$
-		MCC_7372_COMPUTER_PROGRAMMING_INTEGRATED_SYSTEMS_DESIGN_AND_DATA_PROCESSING_SERVICES 	(7372, BUSINESS_SERVICES, TRBCIndustry.IT_SERVICES_AND_CONSULTING, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7372")),																 //$NON-NLS-1$
-
-		MCC_7375_INFORMATION_RETRIEVAL_SERVICES 												(7375, WHOLESALE, TRBCIndustry.PROFESSIONAL_INFORMATION_SERVICES, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7375")),																 //$NON-NLS-1$
-		MCC_7379_COMPUTER_MAINTENANCE_AND_REPAIR_SERVICES_NOT_ELSEWHERE_CLASSIFIED 				(7379, WHOLESALE, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7379")),																 //$NON-NLS-1$
-
-		MCC_7392_MANAGEMENT_CONSULTING_AND_PUBLIC_RELATIONS_SERVICES 							(7392, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7392")),																 //$NON-NLS-1$
-		MCC_7393_PROSPECTIVE_AND_SECURITY_SERVICES_INCLUDED_ARMORED_CARS_AND_GUARD_DOGS 		(7393, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7393")),																 //$NON-NLS-1$
-		MCC_7394_EQUIPMENT_RENTAL_AND_LEASING_SERVICES_TOOL_FURNITURE_AND_APPLIANCE_RENTAL 		(7394, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SUPPLIES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7394")),																 //$NON-NLS-1$
-		MCC_7395_PHOTOFINISHING_LABOTORIES_PHOTO_DEVELOPPING 									(7395, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7395")),																 //$NON-NLS-1$
-		MCC_7399_BUSINESS_SERVICES_NOT_ELSEWHERE_CLASSIFIED 									(7399, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7399")),																 //$NON-NLS-1$
-		MCC_7511_TRUCK_STOP_TRANSACTIONS 														(7511, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_U_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7511")),																 //$NON-NLS-1$
-		
-		MCC_7512_CAR_RENTAL_COMPANIES_NOT_ELSEWHERE_CLASSIFIED 									(7512, AUTOMOBILE_VEHICLE_RENTAL, TRBCIndustry.PASSENGER_TRANSPORTATION_GROUND_AND_SEA , TCC_A_CAR, MCG_3_AUT, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7512")),																 //$NON-NLS-1$
-		MCC_7513_TRUCK_AND_UTILITY_TRAILER_RENTALS 												(7513, AUTOMOBILE_VEHICLE_RENTAL, TRBCIndustry.GROUND_FREIGHT_AND_LOGISTICS , TCC_A_CAR, MCG_3_AUT, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7513")),																 //$NON-NLS-1$
-		MCC_7519_MOTOR_HOME_AND_RECREATIONAL_VEHICLE_RENTALS 									(7519, AUTOMOBILE_VEHICLE_RENTAL, TRBCIndustry.PASSENGER_TRANSPORTATION_GROUND_AND_SEA  , TCC_A_CAR, MCG_3_AUT, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7519")),																 //$NON-NLS-1$
-		
-		MCC_7523_AUTOMOBILE_PARKING_LOTS_AND_GARAGES 											(7523, BUSINESS_SERVICES, TRBCIndustry.HIGHWAYS_AND_RAILTRACKS , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7523")),																 //$NON-NLS-1$
-
-		MCC_7531_AUTOMOTIVE_BODY_REPAIR_SHOPS													(7531, REPAIR_SERVICES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7531")),																 //$NON-NLS-1$
-		MCC_7534_TIRE_RE_TREADING_AND_REPAIR_SHOPS 												(7534, REPAIR_SERVICES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7534")),																 //$NON-NLS-1$
-		MCC_7535_AUTOMOTIVE_PAINT_SHOPS 														(7535, REPAIR_SERVICES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7535")),																 //$NON-NLS-1$
-		MCC_7538_AUTOMOTIVE_SERVICE_SHOPS 														(7538, REPAIR_SERVICES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7538")),																 //$NON-NLS-1$
-		MCC_7542_CAR_WASHES 																	(7542, REPAIR_SERVICES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7542")),																 //$NON-NLS-1$
-		MCC_7549_TOWING_SERVICES 																(7549, REPAIR_SERVICES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7549")),																 //$NON-NLS-1$
-		MCC_7622_ELECTRONIC_REPAIR_SHOPS 														(7622, REPAIR_SERVICES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7622")),																 //$NON-NLS-1$
-		MCC_7623_AIR_CONDITIONING_AND_REFRIGERATION_REPAIR_SHOPS 								(7623, REPAIR_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7623")),																 //$NON-NLS-1$
-		MCC_7629_ELECTRICAL_AND_SMALL_APPLIANCE_REPAIR_SHOPS 									(7629, REPAIR_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7629")),																 //$NON-NLS-1$
-		MCC_7631_CLOCK_JEWELRY_AND_WATCH_REPAIR_SHOPS 											(7631, REPAIR_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7631")),																 //$NON-NLS-1$
-		MCC_7641_FURNITURE_REUPHOLSTERY_AND_REPAIR_REFINISHING 									(7641, REPAIR_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7641")),																 //$NON-NLS-1$
-		MCC_7692_WELDING_REPAIR 																(7692, REPAIR_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7692")),																 //$NON-NLS-1$
-		MCC_7699_MISCELLANEOUS_REPAIR_SHOPS_AND_RELATED_SERVICES 								(7699, REPAIR_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7699")),																 //$NON-NLS-1$
-
-		MCC_7800_GOVERNEMENT_OWNED_LOTTERIES 													(7800, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.CASINOS_AND_GAMING, null, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7800")), // Not recognised by MC //$NON-NLS-1$
-		MCC_7801_GOVERNEMENT_LICENSED_CASINOS 													(7801, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.CASINOS_AND_GAMING, null, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7801")), // Not recognised by MC //$NON-NLS-1$
-		MCC_7802_GOVERNEMENT_LICENSED_HORSE_DOG_RACES 											(7801, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.CASINOS_AND_GAMING, null, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7802")), // Not recognised by MC //$NON-NLS-1$
-		
-		MCC_7829_MOTION_PICTURES_AND_VIDEO_TAPE_PRODUCTION_AND_DISTRIBUTION 					(7829, WHOLESALE, TRBCIndustry.ENTERTAINMENT_PRODUCTION , TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7829")),																 //$NON-NLS-1$
-		
-		MCC_7832_MOTION_PICTURE_THEATERS 														(7832, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.ENTERTAINMENT_PRODUCTION , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7832")),	 //$NON-NLS-1$
-		MCC_7841_VIDEO_TAPE_RENTAL_STORES 														(7841, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.PERSONAL_SERVICES , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7841")),																 //$NON-NLS-1$
-		MCC_7911_DANCE_HALLS_STUDIOS_AND_SCHOOLS 												(7911, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.PERSONAL_SERVICES , TCC_R_OTH, MCG_7_OTH, 	Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7911")),				 //$NON-NLS-1$
-		MCC_7922_THEATRICAL_PRODUCERS_TICKET_AGENCIES 											(7922, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.ENTERTAINMENT_PRODUCTION , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7922")),																 //$NON-NLS-1$
-		MCC_7929_BANDS_ORCHESTRAS_AND_MISCELLANEOUS_ENTERTAINERS_NOT_ELSESWHERE_CLASSIFIED 		(7929, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.ENTERTAINMENT_PRODUCTION, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7929")),																 //$NON-NLS-1$
-		MCC_7932_BILLIARD_AND_POOL_ESTABLISHMENT 												(7932, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7932")),					 //$NON-NLS-1$
-		MCC_7933_BOWLING_ALLEYS 																(7933, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7933")), //$NON-NLS-1$
-		MCC_7941_COMMERCIAL_SPORTS_ATHLETIC_FIELDS_PROFESSIONAL_SPORT_CLUBS_AND_SPORT_PROMOTERS	(7941, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION , TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7941")),															 //$NON-NLS-1$
-		MCC_7991_TOURIST_ATTRACTIONS_AND_EXHIBITS 												(7991, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7991")),																 //$NON-NLS-1$
-		MCC_7992_GOLF_COURSES_PUBLIC 															(7992, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7992")),	 //$NON-NLS-1$
-		MCC_7993_VIDEO_AMUSEMENT_GAME_SUPPLIES 													(7993, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7993")),													 //$NON-NLS-1$
-		MCC_7994_VIDEO_GAME_ARCADES_ESTABLISHMENT 												(7994, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.CASINOS_AND_GAMING, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7994")), // IFC Transaction																 //$NON-NLS-1$
-		MCC_7995_GAMBLING_TRANSACTIONS 															(7995, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.CASINOS_AND_GAMING, TCC_U_OTH, MCG_6_RSK, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7995")), //$NON-NLS-1$
-		MCC_7996_AMUSEMENT_PARKS_CARNIVALS_CIRCUSES_FORTUNE_TELLERS								(7996, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION, TCC_R_OTH, MCG_7_OTH, 	Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7996")),															 //$NON-NLS-1$
-		MCC_7997_CLUBS_MEMBERSHIP_COUNTRY_CLUBS_AND_PRIVATE_GOLF_COURSES 						(7997, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7997")),																 //$NON-NLS-1$
-		MCC_7998_AQUARIUMS_SEA_AQUARIUMS_DOLPHINARIUMS_ZOOS 									(7998, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7998")),															 //$NON-NLS-1$
-		MCC_7999_RECREATION_SERVICES_NOT_ELSEWHERE_CLASSIFIED 									(7999, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7999")), //$NON-NLS-1$
+		MCC_7311_ADVERTISING_SERVICES															(7311, BUSINESS_SERVICES, TRBCIndustry.ADVERTISING_AND_MARKETING , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7311"),																 //$NON-NLS-1$
+		MCC_7321_CONSUMER_CREDIT_REPORTING_AGENCIES 											(7321, BUSINESS_SERVICES, TRBCIndustry.PROFESSIONAL_INFORMATION_SERVICES , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7321"),																 //$NON-NLS-1$
+		MCC_7333_COMMERCIAL_ART_PHOTOGRAPHY_AND_GRAPHICS										(7333, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7333"),																 //$NON-NLS-1$
+		MCC_7338_QUICK_COPY_REPRODUCTION_AND_BLUE_PRINTING_SERVICES 							(7338, BUSINESS_SERVICES, TRBCIndustry.COMMERCIAL_PRINTING_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7338"),																 //$NON-NLS-1$
+		MCC_7339_STENOGRAPHIC_AND_SECRETATIAL_SUPPORT_SERVICES 									(7339, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7339"),																 //$NON-NLS-1$
+		MCC_7342_EXTERMINATING_AND_DISINFECTING_SERVICES 										(7342, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7342"),																 //$NON-NLS-1$
+		MCC_7349_CLEANING_AND_MAINTENANCE_JANITORIAL_SERVICES 									(7349, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7349"),																 //$NON-NLS-1$
+		MCC_7361_EMPLOYMENT_AGENCIES_TEMPORARY_HELP_SERVICES 									(7361, BUSINESS_SERVICES, TRBCIndustry.EMPLOYMENT_SERVICES , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7361"),																 //$NON-NLS-1$
+		MCC_7372_COMPUTER_PROGRAMMING_INTEGRATED_SYSTEMS_DESIGN_AND_DATA_PROCESSING_SERVICES 	(7372, BUSINESS_SERVICES, TRBCIndustry.IT_SERVICES_AND_CONSULTING, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7372"),																 //$NON-NLS-1$
+
+		MCC_7375_INFORMATION_RETRIEVAL_SERVICES 												(7375, WHOLESALE, TRBCIndustry.PROFESSIONAL_INFORMATION_SERVICES, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7375"),																 //$NON-NLS-1$
+		MCC_7379_COMPUTER_MAINTENANCE_AND_REPAIR_SERVICES_NOT_ELSEWHERE_CLASSIFIED 				(7379, WHOLESALE, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7379"),																 //$NON-NLS-1$
+
+		MCC_7392_MANAGEMENT_CONSULTING_AND_PUBLIC_RELATIONS_SERVICES 							(7392, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7392"),																 //$NON-NLS-1$
+		MCC_7393_PROSPECTIVE_AND_SECURITY_SERVICES_INCLUDED_ARMORED_CARS_AND_GUARD_DOGS 		(7393, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7393"),																 //$NON-NLS-1$
+		MCC_7394_EQUIPMENT_RENTAL_AND_LEASING_SERVICES_TOOL_FURNITURE_AND_APPLIANCE_RENTAL 		(7394, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SUPPLIES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7394"),																 //$NON-NLS-1$
+		MCC_7395_PHOTOFINISHING_LABOTORIES_PHOTO_DEVELOPPING 									(7395, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7395"),																 //$NON-NLS-1$
+		MCC_7399_BUSINESS_SERVICES_NOT_ELSEWHERE_CLASSIFIED 									(7399, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7399"),																 //$NON-NLS-1$
+		MCC_7511_TRUCK_STOP_TRANSACTIONS 														(7511, BUSINESS_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_U_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7511"),																 //$NON-NLS-1$
+		
+		MCC_7512_CAR_RENTAL_COMPANIES_NOT_ELSEWHERE_CLASSIFIED 									(7512, AUTOMOBILE_VEHICLE_RENTAL, TRBCIndustry.PASSENGER_TRANSPORTATION_GROUND_AND_SEA , TCC_A_CAR, MCG_3_AUT, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7512"),																 //$NON-NLS-1$
+		MCC_7513_TRUCK_AND_UTILITY_TRAILER_RENTALS 												(7513, AUTOMOBILE_VEHICLE_RENTAL, TRBCIndustry.GROUND_FREIGHT_AND_LOGISTICS , TCC_A_CAR, MCG_3_AUT, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7513"),																 //$NON-NLS-1$
+		MCC_7519_MOTOR_HOME_AND_RECREATIONAL_VEHICLE_RENTALS 									(7519, AUTOMOBILE_VEHICLE_RENTAL, TRBCIndustry.PASSENGER_TRANSPORTATION_GROUND_AND_SEA  , TCC_A_CAR, MCG_3_AUT, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7519"),																 //$NON-NLS-1$
+		
+		MCC_7523_AUTOMOBILE_PARKING_LOTS_AND_GARAGES 											(7523, BUSINESS_SERVICES, TRBCIndustry.HIGHWAYS_AND_RAILTRACKS , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7523"),																 //$NON-NLS-1$
+
+		MCC_7531_AUTOMOTIVE_BODY_REPAIR_SHOPS													(7531, REPAIR_SERVICES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7531"),																 //$NON-NLS-1$
+		MCC_7534_TIRE_RE_TREADING_AND_REPAIR_SHOPS 												(7534, REPAIR_SERVICES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7534"),																 //$NON-NLS-1$
+		MCC_7535_AUTOMOTIVE_PAINT_SHOPS 														(7535, REPAIR_SERVICES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7535"),																 //$NON-NLS-1$
+		MCC_7538_AUTOMOTIVE_SERVICE_SHOPS 														(7538, REPAIR_SERVICES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7538"),																 //$NON-NLS-1$
+		MCC_7542_CAR_WASHES 																	(7542, REPAIR_SERVICES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7542"),																 //$NON-NLS-1$
+		MCC_7549_TOWING_SERVICES 																(7549, REPAIR_SERVICES, TRBCIndustry.AUTO_VEHICLES_PARTS_AND_SERVICES_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7549"),																 //$NON-NLS-1$
+		MCC_7622_ELECTRONIC_REPAIR_SHOPS 														(7622, REPAIR_SERVICES, TRBCIndustry.COMPUTER_AND_ELECTRONIC_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7622"),																 //$NON-NLS-1$
+		MCC_7623_AIR_CONDITIONING_AND_REFRIGERATION_REPAIR_SHOPS 								(7623, REPAIR_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7623"),																 //$NON-NLS-1$
+		MCC_7629_ELECTRICAL_AND_SMALL_APPLIANCE_REPAIR_SHOPS 									(7629, REPAIR_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7629"),																 //$NON-NLS-1$
+		MCC_7631_CLOCK_JEWELRY_AND_WATCH_REPAIR_SHOPS 											(7631, REPAIR_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7631"),																 //$NON-NLS-1$
+		MCC_7641_FURNITURE_REUPHOLSTERY_AND_REPAIR_REFINISHING 									(7641, REPAIR_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7641"),																 //$NON-NLS-1$
+		MCC_7692_WELDING_REPAIR 																(7692, REPAIR_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7692"),																 //$NON-NLS-1$
+		MCC_7699_MISCELLANEOUS_REPAIR_SHOPS_AND_RELATED_SERVICES 								(7699, REPAIR_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7699"),																 //$NON-NLS-1$
+
+		MCC_7800_GOVERNEMENT_OWNED_LOTTERIES 													(7800, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.CASINOS_AND_GAMING, null, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7800"), // Not recognised by MC //$NON-NLS-1$
+		MCC_7801_GOVERNEMENT_LICENSED_CASINOS 													(7801, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.CASINOS_AND_GAMING, null, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7801"), // Not recognised by MC //$NON-NLS-1$
+		MCC_7802_GOVERNEMENT_LICENSED_HORSE_DOG_RACES 											(7801, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.CASINOS_AND_GAMING, null, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7802"), // Not recognised by MC //$NON-NLS-1$
+		
+		MCC_7829_MOTION_PICTURES_AND_VIDEO_TAPE_PRODUCTION_AND_DISTRIBUTION 					(7829, WHOLESALE, TRBCIndustry.ENTERTAINMENT_PRODUCTION , TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7829"),																 //$NON-NLS-1$
+		
+		MCC_7832_MOTION_PICTURE_THEATERS 														(7832, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.ENTERTAINMENT_PRODUCTION , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7832"),	 //$NON-NLS-1$
+		MCC_7841_VIDEO_TAPE_RENTAL_STORES 														(7841, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.PERSONAL_SERVICES , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7841"),																 //$NON-NLS-1$
+		MCC_7911_DANCE_HALLS_STUDIOS_AND_SCHOOLS 												(7911, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.PERSONAL_SERVICES , TCC_R_OTH, MCG_7_OTH, 	"IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7911"),				 //$NON-NLS-1$
+		MCC_7922_THEATRICAL_PRODUCERS_TICKET_AGENCIES 											(7922, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.ENTERTAINMENT_PRODUCTION , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7922"),																 //$NON-NLS-1$
+		MCC_7929_BANDS_ORCHESTRAS_AND_MISCELLANEOUS_ENTERTAINERS_NOT_ELSESWHERE_CLASSIFIED 		(7929, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.ENTERTAINMENT_PRODUCTION, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7929"),																 //$NON-NLS-1$
+		MCC_7932_BILLIARD_AND_POOL_ESTABLISHMENT 												(7932, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7932"),					 //$NON-NLS-1$
+		MCC_7933_BOWLING_ALLEYS 																(7933, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7933"), //$NON-NLS-1$
+		MCC_7941_COMMERCIAL_SPORTS_ATHLETIC_FIELDS_PROFESSIONAL_SPORT_CLUBS_AND_SPORT_PROMOTERS	(7941, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION , TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7941"),															 //$NON-NLS-1$
+		MCC_7991_TOURIST_ATTRACTIONS_AND_EXHIBITS 												(7991, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7991"),																 //$NON-NLS-1$
+		MCC_7992_GOLF_COURSES_PUBLIC 															(7992, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7992"),	 //$NON-NLS-1$
+		MCC_7993_VIDEO_AMUSEMENT_GAME_SUPPLIES 													(7993, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7993"),													 //$NON-NLS-1$
+		MCC_7994_VIDEO_GAME_ARCADES_ESTABLISHMENT 												(7994, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.CASINOS_AND_GAMING, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7994"), // IFC Transaction																 //$NON-NLS-1$
+		MCC_7995_GAMBLING_TRANSACTIONS 															(7995, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.CASINOS_AND_GAMING, TCC_U_OTH, MCG_6_RSK, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7995"), //$NON-NLS-1$
+		MCC_7996_AMUSEMENT_PARKS_CARNIVALS_CIRCUSES_FORTUNE_TELLERS								(7996, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION, TCC_R_OTH, MCG_7_OTH, 	"IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7996"),															 //$NON-NLS-1$
+		MCC_7997_CLUBS_MEMBERSHIP_COUNTRY_CLUBS_AND_PRIVATE_GOLF_COURSES 						(7997, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7997"),																 //$NON-NLS-1$
+		MCC_7998_AQUARIUMS_SEA_AQUARIUMS_DOLPHINARIUMS_ZOOS 									(7998, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7998"),															 //$NON-NLS-1$
+		MCC_7999_RECREATION_SERVICES_NOT_ELSEWHERE_CLASSIFIED 									(7999, AMUSEMENT_AND_ENTERTAINMENT, TRBCIndustry.LEISURE_AND_RECREATION, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.7999"), //$NON-NLS-1$
 		
 		
 		// --------------------------------------------------
 		// Professional Services and Membership Organisations
 		// --------------------------------------------------
 		
-		MCC_8011_DOCTORS_AND_PHYSICIANS_NOT_ELSEWHERE_CLASSIFIED 								(8011, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_R_OTH, MCG_11_MED, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8011")),																 //$NON-NLS-1$
-		MCC_8021_DENTISTS_AND_ORTHODONTISTS 													(8021, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_R_OTH, MCG_11_MED, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8021")),																 //$NON-NLS-1$
-		MCC_8031_OSTEOPATHS 																	(8031, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_R_OTH, MCG_11_MED, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8031")),																 //$NON-NLS-1$
-		MCC_8041_CHIROPRACTORS 																	(8041, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_R_OTH, MCG_11_MED, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8041")),																 //$NON-NLS-1$
-		MCC_8042_OPTOMETRISTS_AND_OPHTALMOLOGISTS 												(8042, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_R_OTH, MCG_11_MED, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8042")),																 //$NON-NLS-1$
-		MCC_8043_OPTICIANS_OPTICAL_GOODS_AND_EYEGLASSES 										(8043, PROFESSIONAL_SERVICES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_11_MED, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8043")),																 //$NON-NLS-1$
-		MCC_8049_PODIATRISTS_AND_CHIROPODISTS 													(8049, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_R_OTH, MCG_11_MED, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8049")),																 //$NON-NLS-1$
-		MCC_8050_NURSING_AND_PERSONAL_CARE_FACILITIES 											(8050, PROFESSIONAL_SERVICES, TRBCIndustry.PERSONAL_SERVICES , TCC_O_HOS, MCG_11_MED, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8050")),																 //$NON-NLS-1$
-		MCC_8062_HOSPITALS 																		(8062, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_O_HOS, MCG_11_MED, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8062")),																 //$NON-NLS-1$
-		MCC_8071_MEDICAL_AND_DENTAL_LABORATORIES												(8071, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_R_OTH, MCG_11_MED, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8071")),																 //$NON-NLS-1$
-		MCC_8099_MEDICAL_SERVICES_AND_HEALTH_PRACTITIONERS_NOT_ELSEWHERE_CLASSIFIED				(8099, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES, TCC_R_OTH, MCG_11_MED, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8099")),																 //$NON-NLS-1$
-		MCC_8111_LEGAL_SERVICES_AND_ATTORNEYS 													(8111, PROFESSIONAL_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8111")),																 //$NON-NLS-1$
-		MCC_8211_ELEMENTARY_AND_SECONDARY_SCHOOLS 												(8211, PROFESSIONAL_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_O_SCH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8211")),																 //$NON-NLS-1$
-		MCC_8220_COLLEGES_JUNIOR_COLLEGES_UNIVERSITIES_AND_PROFESSIONAL_SCHOOLS					(8220, PROFESSIONAL_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_O_SCH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8220")),																 //$NON-NLS-1$
-		MCC_8241_CORRESPONDENCE_SCHOOLS 														(8241, PROFESSIONAL_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8241")),																 //$NON-NLS-1$
-		MCC_8244_BUSINESS_AND_SECRETARIAL_SCHOOLS 												(8244, PROFESSIONAL_SERVICES, TRBCIndustry.PROFESSIONAL_INFORMATION_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8244")),																 //$NON-NLS-1$
-		MCC_8249_VOCATIONAL_AND_TRADE_SCHOOLS 													(8249, PROFESSIONAL_SERVICES, TRBCIndustry.PROFESSIONAL_INFORMATION_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8249")),																 //$NON-NLS-1$
-		MCC_8299_SCHOOLS_AND_EDUCATIONAL_SERVICES_NOT_ELSEWHERE_CLASSIFIED						(8299, PROFESSIONAL_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8299")),																 //$NON-NLS-1$
-		MCC_8351_CHILD_CARE_SERVICES															(8351, PROFESSIONAL_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8351")),																 //$NON-NLS-1$
-		
-		MCC_8398_CHARITABLE_AND_SOCIAL_SERVICE_ORGANIZATIONS									(8398, MEMBERSHIP_ORGANIZATIONS, TRBCIndustry.MEMBERSHIP_ORGANIZATIONS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8398")),																 //$NON-NLS-1$
-		MCC_8641_CIVIC_FRATERNAL_AND_SOCIAL_ASSOCIATIONS 										(8641, MEMBERSHIP_ORGANIZATIONS, TRBCIndustry.MEMBERSHIP_ORGANIZATIONS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8641")),																 //$NON-NLS-1$
-		MCC_8651_POLITICAL_ORGANIZATIONS														(8651, MEMBERSHIP_ORGANIZATIONS, TRBCIndustry.MEMBERSHIP_ORGANIZATIONS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8651")),																 //$NON-NLS-1$
-		MCC_8661_RELIGIOUS_ORGANIZATIONS														(8661, MEMBERSHIP_ORGANIZATIONS, TRBCIndustry.MEMBERSHIP_ORGANIZATIONS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8661")),																 //$NON-NLS-1$
-		MCC_8675_AUTOMOBILE_ASSOCIATIONS														(8675, MEMBERSHIP_ORGANIZATIONS, TRBCIndustry.MEMBERSHIP_ORGANIZATIONS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8675")),																 //$NON-NLS-1$
-		MCC_8699_MEMBERSHIP_ORGANIZATIONS_NOT_ELSEWHERE_CLASSIFIED 								(8699, MEMBERSHIP_ORGANIZATIONS, TRBCIndustry.MEMBERSHIP_ORGANIZATIONS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8699")),																 //$NON-NLS-1$
-		
-		MCC_8734_TESTING_LABORATORIES_NON_MEDICAL 												(8734, PROFESSIONAL_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8734")),																 //$NON-NLS-1$
-		MCC_8911_ARCHITECTURAL_ENGINEERING_AND_SURVEYING_SERVIVES 								(8911, PROFESSIONAL_SERVICES, TRBCIndustry.HOMEBUILDING, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8911")),																 //$NON-NLS-1$
-		MCC_8931_ACCOUNTING_AUDITING_AND_BOOKEEPING_SERVICES 									(8931, PROFESSIONAL_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8931")),																 //$NON-NLS-1$
-		MCC_8999_PROFESSIONAL_SERVICES_NOT_ELSEWHERE_CLASSIFIED									(8999, PROFESSIONAL_SERVICES, TRBCIndustry.PROFESSIONAL_INFORMATION_SERVICES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8999")),																 //$NON-NLS-1$
+		MCC_8011_DOCTORS_AND_PHYSICIANS_NOT_ELSEWHERE_CLASSIFIED 								(8011, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_R_OTH, MCG_11_MED, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8011"),																 //$NON-NLS-1$
+		MCC_8021_DENTISTS_AND_ORTHODONTISTS 													(8021, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_R_OTH, MCG_11_MED, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8021"),																 //$NON-NLS-1$
+		MCC_8031_OSTEOPATHS 																	(8031, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_R_OTH, MCG_11_MED, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8031"),																 //$NON-NLS-1$
+		MCC_8041_CHIROPRACTORS 																	(8041, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_R_OTH, MCG_11_MED, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8041"),																 //$NON-NLS-1$
+		MCC_8042_OPTOMETRISTS_AND_OPHTALMOLOGISTS 												(8042, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_R_OTH, MCG_11_MED, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8042"),																 //$NON-NLS-1$
+		MCC_8043_OPTICIANS_OPTICAL_GOODS_AND_EYEGLASSES 										(8043, PROFESSIONAL_SERVICES, TRBCIndustry.OTHER_SPECIALTY_RETAILERS, TCC_R_OTH, MCG_11_MED, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8043"),																 //$NON-NLS-1$
+		MCC_8049_PODIATRISTS_AND_CHIROPODISTS 													(8049, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_R_OTH, MCG_11_MED, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8049"),																 //$NON-NLS-1$
+		MCC_8050_NURSING_AND_PERSONAL_CARE_FACILITIES 											(8050, PROFESSIONAL_SERVICES, TRBCIndustry.PERSONAL_SERVICES , TCC_O_HOS, MCG_11_MED, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8050"),																 //$NON-NLS-1$
+		MCC_8062_HOSPITALS 																		(8062, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_O_HOS, MCG_11_MED, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8062"),																 //$NON-NLS-1$
+		MCC_8071_MEDICAL_AND_DENTAL_LABORATORIES												(8071, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES  , TCC_R_OTH, MCG_11_MED, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8071"),																 //$NON-NLS-1$
+		MCC_8099_MEDICAL_SERVICES_AND_HEALTH_PRACTITIONERS_NOT_ELSEWHERE_CLASSIFIED				(8099, PROFESSIONAL_SERVICES, TRBCIndustry.HEALTH_CARE_FACILITIES_AND_SERVICES, TCC_R_OTH, MCG_11_MED, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8099"),																 //$NON-NLS-1$
+		MCC_8111_LEGAL_SERVICES_AND_ATTORNEYS 													(8111, PROFESSIONAL_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8111"),																 //$NON-NLS-1$
+		MCC_8211_ELEMENTARY_AND_SECONDARY_SCHOOLS 												(8211, PROFESSIONAL_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_O_SCH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8211"),																 //$NON-NLS-1$
+		MCC_8220_COLLEGES_JUNIOR_COLLEGES_UNIVERSITIES_AND_PROFESSIONAL_SCHOOLS					(8220, PROFESSIONAL_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_O_SCH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8220"),																 //$NON-NLS-1$
+		MCC_8241_CORRESPONDENCE_SCHOOLS 														(8241, PROFESSIONAL_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8241"),																 //$NON-NLS-1$
+		MCC_8244_BUSINESS_AND_SECRETARIAL_SCHOOLS 												(8244, PROFESSIONAL_SERVICES, TRBCIndustry.PROFESSIONAL_INFORMATION_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8244"),																 //$NON-NLS-1$
+		MCC_8249_VOCATIONAL_AND_TRADE_SCHOOLS 													(8249, PROFESSIONAL_SERVICES, TRBCIndustry.PROFESSIONAL_INFORMATION_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8249"),																 //$NON-NLS-1$
+		MCC_8299_SCHOOLS_AND_EDUCATIONAL_SERVICES_NOT_ELSEWHERE_CLASSIFIED						(8299, PROFESSIONAL_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8299"),																 //$NON-NLS-1$
+		MCC_8351_CHILD_CARE_SERVICES															(8351, PROFESSIONAL_SERVICES, TRBCIndustry.PERSONAL_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8351"),																 //$NON-NLS-1$
+		
+		MCC_8398_CHARITABLE_AND_SOCIAL_SERVICE_ORGANIZATIONS									(8398, MEMBERSHIP_ORGANIZATIONS, TRBCIndustry.MEMBERSHIP_ORGANIZATIONS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8398"),																 //$NON-NLS-1$
+		MCC_8641_CIVIC_FRATERNAL_AND_SOCIAL_ASSOCIATIONS 										(8641, MEMBERSHIP_ORGANIZATIONS, TRBCIndustry.MEMBERSHIP_ORGANIZATIONS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8641"),																 //$NON-NLS-1$
+		MCC_8651_POLITICAL_ORGANIZATIONS														(8651, MEMBERSHIP_ORGANIZATIONS, TRBCIndustry.MEMBERSHIP_ORGANIZATIONS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8651"),																 //$NON-NLS-1$
+		MCC_8661_RELIGIOUS_ORGANIZATIONS														(8661, MEMBERSHIP_ORGANIZATIONS, TRBCIndustry.MEMBERSHIP_ORGANIZATIONS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8661"),																 //$NON-NLS-1$
+		MCC_8675_AUTOMOBILE_ASSOCIATIONS														(8675, MEMBERSHIP_ORGANIZATIONS, TRBCIndustry.MEMBERSHIP_ORGANIZATIONS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8675"),																 //$NON-NLS-1$
+		MCC_8699_MEMBERSHIP_ORGANIZATIONS_NOT_ELSEWHERE_CLASSIFIED 								(8699, MEMBERSHIP_ORGANIZATIONS, TRBCIndustry.MEMBERSHIP_ORGANIZATIONS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8699"),																 //$NON-NLS-1$
+		
+		MCC_8734_TESTING_LABORATORIES_NON_MEDICAL 												(8734, PROFESSIONAL_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8734"),																 //$NON-NLS-1$
+		MCC_8911_ARCHITECTURAL_ENGINEERING_AND_SURVEYING_SERVIVES 								(8911, PROFESSIONAL_SERVICES, TRBCIndustry.HOMEBUILDING, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8911"),																 //$NON-NLS-1$
+		MCC_8931_ACCOUNTING_AUDITING_AND_BOOKEEPING_SERVICES 									(8931, PROFESSIONAL_SERVICES, TRBCIndustry.BUSINESS_SUPPORT_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8931"),																 //$NON-NLS-1$
+		MCC_8999_PROFESSIONAL_SERVICES_NOT_ELSEWHERE_CLASSIFIED									(8999, PROFESSIONAL_SERVICES, TRBCIndustry.PROFESSIONAL_INFORMATION_SERVICES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.8999"),																 //$NON-NLS-1$
 		
 		// -------------------
 		// Government Services
 		// -------------------
 		
-		MCC_9211_COURT_COSTS_INCLUDING_ALIMONY_AND_CHILD_SUPPORT 								(9211, GOVERNMENT_SERVICES, TRBCIndustry.JUSTICE_PUBLIC_ORDER_AND_SAFETY_ACTIVITIES, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9211")),																 //$NON-NLS-1$
-		MCC_9222_FINES 																			(9222, GOVERNMENT_SERVICES, TRBCIndustry.ADMINISTRATION_OF_ECONOMIC_PROGRAMS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9222")),																 //$NON-NLS-1$
-		MCC_9223_BAIL_AND_BOND_PAYMENTS 														(9223, GOVERNMENT_SERVICES, TRBCIndustry.ADMINISTRATION_OF_ECONOMIC_PROGRAMS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9223")),																 //$NON-NLS-1$
-		MCC_9311_TAX_PAYMENTS 																	(9311, GOVERNMENT_SERVICES, TRBCIndustry.ADMINISTRATION_OF_ECONOMIC_PROGRAMS, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9311")),																 //$NON-NLS-1$
-		MCC_9399_GOVERNMENT_SERVICES_NOT_ELSEWHERE_CLASSIFIED 									(9399, GOVERNMENT_SERVICES, TRBCIndustry.EXECUTIVE_LEGISLATIVE_AND_OTHER_GENERAL_GOVERNMENT_SUPPORT, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9399")),																 //$NON-NLS-1$
-		MCC_9402_POSTAL_SERVICES_STAMPS_GOVERNMENT_ONLY											(9402, GOVERNMENT_SERVICES, TRBCIndustry.EXECUTIVE_LEGISLATIVE_AND_OTHER_GENERAL_GOVERNMENT_SUPPORT, TCC_R_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9402")),																 //$NON-NLS-1$
-		MCC_9405_INTRA_GOVERNEMENT_PURCHASES_US_ONLY											(9405, GOVERNMENT_SERVICES, TRBCIndustry.EXECUTIVE_LEGISLATIVE_AND_OTHER_GENERAL_GOVERNMENT_SUPPORT, TCC_T_OTH, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9405")),																 //$NON-NLS-1$
+		MCC_9211_COURT_COSTS_INCLUDING_ALIMONY_AND_CHILD_SUPPORT 								(9211, GOVERNMENT_SERVICES, TRBCIndustry.JUSTICE_PUBLIC_ORDER_AND_SAFETY_ACTIVITIES, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9211"),																 //$NON-NLS-1$
+		MCC_9222_FINES 																			(9222, GOVERNMENT_SERVICES, TRBCIndustry.ADMINISTRATION_OF_ECONOMIC_PROGRAMS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9222"),																 //$NON-NLS-1$
+		MCC_9223_BAIL_AND_BOND_PAYMENTS 														(9223, GOVERNMENT_SERVICES, TRBCIndustry.ADMINISTRATION_OF_ECONOMIC_PROGRAMS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9223"),																 //$NON-NLS-1$
+		MCC_9311_TAX_PAYMENTS 																	(9311, GOVERNMENT_SERVICES, TRBCIndustry.ADMINISTRATION_OF_ECONOMIC_PROGRAMS, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9311"),																 //$NON-NLS-1$
+		MCC_9399_GOVERNMENT_SERVICES_NOT_ELSEWHERE_CLASSIFIED 									(9399, GOVERNMENT_SERVICES, TRBCIndustry.EXECUTIVE_LEGISLATIVE_AND_OTHER_GENERAL_GOVERNMENT_SUPPORT, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9399"),																 //$NON-NLS-1$
+		MCC_9402_POSTAL_SERVICES_STAMPS_GOVERNMENT_ONLY											(9402, GOVERNMENT_SERVICES, TRBCIndustry.EXECUTIVE_LEGISLATIVE_AND_OTHER_GENERAL_GOVERNMENT_SUPPORT, TCC_R_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9402"),																 //$NON-NLS-1$
+		MCC_9405_INTRA_GOVERNEMENT_PURCHASES_US_ONLY											(9405, GOVERNMENT_SERVICES, TRBCIndustry.EXECUTIVE_LEGISLATIVE_AND_OTHER_GENERAL_GOVERNMENT_SUPPORT, TCC_T_OTH, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9405"),																 //$NON-NLS-1$
 		
 		// ----------------
 		// Schemes Services
 		// ----------------
 		
-		MCC_9700_AUTOMATED_REFERRAL_SERVICES 													(9700, VISA_SERVICES, TRBCIndustry.OTHER, null, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9700")), // Not recognised by MC																 //$NON-NLS-1$
-		MCC_9701_VISA_CREDENTIAL_SERVICE 														(9701, VISA_SERVICES, TRBCIndustry.OTHER, null, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9701")),	// Not recognised by MC					 //$NON-NLS-1$
-		MCC_9702_GCAS_EMERGENCY_SERVICES 														(9702, VISA_SERVICES, TRBCIndustry.OTHER, null, MCG_7_OTH, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9702")),	// Not recognised by MC									 //$NON-NLS-1$
+		MCC_9700_AUTOMATED_REFERRAL_SERVICES 													(9700, VISA_SERVICES, TRBCIndustry.OTHER, null, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9700"), // Not recognised by MC																 //$NON-NLS-1$
+		MCC_9701_VISA_CREDENTIAL_SERVICE 														(9701, VISA_SERVICES, TRBCIndustry.OTHER, null, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9701"),	// Not recognised by MC					 //$NON-NLS-1$
+		MCC_9702_GCAS_EMERGENCY_SERVICES 														(9702, VISA_SERVICES, TRBCIndustry.OTHER, null, MCG_7_OTH, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9702"),	// Not recognised by MC									 //$NON-NLS-1$
 
-		MCC_9751_UK_SUPERMARKETS_ELECTRONIC_HOT_FILE 											(9751, MASTERCARD_UK, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, null, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9751")), //$NON-NLS-1$
-		MCC_9752_UK_PETROL_STATIONS_ELECTRONIC_HOT_FILE 										(9751, MASTERCARD_UK, TRBCIndustry.OIL_AND_GAS_REFINING_AND_MARKETING, TCC_R_OTH, null, Messages.getString("IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9752")), //$NON-NLS-1$
+		MCC_9751_UK_SUPERMARKETS_ELECTRONIC_HOT_FILE 											(9751, MASTERCARD_UK, TRBCIndustry.FOOD_RETAIL_AND_DISTRIBUTION, TCC_R_OTH, null, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9751"), //$NON-NLS-1$
+		MCC_9752_UK_PETROL_STATIONS_ELECTRONIC_HOT_FILE 										(9751, MASTERCARD_UK, TRBCIndustry.OIL_AND_GAS_REFINING_AND_MARKETING, TCC_R_OTH, null, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode.9752"), //$NON-NLS-1$
 		
 		// ------------
 		// T&E Airlines 
@@ -1734,8 +2177,8 @@ public interface IMerchantCategoryCodes {
 
 		/** The Merchant Category numeric Code */
 		private int code;
-		/** The Merchant Category Code description */
-		private String description;
+		/** The Merchant Category Code description message key, or the description itself if not localised (e.g. brand names) */
+		private String descriptionKey;
 		/** The Visa Airline brand required abbreviation */
 		private String visaBrandAbbreviation;
 		/** The Mastercard Airline brand required abbreviation */
@@ -1752,16 +2195,14 @@ public interface IMerchantCategoryCodes {
 		private MastercardMerchantCategory headCategory;
 		/** The Thomson Reuters Business Classification for this MCC */
 		private TRBCIndustry TRBClassification;
-		
-		/** The flat list of Iso18245MerchantCategoryCode enumeration values */
-		private static List<MerchantCategoryCode> mccFlatList;
-		/** The scheme nested list (2 levels - merchant category range / merchant head category) of Iso18245MerchantCategoryCode enumeration values */
-		private static SchemeNestedList mccSchemeList;
-		/** The Thomson Reuters nested list (4 levels) of Iso18245MerchantCategoryCode enumeration values */
-		private static ThomsonReutersNestedList mccTRBCList;
 
-		/** The indentation index for use in MerchantCategoryList (must be declared in super class) */
-		private static int tabIndex = 0;
+		/** The descriptions by locale, resolved on first use */
+		private static final Messages.Table<Iso18245MerchantCategoryCode> DESCRIPTIONS = new Messages.Table<>(Iso18245MerchantCategoryCode.class, mcc -> mcc.descriptionKey, "IMerchantCategoryCodes.Iso18245MerchantCategoryCode."); //$NON-NLS-1$
+
+		/** The highest code an ISO 18245 MCC can take (4 numerical digits) */
+		public static final int MAX_CODE = 9999;
+		/** The MCC enumeration values indexed by code, null where no MCC is allocated (see {@link #lookup(int)}) */
+		private static final Iso18245MerchantCategoryCode[] CODE_INDEX = buildCodeIndex();
 		
 		/** 
 		 * Constructs a ISO 18245 Merchant Category Code enumeration value.
@@ -1783,10 +2224,9 @@ public interface IMerchantCategoryCodes {
 			this.schemeTCC = schemeTCC;
 			if (description.indexOf(SEPARATOR) >= 0) {
 				parseBrandSchemeAbbreviation(description); 
-			} else this.description = description;
+			} else this.descriptionKey = description;
 			this.headCategory = headCategory;
 			this.TRBClassification = TRBClassification;
-			addMCC(this);
 			
 		}
 		
@@ -1805,7 +2245,7 @@ public interface IMerchantCategoryCodes {
 			String brand = splitStr[0];
 			if (brand.indexOf(MASTERCARD_REQUIRED_ABBREVIATION) >= 0 || brand.indexOf(VISA_REQUIRED_ABBREVIATION) >= 0 || brand.indexOf(TSYS_REQUIRED_ABBREVIATION) >= 0 ) {
 				throw new IllegalArgumentException ("Airline MCC must follow the form \"brand name[;;##VISA##abbreviation][;;##MC##abbreviation][;;##TSYS##abrreviation])\""); //$NON-NLS-1$
-			} else this.description = brand;
+			} else this.descriptionKey = brand;
 			// Others are required scheme brand abbreviations prefixed (mandatory) by corresponding reserved word
 			String[] abbrs = Arrays.copyOfRange(splitStr, 1, len);
 			for (String abbr : abbrs) {
@@ -1817,37 +2257,297 @@ public interface IMerchantCategoryCodes {
 			
 		}
 
-		/** Adds <code>mcc</code> to the top level range category list if the range category does not exist or to the nested list otherwise. */
-		private static void addMCC (Iso18245MerchantCategoryCode mcc) {
-			if (mccFlatList == null) mccFlatList = new ArrayList<>();
-			if (mccSchemeList == null) mccSchemeList = mcc.new SchemeNestedList();
-			if (mccTRBCList == null) mccTRBCList = mcc.new ThomsonReutersNestedList();
-			mccFlatList.add(mcc.new MerchantCategoryCode(mcc));
-			mccSchemeList.add(mcc);
-			mccTRBCList.add(mcc);
+		/** 
+		 * Builds the direct-index table of MCC enumeration values, indexed by code (0..{@link #MAX_CODE}).
+		 * <p>
+		 * When several enumeration values share the same code, the first declared one is kept (same result as the former linear scan).
+		 */
+		private static Iso18245MerchantCategoryCode[] buildCodeIndex() {
+			Iso18245MerchantCategoryCode[] index = new Iso18245MerchantCategoryCode[MAX_CODE + 1];
+			for (Iso18245MerchantCategoryCode mcc : values()) if (index[mcc.code] == null) index[mcc.code] = mcc;
+			return index;
 		}
 		
 		/** 
 		 * Returns the ISO 18245 MCC enumeration value corresponding to <code>code</code> as int value (alternative to valueOf(String) )
 		 * <p>
+		 * Constant time and allocation free: a range check and a read in the code-indexed table.
+		 * <p>
 		 * @param code, the code to search
 		 * @throws IllegalArgumentExcepption if the code is not recognised 
+		 * @see #lookup(int)
 		 */
 		public static Iso18245MerchantCategoryCode valueOf (int code) throws IllegalArgumentException {
-			Iso18245MerchantCategoryCode merchantCategoryCode = null;
-			for (Iso18245MerchantCategoryCode mcc : values()) if (mcc.getCode() == code) { merchantCategoryCode = mcc; break; }
+			Iso18245MerchantCategoryCode merchantCategoryCode = lookup(code);
 			if (merchantCategoryCode == null) throw new IllegalArgumentException ("Invalid MCC " + code);
 			return merchantCategoryCode; 
 		}
 
+		/** 
+		 * Returns the ISO 18245 MCC enumeration value corresponding to <code>code</code>, or null if the code is not recognised.
+		 * <p>
+		 * Non-throwing variant of {@link #valueOf(int)}, for use on hot paths (e.g. ISO 8583 field 18 decoding) where an unknown MCC is not exceptional.
+		 * <p>
+		 * @param code, the code to search
+		 */
+		public static Iso18245MerchantCategoryCode lookup (int code) {
+			return (code >= 0 && code <= MAX_CODE) ? CODE_INDEX[code] : null;
+		}
+
+		/** 
+		 * Returns the MCC with the greatest allocated code lower than or equal to <code>code</code>, or null if there is none 
+		 * (e.g. nearest defined MCC for an unknown code). O(log n), allocation free.
+		 */
+		public static Iso18245MerchantCategoryCode floor (int code) {
+			int index = CodeOrder.insertionPoint(code, true) - 1;
+			return index >= 0 ? CodeOrder.MCCS[index] : null;
+		}
+		
+		/** 
+		 * Returns the MCC with the least allocated code greater than or equal to <code>code</code>, or null if there is none. 
+		 * O(log n), allocation free.
+		 */
+		public static Iso18245MerchantCategoryCode ceiling (int code) {
+			int index = CodeOrder.insertionPoint(code, false);
+			return index < CodeOrder.MCCS.length ? CodeOrder.MCCS[index] : null;
+		}
+		
+		/** 
+		 * Returns the MCC whose codes lie between <code>fromCode</code> and <code>toCode</code> (both inclusive, as MerchantCategoryRange bounds), 
+		 * in ascending code order.
+		 * <p>
+		 * The result is an unmodifiable, random access view on the sorted index (no copy, no per element allocation); 
+		 * it is empty if <code>fromCode</code> &gt; <code>toCode</code>. When several MCC share a code, the one returned by {@link #lookup(int)} is listed.
+		 */
+		public static List<Iso18245MerchantCategoryCode> subRange (int fromCode, int toCode) {
+			int from = CodeOrder.insertionPoint(fromCode, false);
+			int to = fromCode <= toCode ? CodeOrder.insertionPoint(toCode, true) : from;
+			return new CodeOrder.Slice(from, to);
+		}
+		
+		/** 
+		 * Returns the (airline / T&amp;E) MCC whose brand abbreviation required by <code>scheme</code> is <code>abbreviation</code>, or null if there is none.
+		 * <p>
+		 * Matching ignores (ASCII) case and trailing spaces (padding of fixed-width record fields); it is allocation free: 
+		 * a hash lookup in the per scheme index, comparing characters in place.
+		 */
+		public static Iso18245MerchantCategoryCode lookupBrandAbbreviation (PaymentScheme scheme, CharSequence abbreviation) {
+			return BrandAbbreviationIndex.BY_SCHEME[scheme.ordinal()].get(abbreviation, 0, abbreviation.length());
+		}
+		
+		/** 
+		 * Returns the MCC whose brand abbreviation required by <code>scheme</code> is the <code>start</code> (inclusive) to <code>end</code> (exclusive) 
+		 * sub-sequence of <code>chars</code>, or null if there is none. 
+		 * @see #lookupBrandAbbreviation(PaymentScheme, CharSequence)
+		 */
+		public static Iso18245MerchantCategoryCode lookupBrandAbbreviation (PaymentScheme scheme, CharSequence chars, int start, int end) {
+			if (start < 0 || end > chars.length() || start > end) throw new IndexOutOfBoundsException ("Invalid range [" + start + ", " + end + ") for length " + chars.length()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			return BrandAbbreviationIndex.BY_SCHEME[scheme.ordinal()].get(chars, start, end);
+		}
+		
+		/** 
+		 * Returns the MCC whose brand abbreviation required by <code>scheme</code> is the <code>length</code> ASCII (or ISO 8859-1) bytes of <code>bytes</code> 
+		 * at <code>offset</code>, or null if there is none (e.g. straight from a clearing record, without decoding it to a String). 
+		 * @see #lookupBrandAbbreviation(PaymentScheme, CharSequence)
+		 */
+		public static Iso18245MerchantCategoryCode lookupBrandAbbreviation (PaymentScheme scheme, byte[] bytes, int offset, int length) {
+			if (offset < 0 || length < 0 || offset + length > bytes.length) throw new IndexOutOfBoundsException ("Invalid range [" + offset + ", " + (offset + length) + ") for length " + bytes.length); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			return BrandAbbreviationIndex.BY_SCHEME[scheme.ordinal()].get(bytes, null, offset, offset + length);
+		}
+		
+		/** 
+		 * Returns the MCC whose brand abbreviation required by <code>scheme</code> is the <code>length</code> ASCII (or ISO 8859-1) bytes of <code>buffer</code> 
+		 * at absolute position <code>offset</code>, or null if there is none. The buffer position is left untouched.
+		 * @see #lookupBrandAbbreviation(PaymentScheme, CharSequence)
+		 */
+		public static Iso18245MerchantCategoryCode lookupBrandAbbreviation (PaymentScheme scheme, ByteBuffer buffer, int offset, int length) {
+			if (offset < 0 || length < 0 || offset + length > buffer.limit()) throw new IndexOutOfBoundsException ("Invalid range [" + offset + ", " + (offset + length) + ") for limit " + buffer.limit()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			return BrandAbbreviationIndex.BY_SCHEME[scheme.ordinal()].get(null, buffer, offset, offset + length);
+		}
+		
+		/** Returns the number of allocated codes between <code>fromCode</code> and <code>toCode</code> (both inclusive). O(log n). */
+		public static int count (int fromCode, int toCode) {
+			if (fromCode > toCode) return 0;
+			return CodeOrder.insertionPoint(toCode, true) - CodeOrder.insertionPoint(fromCode, false);
+		}
+		
+		/** Navigable index of the MCC enumeration values: allocated codes in ascending order, and the matching MCC for each. */
+		private static final class CodeOrder {
+			
+			/** The allocated codes, ascending (no duplicate) */
+			private static final int[] CODES;
+			/** The MCC of each code of CODES (as per {@link Iso18245MerchantCategoryCode#lookup(int)}) */
+			private static final Iso18245MerchantCategoryCode[] MCCS;
+			
+			static {
+				int n = 0;
+				for (Iso18245MerchantCategoryCode mcc : CODE_INDEX) if (mcc != null) n++;
+				CODES = new int[n];
+				MCCS = new Iso18245MerchantCategoryCode[n];
+				n = 0;
+				for (int code=0; code<=MAX_CODE; code++) {
+					if (CODE_INDEX[code] != null) {
+						CODES[n] = code;
+						MCCS[n++] = CODE_INDEX[code];
+					}
+				}
+			}
+			
+			/** Returns the index of the first code greater than (if <code>after</code>) or equal to <code>code</code>, CODES.length if none */
+			private static int insertionPoint (int code, boolean after) {
+				int index = Arrays.binarySearch(CODES, code);
+				return index >= 0 ? (after ? index + 1 : index) : -index - 1;
+			}
+			
+			/** Unmodifiable view on MCCS[from..to[ */
+			private static final class Slice extends AbstractList<Iso18245MerchantCategoryCode> implements RandomAccess {
+				
+				/** Bounds in MCCS, from inclusive, to exclusive */
+				private final int from, to;
+				
+				private Slice (int from, int to) {
+					this.from = from;
+					this.to = to;
+				}
+				
+				@Override public Iso18245MerchantCategoryCode get(int index) {
+					if (index < 0 || index >= to - from) throw new IndexOutOfBoundsException ("Index: " + index + ", Size: " + (to - from)); //$NON-NLS-1$ //$NON-NLS-2$
+					return MCCS[from + index];
+				}
+				
+				@Override public int size() { return to - from; }
+				
+				@Override public List<Iso18245MerchantCategoryCode> subList(int fromIndex, int toIndex) {
+					if (fromIndex < 0 || toIndex > to - from || fromIndex > toIndex) throw new IndexOutOfBoundsException ("fromIndex: " + fromIndex + ", toIndex: " + toIndex); //$NON-NLS-1$ //$NON-NLS-2$
+					return new Slice(from + fromIndex, from + toIndex);
+				}
+			}
+		}
+
+		/** 
+		 * Decodes the ISO 18245 MCC read from <code>buffer</code> at <code>offset</code> in the given <code>encoding</code> 
+		 * (e.g. ISO 8583 field 18), or null if the bytes are not valid digits or the code is not recognised.
+		 * <p>
+		 * Allocation free: neither String nor intermediate int parsing is involved.
+		 * <p>
+		 * @param buffer the message buffer
+		 * @param offset the offset of the first MCC byte in <code>buffer</code>
+		 * @param encoding the wire encoding of the MCC ({@link DigitEncoding#getLength()} bytes are read)
+		 * @throws ArrayIndexOutOfBoundsException if <code>buffer</code> is too short
+		 */
+		public static Iso18245MerchantCategoryCode decode (byte[] buffer, int offset, DigitEncoding encoding) {
+			if (encoding == DigitEncoding.BCD) return lookup(DigitEncoding.decodeBCD(buffer[offset], buffer[offset + 1]));
+			return lookup(encoding.decodeZoned(buffer[offset], buffer[offset + 1], buffer[offset + 2], buffer[offset + 3]));
+		}
+		
+		/** 
+		 * Decodes the ISO 18245 MCC read from <code>buffer</code> at absolute <code>index</code> in the given <code>encoding</code>, 
+		 * or null if the bytes are not valid digits or the code is not recognised. The buffer position is left untouched.
+		 * <p>
+		 * @see #decode(byte[], int, DigitEncoding)
+		 * @throws IndexOutOfBoundsException if <code>buffer</code> is too short
+		 */
+		public static Iso18245MerchantCategoryCode decode (ByteBuffer buffer, int index, DigitEncoding encoding) {
+			if (encoding == DigitEncoding.BCD) return lookup(DigitEncoding.decodeBCD(buffer.get(index), buffer.get(index + 1)));
+			return lookup(encoding.decodeZoned(buffer.get(index), buffer.get(index + 1), buffer.get(index + 2), buffer.get(index + 3)));
+		}
+		
+		/** 
+		 * Writes this MCC code as 4 digits into <code>buffer</code> at <code>offset</code> in the given <code>encoding</code>.
+		 * <p>
+		 * @return the offset following the last written byte
+		 * @throws ArrayIndexOutOfBoundsException if <code>buffer</code> is too short
+		 */
+		public int encode (byte[] buffer, int offset, DigitEncoding encoding) {
+			if (encoding == DigitEncoding.BCD) {
+				buffer[offset] = DigitEncoding.encodeBCD(code / 100);
+				buffer[offset + 1] = DigitEncoding.encodeBCD(code % 100);
+				return offset + 2;
+			}
+			buffer[offset] = encoding.encodeZoned(code / 1000);
+			buffer[offset + 1] = encoding.encodeZoned(code / 100 % 10);
+			buffer[offset + 2] = encoding.encodeZoned(code / 10 % 10);
+			buffer[offset + 3] = encoding.encodeZoned(code % 10);
+			return offset + 4;
+		}
+		
+		/** 
+		 * Writes this MCC code as 4 digits into <code>buffer</code> at absolute <code>index</code> in the given <code>encoding</code>. 
+		 * The buffer position is left untouched.
+		 * <p>
+		 * @return the index following the last written byte
+		 * @throws IndexOutOfBoundsException if <code>buffer</code> is too short
+		 * @throws ReadOnlyBufferException if <code>buffer</code> is read-only
+		 */
+		public int encode (ByteBuffer buffer, int index, DigitEncoding encoding) {
+			if (encoding == DigitEncoding.BCD) {
+				buffer.put(index, DigitEncoding.encodeBCD(code / 100));
+				buffer.put(index + 1, DigitEncoding.encodeBCD(code % 100));
+				return index + 2;
+			}
+			buffer.put(index, encoding.encodeZoned(code / 1000));
+			buffer.put(index + 1, encoding.encodeZoned(code / 100 % 10));
+			buffer.put(index + 2, encoding.encodeZoned(code / 10 % 10));
+			buffer.put(index + 3, encoding.encodeZoned(code % 10));
+			return index + 4;
+		}
+		
+		/** ISO 8583 wire encodings of the 4 digits MCC */
+		public enum DigitEncoding {
+			
+			/** 4 bytes, digits 0x30 to 0x39 */
+			ASCII (0x30, 4),
+			/** 4 bytes, digits 0xF0 to 0xF9 */
+			EBCDIC (0xF0, 4),
+			/** 2 bytes, packed Binary Coded Decimal (one digit per nibble, most significant first) */
+			BCD (0, 2);
+			
+			/** The value of digit 0 for zoned encodings */
+			private final int zone;
+			/** The number of bytes of an encoded MCC */
+			private final int length;
+			
+			/** Builds a DigitEncoding enumeration value */
+			private DigitEncoding (int zone, int length) {
+				this.zone = zone;
+				this.length = length;
+			}
+			
+			/** Returns the number of bytes of an MCC in this encoding */
+			public int getLength() { return length; }
+			
+			/** Returns the value of 4 zoned digits, or -1 if any byte is not a digit in this encoding */
+			private int decodeZoned (byte b0, byte b1, byte b2, byte b3) {
+				int d0 = (b0 & 0xFF) - zone, d1 = (b1 & 0xFF) - zone, d2 = (b2 & 0xFF) - zone, d3 = (b3 & 0xFF) - zone;
+				if ((d0 | d1 | d2 | d3 | (9 - d0) | (9 - d1) | (9 - d2) | (9 - d3)) < 0) return -1;
+				return d0 * 1000 + d1 * 100 + d2 * 10 + d3;
+			}
+			
+			/** Returns the zoned byte of <code>digit</code> (0..9) in this encoding */
+			private byte encodeZoned (int digit) { return (byte) (zone + digit); }
+			
+			/** Returns the value of 2 packed BCD bytes, or -1 if any nibble is not a decimal digit */
+			private static int decodeBCD (byte high, byte low) {
+				int d0 = (high >> 4) & 0x0F, d1 = high & 0x0F, d2 = (low >> 4) & 0x0F, d3 = low & 0x0F;
+				if (((9 - d0) | (9 - d1) | (9 - d2) | (9 - d3)) < 0) return -1;
+				return d0 * 1000 + d1 * 100 + d2 * 10 + d3;
+			}
+			
+			/** Returns the packed BCD byte of <code>value</code> (0..99) */
+			private static byte encodeBCD (int value) { return (byte) (((value / 10) << 4) | (value % 10)); }
+		}
+
 		/** Returns this MCC code as String (for use in protocols for instance) */ 
 		public String getCodeAsString() { return String.format("%04d", code); } //$NON-NLS-1$
 
 		/** Returns this MCC code */
 		public int getCode() { return code; }
 		
-		/** Returns this MCC description */
-		public String getDescription() { return description; }
+		/** Returns this MCC description (in default locale) */
+		public String getDescription() { return getDescription(Locale.getDefault()); }
+		
+		/** Returns this MCC description in <code>locale</code>: a read in the locale description table, resolved on first use. */
+		public String getDescription(Locale locale) { return DESCRIPTIONS.get(this, locale); }
 		
 		/** Returns the Visa required airline brand abbreviation */
 		public String getVisaBrandAbbreviation() { return visaBrandAbbreviation; }
@@ -1858,6 +2558,35 @@ public interface IMerchantCategoryCodes {
 		/** Returns the TSYS (Germany) required airline brand abbreviation */
 		public String getTsysBrandAbbreviation() { return tsysBrandAbbreviation; }
 
+		/** Returns the airline brand abbreviation required by <code>scheme</code>, null if none */
+		public String getBrandAbbreviation(PaymentScheme scheme) {
+			switch (scheme) {
+				case VISA: return visaBrandAbbreviation;
+				case MASTERCARD: return mastercardBrandAbbreviation;
+				default: return tsysBrandAbbreviation;
+			}
+		}
+
+		/**
+		 * Returns true if this MCC is recognised by <code>scheme</code>, as derived from this enumeration data:
+		 * <ul>
+		 * 	<li>Visa recognises the MCC classified in a Visa Merchant Category Group (e.g. not {@link MastercardMerchantCategory#MASTERCARD_UK} ones),
+		 * 	<li>Mastercard recognises the MCC classified in a Mastercard Transaction Category Code (e.g. not {@link MastercardMerchantCategory#VISA_SERVICES} ones),
+		 * 	<li>an airline brand with required abbreviations is only recognised by the schemes requiring one (e.g. the TSYS only brands 
+		 * 	are not recognised by Visa nor Mastercard),
+		 * 	<li>TSYS, processing both Visa and Mastercard plus its own brands, recognises every MCC of this enumeration.
+		 * </ul>
+		 * See {@link MerchantCategorySet#of(PaymentScheme)} for the precomputed set of codes recognised by a scheme.
+		 */
+		public boolean isValidFor(PaymentScheme scheme) {
+			boolean branded = visaBrandAbbreviation != null || mastercardBrandAbbreviation != null || tsysBrandAbbreviation != null;
+			switch (scheme) {
+				case VISA: return schemeMCG != null && (!branded || visaBrandAbbreviation != null);
+				case MASTERCARD: return schemeTCC != null && (!branded || mastercardBrandAbbreviation != null);
+				default: return true;
+			}
+		}
+
 		/** Returns the MCC category range for this MCC */
 		public MerchantCategoryRange getCategoryRange() { return categoryRange; }
 
@@ -1886,96 +2615,671 @@ public interface IMerchantCategoryCodes {
 		}
 
 		
-		/** Gets this enumeration values as list of MerchantCategoryCode ordered by ascending code. */
+		/** Gets this enumeration values as an immutable list of MerchantCategoryCode ordered by ascending code (precomputed once, shared by all callers). */
 		public static List<MerchantCategoryCode> getFlatListOrderedByCode() {
-			Collections.sort(mccFlatList, new OrderMCCByCode());
-			return mccFlatList;
+			return FlatLists.BY_CODE;
 		}
 		
-		/** Gets this enumeration values as list of MerchantCategoryCode ordered by description alphabetical order. */
+		/** Gets this enumeration values as an immutable list of MerchantCategoryCode ordered by description alphabetical order (precomputed once, shared by all callers). */
 		public static List<MerchantCategoryCode> getFlatListOrderedByDescription() {
-			Collections.sort(mccFlatList, new OrderMCCByDescription());
-			return mccFlatList;
+			return FlatLists.BY_DESCRIPTION;
 		}
 		
-		/** Gets the Merchant Category nested List according to Scheme classification, with category sorted by code ascending order and MCC sorted by code ascending order */
-		public static MerchantCategoryList getSchemeNestedListOrderedByCodeWithListOrderedByCode() {
-			return mccSchemeList.getMCCList(new OrderCategoryByCode(), new OrderMCCByCode());
+		/** 
+		 * Registers an additional ordering of the flat list under <code>name</code> and returns the corresponding immutable list.
+		 * <p>
+		 * The list is sorted once at registration; if an ordering is already registered under <code>name</code>, it is kept and returned.
+		 * For instance, to order by Visa Merchant Category Group, then code:
+		 * <pre>
+		 * registerFlatListOrdering("MCG", Comparator.comparing((MerchantCategoryCode mcc) -> mcc.getMCC().getSchemeMCG(), Comparator.nullsLast(Comparator.naturalOrder()))
+		 *                                           .thenComparingInt(MerchantCategoryCode::getCode));
+		 * </pre>
+		 * @param name the name of the ordering, as later given to {@link #getFlatListOrderedBy(String)}
+		 * @param criterion the sorting criterion
+		 */
+		public static List<MerchantCategoryCode> registerFlatListOrdering(String name, Comparator<? super MerchantCategoryCode> criterion) {
+			return FlatLists.REGISTERED.computeIfAbsent(name, key -> FlatLists.sortedList(criterion));
 		}
 		
-		/** Gets the Merchant Category nested List according to Scheme classification, with category sorted by label alphabetical order and MCC sorted by code ascending order */
-		public static MerchantCategoryList getSchemeNestedListOrderedByCodeWithListOrderedByDescription() {
-			return mccSchemeList.getMCCList(new OrderCategoryByDescription(), new OrderMCCByCode());
+		/** Gets the immutable flat list for the ordering registered under <code>name</code>, or null if no such ordering has been registered. */
+		public static List<MerchantCategoryCode> getFlatListOrderedBy(String name) {
+			return FlatLists.REGISTERED.get(name);
 		}
 		
-		/** Gets the Merchant Category nested List according to Scheme classification, with category sorted by code and MCC sorted by description alphabetical order */
-		public static MerchantCategoryList getSchemeNestedListOrderedByDescriptionWithListOrderedByCode() {
-			return mccSchemeList.getMCCList(new OrderCategoryByCode(), new OrderMCCByDescription());
-		}
-
-		/** Gets the Merchant Category nested List according to Scheme classification, with category sorted by label alphabetical order and MCC sorted by description alphabetical order */
-		public static MerchantCategoryList getSchemeNestedListOrderedByDescriptionWithListOrderedByDescription() {
-			return mccSchemeList.getMCCList(new OrderCategoryByDescription(), new OrderMCCByDescription());
+		/** 
+		 * Gets the Merchant Category nested List according to Scheme classification, with category sorted by <code>categoryOrder</code> and MCC sorted by <code>mccOrder</code>.
+		 * <p>
+		 * The nested list is an immutable snapshot, built on first request for this combination of orders and cached: 
+		 * subsequent calls return the same instance, which can be safely shared across threads.
+		 */
+		public static MerchantCategoryList getSchemeNestedList(ListOrder categoryOrder, ListOrder mccOrder) {
+			return SchemeNestedListHolder.LIST.getMCCList(categoryOrder, mccOrder);
 		}
-
-		/** Gets the Merchant Category nested List as JSON according to Scheme classification, with category sorted by code ascending order and MCC sorted by code ascending order */
-		public static String getSchemeNestedListAsJsonOrderedByCodeWithListOrderedByCode() {
-			return mccSchemeList.getMCCListAsJSON(new OrderCategoryByCode(), new OrderMCCByCode());
+		
+		/** 
+		 * Gets the Merchant Category nested List according to Thomson Reuters classification, with category sorted by <code>categoryOrder</code> and MCC sorted by <code>mccOrder</code>.
+		 * <p>
+		 * The nested list is an immutable snapshot, built on first request for this combination of orders and cached: 
+		 * subsequent calls return the same instance, which can be safely shared across threads.
+		 */
+		public static MerchantCategoryList getThomsonReutersNestedList(ListOrder categoryOrder, ListOrder mccOrder) {
+			return ThomsonReutersNestedListHolder.LIST.getMCCList(categoryOrder, mccOrder);
 		}
 		
-		/** Gets the Merchant Category nested List as JSON according to Scheme classification, with category sorted by label alphabetical order and MCC sorted by code ascending order */
-		public static String getSchemeNestedListAsJsonOrderedByCodeWithListOrderedByDescription() {
-			return mccSchemeList.getMCCListAsJSON(new OrderCategoryByDescription(), new OrderMCCByCode());
+		/** 
+		 * Gets the Merchant Category nested List according to Scheme classification as a pre-serialized JSON artifact 
+		 * (UTF-8 and gzip bytes plus ETag), with category sorted by <code>categoryOrder</code> and MCC sorted by <code>mccOrder</code>.
+		 * <p>
+		 * The artifact is built on first request for this combination of orders and cached.
+		 */
+		public static JsonArtifact getSchemeNestedListAsJsonArtifact(ListOrder categoryOrder, ListOrder mccOrder) {
+			return SchemeNestedListHolder.LIST.getMCCListAsJSONArtifact(categoryOrder, mccOrder);
+		}
+		
+		/** 
+		 * Gets the Merchant Category nested List according to Thomson Reuters classification as a pre-serialized JSON artifact 
+		 * (UTF-8 and gzip bytes plus ETag), with category sorted by <code>categoryOrder</code> and MCC sorted by <code>mccOrder</code>.
+		 * <p>
+		 * The artifact is built on first request for this combination of orders and cached.
+		 */
+		public static JsonArtifact getThomsonReutersNestedListAsJsonArtifact(ListOrder categoryOrder, ListOrder mccOrder) {
+			return ThomsonReutersNestedListHolder.LIST.getMCCListAsJSONArtifact(categoryOrder, mccOrder);
+		}
+		
+		/** 
+		 * Streams the Merchant Category nested List according to Scheme classification as JSON to <code>writer</code>, with category sorted 
+		 * by <code>categoryOrder</code> and MCC sorted by <code>mccOrder</code>.
+		 * <p>
+		 * The JSON is written while walking the classification tree: no intermediate MerchantCategoryList graph is built. The layout 
+		 * (indentation or compact) is the one configured on <code>writer</code>. The writer is neither flushed nor closed.
+		 */
+		public static void writeSchemeNestedListAsJson(ListOrder categoryOrder, ListOrder mccOrder, JsonWriter writer) throws IOException {
+			SchemeNestedListHolder.LIST.writeMCCListAsJSON(categoryOrder, mccOrder, writer);
+		}
+		
+		/** 
+		 * Streams the Merchant Category nested List according to Scheme classification as JSON to <code>out</code> (see {@link #writeSchemeNestedListAsJson(ListOrder, ListOrder, JsonWriter)}).
+		 * <p>
+		 * @param pretty true to indent the output as the <code>getSchemeNestedListAsJson*</code> methods do, false for compact output
+		 */
+		public static void writeSchemeNestedListAsJson(ListOrder categoryOrder, ListOrder mccOrder, Appendable out, boolean pretty) throws IOException {
+			writeJSON(SchemeNestedListHolder.LIST, categoryOrder, mccOrder, out instanceof Writer ? (Writer) out : new AppendableWriter(out), pretty);
+		}
+		
+		/** 
+		 * Streams the Merchant Category nested List according to Scheme classification as UTF-8 encoded JSON to <code>out</code> (see {@link #writeSchemeNestedListAsJson(ListOrder, ListOrder, JsonWriter)}).
+		 * <br>The stream is flushed, not closed.
+		 * <p>
+		 * @param pretty true to indent the output as the <code>getSchemeNestedListAsJson*</code> methods do, false for compact output
+		 */
+		public static void writeSchemeNestedListAsJson(ListOrder categoryOrder, ListOrder mccOrder, OutputStream out, boolean pretty) throws IOException {
+			writeJSON(SchemeNestedListHolder.LIST, categoryOrder, mccOrder, new OutputStreamWriter(out, StandardCharsets.UTF_8), pretty);
+		}
+		
+		/** 
+		 * Streams the Merchant Category nested List according to Thomson Reuters classification as JSON to <code>writer</code>, with category sorted 
+		 * by <code>categoryOrder</code> and MCC sorted by <code>mccOrder</code>.
+		 * <p>
+		 * The JSON is written while walking the classification tree: no intermediate MerchantCategoryList graph is built. The layout 
+		 * (indentation or compact) is the one configured on <code>writer</code>. The writer is neither flushed nor closed.
+		 */
+		public static void writeThomsonReutersNestedListAsJson(ListOrder categoryOrder, ListOrder mccOrder, JsonWriter writer) throws IOException {
+			ThomsonReutersNestedListHolder.LIST.writeMCCListAsJSON(categoryOrder, mccOrder, writer);
+		}
+		
+		/** 
+		 * Streams the Merchant Category nested List according to Thomson Reuters classification as JSON to <code>out</code> (see {@link #writeThomsonReutersNestedListAsJson(ListOrder, ListOrder, JsonWriter)}).
+		 * <p>
+		 * @param pretty true to indent the output as the <code>getThomsonReutersNestedListAsJson*</code> methods do, false for compact output
+		 */
+		public static void writeThomsonReutersNestedListAsJson(ListOrder categoryOrder, ListOrder mccOrder, Appendable out, boolean pretty) throws IOException {
+			writeJSON(ThomsonReutersNestedListHolder.LIST, categoryOrder, mccOrder, out instanceof Writer ? (Writer) out : new AppendableWriter(out), pretty);
+		}
+		
+		/** 
+		 * Streams the Merchant Category nested List according to Thomson Reuters classification as UTF-8 encoded JSON to <code>out</code> (see {@link #writeThomsonReutersNestedListAsJson(ListOrder, ListOrder, JsonWriter)}).
+		 * <br>The stream is flushed, not closed.
+		 * <p>
+		 * @param pretty true to indent the output as the <code>getThomsonReutersNestedListAsJson*</code> methods do, false for compact output
+		 */
+		public static void writeThomsonReutersNestedListAsJson(ListOrder categoryOrder, ListOrder mccOrder, OutputStream out, boolean pretty) throws IOException {
+			writeJSON(ThomsonReutersNestedListHolder.LIST, categoryOrder, mccOrder, new OutputStreamWriter(out, StandardCharsets.UTF_8), pretty);
+		}
+		
+		/** 
+		 * Gets the Merchant Category nested List grouped by <code>classifications</code> (one level per classification, in the given order, e.g. 
+		 * Visa Merchant Category Group then Mastercard Transaction Category Code), with category sorted by <code>categoryOrder</code> and MCC sorted by <code>mccOrder</code>.
+		 * <p>
+		 * MCCs not classified by one of the <code>classifications</code> (e.g. without Visa MCG) are left out. The classification tree is built once 
+		 * per combination of classifications, and the nested list is an immutable snapshot cached for this combination of orders 
+		 * (see {@link #getSchemeNestedList(ListOrder, ListOrder)}).
+		 * @throws IllegalArgumentException if no classification is given, or one is null or given twice
+		 */
+		public static MerchantCategoryList getNestedList(ListOrder categoryOrder, ListOrder mccOrder, Classification... classifications) throws IllegalArgumentException {
+			return GroupedNestedLists.get(classifications).getMCCList(categoryOrder, mccOrder);
+		}
+		
+		/** 
+		 * Gets the Merchant Category nested List grouped by <code>classifications</code> as a pre-serialized JSON artifact (see {@link #getNestedList(ListOrder, ListOrder, Classification...)}).
+		 * <p>
+		 * The artifact is built on first request for this combination of classifications and orders, and cached.
+		 * @throws IllegalArgumentException if no classification is given, or one is null or given twice
+		 */
+		public static JsonArtifact getNestedListAsJsonArtifact(ListOrder categoryOrder, ListOrder mccOrder, Classification... classifications) throws IllegalArgumentException {
+			return GroupedNestedLists.get(classifications).getMCCListAsJSONArtifact(categoryOrder, mccOrder);
+		}
+		
+		/** 
+		 * Streams the Merchant Category nested List grouped by <code>classifications</code> as JSON to <code>writer</code> (see {@link #writeSchemeNestedListAsJson(ListOrder, ListOrder, JsonWriter)}).
+		 * @throws IllegalArgumentException if no classification is given, or one is null or given twice
+		 */
+		public static void writeNestedListAsJson(ListOrder categoryOrder, ListOrder mccOrder, JsonWriter writer, Classification... classifications) throws IOException, IllegalArgumentException {
+			GroupedNestedLists.get(classifications).writeMCCListAsJSON(categoryOrder, mccOrder, writer);
+		}
+		
+		/** Gets the Merchant Category nested List by Visa Merchant Category Group (MCC without MCG left out), with category sorted by <code>categoryOrder</code> and MCC sorted by <code>mccOrder</code>. */
+		public static MerchantCategoryList getVisaNestedList(ListOrder categoryOrder, ListOrder mccOrder) {
+			return getNestedList(categoryOrder, mccOrder, Classification.VISA_MERCHANT_CATEGORY_GROUP);
+		}
+		
+		/** Gets the Merchant Category nested List by Mastercard Transaction Category Code (MCC without TCC left out), with category sorted by <code>categoryOrder</code> and MCC sorted by <code>mccOrder</code>. */
+		public static MerchantCategoryList getMastercardTCCNestedList(ListOrder categoryOrder, ListOrder mccOrder) {
+			return getNestedList(categoryOrder, mccOrder, Classification.MASTERCARD_TRANSACTION_CATEGORY);
+		}
+		
+		/** Gets the Merchant Category nested List by Visa Merchant Category Group as a pre-serialized JSON artifact (see {@link #getVisaNestedList(ListOrder, ListOrder)}). */
+		public static JsonArtifact getVisaNestedListAsJsonArtifact(ListOrder categoryOrder, ListOrder mccOrder) {
+			return getNestedListAsJsonArtifact(categoryOrder, mccOrder, Classification.VISA_MERCHANT_CATEGORY_GROUP);
+		}
+		
+		/** Gets the Merchant Category nested List by Mastercard Transaction Category Code as a pre-serialized JSON artifact (see {@link #getMastercardTCCNestedList(ListOrder, ListOrder)}). */
+		public static JsonArtifact getMastercardTCCNestedListAsJsonArtifact(ListOrder categoryOrder, ListOrder mccOrder) {
+			return getNestedListAsJsonArtifact(categoryOrder, mccOrder, Classification.MASTERCARD_TRANSACTION_CATEGORY);
+		}
+		
+		/** 
+		 * Gets a page of the direct children of a level of the Merchant Category nested List according to Scheme classification, with category sorted 
+		 * by <code>categoryOrder</code> and MCC sorted by <code>mccOrder</code> (for UI / REST clients expanding the tree one level at a time).
+		 * <p>
+		 * @param path the codes of the levels from the root (excluded) to the expanded level, e.g. {} for the root, {range code} for a range level
+		 * @param cursor null for the first page, otherwise the {@link TreePage#getNextCursor()} of the previous page (cursors hold the next child 
+		 * offset bound to the tree, level and orders: they are valid in any JVM serving the same MCC data, but not for another tree, level or orders)
+		 * @param pageSize the maximum number of children in the page
+		 * @throws IllegalArgumentException if <code>path</code> does not lead to a level, the cursor is invalid (or issued for another tree, level or orders) or <code>pageSize</code> &lt; 1
+		 */
+		public static TreePage getSchemeNestedListPage(ListOrder categoryOrder, ListOrder mccOrder, int[] path, String cursor, int pageSize) throws IllegalArgumentException {
+			return SchemeNestedListHolder.LIST.getPage(categoryOrder, mccOrder, path, cursor, pageSize);
+		}
+		
+		/** 
+		 * Gets a page of the direct children of a level of the Merchant Category nested List according to Thomson Reuters classification 
+		 * (path of TRBC codes, e.g. {economic sector, business sector} to expand a business sector).
+		 * @see #getSchemeNestedListPage(ListOrder, ListOrder, int[], String, int)
+		 */
+		public static TreePage getThomsonReutersNestedListPage(ListOrder categoryOrder, ListOrder mccOrder, int[] path, String cursor, int pageSize) throws IllegalArgumentException {
+			return ThomsonReutersNestedListHolder.LIST.getPage(categoryOrder, mccOrder, path, cursor, pageSize);
+		}
+		
+		/** Streams <code>nestedList</code> as JSON to <code>out</code> through a JsonWriter configured as Gson does (HTML-safe, nulls skipped, optionally indented); flushes <code>out</code>. */
+		private static void writeJSON(IListType nestedList, ListOrder categoryOrder, ListOrder mccOrder, Writer out, boolean pretty) throws IOException {
+			JsonWriter writer = new JsonWriter(out);
+			writer.setHtmlSafe(true);
+			writer.setSerializeNulls(false);
+			if (pretty) writer.setIndent("  "); //$NON-NLS-1$
+			nestedList.writeMCCListAsJSON(categoryOrder, mccOrder, writer);
+			writer.flush();
+		}
+		
+		/** Gets the Merchant Category nested List according to Scheme classification, with category sorted by code ascending order and MCC sorted by code ascending order */
+		public static MerchantCategoryList getSchemeNestedListOrderedByCodeWithListOrderedByCode() {
+			return getSchemeNestedList(ListOrder.BY_CODE, ListOrder.BY_CODE);
+		}
+		
+		/** Gets the Merchant Category nested List according to Scheme classification, with category sorted by label alphabetical order and MCC sorted by code ascending order */
+		public static MerchantCategoryList getSchemeNestedListOrderedByCodeWithListOrderedByDescription() {
+			return getSchemeNestedList(ListOrder.BY_DESCRIPTION, ListOrder.BY_CODE);
+		}
+		
+		/** Gets the Merchant Category nested List according to Scheme classification, with category sorted by code and MCC sorted by description alphabetical order */
+		public static MerchantCategoryList getSchemeNestedListOrderedByDescriptionWithListOrderedByCode() {
+			return getSchemeNestedList(ListOrder.BY_CODE, ListOrder.BY_DESCRIPTION);
+		}
+
+		/** Gets the Merchant Category nested List according to Scheme classification, with category sorted by label alphabetical order and MCC sorted by description alphabetical order */
+		public static MerchantCategoryList getSchemeNestedListOrderedByDescriptionWithListOrderedByDescription() {
+			return getSchemeNestedList(ListOrder.BY_DESCRIPTION, ListOrder.BY_DESCRIPTION);
+		}
+
+		/** Gets the Merchant Category nested List as JSON according to Scheme classification, with category sorted by code ascending order and MCC sorted by code ascending order */
+		public static String getSchemeNestedListAsJsonOrderedByCodeWithListOrderedByCode() {
+			return SchemeNestedListHolder.LIST.getMCCListAsJSON(ListOrder.BY_CODE, ListOrder.BY_CODE);
+		}
+		
+		/** Gets the Merchant Category nested List as JSON according to Scheme classification, with category sorted by label alphabetical order and MCC sorted by code ascending order */
+		public static String getSchemeNestedListAsJsonOrderedByCodeWithListOrderedByDescription() {
+			return SchemeNestedListHolder.LIST.getMCCListAsJSON(ListOrder.BY_DESCRIPTION, ListOrder.BY_CODE);
 		}
 		
 		/** Gets the Merchant Category nested List as JSON according to Scheme classification, with category sorted by code and MCC sorted by description alphabetical order */
 		public static String getSchemeNestedListAsJsonOrderedByDescriptionWithListOrderedByCode() {
-			return mccSchemeList.getMCCListAsJSON(new OrderCategoryByCode(), new OrderMCCByDescription());
+			return SchemeNestedListHolder.LIST.getMCCListAsJSON(ListOrder.BY_CODE, ListOrder.BY_DESCRIPTION);
 		}
 
 		/** Gets the Merchant Category nested List as JSON according to Scheme classification, with category sorted by label alphabetical order and MCC sorted by description alphabetical order */
 		public static String getSchemeNestedListAsJsonOrderedByDescriptionWithListOrderedByDescription() {
-			return mccSchemeList.getMCCListAsJSON(new OrderCategoryByDescription(), new OrderMCCByDescription());
+			return SchemeNestedListHolder.LIST.getMCCListAsJSON(ListOrder.BY_DESCRIPTION, ListOrder.BY_DESCRIPTION);
 		}
 
 		/** Gets the Merchant Category nested List according to Thomson Reuters classification, with category sorted by code ascending order and MCC sorted by code ascending order */
 		public static MerchantCategoryList getThomsonReutersNestedListOrderedByCodeWithListOrderedByCode() {
-			return mccTRBCList.getMCCList(new OrderCategoryByCode(), new OrderMCCByCode());
+			return getThomsonReutersNestedList(ListOrder.BY_CODE, ListOrder.BY_CODE);
 		}
 		
 		/** Gets the Merchant Category nested List according to Thomson Reuters classification, with category sorted by label alphabetical order and MCC sorted by code ascending order */
 		public static MerchantCategoryList getThomsonReutersNestedListOrderedByCodeWithListOrderedByDescription() {
-			return mccTRBCList.getMCCList(new OrderCategoryByDescription(), new OrderMCCByCode());
+			return getThomsonReutersNestedList(ListOrder.BY_DESCRIPTION, ListOrder.BY_CODE);
 		}
 		
 		/** Gets the Merchant Category nested List according to Thomson Reuters classification, with category sorted by code and MCC sorted by description alphabetical order */
 		public static MerchantCategoryList getThomsonReutersNestedListOrderedByDescriptionWithListOrderedByCode() {
-			return mccTRBCList.getMCCList(new OrderCategoryByCode(), new OrderMCCByDescription());
+			return getThomsonReutersNestedList(ListOrder.BY_CODE, ListOrder.BY_DESCRIPTION);
 		}
 
 		/** Gets the Merchant Category nested List according to Thomson Reuters classification, with category sorted by label alphabetical order and MCC sorted by description alphabetical order */
 		public static MerchantCategoryList getThomsonReutersNestedListOrderedByDescriptionWithListOrderedByDescription() {
-			return mccTRBCList.getMCCList(new OrderCategoryByDescription(), new OrderMCCByDescription());
+			return getThomsonReutersNestedList(ListOrder.BY_DESCRIPTION, ListOrder.BY_DESCRIPTION);
 		}
 
 		/** Gets the Merchant Category nested List as JSON according to Thomson Reuters classification, with category sorted by code ascending order and MCC sorted by code ascending order */
 		public static String getThomsonReutersNestedListAsJsonOrderedByCodeWithListOrderedByCode() {
-			return mccTRBCList.getMCCListAsJSON(new OrderCategoryByCode(), new OrderMCCByCode());
+			return ThomsonReutersNestedListHolder.LIST.getMCCListAsJSON(ListOrder.BY_CODE, ListOrder.BY_CODE);
 		}
 		
 		/** Gets the Merchant Category nested List as JSON according to Thomson Reuters classification, with category sorted by label alphabetical order and MCC sorted by code ascending order */
 		public static String getThomsonReutersNestedListAsJsonOrderedByCodeWithListOrderedByDescription() {
-			return mccTRBCList.getMCCListAsJSON(new OrderCategoryByDescription(), new OrderMCCByCode());
+			return ThomsonReutersNestedListHolder.LIST.getMCCListAsJSON(ListOrder.BY_DESCRIPTION, ListOrder.BY_CODE);
 		}
 		
 		/** Gets the Merchant Category nested List as JSON according to Thomson Reuters  classification, with category sorted by code and MCC sorted by description alphabetical order */
 		public static String getThomsonReutersNestedListAsJsonOrderedByDescriptionWithListOrderedByCode() {
-			return mccTRBCList.getMCCListAsJSON(new OrderCategoryByCode(), new OrderMCCByDescription());
+			return ThomsonReutersNestedListHolder.LIST.getMCCListAsJSON(ListOrder.BY_CODE, ListOrder.BY_DESCRIPTION);
 		}
 
 		/** Gets the Merchant Category nested List as JSON according to Thomson Reuters classification, with category sorted by label alphabetical order and MCC sorted by description alphabetical order */
 		public static String getThomsonReutersNestedListAsJsonOrderedByDescriptionWithListOrderedByDescription() {
-			return mccTRBCList.getMCCListAsJSON(new OrderCategoryByDescription(), new OrderMCCByDescription());
+			return ThomsonReutersNestedListHolder.LIST.getMCCListAsJSON(ListOrder.BY_DESCRIPTION, ListOrder.BY_DESCRIPTION);
+		}
+
+		// --------------------------------------------------------------
+		// Immutable views of the MCC flat list
+		// --------------------------------------------------------------
+		
+		/** 
+		 * Holder of the flat list orderings, sorted once on first use and published through class initialisation. 
+		 * <br>Lists are unmodifiable, random-access views over a sorted array: safe to share across threads.
+		 */
+		private static class FlatLists {
+			
+			/** The flat list in enumeration values declaration order */
+			private static final MerchantCategoryCode[] ALL = buildFlatList();
+			/** The flat list ordered by code */
+			private static final List<MerchantCategoryCode> BY_CODE = sortedList(new OrderMCCByCode());
+			/** The flat list ordered by description */
+			private static final List<MerchantCategoryCode> BY_DESCRIPTION = sortedList(new OrderMCCByDescription());
+			/** Additional orderings, by name */
+			private static final ConcurrentMap<String, List<MerchantCategoryCode>> REGISTERED = new ConcurrentHashMap<>();
+			
+			/** Returns an unmodifiable copy of the flat list sorted according to <code>criterion</code>. */
+			private static List<MerchantCategoryCode> sortedList(Comparator<? super MerchantCategoryCode> criterion) {
+				MerchantCategoryCode[] array = ALL.clone();
+				Arrays.sort(array, criterion);
+				return Collections.unmodifiableList(Arrays.asList(array));
+			}
+			
+			/** Builds the MerchantCategoryCode POJO of each enumeration value, in a single pass. */
+			private static MerchantCategoryCode[] buildFlatList() {
+				Iso18245MerchantCategoryCode[] mccs = values();
+				MerchantCategoryCode[] flatList = new MerchantCategoryCode[mccs.length];
+				for (int i=0; i<mccs.length; i++) flatList[i] = mccs[i].new MerchantCategoryCode(mccs[i]);
+				return flatList;
+			}
+			
+		}
+		
+		/** Holder of the scheme nested list (2 levels - merchant category range / merchant head category), built on first use in a single pass over the enumeration values. */
+		private static class SchemeNestedListHolder {
+			
+			/** The scheme nested list of Iso18245MerchantCategoryCode enumeration values */
+			private static final SchemeNestedList LIST = build();
+			
+			/** Classifies every enumeration value, in declaration order. */
+			private static SchemeNestedList build() {
+				Iso18245MerchantCategoryCode[] mccs = values();
+				SchemeNestedList list = mccs[0].new SchemeNestedList();
+				for (Iso18245MerchantCategoryCode mcc : mccs) list.add(mcc);
+				return list;
+			}
+			
+		}
+		
+		/** Holder of the Thomson Reuters nested list (4 levels), built on first use in a single pass over the enumeration values. */
+		private static class ThomsonReutersNestedListHolder {
+			
+			/** The Thomson Reuters nested list of Iso18245MerchantCategoryCode enumeration values */
+			private static final ThomsonReutersNestedList LIST = build();
+			
+			/** Classifies every enumeration value, in declaration order. */
+			private static ThomsonReutersNestedList build() {
+				Iso18245MerchantCategoryCode[] mccs = values();
+				ThomsonReutersNestedList list = mccs[0].new ThomsonReutersNestedList();
+				for (Iso18245MerchantCategoryCode mcc : mccs) list.add(mcc);
+				return list;
+			}
+			
+		}
+		
+		/** Holder of the nested lists grouped by classifications, each built on first use (for its combination of classifications) in a single pass over the enumeration values. */
+		private static class GroupedNestedLists {
+			
+			/** The nested lists already built, by classifications */
+			private static final ConcurrentMap<List<Classification>, GroupedNestedList> LISTS = new ConcurrentHashMap<>();
+			
+			/** 
+			 * Returns the nested list grouped by <code>classifications</code>, building it if needed.
+			 * @throws IllegalArgumentException if no classification is given, or one is null or given twice
+			 */
+			private static GroupedNestedList get(Classification... classifications) throws IllegalArgumentException {
+				if (classifications.length == 0) throw new IllegalArgumentException ("At least one classification is required"); //$NON-NLS-1$
+				for (int i=0; i<classifications.length; i++) {
+					if (classifications[i] == null) throw new IllegalArgumentException ("Null classification"); //$NON-NLS-1$
+					for (int j=0; j<i; j++) if (classifications[j] == classifications[i]) throw new IllegalArgumentException ("Classification " + classifications[i] + " given twice"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				return LISTS.computeIfAbsent(Collections.unmodifiableList(Arrays.asList(classifications.clone())), GroupedNestedLists::build);
+			}
+			
+			/** Classifies every enumeration value, in declaration order. */
+			private static GroupedNestedList build(List<Classification> classifications) {
+				Iso18245MerchantCategoryCode[] mccs = values();
+				GroupedNestedList list = mccs[0].new GroupedNestedList(classifications.toArray(new Classification[classifications.size()]));
+				for (Iso18245MerchantCategoryCode mcc : mccs) list.add(mcc);
+				return list;
+			}
+			
+		}
+		
+		/** The adapters of the scheme groups which are not ITaxonomy (Visa MCG, Mastercard TCC) as nested lists levels, by ordinal. */
+		private static class SchemeGroupTaxonomies {
+			
+			/** The VisaMerchantCategoryGroup levels (coded by MCG code) */
+			private static final ITaxonomy[] MCG = new ITaxonomy[VisaMerchantCategoryGroup.values().length];
+			/** The MastercardTransactionCategoryCode levels (coded by ordinal, as TCC letters are shared by several transaction categories) */
+			private static final ITaxonomy[] TCC = new ITaxonomy[MastercardTransactionCategoryCode.values().length];
+			
+			static {
+				for (VisaMerchantCategoryGroup group : VisaMerchantCategoryGroup.values()) MCG[group.ordinal()] = new SchemeGroupTaxonomy(group.getCode(), group::getLabel);
+				for (MastercardTransactionCategoryCode tcc : MastercardTransactionCategoryCode.values()) TCC[tcc.ordinal()] = new SchemeGroupTaxonomy(tcc.ordinal(), tcc::getLabel);
+			}
+			
+		}
+		
+		/** A scheme group as ITaxonomy (without parent) */
+		private static class SchemeGroupTaxonomy implements ITaxonomy {
+			
+			/** The level code */
+			private final int code;
+			/** The group label in a locale */
+			private final Function<Locale, String> label;
+			
+			private SchemeGroupTaxonomy(int code, Function<Locale, String> label) {
+				this.code = code;
+				this.label = label;
+			}
+			
+			@Override public int getCode() { return code; }
+			@Override public String getDescription() { return label.apply(Locale.getDefault()); }
+			@Override public String getDescription(Locale locale) { return label.apply(locale); }
+			@Override public ITaxonomy getParent() { return null; }
+		}
+		
+		// --------------------------------------------------------------
+		// Airline brand abbreviations index, by scheme
+		// --------------------------------------------------------------
+		
+		/** 
+		 * Open addressing hash index from (upper case) brand abbreviation to MCC, for one payment scheme.
+		 * <br>Keys are hashed and compared with ASCII case folding, so that a CharSequence or byte range can be looked up in place; 
+		 * linear probing in a power of two table kept at most half full. Immutable once built.
+		 */
+		private static final class BrandAbbreviationIndex {
+			
+			/** The index of each PaymentScheme, by ordinal */
+			private static final BrandAbbreviationIndex[] BY_SCHEME = build();
+			
+			/** The abbreviations (upper case), null for free slots */
+			private final String[] keys;
+			/** The hash of each key */
+			private final int[] hashes;
+			/** The MCC of each key */
+			private final Iso18245MerchantCategoryCode[] values;
+			
+			/** Builds an empty index for <code>count</code> abbreviations */
+			private BrandAbbreviationIndex(int count) {
+				int capacity = Integer.highestOneBit(Math.max(count, 1) * 4 - 1);
+				keys = new String[capacity];
+				hashes = new int[capacity];
+				values = new Iso18245MerchantCategoryCode[capacity];
+			}
+			
+			/** Builds the index of each scheme, in a single pass over the enumeration values (first declared MCC kept for a duplicate abbreviation). */
+			private static BrandAbbreviationIndex[] build() {
+				PaymentScheme[] schemes = PaymentScheme.values();
+				Iso18245MerchantCategoryCode[] mccs = values();
+				BrandAbbreviationIndex[] indexes = new BrandAbbreviationIndex[schemes.length];
+				for (PaymentScheme scheme : schemes) {
+					int count = 0;
+					for (Iso18245MerchantCategoryCode mcc : mccs) if (mcc.getBrandAbbreviation(scheme) != null) count++;
+					BrandAbbreviationIndex index = new BrandAbbreviationIndex(count);
+					for (Iso18245MerchantCategoryCode mcc : mccs) {
+						String abbreviation = mcc.getBrandAbbreviation(scheme);
+						if (abbreviation != null && index.get(abbreviation, 0, abbreviation.length()) == null) index.put(abbreviation, mcc);
+					}
+					indexes[scheme.ordinal()] = index;
+				}
+				return indexes;
+			}
+			
+			/** Indexes <code>mcc</code> under <code>abbreviation</code> (not yet indexed) */
+			private void put(String abbreviation, Iso18245MerchantCategoryCode mcc) {
+				int end = trim(abbreviation, 0, abbreviation.length()), hash = 0;
+				StringBuilder key = new StringBuilder(end);
+				for (int i=0; i<end; i++) {
+					key.append((char) fold(abbreviation.charAt(i)));
+					hash = 31 * hash + key.charAt(i);
+				}
+				int mask = keys.length - 1, i = spread(hash) & mask;
+				while (keys[i] != null) i = (i + 1) & mask;
+				keys[i] = key.toString();
+				hashes[i] = hash;
+				values[i] = mcc;
+			}
+			
+			/** Returns the MCC indexed under the <code>start</code> to <code>end</code> sub-sequence of <code>chars</code>, or null */
+			private Iso18245MerchantCategoryCode get(CharSequence chars, int start, int end) {
+				end = trim(chars, start, end);
+				int hash = 0;
+				for (int i=start; i<end; i++) hash = 31 * hash + fold(chars.charAt(i));
+				int mask = keys.length - 1;
+				for (int i = spread(hash) & mask; keys[i] != null; i = (i + 1) & mask) {
+					if (hashes[i] != hash || keys[i].length() != end - start) continue;
+					String key = keys[i];
+					int j = 0;
+					while (j < key.length() && key.charAt(j) == fold(chars.charAt(start + j))) j++;
+					if (j == key.length()) return values[i];
+				}
+				return null;
+			}
+			
+			/** Returns the MCC indexed under the <code>start</code> to <code>end</code> bytes of either <code>bytes</code> or <code>buffer</code> (the other being null), or null */
+			private Iso18245MerchantCategoryCode get(byte[] bytes, ByteBuffer buffer, int start, int end) {
+				while (end > start && (bytes != null ? bytes[end - 1] : buffer.get(end - 1)) == ' ') end--;
+				int hash = 0;
+				for (int i=start; i<end; i++) hash = 31 * hash + fold((bytes != null ? bytes[i] : buffer.get(i)) & 0xFF);
+				int mask = keys.length - 1;
+				for (int i = spread(hash) & mask; keys[i] != null; i = (i + 1) & mask) {
+					if (hashes[i] != hash || keys[i].length() != end - start) continue;
+					String key = keys[i];
+					int j = 0;
+					while (j < key.length() && key.charAt(j) == fold((bytes != null ? bytes[start + j] : buffer.get(start + j)) & 0xFF)) j++;
+					if (j == key.length()) return values[i];
+				}
+				return null;
+			}
+			
+			/** Returns <code>end</code> moved back before the trailing spaces of the <code>start</code> to <code>end</code> sub-sequence of <code>chars</code> */
+			private static int trim(CharSequence chars, int start, int end) {
+				while (end > start && chars.charAt(end - 1) == ' ') end--;
+				return end;
+			}
+			
+			/** Folds ASCII lower case letters to upper case, other characters are unchanged */
+			private static int fold(int c) {
+				return (c >= 'a' && c <= 'z') ? c - ('a' - 'A') : c;
+			}
+			
+			/** Spreads <code>hash</code> bits (abbreviations share long prefixes such as "AIR ") */
+			private static int spread(int hash) {
+				int h = hash * 0x9E3779B9;
+				return h ^ (h >>> 16);
+			}
+		}
+		
+		// --------------------------------------------------------------
+		// Columnar (struct-of-arrays) view of the MCC classifications
+		// --------------------------------------------------------------
+		
+		/**
+		 * Read-only columnar view of the Iso18245MerchantCategoryCode classifications.
+		 * <p>
+		 * Each classification (range, Mastercard head category, TCC, Visa MCG, TRBC industry) is stored as the ordinal of the 
+		 * corresponding enumeration in a byte (or short) column indexed by MCC ordinal; {@link #ordinalOf(int)} maps a MCC code to its ordinal.
+		 * <br>All classifications of a MCC are also packed in a single long, indexed by code, for use on the authorization path:
+		 * <pre>
+		 * bits  0-15 : MCC code
+		 * bits 16-23 : MerchantCategoryRange ordinal
+		 * bits 24-31 : MastercardMerchantCategory ordinal
+		 * bits 32-39 : MastercardTransactionCategoryCode ordinal (0xFF if none)
+		 * bits 40-47 : VisaMerchantCategoryGroup ordinal (0xFF if none)
+		 * bits 48-63 : TRBCIndustry ordinal
+		 * </pre>
+		 * Columns are built once, on first use of this class, from the enumeration values.
+		 */
+		public static final class MerchantCategoryColumns {
+			
+			/** Packed value returned for unknown MCC codes (code bits set to 0xFFFF, which is never a MCC) */
+			public static final long UNKNOWN = -1L;
+			/** Ordinal returned when the classification is not set (e.g. MCC not valid for Mastercard) or the MCC is unknown */
+			public static final int NONE = -1;
+			
+			/** MCC ordinal by MCC code, NONE if the code is not allocated */
+			private static final short[] ORDINAL_BY_CODE = new short[MAX_CODE + 1];
+			/** MerchantCategoryRange ordinal by MCC ordinal */
+			private static final byte[] RANGE;
+			/** MastercardMerchantCategory ordinal by MCC ordinal */
+			private static final byte[] HEAD_CATEGORY;
+			/** MastercardTransactionCategoryCode ordinal by MCC ordinal, NONE if not set */
+			private static final byte[] TCC;
+			/** VisaMerchantCategoryGroup ordinal by MCC ordinal, NONE if not set */
+			private static final byte[] MCG;
+			/** TRBCIndustry ordinal by MCC ordinal */
+			private static final short[] TRBC;
+			/** Packed classifications by MCC ordinal */
+			private static final long[] PACKED;
+			/** Packed classifications by MCC code, UNKNOWN if the code is not allocated */
+			private static final long[] PACKED_BY_CODE = new long[MAX_CODE + 1];
+			
+			static {
+				Iso18245MerchantCategoryCode[] mccs = values();
+				int len = mccs.length;
+				RANGE = new byte[len];
+				HEAD_CATEGORY = new byte[len];
+				TCC = new byte[len];
+				MCG = new byte[len];
+				TRBC = new short[len];
+				PACKED = new long[len];
+				for (int i=0; i<len; i++) {
+					Iso18245MerchantCategoryCode mcc = mccs[i];
+					RANGE[i] = (byte) mcc.categoryRange.ordinal();
+					HEAD_CATEGORY[i] = (byte) mcc.headCategory.ordinal();
+					TCC[i] = (byte) (mcc.schemeTCC == null ? NONE : mcc.schemeTCC.ordinal());
+					MCG[i] = (byte) (mcc.schemeMCG == null ? NONE : mcc.schemeMCG.ordinal());
+					TRBC[i] = (short) mcc.TRBClassification.ordinal();
+					PACKED[i] = (mcc.code & 0xFFFFL) 
+							| (RANGE[i] & 0xFFL) << 16
+							| (HEAD_CATEGORY[i] & 0xFFL) << 24
+							| (TCC[i] & 0xFFL) << 32
+							| (MCG[i] & 0xFFL) << 40
+							| (TRBC[i] & 0xFFFFL) << 48;
+				}
+				Arrays.fill(ORDINAL_BY_CODE, (short) NONE);
+				Arrays.fill(PACKED_BY_CODE, UNKNOWN);
+				for (int code=0; code<=MAX_CODE; code++) {
+					Iso18245MerchantCategoryCode mcc = CODE_INDEX[code];
+					if (mcc == null) continue;
+					ORDINAL_BY_CODE[code] = (short) mcc.ordinal();
+					PACKED_BY_CODE[code] = PACKED[mcc.ordinal()];
+				}
+			}
+			
+			/** Not instantiable */
+			private MerchantCategoryColumns() {
+			}
+			
+			/** Returns the ordinal of the MCC enumeration value for <code>code</code>, or NONE if the code is not allocated. */
+			public static int ordinalOf(int code) {
+				return (code >= 0 && code <= MAX_CODE) ? ORDINAL_BY_CODE[code] : NONE;
+			}
+			
+			/** Returns all the classifications of the MCC <code>code</code> packed in a long (see class documentation), or UNKNOWN if the code is not allocated. */
+			public static long getPacked(int code) {
+				return (code >= 0 && code <= MAX_CODE) ? PACKED_BY_CODE[code] : UNKNOWN;
+			}
+			
+			/** Returns all the classifications of the MCC enumeration value of given <code>ordinal</code> packed in a long. */
+			public static long getPackedByOrdinal(int ordinal) { return PACKED[ordinal]; }
+			
+			/** Returns the MerchantCategoryRange ordinal of the MCC enumeration value of given <code>ordinal</code>. */
+			public static int getRangeOrdinal(int ordinal) { return RANGE[ordinal]; }
+			
+			/** Returns the MastercardMerchantCategory ordinal of the MCC enumeration value of given <code>ordinal</code>. */
+			public static int getHeadCategoryOrdinal(int ordinal) { return HEAD_CATEGORY[ordinal]; }
+			
+			/** Returns the MastercardTransactionCategoryCode ordinal of the MCC enumeration value of given <code>ordinal</code>, or NONE. */
+			public static int getTCCOrdinal(int ordinal) { return TCC[ordinal]; }
+			
+			/** Returns the VisaMerchantCategoryGroup ordinal of the MCC enumeration value of given <code>ordinal</code>, or NONE. */
+			public static int getMCGOrdinal(int ordinal) { return MCG[ordinal]; }
+			
+			/** Returns the TRBCIndustry ordinal of the MCC enumeration value of given <code>ordinal</code>. */
+			public static int getTRBCOrdinal(int ordinal) { return TRBC[ordinal]; }
+			
+			/** Extracts the MCC code from a <code>packed</code> value, NONE if UNKNOWN. */
+			public static int unpackCode(long packed) { return packed == UNKNOWN ? NONE : (int) (packed & 0xFFFF); }
+			
+			/** Extracts the MerchantCategoryRange ordinal from a <code>packed</code> value, NONE if UNKNOWN. */
+			public static int unpackRangeOrdinal(long packed) { return packed == UNKNOWN ? NONE : (int) (packed >>> 16 & 0xFF); }
+			
+			/** Extracts the MastercardMerchantCategory ordinal from a <code>packed</code> value, NONE if UNKNOWN. */
+			public static int unpackHeadCategoryOrdinal(long packed) { return packed == UNKNOWN ? NONE : (int) (packed >>> 24 & 0xFF); }
+			
+			/** Extracts the MastercardTransactionCategoryCode ordinal from a <code>packed</code> value, NONE if not set or UNKNOWN. */
+			public static int unpackTCCOrdinal(long packed) { return (byte) (packed >>> 32); }
+			
+			/** Extracts the VisaMerchantCategoryGroup ordinal from a <code>packed</code> value, NONE if not set or UNKNOWN. */
+			public static int unpackMCGOrdinal(long packed) { return (byte) (packed >>> 40); }
+			
+			/** Extracts the TRBCIndustry ordinal from a <code>packed</code> value, NONE if UNKNOWN. */
+			public static int unpackTRBCOrdinal(long packed) { return packed == UNKNOWN ? NONE : (int) (packed >>> 48); }
+			
 		}
 
 		// --------------------------------------------------------------
@@ -1989,12 +3293,12 @@ public interface IMerchantCategoryCodes {
 			private static final long serialVersionUID = -7870986844454097L;
 
 			/** The MCC enumeration value */
-			private Iso18245MerchantCategoryCode mcc;
+			private final Iso18245MerchantCategoryCode mcc;
 			
 			/** The MCC numeric code (for JSON) */
-			@Expose private int code;
+			@Expose private final int code;
 			/** The MCC description (for JSON) */
-			@Expose private String description;
+			@Expose private final String description;
 			
 			/** Builds a new wrapper for this MCC. */
 			public MerchantCategoryCode (Iso18245MerchantCategoryCode mcc) {
@@ -2027,29 +3331,39 @@ public interface IMerchantCategoryCodes {
 		// A Iso18245MerchantCategoryCode Taxonomy nested List as a POJO
 		// --------------------------------------------------------------
 
-		/** Simple POJO wrapper for a Nested list of Categories. */
+		/** 
+		 * Simple POJO wrapper for a Nested list of Categories.
+		 * <p>
+		 * Deeply immutable (final fields, unmodifiable lists of immutable elements): a nested list can be shared and read by any number of threads 
+		 * without synchronization nor copy.
+		 */
 		public class MerchantCategoryList implements Serializable, ITaxonomyList {
 
 			/** For compatibility when serialized (as pojo or RMI argument) */
 			private static final long serialVersionUID = -3171279055191105982L;
 			/** The taxonomy level description */
-			@Expose private String label;
+			@Expose private final String label;
 			/** The taxonomy level code */
-			private int code;
+			private final int code;
 			/** The list of MerchantCategoryList or MerchantCategoryCode, that is one of the ICategory instance underlying List transformed in MerchantCategoryList */
-			@Expose private List<?> list;
+			@Expose private final List<?> list;
 
 			/** 
 			 * Builds a new Merchant Category nested List 
 			 * <p>
 			 * @param code the taxonomy level code
 			 * @param label the taxonomy level description
-			 * @param list the unwrapped list 
+			 * @param list the unwrapped list (copied)
 			 */
 			public MerchantCategoryList(int code, String label, List<?> list) {
+				this(code, label, list.toArray());
+			}
+			
+			/** Builds a new Merchant Category nested List over <code>elements</code>, owned by this list from now on (not copied) */
+			private MerchantCategoryList(int code, String label, Object[] elements) {
 				this.code = code;
 				this.label = label;
-				this.list = list;
+				this.list = Collections.unmodifiableList(Arrays.asList(elements));
 			}
 			
 			// ------------------------------
@@ -2070,58 +3384,516 @@ public interface IMerchantCategoryCodes {
 			 */
 			@Override public List<?> getList() { return list; }
 			
-			/** Return a Human readable representation of this Country Code. */
-			@Override public String toString() {
-				StringBuffer buf = new StringBuffer();
-				buf.append(tab(label + " {")); //$NON-NLS-1$
-				for (ListIterator<?> i = list.listIterator(); i.hasNext(); ) {
-					Object obj = i.next();
+			/** 
+			 * Renders this nested list as indented text to <code>out</code> (e.g. a StringBuilder or a Writer), each level indented by 2 spaces.
+			 * @see #render(Appendable, CharSequence)
+			 */
+			public void render(Appendable out) throws IOException {
+				render(out, "  "); //$NON-NLS-1$
+			}
+			
+			/** 
+			 * Renders this nested list as indented text to <code>out</code> (e.g. a StringBuilder or a Writer), each level indented by <code>indent</code>.
+			 * <p>
+			 * Each level is written as its label followed by " {", its MCCs (one per line) or sub-levels, and a closing "}". 
+			 * Reentrant: the depth is passed along the recursion (no shared state), and lines are appended piecewise without intermediate strings.
+			 */
+			public void render(Appendable out, CharSequence indent) throws IOException {
+				render(out, indent, 1);
+			}
+			
+			/** Renders this nested list at <code>depth</code> (number of indentations of its label line) */
+			private void render(Appendable out, CharSequence indent, int depth) throws IOException {
+				indent(out, indent, depth).append(label).append(" {\n"); //$NON-NLS-1$
+				for (Object obj : list) {
 					if (obj instanceof MerchantCategoryList) {
-						tabIndex++;
-						buf.append(obj);
-						tabIndex--;
-					} else {
-						buf.append(tab("  " + obj)); // Merchant Category Code //$NON-NLS-1$
+						((MerchantCategoryList) obj).render(out, indent, depth + 1);
+					} else { // Merchant Category Code
+						MerchantCategoryCode mcc = (MerchantCategoryCode) obj;
+						indent(out, indent, depth + 1).append('(')
+							.append((char) ('0' + mcc.code / 1000)).append((char) ('0' + mcc.code / 100 % 10))
+							.append((char) ('0' + mcc.code / 10 % 10)).append((char) ('0' + mcc.code % 10))
+							.append(") ").append(mcc.description).append('\n'); //$NON-NLS-1$
 					}
 				}
-				buf.append(tab("}")); //$NON-NLS-1$
+				indent(out, indent, depth).append("}\n"); //$NON-NLS-1$
+			}
+			
+			/** Appends <code>depth</code> times <code>indent</code> to <code>out</code>; returns <code>out</code>. */
+			private Appendable indent(Appendable out, CharSequence indent, int depth) throws IOException {
+				for (int j=0; j<depth; j++) out.append(indent);
+				return out;
+			}
+			
+			/** Return a Human readable representation of this nested list (see {@link #render(Appendable)}). */
+			@Override public String toString() {
+				StringBuilder buf = new StringBuilder();
+				try {
+					render(buf);
+				} catch (IOException e) {
+					throw new IllegalStateException ("Cannot render nested list in memory", e); //$NON-NLS-1$
+				}
 				return buf.toString();
 			}
 
 		}
 		
-		/** Prefixes <code>str</code> by N tabulation according to static <code>tabIndex</code> value representing the actual list level. */
-		private String tab(String str) {
-			StringBuffer buf = new StringBuffer();
-			for (int j=0; j<=tabIndex; j++) buf.append("  "); //$NON-NLS-1$
-			buf.append(str + "\n"); //$NON-NLS-1$
-			return buf.toString();
-		}
-		
-		// -------------------------------------------------------------------
-		// Internal Helpers: Category (List), Nested List and Sorting Criteria
-		// -------------------------------------------------------------------
-		
-		/** The different List that can be produced. */
-		private interface IListType {
-			public MerchantCategoryList getMCCList (Comparator<ICategory> listCriterion, Comparator<MerchantCategoryCode> mccCriterion);
-			public String getMCCListAsJSON (Comparator<ICategory> listCriterion, Comparator<MerchantCategoryCode> mccCriterion);
-		}
-		
-		/** General Category contract. A category contains a list of MerchantCategoryCode */
-	    private interface ICategory extends ITaxonomyList {
-	    	public void addMCC(ITaxonomy taxonomy, Iso18245MerchantCategoryCode mcc);
-			public void sortList(Comparator<MerchantCategoryCode> criterion);
-			public MerchantCategoryList getCategoryList();
-	    }
+		// --------------------------------------------------------------
+		// A Merchant Category nested list pre-serialized in JSON
+		// --------------------------------------------------------------
 		
-	    /** General CategoryList contract. A category list contains either a list of Category (containing a list of MerchantCategoryCode) or a list of CategoryList */
-	    private interface ICategoryList extends ICategory {
-			public ICategory get (ITaxonomy taxonomy);
-			public void addCategory (ICategory category);
-	    	public void sortList(Comparator<ICategory> listCriterion, Comparator<MerchantCategoryCode> mccCriterion);
-	    }
-	    
+		/** 
+		 * Immutable, pre-serialized JSON representation of a Merchant Category nested list.
+		 * <p>
+		 * Holds the UTF-8 encoded JSON, its gzip-compressed form and a strong ETag (quoted hex SHA-256 of the UTF-8 bytes), so that 
+		 * web / mobile APIs can serve the content (and answer conditional requests) without serializing, encoding or compressing again. 
+		 * Bytes are never exposed for modification: write methods copy them, buffer views are read-only.
+		 */
+		public static final class JsonArtifact {
+			
+			/** The JSON representation */
+			private final String json;
+			/** The UTF-8 encoded JSON representation */
+			private final byte[] utf8;
+			/** The gzip-compressed UTF-8 encoded JSON representation */
+			private final byte[] gzip;
+			/** The strong ETag (quoted) for this content */
+			private final String etag;
+			
+			/** Builds the artifact for <code>json</code>: encodes, compresses and hashes it. */
+			private JsonArtifact(String json) {
+				this.json = json;
+				this.utf8 = json.getBytes(StandardCharsets.UTF_8);
+				this.gzip = gzip(utf8);
+				this.etag = '"' + sha256Hex(utf8) + '"';
+			}
+			
+			/** Returns the JSON representation */
+			public String getJson() { return json; }
+			
+			/** Returns the strong ETag for this content (quoted, as expected in ETag / If-None-Match HTTP headers) */
+			public String getETag() { return etag; }
+			
+			/** Returns the length of the UTF-8 encoded JSON */
+			public int getContentLength() { return utf8.length; }
+			
+			/** Returns the length of the gzip-compressed UTF-8 encoded JSON */
+			public int getGzipContentLength() { return gzip.length; }
+			
+			/** Writes the UTF-8 encoded JSON to <code>out</code>. */
+			public void writeTo(OutputStream out) throws IOException { out.write(utf8); }
+			
+			/** Writes the gzip-compressed UTF-8 encoded JSON to <code>out</code>. */
+			public void writeGzipTo(OutputStream out) throws IOException { out.write(gzip); }
+			
+			/** 
+			 * Puts the UTF-8 encoded JSON in <code>buffer</code> (relative put).
+			 * @throws BufferOverflowException if there is insufficient space remaining in <code>buffer</code> 
+			 */
+			public void writeTo(ByteBuffer buffer) throws BufferOverflowException { buffer.put(utf8); }
+			
+			/** 
+			 * Puts the gzip-compressed UTF-8 encoded JSON in <code>buffer</code> (relative put).
+			 * @throws BufferOverflowException if there is insufficient space remaining in <code>buffer</code> 
+			 */
+			public void writeGzipTo(ByteBuffer buffer) throws BufferOverflowException { buffer.put(gzip); }
+			
+			/** Returns a read-only buffer view on the UTF-8 encoded JSON (no copy) */
+			public ByteBuffer asByteBuffer() { return ByteBuffer.wrap(utf8).asReadOnlyBuffer(); }
+			
+			/** Returns a read-only buffer view on the gzip-compressed UTF-8 encoded JSON (no copy) */
+			public ByteBuffer asGzipByteBuffer() { return ByteBuffer.wrap(gzip).asReadOnlyBuffer(); }
+			
+			/** Returns the gzip-compressed form of <code>bytes</code>. */
+			private static byte[] gzip(byte[] bytes) {
+				ByteArrayOutputStream buf = new ByteArrayOutputStream(bytes.length / 4);
+				try (GZIPOutputStream out = new GZIPOutputStream(buf)) {
+					out.write(bytes);
+				} catch (IOException e) {
+					throw new IllegalStateException ("Cannot compress JSON in memory", e); //$NON-NLS-1$
+				}
+				return buf.toByteArray();
+			}
+			
+			/** Returns the hexadecimal SHA-256 digest of <code>bytes</code>. */
+			private static String sha256Hex(byte[] bytes) {
+				try {
+					byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes); //$NON-NLS-1$
+					StringBuilder hex = new StringBuilder(digest.length * 2);
+					for (byte b : digest) hex.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+					return hex.toString();
+				} catch (NoSuchAlgorithmException e) {
+					throw new IllegalStateException ("SHA-256 not supported by this JVM", e); //$NON-NLS-1$
+				}
+			}
+			
+			/** Return the JSON representation. */
+			@Override public String toString() { return json; }
+			
+		}
+		
+		// --------------------------------------------------------------
+		// Paginated navigation in Merchant Category nested lists
+		// --------------------------------------------------------------
+		
+		/** A child of a nested list level, as listed in a {@link TreePage}: a sub-level, or a MCC (then without children). Immutable. */
+		public static final class TreeItem implements Serializable {
+			
+			/** For compatibility when serialized (as pojo or RMI argument) */
+			private static final long serialVersionUID = 4187390154172339860L;
+			/** The level code (taxonomy code), or MCC code */
+			@Expose private final int code;
+			/** The level label (taxonomy description), or MCC description */
+			@Expose private final String label;
+			/** The number of children of the level, 0 for a MCC */
+			@Expose private final int childCount;
+			
+			private TreeItem(int code, String label, int childCount) {
+				this.code = code;
+				this.label = label;
+				this.childCount = childCount;
+			}
+			
+			/** Returns the level code (taxonomy code, to append to the path to expand this level), or the MCC code */
+			public int getCode() { return code; }
+			/** Returns the level label (taxonomy description), or the MCC description */
+			public String getLabel() { return label; }
+			/** Returns the number of children of the level, 0 for a MCC */
+			public int getChildCount() { return childCount; }
+			/** Returns true if this item is a MCC (cannot be expanded) */
+			public boolean isLeaf() { return childCount == 0; }
+			
+			/** Return a Human readable representation of this item. */
+			@Override public String toString() {
+				return label + " (" + code + ")" + (isLeaf() ? "" : " [" + childCount + "]"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			}
+		}
+		
+		/** 
+		 * A page of the direct children of a nested list level. Immutable.
+		 * <p>
+		 * Pages are slices of the children of the level, which are listed (as TreeItem and JSON fragments) once per level and orders, 
+		 * then cached: the cost of a page is proportional to its size, not to the size of the tree.
+		 */
+		public static final class TreePage implements Serializable {
+			
+			/** For compatibility when serialized (as pojo or RMI argument) */
+			private static final long serialVersionUID = -2450387113982659157L;
+			/** The expanded level code */
+			@Expose private final int code;
+			/** The expanded level label */
+			@Expose private final String label;
+			/** The total number of children of the level */
+			@Expose private final int total;
+			/** The children in this page */
+			@Expose private final List<TreeItem> items;
+			/** The cursor of the next page, null if this page is the last one */
+			@Expose private final String nextCursor;
+			/** The level children listing (for JSON fragments) */
+			private final transient TreeLevel level;
+			/** The index of the first child of this page */
+			private final int offset;
+			
+			private TreePage(TreeLevel level, int offset, int length, String nextCursor) {
+				this.code = level.code;
+				this.label = level.label;
+				this.total = level.items.length;
+				this.items = Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(level.items, offset, offset + length)));
+				this.nextCursor = nextCursor;
+				this.level = level;
+				this.offset = offset;
+			}
+			
+			/** Returns the expanded level code */
+			public int getCode() { return code; }
+			/** Returns the expanded level label */
+			public String getLabel() { return label; }
+			/** Returns the total number of children of the expanded level */
+			public int getTotal() { return total; }
+			/** Returns the children in this page, as an unmodifiable list */
+			public List<TreeItem> getItems() { return items; }
+			/** Returns the opaque cursor of the next page, null if this page is the last one */
+			public String getNextCursor() { return nextCursor; }
+			
+			/** Returns this page as compact JSON (same layout as Gson), assembled from the cached JSON fragments of the level children. */
+			public String toJson() {
+				if (level == null) throw new IllegalStateException ("JSON fragments are not serialized"); //$NON-NLS-1$
+				StringBuilder json = new StringBuilder(level.header.length() + 64 + items.size() * 64);
+				json.append(level.header).append(",\"items\":["); //$NON-NLS-1$
+				for (int i=0; i<items.size(); i++) {
+					if (i > 0) json.append(',');
+					json.append(level.fragments[offset + i]);
+				}
+				json.append(']');
+				if (nextCursor != null) json.append(",\"nextCursor\":\"").append(nextCursor).append('"'); //$NON-NLS-1$
+				return json.append('}').toString();
+			}
+			
+			/** Return a Human readable representation of this page. */
+			@Override public String toString() {
+				return label + " (" + code + "): " + offset + "-" + (offset + items.size()) + " / " + total + " " + items; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			}
+		}
+		
+		// --------------------------------------------------------------
+		// Sorting criteria for Merchant Category nested lists
+		// --------------------------------------------------------------
+		
+		/** The orders in which categories and MCCs of a nested list can be sorted. */
+		public enum ListOrder {
+			
+			/** Ascending code order */
+			BY_CODE (new OrderCategoryByCode(), new OrderMCCByCode()),
+			/** Description (label) alphabetical order */
+			BY_DESCRIPTION (new OrderCategoryByDescription(), new OrderMCCByDescription());
+			
+			/** The number of list orders (values() clones its array on each call) */
+			private static final int COUNT = values().length;
+			
+			/** The comparator to sort categories in this order */
+			private final Comparator<ICategory> categoryCriterion;
+			/** The comparator to sort MCCs in this order */
+			private final Comparator<MerchantCategoryCode> mccCriterion;
+			
+			/** Builds a list order with its (stateless, shared) comparators. */
+			private ListOrder(Comparator<ICategory> categoryCriterion, Comparator<MerchantCategoryCode> mccCriterion) {
+				this.categoryCriterion = categoryCriterion;
+				this.mccCriterion = mccCriterion;
+			}
+			
+			/** Returns the number of (category order, MCC order) combinations */
+			private static int combinations() {
+				return COUNT * COUNT;
+			}
+			
+			/** Returns the index of the (<code>listOrder</code>, <code>mccOrder</code>) combination in snapshot caches (0 to {@link #combinations()} - 1). */
+			private static int snapshotIndex(ListOrder listOrder, ListOrder mccOrder) {
+				return listOrder.ordinal() * COUNT + mccOrder.ordinal();
+			}
+			
+		}
+		
+		// --------------------------------------------------------------
+		// Classifications for grouped Merchant Category nested lists
+		// --------------------------------------------------------------
+		
+		/** The classifications MCC can be grouped by in a nested list level (see {@link Iso18245MerchantCategoryCode#getNestedList(ListOrder, ListOrder, Classification...)}). */
+		public enum Classification {
+			
+			/** By MerchantCategoryRange */
+			MERCHANT_CATEGORY_RANGE (mcc -> mcc.categoryRange),
+			/** By MastercardMerchantCategory */
+			MASTERCARD_MERCHANT_CATEGORY (mcc -> mcc.headCategory),
+			/** By VisaMerchantCategoryGroup (levels coded by MCG code) */
+			VISA_MERCHANT_CATEGORY_GROUP (mcc -> mcc.schemeMCG == null ? null : SchemeGroupTaxonomies.MCG[mcc.schemeMCG.ordinal()]),
+			/** By MastercardTransactionCategoryCode (levels coded by enumeration ordinal, as TCC letters are shared by several transaction categories) */
+			MASTERCARD_TRANSACTION_CATEGORY (mcc -> mcc.schemeTCC == null ? null : SchemeGroupTaxonomies.TCC[mcc.schemeTCC.ordinal()]),
+			/** By Thomson Reuters Business Classification industry */
+			TRBC_INDUSTRY (mcc -> mcc.TRBClassification);
+			
+			/** Gets the level of a MCC in this classification, null if the MCC is not classified */
+			private final Function<Iso18245MerchantCategoryCode, ITaxonomy> classifier;
+			
+			private Classification(Function<Iso18245MerchantCategoryCode, ITaxonomy> classifier) {
+				this.classifier = classifier;
+			}
+			
+		}
+		
+		// -------------------------------------------------------------------
+		// Internal Helpers: Category (List), Nested List and Sorting Criteria
+		// -------------------------------------------------------------------
+		
+		/** The different List that can be produced. */
+		private interface IListType {
+			public MerchantCategoryList getMCCList (ListOrder listOrder, ListOrder mccOrder);
+			public String getMCCListAsJSON (ListOrder listOrder, ListOrder mccOrder);
+			public JsonArtifact getMCCListAsJSONArtifact (ListOrder listOrder, ListOrder mccOrder);
+			public void writeMCCListAsJSON (ListOrder listOrder, ListOrder mccOrder, JsonWriter writer) throws IOException;
+			public MerchantCategorySpend.Node getSpendTree (long[] amounts, long[] counts, ListOrder listOrder, ListOrder mccOrder);
+			public TreePage getPage (ListOrder listOrder, ListOrder mccOrder, int[] path, String cursor, int pageSize);
+		}
+		
+		/** General Category contract. A category contains a list of MerchantCategoryCode */
+	    private interface ICategory extends ITaxonomyList {
+	    	public void addMCC(ITaxonomy taxonomy, Iso18245MerchantCategoryCode mcc);
+			public MerchantCategoryList getCategoryList(ListOrder listOrder, ListOrder mccOrder);
+			public TreeLevel getTreeLevel(ListOrder listOrder, ListOrder mccOrder);
+			public void writeJSON(JsonWriter writer, Comparator<ICategory> listCriterion, Comparator<MerchantCategoryCode> mccCriterion) throws IOException;
+			public MerchantCategorySpend.Node getSpendNode(long[] amounts, long[] counts, Comparator<ICategory> listCriterion, Comparator<MerchantCategoryCode> mccCriterion);
+	    }
+		
+	    /** General CategoryList contract. A category list contains either a list of Category (containing a list of MerchantCategoryCode) or a list of CategoryList */
+	    private interface ICategoryList extends ICategory {
+			public ICategory get (ITaxonomy taxonomy);
+			public ICategory getByCode (int code);
+			public void addCategory (ICategory category);
+	    }
+	    
+	    /** Minimal Writer adapter over an Appendable (e.g. a StringBuilder), for use by JsonWriter. */
+	    private static class AppendableWriter extends Writer {
+	    	
+	    	/** The adapted Appendable */
+	    	private final Appendable out;
+	    	
+	    	/** Builds a Writer appending to <code>out</code> */
+	    	private AppendableWriter(Appendable out) {
+	    		this.out = out;
+	    	}
+	    	
+			@Override public void write(char[] cbuf, int off, int len) throws IOException { out.append(CharBuffer.wrap(cbuf, off, len)); }
+			@Override public void write(int c) throws IOException { out.append((char) c); }
+			@Override public void write(String str, int off, int len) throws IOException { out.append(str, off, off + len); }
+			@Override public void flush() throws IOException { if (out instanceof Flushable) ((Flushable) out).flush(); }
+			@Override public void close() throws IOException { flush(); }
+	    }
+	    
+	    /** The children of a nested list level (sorted snapshot), listed as TreeItem and pre-serialized JSON fragments for {@link TreePage} */
+	    private static class TreeLevel {
+	    	
+	    	/** The level code */
+	    	private final int code;
+	    	/** The level label */
+	    	private final String label;
+	    	/** The JSON object start for a page of this level, up to the total (members "code", "label", "total") */
+	    	private final String header;
+	    	/** The children */
+	    	private final TreeItem[] items;
+	    	/** The JSON object of each child */
+	    	private final String[] fragments;
+	    	
+	    	/** Lists the children of <code>snapshot</code> */
+	    	private TreeLevel(MerchantCategoryList snapshot) {
+	    		List<?> list = snapshot.getList();
+	    		this.code = snapshot.getCode();
+	    		this.label = snapshot.getLabel();
+	    		this.items = new TreeItem[list.size()];
+	    		this.fragments = new String[items.length];
+	    		for (int i=0; i<items.length; i++) {
+	    			Object child = list.get(i);
+	    			if (child instanceof MerchantCategoryList) {
+	    				MerchantCategoryList level = (MerchantCategoryList) child;
+	    				items[i] = new TreeItem(level.getCode(), level.getLabel(), level.getList().size());
+	    			} else {
+	    				MerchantCategoryCode mcc = (MerchantCategoryCode) child;
+	    				items[i] = new TreeItem(mcc.getCode(), mcc.getDescription(), 0);
+	    			}
+	    			fragments[i] = toJson(items[i].code, items[i].label, "childCount", items[i].childCount, true); //$NON-NLS-1$
+	    		}
+	    		this.header = toJson(code, label, "total", items.length, false); //$NON-NLS-1$
+	    	}
+	    	
+	    	/** Returns the compact JSON object with members "code", "label" and <code>name</code>, closed or not */
+	    	private static String toJson(int code, String label, String name, int value, boolean close) {
+	    		StringWriter json = new StringWriter();
+	    		try {
+	    			JsonWriter writer = new JsonWriter(json);
+	    			writer.setHtmlSafe(true);
+	    			writer.beginObject().name("code").value(code).name("label").value(label).name(name).value(value); //$NON-NLS-1$ //$NON-NLS-2$
+	    			if (close) writer.endObject();
+	    			writer.flush();
+	    		} catch (IOException e) {
+	    			throw new IllegalStateException ("Cannot write JSON in memory", e); //$NON-NLS-1$
+	    		}
+	    		return json.toString();
+	    	}
+	    	
+	    	/** 
+	    	 * Returns the opaque cursor for the child at <code>offset</code>: the offset followed by the <code>scope</code> hash (tree, level path and orders).
+	    	 * <br>A cursor holds no secret, as the offset is checked against the level size anyway: it stays valid in any JVM serving the same MCC data 
+	    	 * (e.g. behind a load balancer or after a restart).
+	    	 */
+	    	private static String encodeCursor(int offset, int scope) {
+	    		return Base64.getUrlEncoder().withoutPadding().encodeToString(ByteBuffer.allocate(8).putInt(offset).putInt(scope).array());
+	    	}
+	    	
+	    	/** 
+	    	 * Returns the child offset of <code>cursor</code>.
+	    	 * @throws IllegalArgumentException if <code>cursor</code> is malformed or was issued for another scope than <code>scope</code>
+	    	 */
+	    	private static int decodeCursor(String cursor, int scope) throws IllegalArgumentException {
+	    		byte[] bytes;
+	    		try {
+	    			bytes = Base64.getUrlDecoder().decode(cursor);
+	    		} catch (IllegalArgumentException e) {
+	    			throw new IllegalArgumentException ("Invalid cursor " + cursor, e); //$NON-NLS-1$
+	    		}
+	    		if (bytes.length != 8) throw new IllegalArgumentException ("Invalid cursor " + cursor); //$NON-NLS-1$
+	    		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+	    		int offset = buffer.getInt();
+	    		if (offset < 0 || buffer.getInt() != scope) throw new IllegalArgumentException ("Invalid cursor " + cursor); //$NON-NLS-1$
+	    		return offset;
+	    	}
+	    	
+	    	/** Returns the hash of the scope a cursor is bound to: the tree <code>name</code>, the level <code>path</code> and the orders <code>snapshotIndex</code> (the same in every JVM, as String.hashCode() is specified) */
+	    	private static int scope(String name, int[] path, int snapshotIndex) {
+	    		int hash = name.hashCode();
+	    		for (int code : path) hash = 31 * hash + code;
+	    		return 31 * hash + snapshotIndex;
+	    	}
+	    }
+	    
+	    /** 
+	     * Open addressing hash map from taxonomy code (int, no boxing) to ICategory, used to index the children of a CategoryList.
+	     * <br>Linear probing in a power of two table kept at most half full; entries are never removed.
+	     */
+	    private static class ChildIndex {
+	    	
+	    	/** Initial table capacity (most nodes have a handful of children) */
+	    	private static final int INITIAL_CAPACITY = 8;
+	    	
+	    	/** The keys (codes), valid where <code>values</code> is not null */
+	    	private int[] keys = new int[INITIAL_CAPACITY];
+	    	/** The categories, null for free slots */
+	    	private ICategory[] values = new ICategory[INITIAL_CAPACITY];
+	    	/** The number of entries */
+	    	private int size;
+	    	
+	    	/** Returns the category indexed under <code>code</code>, or null */
+	    	private ICategory get(int code) {
+	    		int mask = keys.length - 1;
+	    		for (int i = hash(code) & mask; values[i] != null; i = (i + 1) & mask) {
+	    			if (keys[i] == code) return values[i];
+	    		}
+	    		return null;
+	    	}
+	    	
+	    	/** Indexes <code>category</code> under <code>code</code> (replaces any category already indexed under this code) */
+	    	private void put(int code, ICategory category) {
+	    		if ((size + 1) * 2 > keys.length) resize(keys.length * 2);
+	    		int mask = keys.length - 1;
+	    		int i = hash(code) & mask;
+	    		for (; values[i] != null; i = (i + 1) & mask) {
+	    			if (keys[i] == code) { values[i] = category; return; }
+	    		}
+	    		keys[i] = code;
+	    		values[i] = category;
+	    		size++;
+	    	}
+	    	
+	    	/** Rehashes all entries in tables of <code>capacity</code> */
+	    	private void resize(int capacity) {
+	    		int[] oldKeys = keys;
+	    		ICategory[] oldValues = values;
+	    		keys = new int[capacity];
+	    		values = new ICategory[capacity];
+	    		int mask = capacity - 1;
+	    		for (int j=0; j<oldKeys.length; j++) {
+	    			if (oldValues[j] == null) continue;
+	    			int i = hash(oldKeys[j]) & mask;
+	    			while (values[i] != null) i = (i + 1) & mask;
+	    			keys[i] = oldKeys[j];
+	    			values[i] = oldValues[j];
+	    		}
+	    	}
+	    	
+	    	/** Spreads <code>code</code> bits (TRBC codes share their low digits) */
+	    	private static int hash(int code) {
+	    		int h = code * 0x9E3779B9;
+	    		return h ^ (h >>> 16);
+	    	}
+	    }
+	    
 	    /** The top container fake Taxonomy */
 		private static class Container implements ITaxonomy {
 			@Override public int getCode() { return -1; }
@@ -2164,6 +3936,10 @@ public interface IMerchantCategoryCodes {
 	    	private String label;
 			/** This category code = taxonomy code */
 			private int code;
+			/** The snapshots already built, indexed by MCC order ordinal (shared by all category orders) */
+			private final AtomicReferenceArray<MerchantCategoryList> snapshots = new AtomicReferenceArray<>(ListOrder.COUNT);
+			/** The children listings already built, indexed by MCC order ordinal */
+			private final AtomicReferenceArray<TreeLevel> levels = new AtomicReferenceArray<>(ListOrder.COUNT);
 			
 			/** Builds a category listing MCC for the given <code>taxonomy</code> */
 			private Category (ITaxonomy taxonomy) {
@@ -2182,19 +3958,60 @@ public interface IMerchantCategoryCodes {
 			/** Gets this category taxonomy code */
 			@Override public int getCode() { return code; }
 			
-			/** Sorts this list with specified Merchant Category Code sorting <code>criterion</code> using {@link java.util.Collections.sort(List<?>, Comparator<?>)}. */
-			@Override public void sortList(Comparator<MerchantCategoryCode> criterion) { 
-				Collections.sort (this, criterion);
-			}
-
 			/** Adds the given <code>mcc</code> to the list of Merchant Category Code for this category. */
 			@Override public void addMCC (ITaxonomy taxonomy, Iso18245MerchantCategoryCode mcc) {
 				super.add(new MerchantCategoryCode(mcc));
 			}
 
-			/** Gets this list as a simple nested list POJO. */
-			@Override public MerchantCategoryList getCategoryList() {
-				return new MerchantCategoryList (code, label, this);
+			/** 
+			 * Gets a sorted copy of this list (according to <code>mccOrder</code>) as an immutable nested list POJO; this list is left untouched.
+			 * <br>The snapshot does not depend on <code>listOrder</code>: it is built once per MCC order, then shared by the nested lists of every category order.
+			 */
+			@Override public MerchantCategoryList getCategoryList(ListOrder listOrder, ListOrder mccOrder) {
+				MerchantCategoryList snapshot = snapshots.get(mccOrder.ordinal());
+				if (snapshot == null) {
+					MerchantCategoryCode[] mccs = toArray(new MerchantCategoryCode[size()]);
+					Arrays.sort(mccs, mccOrder.mccCriterion);
+					snapshot = new MerchantCategoryList (code, label, (Object[]) mccs);
+					if (!snapshots.compareAndSet(mccOrder.ordinal(), null, snapshot)) snapshot = snapshots.get(mccOrder.ordinal());
+				}
+				return snapshot;
+			}
+			
+			/** Gets the listing of the MCCs of this category sorted according to <code>mccOrder</code>, built once per MCC order. */
+			@Override public TreeLevel getTreeLevel(ListOrder listOrder, ListOrder mccOrder) {
+				TreeLevel level = levels.get(mccOrder.ordinal());
+				if (level == null) {
+					level = new TreeLevel(getCategoryList(listOrder, mccOrder));
+					if (!levels.compareAndSet(mccOrder.ordinal(), null, level)) level = levels.get(mccOrder.ordinal());
+				}
+				return level;
+			}
+
+			/** Writes this list, sorted according to <code>mccCriterion</code>, as a JSON object with the same layout as its MerchantCategoryList POJO. */
+			@Override public void writeJSON(JsonWriter writer, Comparator<ICategory> listCriterion, Comparator<MerchantCategoryCode> mccCriterion) throws IOException {
+				MerchantCategoryCode[] mccs = toArray(new MerchantCategoryCode[size()]);
+				Arrays.sort(mccs, mccCriterion);
+				writer.beginObject().name("label").value(label).name("list").beginArray(); //$NON-NLS-1$ //$NON-NLS-2$
+				for (MerchantCategoryCode mcc : mccs) {
+					writer.beginObject().name("code").value(mcc.code).name("description").value(mcc.description).endObject(); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				writer.endArray().endObject();
+			}
+
+			/** Gets the spend of each MCC of this category (sums by MCC ordinal in <code>amounts</code> and <code>counts</code>), sorted according to <code>mccCriterion</code>, with their total. */
+			@Override public MerchantCategorySpend.Node getSpendNode(long[] amounts, long[] counts, Comparator<ICategory> listCriterion, Comparator<MerchantCategoryCode> mccCriterion) {
+				MerchantCategoryCode[] mccs = toArray(new MerchantCategoryCode[size()]);
+				Arrays.sort(mccs, mccCriterion);
+				MerchantCategorySpend.Node[] list = new MerchantCategorySpend.Node[mccs.length];
+				long amount = 0, count = 0;
+				for (int i=0; i<mccs.length; i++) {
+					int ordinal = mccs[i].mcc.ordinal();
+					list[i] = new MerchantCategorySpend.Node(mccs[i].code, mccs[i].description, amounts[ordinal], counts[ordinal], Collections.emptyList());
+					amount += amounts[ordinal];
+					count += counts[ordinal];
+				}
+				return new MerchantCategorySpend.Node(code, label, amount, count, Collections.unmodifiableList(Arrays.asList(list)));
 			}
 
 			/** Simply returns the underlying List. */
@@ -2210,6 +4027,12 @@ public interface IMerchantCategoryCodes {
 	    	private String label;
 			/** This list code  = taxonomy code */
 	    	private int code;
+	    	/** The sub-categories indexed by code */
+	    	private final ChildIndex index = new ChildIndex();
+	    	/** The snapshots already built, indexed by {@link ListOrder#snapshotIndex(ListOrder, ListOrder)} */
+	    	private final AtomicReferenceArray<MerchantCategoryList> snapshots = new AtomicReferenceArray<>(ListOrder.combinations());
+	    	/** The children listings already built, indexed by {@link ListOrder#snapshotIndex(ListOrder, ListOrder)} */
+	    	private final AtomicReferenceArray<TreeLevel> levels = new AtomicReferenceArray<>(ListOrder.combinations());
 			
 			/** Builds a Category container for the given <code>taxonomy</code> */
 			private CategoryList (ITaxonomy taxonomy) {
@@ -2228,24 +4051,13 @@ public interface IMerchantCategoryCodes {
 			@Override public int getCode() { return code; }
 
 			
-			/** Sorts all this list of Category instances with specified Merchant Category Code sorting <code>criterion</code>. */
-			@Override public void sortList(Comparator<MerchantCategoryCode> criterion) { 
-				for (ListIterator<ICategory> i = this.listIterator(); i.hasNext();) {
-					ICategory category = i.next();
-					category.sortList(criterion);
-				}
-			}
-
-			/** Sorts this list with <code>listCriterion</code> and sublist of MCC according to <code>mccCriterion</code>. */
-			@Override public void sortList(Comparator<ICategory> listCriterion, Comparator<MerchantCategoryCode> mccCriterion) { 
-				Collections.sort (this, listCriterion);
-				sortList(mccCriterion);
-			}
-
 			/** Adds the given <code>mcc</code> to the category corresponding to <code>taxonomy</code>; creates a new Category if it does not exist yet. */
 			@Override public void addMCC(ITaxonomy taxonomy, Iso18245MerchantCategoryCode mcc) {
 				ICategory category = get (taxonomy);
-				if (category == null) { super.add(createCategory(taxonomy)); }
+				if (category == null) {
+					category = createCategory(taxonomy);
+					addCategory(category);
+				}
 				category.addMCC(taxonomy, mcc);
 			}
 
@@ -2254,27 +4066,71 @@ public interface IMerchantCategoryCodes {
 
 			/** Returns the category corresponding to <code>taxonomy</code> or null if no Category exists yet for this taxonomy. */
 			@Override public ICategory get (ITaxonomy taxonomy) {
-				int code = taxonomy.getCode();
-				for (ListIterator<ICategory> i = this.listIterator(); i.hasNext(); ) {
-					ICategory category = i.next();
-					if (category.getCode() == code) return category;
-				}
-				return null;
+				return index.get(taxonomy.getCode());
+			}
+
+			/** Returns the category whose taxonomy code is <code>code</code> or null if none (constant time). */
+			@Override public ICategory getByCode (int code) {
+				return index.get(code);
 			}
 
-			/** Adds a new Category to this underlying list. */
+			/** Adds a new Category to this underlying list (and to the code index). */
 			@Override public void addCategory (ICategory category) { 
 				super.add(category);
+				index.put(category.getCode(), category);
 			}
 
-			/** Gets this list as a simple nested list POJO. */
-			@Override public MerchantCategoryList getCategoryList() {
-				List<MerchantCategoryList> list = Collections.synchronizedList(new ArrayList<>(this.size())); 
-				for (ListIterator<ICategory> i = this.listIterator(); i.hasNext(); ) {
-					ICategory category = i.next();
-					list.add(category.getCategoryList());
+			/** 
+			 * Gets a sorted copy of this list (according to <code>listOrder</code>, and recursively <code>mccOrder</code> for MCC lists) 
+			 * as an immutable nested list POJO; this list and its sub-lists are left untouched.
+			 * <br>The snapshot is built once per combination, from the (cached) snapshots of the sub-lists.
+			 */
+			@Override public MerchantCategoryList getCategoryList(ListOrder listOrder, ListOrder mccOrder) {
+				int snapshotIndex = ListOrder.snapshotIndex(listOrder, mccOrder);
+				MerchantCategoryList snapshot = snapshots.get(snapshotIndex);
+				if (snapshot == null) {
+					ICategory[] categories = toArray(new ICategory[size()]);
+					Arrays.sort(categories, listOrder.categoryCriterion);
+					MerchantCategoryList[] list = new MerchantCategoryList[categories.length];
+					for (int i=0; i<categories.length; i++) list[i] = categories[i].getCategoryList(listOrder, mccOrder);
+					snapshot = new MerchantCategoryList (code, label, (Object[]) list);
+					if (!snapshots.compareAndSet(snapshotIndex, null, snapshot)) snapshot = snapshots.get(snapshotIndex);
+				}
+				return snapshot;
+			}
+			
+			/** Gets the listing of the sub-levels of this list sorted according to <code>listOrder</code>, built once per combination. */
+			@Override public TreeLevel getTreeLevel(ListOrder listOrder, ListOrder mccOrder) {
+				int snapshotIndex = ListOrder.snapshotIndex(listOrder, mccOrder);
+				TreeLevel level = levels.get(snapshotIndex);
+				if (level == null) {
+					level = new TreeLevel(getCategoryList(listOrder, mccOrder));
+					if (!levels.compareAndSet(snapshotIndex, null, level)) level = levels.get(snapshotIndex);
+				}
+				return level;
+			}
+
+			/** Writes this list (and recursively its sub-lists), sorted according to <code>listCriterion</code> and <code>mccCriterion</code>, as a JSON object with the same layout as its MerchantCategoryList POJO. */
+			@Override public void writeJSON(JsonWriter writer, Comparator<ICategory> listCriterion, Comparator<MerchantCategoryCode> mccCriterion) throws IOException {
+				ICategory[] categories = toArray(new ICategory[size()]);
+				Arrays.sort(categories, listCriterion);
+				writer.beginObject().name("label").value(label).name("list").beginArray(); //$NON-NLS-1$ //$NON-NLS-2$
+				for (ICategory category : categories) category.writeJSON(writer, listCriterion, mccCriterion);
+				writer.endArray().endObject();
+			}
+
+			/** Gets the spend of this list (and recursively of its sub-lists), sorted according to <code>listCriterion</code> and <code>mccCriterion</code>, each level with the total of its sub-levels. */
+			@Override public MerchantCategorySpend.Node getSpendNode(long[] amounts, long[] counts, Comparator<ICategory> listCriterion, Comparator<MerchantCategoryCode> mccCriterion) {
+				ICategory[] categories = toArray(new ICategory[size()]);
+				Arrays.sort(categories, listCriterion);
+				MerchantCategorySpend.Node[] list = new MerchantCategorySpend.Node[categories.length];
+				long amount = 0, count = 0;
+				for (int i=0; i<categories.length; i++) {
+					list[i] = categories[i].getSpendNode(amounts, counts, listCriterion, mccCriterion);
+					amount += list[i].getAmount();
+					count += list[i].getCount();
 				}
-				return new MerchantCategoryList (code, label, list);
+				return new MerchantCategorySpend.Node(code, label, amount, count, Collections.unmodifiableList(Arrays.asList(list)));
 			}
 
 			/** Simply returns the underlying List. */
@@ -2311,9 +4167,18 @@ public interface IMerchantCategoryCodes {
 	    }
 	    
 	    
-	    /** The common behaviour for a NestedList (either Scheme or Thomson Reuters type) */
+	    /** 
+	     * The common behaviour for a NestedList (either Scheme or Thomson Reuters type).
+	     * <p>
+	     * The underlying tree is never modified once built: each (category order, MCC order) combination is materialised once 
+	     * as an immutable snapshot, then served from a cache. Snapshots are structurally shared: each category caches its own 
+	     * snapshots, so that e.g. MCC lists sorted by code are the same instances in the nested lists sorted by code or by description.
+	     */
 	    private abstract class NestedList implements IListType {
 
+	    	/** The JSON artifacts already built, indexed by {@link ListOrder#snapshotIndex(ListOrder, ListOrder)} */
+	    	private final AtomicReferenceArray<JsonArtifact> artifacts = new AtomicReferenceArray<>(ListOrder.combinations());
+
 	    	/** 
 	    	 * Gets the category in <code>container</code> for the given <code>taxonomy</code>.
 	    	 * <p> 
@@ -2331,19 +4196,21 @@ public interface IMerchantCategoryCodes {
 			/** Subclasses must provide the root container. */
 			protected abstract ICategoryList getRoot();
 			
+			/** Subclasses must provide a name identifying the tree (e.g. to bind page cursors to it). */
+			protected abstract String getName();
+			
 			/** 
-			 * Sorts this NestedList root (recursively for sub-levels) according to given <code>listCriterion</code> and <code>mccCriterion</code>.
-			 * <br>Then returns the corresponding Merchant Category nested list wrapper.
+			 * Returns the Merchant Category nested list wrapper of this NestedList root, sorted (recursively for sub-levels) according to 
+			 * given <code>listOrder</code> and <code>mccOrder</code>.
+			 * <br>The snapshot is built on first call for this combination, then returned from cache (if two threads race for the first build, 
+			 * both snapshots are equal and only the first one published is kept).
 			 */
-			@Override public MerchantCategoryList getMCCList(Comparator<ICategory> listCriterion, Comparator<MerchantCategoryCode> mccCriterion) {
-				ICategoryList root = getRoot();
-				root.sortList(listCriterion, mccCriterion);
-				return root.getCategoryList();
+			@Override public MerchantCategoryList getMCCList(ListOrder listOrder, ListOrder mccOrder) {
+				return getRoot().getCategoryList(listOrder, mccOrder);
 			}
 
 			/** 
-			 * Sorts this NestedList root (recursively for sub-levels) according to given <code>listCriterion</code> and <code>mccCriterion</code>.
-			 * <br>Then returns the corresponding JSON representation.
+			 * Returns the JSON representation of this NestedList root, sorted (recursively for sub-levels) according to given <code>listOrder</code> and <code>mccOrder</code>.
 			 * <p>
 			 * For instance, here is an extract of corresponding output for Scheme nested list (smart printing option turned on for readability):
 			 * <pre>
@@ -2378,10 +4245,58 @@ public interface IMerchantCategoryCodes {
 			 *
 			 * </pre>
 			 */
-			@Override public String getMCCListAsJSON(Comparator<ICategory> listCriterion, Comparator<MerchantCategoryCode> mccCriterion) {
-				ICategoryList root = getRoot();
-				root.sortList(listCriterion, mccCriterion);
-				return new GsonBuilder().excludeFieldsWithoutExposeAnnotation().setPrettyPrinting().create().toJson(root.getCategoryList());
+			@Override public String getMCCListAsJSON(ListOrder listOrder, ListOrder mccOrder) {
+				return getMCCListAsJSONArtifact(listOrder, mccOrder).getJson();
+			}
+
+			/** 
+			 * Returns the pre-serialized JSON artifact of this NestedList root, sorted according to given <code>listOrder</code> and <code>mccOrder</code>.
+			 * <br>The artifact is built on first call for this combination (see {@link #getMCCListAsJSON(ListOrder, ListOrder)} for the format), then returned from cache.
+			 */
+			@Override public JsonArtifact getMCCListAsJSONArtifact(ListOrder listOrder, ListOrder mccOrder) {
+				int index = ListOrder.snapshotIndex(listOrder, mccOrder);
+				JsonArtifact artifact = artifacts.get(index);
+				if (artifact == null) {
+					StringWriter json = new StringWriter();
+					try {
+						writeJSON(this, listOrder, mccOrder, json, true);
+					} catch (IOException e) {
+						throw new IllegalStateException ("Cannot write JSON in memory", e); //$NON-NLS-1$
+					}
+					artifact = new JsonArtifact(json.toString());
+					if (!artifacts.compareAndSet(index, null, artifact)) artifact = artifacts.get(index);
+				}
+				return artifact;
+			}
+
+			/** Streams this NestedList root as JSON to <code>writer</code>, sorted according to given <code>listOrder</code> and <code>mccOrder</code>, without building the MerchantCategoryList graph. */
+			@Override public void writeMCCListAsJSON(ListOrder listOrder, ListOrder mccOrder, JsonWriter writer) throws IOException {
+				getRoot().writeJSON(writer, listOrder.categoryCriterion, mccOrder.mccCriterion);
+			}
+
+			/** 
+			 * Returns the page of the children of the level at <code>path</code>, sorted according to given <code>listOrder</code> and <code>mccOrder</code>, 
+			 * starting at <code>cursor</code> (see {@link Iso18245MerchantCategoryCode#getSchemeNestedListPage(ListOrder, ListOrder, int[], String, int)}).
+			 */
+			@Override public TreePage getPage(ListOrder listOrder, ListOrder mccOrder, int[] path, String cursor, int pageSize) throws IllegalArgumentException {
+				if (pageSize < 1) throw new IllegalArgumentException ("Invalid page size " + pageSize); //$NON-NLS-1$
+				ICategory category = getRoot();
+				for (int code : path) {
+					category = category instanceof ICategoryList ? ((ICategoryList) category).getByCode(code) : null;
+					if (category == null) throw new IllegalArgumentException ("No level " + code + " in path " + Arrays.toString(path)); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				TreeLevel level = category.getTreeLevel(listOrder, mccOrder);
+				int scope = TreeLevel.scope(getName(), path, ListOrder.snapshotIndex(listOrder, mccOrder));
+				int offset = cursor == null ? 0 : TreeLevel.decodeCursor(cursor, scope);
+				if (offset > level.items.length) throw new IllegalArgumentException ("Invalid cursor " + cursor); //$NON-NLS-1$
+				int length = Math.min(pageSize, level.items.length - offset);
+				String next = offset + length < level.items.length ? TreeLevel.encodeCursor(offset + length, scope) : null;
+				return new TreePage(level, offset, length, next);
+			}
+
+			/** Returns the spend tree of this NestedList root for the given sums by MCC ordinal, sorted according to given <code>listOrder</code> and <code>mccOrder</code>. */
+			@Override public MerchantCategorySpend.Node getSpendTree(long[] amounts, long[] counts, ListOrder listOrder, ListOrder mccOrder) {
+				return getRoot().getSpendNode(amounts, counts, listOrder.categoryCriterion, mccOrder.mccCriterion);
 			}
 
 	    }
@@ -2394,6 +4309,8 @@ public interface IMerchantCategoryCodes {
 			
 			/** Fulfils NestedList contract */
 			@Override protected ICategoryList getRoot() { return root; }
+			/** Fulfils NestedList contract */
+			@Override protected String getName() { return "TRBC"; } //$NON-NLS-1$
 
 			/** Adds the given <code>mcc</code> to the nested list, i.e. classifies it according to Thomson Reuters classification (creates parent level(s) if not yet existing). */
 			private void add (Iso18245MerchantCategoryCode mcc) {
@@ -2438,6 +4355,8 @@ public interface IMerchantCategoryCodes {
 			
 			/** Fulfils NestedList contract */
 			@Override protected ICategoryList getRoot() { return root; }
+			/** Fulfils NestedList contract */
+			@Override protected String getName() { return "SCHEME"; } //$NON-NLS-1$
 
 			/** Adds the given <code>mcc</code> to the nested list, i.e. classifies it according to scheme (Mastercard) classification (creates parent level(s) if not yet existing). */
 			private void add (Iso18245MerchantCategoryCode mcc) {
@@ -2459,7 +4378,1329 @@ public interface IMerchantCategoryCodes {
 			}
 
 		}
+		
+	    /** The NestedList grouping MCCs by any sequence of classifications (one level per classification). */
+		private class GroupedNestedList extends NestedList {
+			
+			/** The classification of each level */
+			private final Classification[] classifications;
+			/** The root container */
+			private CategoryList root = new CategoryList(new Container());
+			
+			/** Builds an empty nested list with a level for each of <code>classifications</code> */
+			private GroupedNestedList(Classification[] classifications) {
+				this.classifications = classifications;
+			}
+			
+			/** Fulfils NestedList contract */
+			@Override protected ICategoryList getRoot() { return root; }
+			/** Fulfils NestedList contract */
+			@Override protected String getName() { return Arrays.toString(classifications); }
+			
+			/** Adds the given <code>mcc</code> to the nested list (creates levels if not yet existing), unless one of the classifications does not classify it. */
+			private void add (Iso18245MerchantCategoryCode mcc) {
+				ITaxonomy[] levels = new ITaxonomy[classifications.length];
+				for (int i=0; i<levels.length; i++) {
+					levels[i] = classifications[i].classifier.apply(mcc);
+					if (levels[i] == null) return;
+				}
+				ICategory category = root;
+				for (int i=0; i<levels.length; i++) {
+					category = getOrCreateCategory((ICategoryList) category, levels[i], i < levels.length - 1 ? CategoryList.class : Category.class, mcc);
+				}
+				category.addMCC(levels[levels.length - 1], mcc);
+			}
+			
+		}
 
 	}	
 
+	
+	// **************************************************
+	
+	// Batch classification of MCC codes, for settlement / clearing files where MCCs come by millions
+	
+	/** What to write in the classification columns of a {@link MerchantCategoryBatch} for an unknown MCC code. */
+	public enum UnknownCodePolicy {
+		/** Writes the "not set" value in each classification column ('\0' for TCC, 0 for MCG and TRBC codes, -1 for range ordinal) */
+		FILL_NONE,
+		/** Leaves the classification columns untouched for this element (e.g. to keep a default filled by the caller) */
+		SKIP
+	}
+	
+	/**
+	 * Batch classifier of MCC codes into output columns.
+	 * <p>
+	 * A batch owns its output columns (allocated once for the given capacity, reused across calls): for the i-th input code, 
+	 * the i-th element of each column receives the MCC ordinal (-1 if unknown), the Mastercard TCC, the Visa MCG code, 
+	 * the MerchantCategoryRange ordinal and the TRBC industry code. Unknown codes never throw: they are counted, marked in 
+	 * the ordinal column and handled according to the given {@link UnknownCodePolicy}.
+	 * <p>
+	 * Each element costs two reads in {@link Iso18245MerchantCategoryCode.MerchantCategoryColumns} tables (the MCC ordinal by code, 
+	 * then the packed classifications by ordinal), decoded through small ordinal-indexed tables. A batch is not thread-safe, but the <code>classifyParallel</code> methods 
+	 * split very large inputs across the common fork/join pool (each task writing a disjoint slice of the columns).
+	 */
+	public final class MerchantCategoryBatch {
+		
+		/** Number of elements below which a parallel classification is no longer split */
+		private static final int PARALLEL_THRESHOLD = 1 << 15;
+		
+		/** Mastercard TCC letter by MastercardTransactionCategoryCode ordinal */
+		private static final char[] TCC_CODES;
+		/** Visa MCG code by VisaMerchantCategoryGroup ordinal */
+		private static final byte[] MCG_CODES;
+		/** TRBC code by TRBCIndustry ordinal */
+		private static final int[] TRBC_CODES;
+		
+		static {
+			MastercardTransactionCategoryCode[] tccs = MastercardTransactionCategoryCode.values();
+			TCC_CODES = new char[tccs.length];
+			for (int i=0; i<tccs.length; i++) TCC_CODES[i] = tccs[i].getCode();
+			VisaMerchantCategoryGroup[] mcgs = VisaMerchantCategoryGroup.values();
+			MCG_CODES = new byte[mcgs.length];
+			for (int i=0; i<mcgs.length; i++) MCG_CODES[i] = (byte) mcgs[i].getCode();
+			TRBCIndustry[] industries = TRBCIndustry.values();
+			TRBC_CODES = new int[industries.length];
+			for (int i=0; i<industries.length; i++) TRBC_CODES[i] = industries[i].getCode();
+		}
+		
+		/** MCC enumeration value ordinal column, -1 for unknown codes */
+		private final short[] ordinals;
+		/** Mastercard Transaction Category Code column */
+		private final char[] tccs;
+		/** Visa Merchant Category Group code column */
+		private final byte[] mcgs;
+		/** MerchantCategoryRange ordinal column */
+		private final byte[] ranges;
+		/** TRBC industry code column */
+		private final int[] trbcs;
+		
+		/** Builds a new batch able to classify up to <code>capacity</code> codes per call. */
+		public MerchantCategoryBatch(int capacity) {
+			this.ordinals = new short[capacity];
+			this.tccs = new char[capacity];
+			this.mcgs = new byte[capacity];
+			this.ranges = new byte[capacity];
+			this.trbcs = new int[capacity];
+		}
+		
+		/** Returns the maximum number of codes this batch can classify per call */
+		public int getCapacity() { return ordinals.length; }
+		
+		/** Returns the MCC ordinal column (live array, not a copy), -1 for unknown codes */
+		public short[] getOrdinals() { return ordinals; }
+		
+		/** Returns the Mastercard TCC column (live array, not a copy), '\0' when not set */
+		public char[] getTCCs() { return tccs; }
+		
+		/** Returns the Visa MCG code column (live array, not a copy), 0 when not set */
+		public byte[] getMCGs() { return mcgs; }
+		
+		/** Returns the MerchantCategoryRange ordinal column (live array, not a copy), -1 when not set */
+		public byte[] getRangeOrdinals() { return ranges; }
+		
+		/** Returns the TRBC industry code column (live array, not a copy), 0 when not set */
+		public int[] getTRBCCodes() { return trbcs; }
+		
+		/** 
+		 * Classifies <code>length</code> MCC codes from <code>codes</code> starting at <code>offset</code> into this batch columns (from index 0).
+		 * <p>
+		 * @return the number of unknown codes
+		 * @throws IllegalArgumentException if <code>length</code> exceeds this batch capacity
+		 */
+		public int classify(int[] codes, int offset, int length, UnknownCodePolicy policy) throws IllegalArgumentException {
+			checkCapacity(length);
+			return classify(codes, offset, 0, length, policy);
+		}
+		
+		/** 
+		 * Classifies the MCC codes remaining in <code>codes</code> (from position to limit) into this batch columns (from index 0).
+		 * <br>The buffer position is left unchanged.
+		 * <p>
+		 * @return the number of unknown codes
+		 * @throws IllegalArgumentException if the number of remaining codes exceeds this batch capacity
+		 */
+		public int classify(IntBuffer codes, UnknownCodePolicy policy) throws IllegalArgumentException {
+			checkCapacity(codes.remaining());
+			return classify(codes, codes.position(), 0, codes.remaining(), policy);
+		}
+		
+		/** Same as {@link #classify(int[], int, int, UnknownCodePolicy)}, splitting the work across the common fork/join pool. */
+		public int classifyParallel(int[] codes, int offset, int length, UnknownCodePolicy policy) throws IllegalArgumentException {
+			checkCapacity(length);
+			return ForkJoinPool.commonPool().invoke(new ClassifyTask(codes, null, offset, 0, length, policy));
+		}
+		
+		/** Same as {@link #classify(IntBuffer, UnknownCodePolicy)}, splitting the work across the common fork/join pool. */
+		public int classifyParallel(IntBuffer codes, UnknownCodePolicy policy) throws IllegalArgumentException {
+			checkCapacity(codes.remaining());
+			return ForkJoinPool.commonPool().invoke(new ClassifyTask(null, codes, codes.position(), 0, codes.remaining(), policy));
+		}
+		
+		/** Checks <code>length</code> fits in this batch columns. */
+		private void checkCapacity(int length) throws IllegalArgumentException {
+			if (length > ordinals.length) throw new IllegalArgumentException ("Batch capacity (" + ordinals.length + ") exceeded: " + length); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		
+		/** Classifies <code>codes[offset..offset+length[</code> into columns <code>[start..start+length[</code>; returns the number of unknown codes. */
+		private int classify(int[] codes, int offset, int start, int length, UnknownCodePolicy policy) {
+			int unknown = 0;
+			for (int i=0; i<length; i++) unknown += store(start + i, codes[offset + i], policy);
+			return unknown;
+		}
+		
+		/** Classifies <code>codes[offset..offset+length[</code> (absolute get) into columns <code>[start..start+length[</code>; returns the number of unknown codes. */
+		private int classify(IntBuffer codes, int offset, int start, int length, UnknownCodePolicy policy) {
+			int unknown = 0;
+			for (int i=0; i<length; i++) unknown += store(start + i, codes.get(offset + i), policy);
+			return unknown;
+		}
+		
+		/** Writes the classifications of <code>code</code> at <code>index</code> in each column; returns 1 if the code is unknown, 0 otherwise. */
+		private int store(int index, int code, UnknownCodePolicy policy) {
+			int ordinal = Iso18245MerchantCategoryCode.MerchantCategoryColumns.ordinalOf(code);
+			if (ordinal < 0) {
+				ordinals[index] = -1;
+				if (policy == UnknownCodePolicy.FILL_NONE) {
+					tccs[index] = '\0';
+					mcgs[index] = 0;
+					ranges[index] = -1;
+					trbcs[index] = 0;
+				}
+				return 1;
+			}
+			long packed = Iso18245MerchantCategoryCode.MerchantCategoryColumns.getPackedByOrdinal(ordinal);
+			int tcc = Iso18245MerchantCategoryCode.MerchantCategoryColumns.unpackTCCOrdinal(packed);
+			int mcg = Iso18245MerchantCategoryCode.MerchantCategoryColumns.unpackMCGOrdinal(packed);
+			ordinals[index] = (short) ordinal;
+			tccs[index] = tcc < 0 ? '\0' : TCC_CODES[tcc];
+			mcgs[index] = mcg < 0 ? 0 : MCG_CODES[mcg];
+			ranges[index] = (byte) Iso18245MerchantCategoryCode.MerchantCategoryColumns.unpackRangeOrdinal(packed);
+			trbcs[index] = TRBC_CODES[Iso18245MerchantCategoryCode.MerchantCategoryColumns.unpackTRBCOrdinal(packed)];
+			return 0;
+		}
+		
+		/** Fork/join task classifying a slice of the input; returns the number of unknown codes in this slice. */
+		@SuppressWarnings("serial") private class ClassifyTask extends RecursiveTask<Integer> {
+			
+			/** The input codes, when given as an array (null otherwise) */
+			private final int[] array;
+			/** The input codes, when given as a buffer (null otherwise) */
+			private final IntBuffer buffer;
+			/** The index of the first input code of this slice */
+			private final int offset;
+			/** The index of the first column element of this slice */
+			private final int start;
+			/** The number of codes in this slice */
+			private final int length;
+			/** The unknown code policy */
+			private final UnknownCodePolicy policy;
+			
+			/** Builds a task for either <code>array</code> or <code>buffer</code> input (the other being null). */
+			private ClassifyTask(int[] array, IntBuffer buffer, int offset, int start, int length, UnknownCodePolicy policy) {
+				this.array = array;
+				this.buffer = buffer;
+				this.offset = offset;
+				this.start = start;
+				this.length = length;
+				this.policy = policy;
+			}
+			
+			/** Classifies this slice directly if small enough, otherwise forks two half slices. */
+			@Override protected Integer compute() {
+				if (length <= PARALLEL_THRESHOLD) {
+					return array != null ? classify(array, offset, start, length, policy) : classify(buffer, offset, start, length, policy);
+				}
+				int half = length >>> 1;
+				ClassifyTask left = new ClassifyTask(array, buffer, offset, start, half, policy);
+				ClassifyTask right = new ClassifyTask(array, buffer, offset + half, start + half, length - half, policy);
+				left.fork();
+				return right.compute() + left.join();
+			}
+			
+		}
+		
+	}
+
+	
+	// **************************************************
+	
+	// Membership sets of MCC codes, for risk / card control rules evaluated at authorisation time
+	
+	/**
+	 * Immutable set of ISO 18245 MCC codes, as a bitset over the whole 0..{@link Iso18245MerchantCategoryCode#MAX_CODE} code space.
+	 * <p>
+	 * A membership test is a single word read, and compound rules (e.g. quasi-cash or ATM) are resolved once by combining sets 
+	 * with {@link #union(MerchantCategorySet)} and {@link #intersection(MerchantCategorySet)}, which cost 157 word operations.
+	 * The sets of each Visa MCG, Mastercard TCC, Mastercard head category, MCC range and payment scheme are precomputed (see the <code>of</code> methods).
+	 */
+	public final class MerchantCategorySet {
+		
+		/** Number of 64 bits words needed to cover the code space */
+		private static final int WORDS = (Iso18245MerchantCategoryCode.MAX_CODE >>> 6) + 1;
+		
+		/** The bits of the last word within the code space */
+		private static final long LAST_WORD_MASK = -1L >>> (63 - (Iso18245MerchantCategoryCode.MAX_CODE & 63));
+		
+		/** The empty set */
+		public static final MerchantCategorySet EMPTY = new MerchantCategorySet(new long[WORDS]);
+		
+		/** The bits, code <code>c</code> being bit <code>c & 63</code> of word <code>c >>> 6</code> */
+		private final long[] words;
+		
+		/** Builds a set over <code>words</code> (not copied: callers must not keep a reference) */
+		private MerchantCategorySet(long[] words) {
+			this.words = words;
+		}
+		
+		/** Returns the set of all allocated MCC codes */
+		public static MerchantCategorySet all() { return GroupSets.ALL; }
+		
+		/** Returns the precomputed set of MCC codes of the Visa Merchant Category Group <code>mcg</code> */
+		public static MerchantCategorySet of(VisaMerchantCategoryGroup mcg) { return GroupSets.MCG[mcg.ordinal()]; }
+		
+		/** Returns the precomputed set of MCC codes of the Mastercard Transaction Category Code <code>tcc</code> */
+		public static MerchantCategorySet of(MastercardTransactionCategoryCode tcc) { return GroupSets.TCC[tcc.ordinal()]; }
+		
+		/** Returns the precomputed set of MCC codes of the Mastercard Merchant Category <code>headCategory</code> */
+		public static MerchantCategorySet of(MastercardMerchantCategory headCategory) { return GroupSets.HEAD_CATEGORY[headCategory.ordinal()]; }
+		
+		/** Returns the precomputed set of MCC codes of the range <code>range</code> */
+		public static MerchantCategorySet of(MerchantCategoryRange range) { return GroupSets.RANGE[range.ordinal()]; }
+		
+		/** 
+		 * Returns the precomputed set of MCC codes recognised by <code>scheme</code> (see {@link Iso18245MerchantCategoryCode#isValidFor(PaymentScheme)}): 
+		 * {@link #all()} for TSYS. The set is per code: a code shared by several MCC enumeration values belongs to it if any of them 
+		 * is recognised (e.g. 3282 for Visa, recognised for AIR DJIBOUTI but not for its TSYS only twin).
+		 */
+		public static MerchantCategorySet of(PaymentScheme scheme) { return scheme == PaymentScheme.TSYS ? GroupSets.ALL : GroupSets.SCHEME[scheme.ordinal()]; }
+		
+		/** Returns the set of MCC codes classified in the Thomson Reuters Business Classification level <code>trbc</code> (or one of its sub-levels) */
+		public static MerchantCategorySet of(ITRBCTaxonomy trbc) {
+			long[] words = new long[WORDS];
+			for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) {
+				TRBCIndustry industry = mcc.getTRBCClassification();
+				if (industry.ancestorAt(trbc.getLevel()) == trbc) set(words, mcc.getCode());
+			}
+			return new MerchantCategorySet(words);
+		}
+		
+		/** 
+		 * Returns the set of codes from <code>fromCode</code> to <code>toCode</code> (both inclusive, allocated or not), empty if <code>fromCode</code> &gt; <code>toCode</code>.
+		 * <p>
+		 * @throws IllegalArgumentException if a bound is outside 0..{@link Iso18245MerchantCategoryCode#MAX_CODE}
+		 */
+		public static MerchantCategorySet ofRange(int fromCode, int toCode) throws IllegalArgumentException {
+			if (fromCode < 0 || fromCode > Iso18245MerchantCategoryCode.MAX_CODE) throw new IllegalArgumentException ("Invalid MCC " + fromCode); //$NON-NLS-1$
+			if (toCode < 0 || toCode > Iso18245MerchantCategoryCode.MAX_CODE) throw new IllegalArgumentException ("Invalid MCC " + toCode); //$NON-NLS-1$
+			long[] words = new long[WORDS];
+			for (int code=fromCode; code<=toCode; code++) set(words, code);
+			return new MerchantCategorySet(words);
+		}
+		
+		/** Returns the set of the given MCC */
+		public static MerchantCategorySet of(Iso18245MerchantCategoryCode... mccs) {
+			long[] words = new long[WORDS];
+			for (Iso18245MerchantCategoryCode mcc : mccs) set(words, mcc.getCode());
+			return new MerchantCategorySet(words);
+		}
+		
+		/** 
+		 * Returns the set of the given MCC codes (not necessarily allocated ones).
+		 * <p>
+		 * @throws IllegalArgumentException if a code is outside 0..{@link Iso18245MerchantCategoryCode#MAX_CODE}
+		 */
+		public static MerchantCategorySet ofCodes(int... codes) throws IllegalArgumentException {
+			long[] words = new long[WORDS];
+			for (int code : codes) {
+				if (code < 0 || code > Iso18245MerchantCategoryCode.MAX_CODE) throw new IllegalArgumentException ("Invalid MCC " + code); //$NON-NLS-1$
+				set(words, code);
+			}
+			return new MerchantCategorySet(words);
+		}
+		
+		/** Returns true if <code>code</code> belongs to this set (false for any code outside the MCC code space) */
+		public boolean contains(int code) {
+			return code >= 0 && code <= Iso18245MerchantCategoryCode.MAX_CODE && (words[code >>> 6] & (1L << code)) != 0;
+		}
+		
+		/** Returns true if <code>mcc</code> belongs to this set (false if null) */
+		public boolean contains(Iso18245MerchantCategoryCode mcc) {
+			return mcc != null && (words[mcc.getCode() >>> 6] & (1L << mcc.getCode())) != 0;
+		}
+		
+		/** Returns the set of codes belonging to this set or to <code>other</code> */
+		public MerchantCategorySet union(MerchantCategorySet other) {
+			long[] result = new long[WORDS];
+			for (int i=0; i<WORDS; i++) result[i] = words[i] | other.words[i];
+			return new MerchantCategorySet(result);
+		}
+		
+		/** Returns the set of codes belonging to both this set and <code>other</code> */
+		public MerchantCategorySet intersection(MerchantCategorySet other) {
+			long[] result = new long[WORDS];
+			for (int i=0; i<WORDS; i++) result[i] = words[i] & other.words[i];
+			return new MerchantCategorySet(result);
+		}
+		
+		/** Returns the set of codes belonging to this set but not to <code>other</code> */
+		public MerchantCategorySet difference(MerchantCategorySet other) {
+			long[] result = new long[WORDS];
+			for (int i=0; i<WORDS; i++) result[i] = words[i] & ~other.words[i];
+			return new MerchantCategorySet(result);
+		}
+		
+		/** Returns the set of codes of the code space 0..{@link Iso18245MerchantCategoryCode#MAX_CODE} (allocated or not) not belonging to this set */
+		public MerchantCategorySet complement() {
+			long[] result = new long[WORDS];
+			for (int i=0; i<WORDS; i++) result[i] = ~words[i];
+			result[WORDS - 1] &= LAST_WORD_MASK;
+			return new MerchantCategorySet(result);
+		}
+		
+		/** Returns true if this set has no code */
+		public boolean isEmpty() {
+			for (long word : words) if (word != 0) return false;
+			return true;
+		}
+		
+		/** Returns the number of codes in this set */
+		public int size() {
+			int size = 0;
+			for (long word : words) size += Long.bitCount(word);
+			return size;
+		}
+		
+		/** Returns the codes of this set in ascending order */
+		public int[] toCodeArray() {
+			int[] codes = new int[size()];
+			int n = 0;
+			for (int i=0; i<WORDS; i++) {
+				for (long word = words[i]; word != 0; word &= word - 1) codes[n++] = (i << 6) + Long.numberOfTrailingZeros(word);
+			}
+			return codes;
+		}
+		
+		@Override public boolean equals(Object obj) {
+			return obj == this || (obj instanceof MerchantCategorySet && Arrays.equals(words, ((MerchantCategorySet) obj).words));
+		}
+		
+		@Override public int hashCode() { return Arrays.hashCode(words); }
+		
+		/** Return a Human readable representation of this set, as its codes list. */
+		@Override public String toString() { return Arrays.toString(toCodeArray()); }
+		
+		/** Sets bit <code>code</code> of <code>words</code> */
+		private static void set(long[] words, int code) { words[code >>> 6] |= 1L << code; }
+		
+		/** Holder of the precomputed group sets, built in a single pass over the MCC enumeration values. */
+		private static final class GroupSets {
+			
+			/** All allocated MCC codes */
+			private static final MerchantCategorySet ALL;
+			/** Sets by VisaMerchantCategoryGroup ordinal */
+			private static final MerchantCategorySet[] MCG = new MerchantCategorySet[VisaMerchantCategoryGroup.values().length];
+			/** Sets by MastercardTransactionCategoryCode ordinal */
+			private static final MerchantCategorySet[] TCC = new MerchantCategorySet[MastercardTransactionCategoryCode.values().length];
+			/** Sets by MastercardMerchantCategory ordinal */
+			private static final MerchantCategorySet[] HEAD_CATEGORY = new MerchantCategorySet[MastercardMerchantCategory.values().length];
+			/** Sets by MerchantCategoryRange ordinal */
+			private static final MerchantCategorySet[] RANGE = new MerchantCategorySet[MerchantCategoryRange.values().length];
+			/** Sets by PaymentScheme ordinal (Visa and Mastercard only, TSYS recognising all codes) */
+			private static final MerchantCategorySet[] SCHEME = new MerchantCategorySet[PaymentScheme.TSYS.ordinal()];
+			
+			static {
+				long[] all = new long[WORDS];
+				long[][] mcg = new long[MCG.length][WORDS], tcc = new long[TCC.length][WORDS];
+				long[][] headCategory = new long[HEAD_CATEGORY.length][WORDS], range = new long[RANGE.length][WORDS];
+				long[][] scheme = new long[SCHEME.length][WORDS];
+				for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) {
+					int code = mcc.getCode();
+					set(all, code);
+					if (mcc.getSchemeMCG() != null) set(mcg[mcc.getSchemeMCG().ordinal()], code);
+					if (mcc.getSchemeTCC() != null) set(tcc[mcc.getSchemeTCC().ordinal()], code);
+					set(headCategory[mcc.getHeadCategory().ordinal()], code);
+					set(range[mcc.getCategoryRange().ordinal()], code);
+					if (mcc.isValidFor(PaymentScheme.VISA)) set(scheme[PaymentScheme.VISA.ordinal()], code);
+					if (mcc.isValidFor(PaymentScheme.MASTERCARD)) set(scheme[PaymentScheme.MASTERCARD.ordinal()], code);
+				}
+				ALL = new MerchantCategorySet(all);
+				for (int i=0; i<MCG.length; i++) MCG[i] = new MerchantCategorySet(mcg[i]);
+				for (int i=0; i<TCC.length; i++) TCC[i] = new MerchantCategorySet(tcc[i]);
+				for (int i=0; i<HEAD_CATEGORY.length; i++) HEAD_CATEGORY[i] = new MerchantCategorySet(headCategory[i]);
+				for (int i=0; i<RANGE.length; i++) RANGE[i] = new MerchantCategorySet(range[i]);
+				for (int i=0; i<SCHEME.length; i++) SCHEME[i] = new MerchantCategorySet(scheme[i]);
+			}
+			
+		}
+		
+	}
+
+	
+	// **************************************************
+	
+	// Card controls: cardholder rules on merchant categories, compiled to a decision bitmap
+	
+	/**
+	 * Immutable, interned card control profile: the MCC codes a card may be used at, compiled from an ordered rule set.
+	 * <p>
+	 * Rules are written with a {@link Builder} in terms of MCC codes, MCC ranges (standard or arbitrary), Visa MCG, Mastercard TCC and 
+	 * Thomson Reuters Business Classification levels, e.g. to block gambling and quasi-cash but still allow a lottery:
+	 * <pre>
+	 * CardControlProfile profile = CardControlProfile.allowByDefault()
+	 *     .deny(MastercardTransactionCategoryCode.TCC_U_OTHER)
+	 *     .deny(VisaMerchantCategoryGroup.MCG_10_QUASI_CASH)
+	 *     .allow(7800)
+	 *     .build();
+	 * </pre>
+	 * Rules apply in order, each one overriding the previous ones for its codes. The rule set is compiled into a bitmap over the whole 
+	 * MCC code space (see {@link MerchantCategorySet}), so that an authorisation decision is a single bit test. Profiles are interned: 
+	 * building a rule set equivalent to a profile still in use returns that profile, so that cardholders with the same controls share 
+	 * one instance (profiles no longer referenced are garbage collected).
+	 */
+	public final class CardControlProfile {
+		
+		/** The interned profiles (weakly referenced, to be reclaimed once no longer in use) */
+		private static final Map<CardControlProfile, WeakReference<CardControlProfile>> INTERNED = new WeakHashMap<>();
+		
+		/** The allowed codes (the decision bitmap) */
+		private final MerchantCategorySet allowed;
+		
+		private CardControlProfile(MerchantCategorySet allowed) {
+			this.allowed = allowed;
+		}
+		
+		/** Starts a rule set allowing every code, before the rules given to the builder */
+		public static Builder allowByDefault() { return new Builder(true); }
+		
+		/** Starts a rule set denying every code, before the rules given to the builder */
+		public static Builder denyByDefault() { return new Builder(false); }
+		
+		/** Returns true if the card may be used at a merchant of MCC <code>code</code> (false for any code outside the MCC code space). Single bit test. */
+		public boolean isAllowed(int code) { return allowed.contains(code); }
+		
+		/** Returns true if the card may be used at a merchant of MCC <code>mcc</code> (false if null). Single bit test. */
+		public boolean isAllowed(Iso18245MerchantCategoryCode mcc) { return allowed.contains(mcc); }
+		
+		/** Returns the allowed codes */
+		public MerchantCategorySet getAllowed() { return allowed; }
+		
+		/** Returns the denied codes (within the MCC code space) */
+		public MerchantCategorySet getDenied() { return allowed.complement(); }
+		
+		/** Returns the interned profile equal to <code>profile</code>, interning <code>profile</code> if there is none. */
+		private static CardControlProfile intern(CardControlProfile profile) {
+			synchronized (INTERNED) {
+				WeakReference<CardControlProfile> reference = INTERNED.get(profile);
+				CardControlProfile interned = reference == null ? null : reference.get();
+				if (interned != null) return interned;
+				INTERNED.put(profile, new WeakReference<>(profile));
+				return profile;
+			}
+		}
+		
+		/** Two profiles are equal if they allow the same codes */
+		@Override public boolean equals(Object obj) {
+			return obj == this || (obj instanceof CardControlProfile && allowed.equals(((CardControlProfile) obj).allowed));
+		}
+		
+		@Override public int hashCode() { return allowed.hashCode(); }
+		
+		/** Return a Human readable representation of this profile, as its denied codes list. */
+		@Override public String toString() { return "Denied " + getDenied(); } //$NON-NLS-1$
+		
+		/** 
+		 * Mutable builder of a card control rule set: each <code>allow</code> / <code>deny</code> rule is applied in order to the 
+		 * decision bitmap being compiled (157 word operations), overriding the previous rules for its codes. Not thread-safe.
+		 */
+		public static final class Builder {
+			
+			/** The allowed codes bits, as compiled so far */
+			private final long[] words = new long[MerchantCategorySet.WORDS];
+			
+			/** Builds a rule set allowing (or denying) every code */
+			private Builder(boolean allowAll) {
+				if (allowAll) {
+					Arrays.fill(words, -1L);
+					words[words.length - 1] = MerchantCategorySet.LAST_WORD_MASK;
+				}
+			}
+			
+			/** Allows the codes of <code>codes</code>; returns this builder */
+			public Builder allow(MerchantCategorySet codes) {
+				for (int i=0; i<words.length; i++) words[i] |= codes.words[i];
+				return this;
+			}
+			
+			/** Denies the codes of <code>codes</code>; returns this builder */
+			public Builder deny(MerchantCategorySet codes) {
+				for (int i=0; i<words.length; i++) words[i] &= ~codes.words[i];
+				return this;
+			}
+			
+			/** 
+			 * Allows the MCC <code>codes</code>; returns this builder 
+			 * @throws IllegalArgumentException if a code is outside 0..{@link Iso18245MerchantCategoryCode#MAX_CODE}
+			 */
+			public Builder allow(int... codes) throws IllegalArgumentException { return allow(MerchantCategorySet.ofCodes(codes)); }
+			
+			/** 
+			 * Denies the MCC <code>codes</code>; returns this builder 
+			 * @throws IllegalArgumentException if a code is outside 0..{@link Iso18245MerchantCategoryCode#MAX_CODE}
+			 */
+			public Builder deny(int... codes) throws IllegalArgumentException { return deny(MerchantCategorySet.ofCodes(codes)); }
+			
+			/** 
+			 * Allows the codes from <code>fromCode</code> to <code>toCode</code> (both inclusive); returns this builder 
+			 * @throws IllegalArgumentException if a bound is outside 0..{@link Iso18245MerchantCategoryCode#MAX_CODE}
+			 */
+			public Builder allowRange(int fromCode, int toCode) throws IllegalArgumentException { return allow(MerchantCategorySet.ofRange(fromCode, toCode)); }
+			
+			/** 
+			 * Denies the codes from <code>fromCode</code> to <code>toCode</code> (both inclusive); returns this builder 
+			 * @throws IllegalArgumentException if a bound is outside 0..{@link Iso18245MerchantCategoryCode#MAX_CODE}
+			 */
+			public Builder denyRange(int fromCode, int toCode) throws IllegalArgumentException { return deny(MerchantCategorySet.ofRange(fromCode, toCode)); }
+			
+			/** Allows the whole range <code>range</code> (allocated or not codes); returns this builder */
+			public Builder allow(MerchantCategoryRange range) { return allowRange(range.getStartRange(), range.getEndRange()); }
+			
+			/** Denies the whole range <code>range</code> (allocated or not codes); returns this builder */
+			public Builder deny(MerchantCategoryRange range) { return denyRange(range.getStartRange(), range.getEndRange()); }
+			
+			/** Allows the MCC of the Visa Merchant Category Group <code>mcg</code>; returns this builder */
+			public Builder allow(VisaMerchantCategoryGroup mcg) { return allow(MerchantCategorySet.of(mcg)); }
+			
+			/** Denies the MCC of the Visa Merchant Category Group <code>mcg</code>; returns this builder */
+			public Builder deny(VisaMerchantCategoryGroup mcg) { return deny(MerchantCategorySet.of(mcg)); }
+			
+			/** Allows the MCC of the Mastercard Transaction Category Code <code>tcc</code>; returns this builder */
+			public Builder allow(MastercardTransactionCategoryCode tcc) { return allow(MerchantCategorySet.of(tcc)); }
+			
+			/** Denies the MCC of the Mastercard Transaction Category Code <code>tcc</code>; returns this builder */
+			public Builder deny(MastercardTransactionCategoryCode tcc) { return deny(MerchantCategorySet.of(tcc)); }
+			
+			/** Allows the MCC classified in the Thomson Reuters Business Classification level <code>trbc</code>; returns this builder */
+			public Builder allow(ITRBCTaxonomy trbc) { return allow(MerchantCategorySet.of(trbc)); }
+			
+			/** Denies the MCC classified in the Thomson Reuters Business Classification level <code>trbc</code>; returns this builder */
+			public Builder deny(ITRBCTaxonomy trbc) { return deny(MerchantCategorySet.of(trbc)); }
+			
+			/** Returns the compiled profile of the rules given so far (the interned instance if an equivalent profile is in use); the builder can still be used. */
+			public CardControlProfile build() {
+				return intern(new CardControlProfile(new MerchantCategorySet(words.clone())));
+			}
+		}
+		
+	}
+
+	
+	// **************************************************
+	
+	// Acquiring-side validation of MCC codes against the payment scheme transactions are routed to
+	
+	/**
+	 * Batch validator of MCC codes against payment schemes, e.g. to flag the merchants of a portfolio whose MCC is not recognised 
+	 * by the scheme their transactions are routed to (see {@link Iso18245MerchantCategoryCode#isValidFor(PaymentScheme)}).
+	 * <p>
+	 * A validator owns its output column (allocated once for the given capacity, reused across calls): bit <code>i</code> is set 
+	 * when the i-th input code is not recognised by the scheme of its row, codes outside the MCC code space included. 
+	 * Each row costs a single bit test in the precomputed scheme set (see {@link MerchantCategorySet#of(PaymentScheme)}), the rows 
+	 * being validated 64 at a time into one word of the output column, in one pass. A validator is not thread-safe, but the 
+	 * <code>validateParallel</code> methods split very large inputs across the common fork/join pool (each task writing a disjoint 
+	 * range of words).
+	 */
+	public final class MerchantCategoryValidator {
+		
+		/** Number of rows below which a parallel validation is no longer split (a multiple of 64, to split on word boundaries) */
+		private static final int PARALLEL_THRESHOLD = 1 << 15;
+		
+		/** The recognised codes bits by PaymentScheme ordinal */
+		private static final long[][] VALID_WORDS;
+		
+		static {
+			PaymentScheme[] schemes = PaymentScheme.values();
+			VALID_WORDS = new long[schemes.length][];
+			for (int i=0; i<schemes.length; i++) VALID_WORDS[i] = MerchantCategorySet.of(schemes[i]).words;
+		}
+		
+		/** The invalid rows bits, row <code>i</code> being bit <code>i & 63</code> of word <code>i >>> 6</code> */
+		private final long[] invalid;
+		/** The maximum number of rows per call */
+		private final int capacity;
+		/** The number of rows of the last validation */
+		private int length;
+		
+		/** Builds a new validator able to validate up to <code>capacity</code> rows per call. */
+		public MerchantCategoryValidator(int capacity) {
+			this.invalid = new long[(capacity + 63) >>> 6];
+			this.capacity = capacity;
+		}
+		
+		/** Returns the maximum number of rows this validator can validate per call */
+		public int getCapacity() { return capacity; }
+		
+		/** Returns the number of rows of the last validation */
+		public int getLength() { return length; }
+		
+		/** Returns the invalid rows column (live array, not a copy), as bits: row <code>i</code> is bit <code>i & 63</code> of word <code>i >>> 6</code> */
+		public long[] getInvalidWords() { return invalid; }
+		
+		/** Returns true if row <code>index</code> of the last validation is invalid */
+		public boolean isInvalid(int index) {
+			if (index < 0 || index >= length) throw new IndexOutOfBoundsException ("Row " + index + " not in last validation (" + length + " rows)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			return (invalid[index >>> 6] & (1L << index)) != 0;
+		}
+		
+		/** Returns the first invalid row of the last validation from <code>fromIndex</code> (inclusive), -1 if none; e.g. to report the invalid rows. */
+		public int nextInvalid(int fromIndex) {
+			if (fromIndex < 0) fromIndex = 0;
+			if (fromIndex >= length) return -1;
+			int i = fromIndex >>> 6;
+			long word = invalid[i] & (-1L << fromIndex);
+			int last = (length - 1) >>> 6;
+			while (word == 0) {
+				if (++i > last) return -1;
+				word = invalid[i];
+			}
+			return (i << 6) + Long.numberOfTrailingZeros(word);
+		}
+		
+		/** 
+		 * Validates <code>length</code> MCC codes from <code>codes</code> starting at <code>offset</code> against <code>scheme</code>, 
+		 * flagging the invalid ones in this validator column (from row 0).
+		 * <p>
+		 * @return the number of invalid codes
+		 * @throws IllegalArgumentException if <code>length</code> exceeds this validator capacity
+		 */
+		public int validate(int[] codes, int offset, int length, PaymentScheme scheme) throws IllegalArgumentException {
+			checkCapacity(length);
+			return validate(codes, offset, 0, length, VALID_WORDS[scheme.ordinal()], null);
+		}
+		
+		/** 
+		 * Validates <code>length</code> MCC codes from <code>codes</code> starting at <code>offset</code>, each against the scheme at the same 
+		 * index in <code>schemes</code> (a null scheme flagging the row as invalid), flagging the invalid ones in this validator column (from row 0).
+		 * <p>
+		 * @return the number of invalid codes
+		 * @throws IllegalArgumentException if <code>length</code> exceeds this validator capacity
+		 */
+		public int validate(int[] codes, PaymentScheme[] schemes, int offset, int length) throws IllegalArgumentException {
+			checkCapacity(length);
+			return validate(codes, offset, 0, length, null, schemes);
+		}
+		
+		/** Same as {@link #validate(int[], int, int, PaymentScheme)}, splitting the work across the common fork/join pool. */
+		public int validateParallel(int[] codes, int offset, int length, PaymentScheme scheme) throws IllegalArgumentException {
+			checkCapacity(length);
+			return ForkJoinPool.commonPool().invoke(new ValidateTask(codes, offset, 0, length, VALID_WORDS[scheme.ordinal()], null));
+		}
+		
+		/** Same as {@link #validate(int[], PaymentScheme[], int, int)}, splitting the work across the common fork/join pool. */
+		public int validateParallel(int[] codes, PaymentScheme[] schemes, int offset, int length) throws IllegalArgumentException {
+			checkCapacity(length);
+			return ForkJoinPool.commonPool().invoke(new ValidateTask(codes, offset, 0, length, null, schemes));
+		}
+		
+		/** Checks <code>length</code> fits in this validator column, and records it as the last validation length. */
+		private void checkCapacity(int length) throws IllegalArgumentException {
+			if (length > capacity) throw new IllegalArgumentException ("Validator capacity (" + capacity + ") exceeded: " + length); //$NON-NLS-1$ //$NON-NLS-2$
+			this.length = length;
+		}
+		
+		/** 
+		 * Validates <code>codes[offset..offset+length[</code> into rows <code>[start..start+length[</code> (<code>start</code> being a multiple of 64), 
+		 * against <code>valid</code> bits, or the bits of each row scheme in <code>schemes</code> if <code>valid</code> is null; returns the number of invalid codes.
+		 */
+		private int validate(int[] codes, int offset, int start, int length, long[] valid, PaymentScheme[] schemes) {
+			int count = 0;
+			for (int row=0; row<length; row+=64) {
+				int end = Math.min(64, length - row);
+				long word = 0;
+				for (int bit=0; bit<end; bit++) {
+					int i = offset + row + bit;
+					long[] bits = valid;
+					if (bits == null) bits = schemes[i] == null ? null : VALID_WORDS[schemes[i].ordinal()];
+					int code = codes[i];
+					if (bits == null || code < 0 || code > Iso18245MerchantCategoryCode.MAX_CODE || (bits[code >>> 6] & (1L << code)) == 0) word |= 1L << bit;
+				}
+				invalid[(start + row) >>> 6] = word;
+				count += Long.bitCount(word);
+			}
+			return count;
+		}
+		
+		/** Fork/join task validating a slice of the input; returns the number of invalid codes in this slice. */
+		@SuppressWarnings("serial") private class ValidateTask extends RecursiveTask<Integer> {
+			
+			/** The input codes */
+			private final int[] codes;
+			/** The index of the first input code of this slice */
+			private final int offset;
+			/** The first row of this slice (a multiple of 64) */
+			private final int start;
+			/** The number of rows in this slice */
+			private final int length;
+			/** The recognised codes bits of the scheme of all rows, null if given by row */
+			private final long[] valid;
+			/** The scheme by row (indexed as <code>codes</code>), null if the same for all rows */
+			private final PaymentScheme[] schemes;
+			
+			/** Builds a task for either a single scheme <code>valid</code> bits or a scheme by row (the other being null). */
+			private ValidateTask(int[] codes, int offset, int start, int length, long[] valid, PaymentScheme[] schemes) {
+				this.codes = codes;
+				this.offset = offset;
+				this.start = start;
+				this.length = length;
+				this.valid = valid;
+				this.schemes = schemes;
+			}
+			
+			/** Validates this slice directly if small enough, otherwise forks two slices split on a word boundary. */
+			@Override protected Integer compute() {
+				if (length <= PARALLEL_THRESHOLD) return validate(codes, offset, start, length, valid, schemes);
+				int half = ((length >>> 1) + 63) & ~63;
+				ValidateTask left = new ValidateTask(codes, offset, start, half, valid, schemes);
+				ValidateTask right = new ValidateTask(codes, offset + half, start + half, length - half, valid, schemes);
+				left.fork();
+				return right.compute() + left.join();
+			}
+			
+		}
+		
+	}
+
+	
+	// **************************************************
+	
+	// Full-text search over MCC descriptions (e.g. merchant onboarding typeahead)
+	
+	/**
+	 * Immutable inverted index over the descriptions of the ISO 18245 MCC enumeration values.
+	 * <p>
+	 * Descriptions and queries are folded (accents removed, lower-cased as per the index locale, punctuation as separator) then 
+	 * split in tokens. Each token is indexed in a sorted token dictionary (for exact and prefix matches, the last query token 
+	 * being typically incomplete in a typeahead) and by trigrams (for misspelled tokens). Numerical tokens also match MCC codes by prefix.
+	 * <p>
+	 * A query scores every matching MCC (exact token 3, token prefix 2, trigrams similarity up to 1, summed over query tokens) 
+	 * and returns the <code>limit</code> best ones, ties broken by code. Only the MCC reached through the postings of a query token 
+	 * (or the sorted codes, binary searched) are scored. An index is built once per messages bundle / description source 
+	 * (see {@link #getInstance(Locale)} and {@link #build(Locale, Function)}) and is thread-safe.
+	 */
+	public final class MerchantCategorySearchIndex {
+		
+		/** Score of a query token equal to a description token */
+		private static final float EXACT_SCORE = 3f;
+		/** Score of a query token prefix of a description token */
+		private static final float PREFIX_SCORE = 2f;
+		/** Minimal ratio of the trigrams of a query token found in a description for it to count */
+		private static final float MIN_TRIGRAM_RATIO = 0.5f;
+		/** Pattern of folding: combining marks are removed once NFD-decomposed */
+		private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+"); //$NON-NLS-1$
+		/** Pattern of token separators (anything but letters and digits) */
+		private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+"); //$NON-NLS-1$
+		
+		/** Maximum number of requested locales remembered (as {@link Messages.Table}) */
+		private static final int MAX_LOCALES = 64;
+		/** The indexes of MCC descriptions, by locale of the messages bundle found (see {@link #getInstance(Locale)}) */
+		private static final ConcurrentMap<Locale, MerchantCategorySearchIndex> INSTANCES = new ConcurrentHashMap<>();
+		/** The indexes of MCC descriptions, by requested locale (shared with {@link #INSTANCES}) */
+		private static final ConcurrentMap<Locale, MerchantCategorySearchIndex> REQUESTED = new ConcurrentHashMap<>();
+		
+		/** The locale used to lower-case descriptions and queries */
+		private final Locale locale;
+		/** The indexed MCC, by document number (= ordinal) */
+		private final Iso18245MerchantCategoryCode[] mccs;
+		/** The MCC codes as 4 digits strings, sorted */
+		private final String[] codes;
+		/** The document of each code of <code>codes</code> */
+		private final int[] codeDocs;
+		/** The distinct description tokens, sorted */
+		private final String[] tokens;
+		/** The documents containing each token of <code>tokens</code>, ascending */
+		private final int[][] tokenPostings;
+		/** The documents containing each trigram, ascending */
+		private final Map<String, int[]> trigramPostings;
+		
+		/** Builds the index of <code>descriptions</code> of all MCC enumeration values */
+		private MerchantCategorySearchIndex(Locale locale, Function<Iso18245MerchantCategoryCode, String> descriptions) {
+			this.locale = locale;
+			this.mccs = Iso18245MerchantCategoryCode.values();
+			this.codes = new String[mccs.length];
+			this.codeDocs = new int[mccs.length];
+			long[] byCode = new long[mccs.length];
+			for (int doc=0; doc<mccs.length; doc++) byCode[doc] = (long) mccs[doc].getCode() << 32 | doc;
+			Arrays.sort(byCode);
+			for (int i=0; i<byCode.length; i++) {
+				codeDocs[i] = (int) byCode[i];
+				codes[i] = mccs[codeDocs[i]].getCodeAsString();
+			}
+			TreeMap<String, List<Integer>> tokenDocs = new TreeMap<>();
+			Map<String, List<Integer>> trigramDocs = new HashMap<>();
+			for (int doc=0; doc<mccs.length; doc++) {
+				String description = descriptions.apply(mccs[doc]);
+				if (description == null) continue;
+				for (String token : tokenize(description)) {
+					addPosting(tokenDocs, token, doc);
+					for (String trigram : trigrams(token)) addPosting(trigramDocs, trigram, doc);
+				}
+			}
+			this.tokens = tokenDocs.keySet().toArray(new String[tokenDocs.size()]);
+			this.tokenPostings = new int[tokens.length][];
+			for (int i=0; i<tokens.length; i++) tokenPostings[i] = toArray(tokenDocs.get(tokens[i]));
+			this.trigramPostings = new HashMap<>(trigramDocs.size() * 2);
+			for (Map.Entry<String, List<Integer>> entry : trigramDocs.entrySet()) trigramPostings.put(entry.getKey(), toArray(entry.getValue()));
+		}
+		
+		/** Returns the index of MCC default descriptions (the ones of {@link Iso18245MerchantCategoryCode#getDescription()}), built on first use. */
+		public static MerchantCategorySearchIndex getInstance() {
+			return getInstance(Locale.getDefault());
+		}
+		
+		/** 
+		 * Returns the index of MCC descriptions in <code>locale</code> (see {@link Iso18245MerchantCategoryCode#getDescription(Locale)}), built on first use.
+		 * <br>Indexes are built once per messages bundle found, folded as per the bundle locale (requested locales without a bundle of 
+		 * their own share the index of the bundle they fall back to), and at most {@link #MAX_LOCALES} requested locales are remembered.
+		 */
+		public static MerchantCategorySearchIndex getInstance(Locale locale) {
+			MerchantCategorySearchIndex index = REQUESTED.get(locale);
+			if (index == null) {
+				Locale found = Messages.getBundle(locale).getLocale();
+				index = INSTANCES.computeIfAbsent(found, l -> build(l, mcc -> mcc.getDescription(l)));
+				if (REQUESTED.size() < MAX_LOCALES) REQUESTED.putIfAbsent(locale, index);
+			}
+			return index;
+		}
+		
+		/** 
+		 * Builds the index of the MCC descriptions given by <code>descriptions</code> (e.g. localised ones), folded as per <code>locale</code>.
+		 * <br>MCC whose description is null are not indexed (but still match by code).
+		 */
+		public static MerchantCategorySearchIndex build(Locale locale, Function<Iso18245MerchantCategoryCode, String> descriptions) {
+			return new MerchantCategorySearchIndex(locale, descriptions);
+		}
+		
+		/** Returns the locale of this index (for {@link #getInstance(Locale)}, the one of the messages bundle found) */
+		public Locale getLocale() { return locale; }
+		
+		/** 
+		 * Searches the MCC matching <code>query</code>.
+		 * <p>
+		 * @param query free text (e.g. "veterinary", "taxi", "hotel par") or a code prefix (e.g. "30")
+		 * @param limit the maximum number of results
+		 * @return the at most <code>limit</code> best matching MCC, best first (empty if nothing matches)
+		 */
+		public List<Iso18245MerchantCategoryCode> search(String query, int limit) {
+			if (limit <= 0 || query == null) return Collections.emptyList();
+			float[] scores = new float[mccs.length];
+			float[] tokenScores = new float[mccs.length];
+			int[] hits = new int[mccs.length];
+			int[] touched = new int[mccs.length]; // the documents reached through the postings of the current token
+			int[] scored = new int[mccs.length]; // the documents with a positive score
+			int scoredCount = 0;
+			for (String token : tokenize(query)) {
+				int touchedCount = scoreTokens(token, tokenScores, touched, 0);
+				touchedCount = scoreTrigrams(token, tokenScores, hits, touched, touchedCount);
+				if (isDigits(token)) touchedCount = scoreCodes(token, tokenScores, touched, touchedCount);
+				for (int i=0; i<touchedCount; i++) {
+					int doc = touched[i];
+					if (scores[doc] == 0) scored[scoredCount++] = doc;
+					scores[doc] += tokenScores[doc];
+					tokenScores[doc] = 0;
+				}
+			}
+			Arrays.sort(scored, 0, scoredCount); // in document order, for MCC sharing a code
+			return top(scores, scored, scoredCount, limit);
+		}
+		
+		/** Raises the score of <code>doc</code> in <code>tokenScores</code> to <code>score</code> (if better), adding it to <code>touched</code> on its first score; returns the new number of touched documents */
+		private static int raise(float[] tokenScores, int doc, float score, int[] touched, int touchedCount) {
+			if (tokenScores[doc] == 0) touched[touchedCount++] = doc;
+			if (tokenScores[doc] < score) tokenScores[doc] = score;
+			return touchedCount;
+		}
+		
+		/** Sets in <code>tokenScores</code> the exact / prefix score of each document having a token starting with <code>token</code>; returns the new number of touched documents */
+		private int scoreTokens(String token, float[] tokenScores, int[] touched, int touchedCount) {
+			int index = Arrays.binarySearch(tokens, token);
+			int first = index >= 0 ? index : -index - 1;
+			for (int i=first; i<tokens.length && tokens[i].startsWith(token); i++) {
+				float score = i == index ? EXACT_SCORE : PREFIX_SCORE;
+				for (int doc : tokenPostings[i]) touchedCount = raise(tokenScores, doc, score, touched, touchedCount);
+			}
+			return touchedCount;
+		}
+		
+		/** 
+		 * Sets in <code>tokenScores</code> the trigrams similarity of each document sharing enough trigrams with <code>token</code> (if better); 
+		 * returns the new number of touched documents. <code>hits</code> (trigrams found by document) is left zeroed.
+		 */
+		private int scoreTrigrams(String token, float[] tokenScores, int[] hits, int[] touched, int touchedCount) {
+			Set<String> queryTrigrams = trigrams(token);
+			for (String trigram : queryTrigrams) {
+				int[] docs = trigramPostings.get(trigram);
+				if (docs == null) continue;
+				for (int doc : docs) {
+					float ratio = (float) ++hits[doc] / queryTrigrams.size(); // raised as hits grow: the last one is the document similarity
+					if (ratio >= MIN_TRIGRAM_RATIO) touchedCount = raise(tokenScores, doc, ratio, touched, touchedCount);
+				}
+			}
+			for (String trigram : queryTrigrams) {
+				int[] docs = trigramPostings.get(trigram);
+				if (docs != null) for (int doc : docs) hits[doc] = 0;
+			}
+			return touchedCount;
+		}
+		
+		/** Sets in <code>tokenScores</code> the exact score of each document whose code starts with <code>token</code>; returns the new number of touched documents */
+		private int scoreCodes(String token, float[] tokenScores, int[] touched, int touchedCount) {
+			int low = 0, high = codes.length; // first code not less than token (codes may be shared by several documents)
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (codes[middle].compareTo(token) < 0) low = middle + 1;
+				else high = middle;
+			}
+			for (int i=low; i<codes.length && codes[i].startsWith(token); i++) touchedCount = raise(tokenScores, codeDocs[i], EXACT_SCORE, touched, touchedCount);
+			return touchedCount;
+		}
+		
+		/** Returns the at most <code>limit</code> documents of <code>scored</code> (the first <code>count</code> ones) with the highest scores, best first, ties broken by code */
+		private List<Iso18245MerchantCategoryCode> top(float[] scores, int[] scored, int count, int limit) {
+			int[] best = new int[Math.min(limit, count)];
+			int size = 0;
+			for (int j=0; j<count; j++) {
+				int doc = scored[j];
+				if (size == best.length && !isBetter(doc, best[size - 1], scores)) continue;
+				int i = size == best.length ? size - 1 : size++;
+				for (; i > 0 && isBetter(doc, best[i - 1], scores); i--) best[i] = best[i - 1];
+				best[i] = doc;
+			}
+			List<Iso18245MerchantCategoryCode> result = new ArrayList<>(size);
+			for (int i=0; i<size; i++) result.add(mccs[best[i]]);
+			return result;
+		}
+		
+		/** Returns true if document <code>doc</code> ranks before <code>other</code> */
+		private boolean isBetter(int doc, int other, float[] scores) {
+			if (scores[doc] != scores[other]) return scores[doc] > scores[other];
+			return mccs[doc].getCode() < mccs[other].getCode();
+		}
+		
+		/** Returns the folded tokens of <code>text</code> */
+		private List<String> tokenize(String text) {
+			String folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase(locale); //$NON-NLS-1$
+			List<String> result = new ArrayList<>();
+			for (String token : SEPARATORS.split(folded)) if (!token.isEmpty()) result.add(token);
+			return result;
+		}
+		
+		/** Returns the distinct trigrams of <code>token</code> (none if shorter than 3 characters) */
+		private static Set<String> trigrams(String token) {
+			Set<String> result = new HashSet<>();
+			for (int i=0; i+3<=token.length(); i++) result.add(token.substring(i, i + 3));
+			return result;
+		}
+		
+		/** Adds <code>doc</code> to the postings of <code>key</code>, once */
+		private static void addPosting(Map<String, List<Integer>> postings, String key, int doc) {
+			List<Integer> docs = postings.computeIfAbsent(key, k -> new ArrayList<>());
+			if (docs.isEmpty() || docs.get(docs.size() - 1) != doc) docs.add(doc);
+		}
+		
+		/** Returns <code>list</code> as an int array */
+		private static int[] toArray(List<Integer> list) {
+			int[] array = new int[list.size()];
+			for (int i=0; i<array.length; i++) array[i] = list.get(i);
+			return array;
+		}
+		
+		/** Returns true if <code>token</code> is made of ASCII digits only */
+		private static boolean isDigits(String token) {
+			for (int i=0; i<token.length(); i++) if (token.charAt(i) < '0' || token.charAt(i) > '9') return false;
+			return true;
+		}
+		
+	}
+
+	
+	// **************************************************
+	
+	// Spend aggregation by MCC classification (merchant analytics)
+	
+	/**
+	 * Mutable accumulator of transactions amounts (in minor units) and counts, rolled up along the MCC classifications.
+	 * <p>
+	 * Adding a transaction costs a single code-indexed read and two increments in <code>long[]</code> counters indexed by MCC ordinal; 
+	 * sums by MerchantCategoryRange, MastercardMerchantCategory and each TRBC level are rolled up from these counters on first query 
+	 * ({@link #getAmount(ITaxonomy)}, {@link #getCount(ITaxonomy)}), and {@link #getSchemeTree(Iso18245MerchantCategoryCode.ListOrder, Iso18245MerchantCategoryCode.ListOrder)} / 
+	 * {@link #getThomsonReutersTree(Iso18245MerchantCategoryCode.ListOrder, Iso18245MerchantCategoryCode.ListOrder)} return them with the shape of the corresponding MCC nested list.
+	 * <p>
+	 * Large arrays are aggregated on the common fork/join pool ({@link #aggregateParallel(int[], long[])}), each task filling 
+	 * its own partial counters, merged when joined; streams are aggregated with {@link #collector(ToIntFunction, ToLongFunction)}, 
+	 * which works the same way with parallel streams. An instance is not thread-safe. Sums are not checked for overflow.
+	 */
+	public final class MerchantCategorySpend {
+		
+		/** Number of transactions below which a parallel aggregation is no longer split */
+		private static final int PARALLEL_THRESHOLD = 1 << 15;
+		
+		/** Sum of amounts by MCC ordinal */
+		private final long[] amounts = new long[Iso18245MerchantCategoryCode.values().length];
+		/** Number of transactions by MCC ordinal */
+		private final long[] counts = new long[amounts.length];
+		/** Sum of amounts with an unknown MCC */
+		private long unknownAmount;
+		/** Number of transactions with an unknown MCC */
+		private long unknownCount;
+		/** The sums rolled up by taxonomy, null until queried (reset by any update) */
+		private RollUp rollUp;
+		
+		/** Builds an empty accumulator */
+		public MerchantCategorySpend() {
+		}
+		
+		/** Returns the spend of the transactions <code>mccs[i]</code>, <code>amounts[i]</code> (arrays of same length), aggregated in the calling thread. */
+		public static MerchantCategorySpend aggregate(int[] mccs, long[] amounts) {
+			checkLengths(mccs, amounts);
+			MerchantCategorySpend spend = new MerchantCategorySpend();
+			spend.addAll(mccs, amounts, 0, mccs.length);
+			return spend;
+		}
+		
+		/** Returns the spend of the transactions <code>mccs[i]</code>, <code>amounts[i]</code> (arrays of same length), aggregated on the common fork/join pool. */
+		public static MerchantCategorySpend aggregateParallel(int[] mccs, long[] amounts) {
+			checkLengths(mccs, amounts);
+			return ForkJoinPool.commonPool().invoke(new AggregateTask(mccs, amounts, 0, mccs.length));
+		}
+		
+		/** 
+		 * Returns a Collector aggregating a stream of transactions into a MerchantCategorySpend (one partial accumulator per thread for parallel streams). 
+		 * <p>
+		 * @param mcc gets the MCC code of a transaction
+		 * @param amount gets the amount (minor units) of a transaction
+		 */
+		public static <T> Collector<T, MerchantCategorySpend, MerchantCategorySpend> collector(ToIntFunction<? super T> mcc, ToLongFunction<? super T> amount) {
+			return Collector.of(MerchantCategorySpend::new, 
+					(spend, transaction) -> spend.add(mcc.applyAsInt(transaction), amount.applyAsLong(transaction)), 
+					MerchantCategorySpend::merge, 
+					Collector.Characteristics.UNORDERED, Collector.Characteristics.IDENTITY_FINISH);
+		}
+		
+		/** Adds a transaction of <code>amount</code> (minor units) with MCC <code>code</code> (counted as unknown if the code is not allocated). */
+		public void add(int code, long amount) {
+			int ordinal = Iso18245MerchantCategoryCode.MerchantCategoryColumns.ordinalOf(code);
+			if (ordinal == Iso18245MerchantCategoryCode.MerchantCategoryColumns.NONE) {
+				unknownAmount += amount;
+				unknownCount++;
+			} else {
+				amounts[ordinal] += amount;
+				counts[ordinal]++;
+			}
+			rollUp = null;
+		}
+		
+		/** Adds the transactions <code>mccs[i]</code>, <code>amounts[i]</code> for <code>offset</code> &lt;= i &lt; <code>offset + length</code>. */
+		public void addAll(int[] mccs, long[] amounts, int offset, int length) {
+			for (int i=offset, end=offset+length; i<end; i++) add(mccs[i], amounts[i]);
+		}
+		
+		/** Adds all transactions of <code>other</code> to this accumulator; returns this accumulator. */
+		public MerchantCategorySpend merge(MerchantCategorySpend other) {
+			for (int i=0; i<amounts.length; i++) {
+				amounts[i] += other.amounts[i];
+				counts[i] += other.counts[i];
+			}
+			unknownAmount += other.unknownAmount;
+			unknownCount += other.unknownCount;
+			rollUp = null;
+			return this;
+		}
+		
+		/** Gets the sum of amounts of the transactions with MCC <code>mcc</code> */
+		public long getAmount(Iso18245MerchantCategoryCode mcc) { return amounts[mcc.ordinal()]; }
+		
+		/** Gets the number of transactions with MCC <code>mcc</code> */
+		public long getCount(Iso18245MerchantCategoryCode mcc) { return counts[mcc.ordinal()]; }
+		
+		/** 
+		 * Gets the sum of amounts of the transactions classified in <code>taxonomy</code>.
+		 * <p>
+		 * @param taxonomy a MerchantCategoryRange, MastercardMerchantCategory, TRBCEconomicSector, TRBCBusinessSector, TRBCIndustryGroup or TRBCIndustry
+		 * @throws IllegalArgumentException for another kind of taxonomy
+		 */
+		public long getAmount(ITaxonomy taxonomy) throws IllegalArgumentException {
+			return getRollUp().amounts(taxonomy)[((Enum<?>) taxonomy).ordinal()];
+		}
+		
+		/** 
+		 * Gets the number of transactions classified in <code>taxonomy</code>.
+		 * <p>
+		 * @see #getAmount(ITaxonomy)
+		 */
+		public long getCount(ITaxonomy taxonomy) throws IllegalArgumentException {
+			return getRollUp().counts(taxonomy)[((Enum<?>) taxonomy).ordinal()];
+		}
+		
+		/** Gets the sum of amounts of all transactions with an allocated MCC */
+		public long getTotalAmount() { return getRollUp().totalAmount; }
+		
+		/** Gets the number of transactions with an allocated MCC */
+		public long getTotalCount() { return getRollUp().totalCount; }
+		
+		/** Gets the sum of amounts of the transactions with an unknown MCC */
+		public long getUnknownAmount() { return unknownAmount; }
+		
+		/** Gets the number of transactions with an unknown MCC */
+		public long getUnknownCount() { return unknownCount; }
+		
+		/** Returns the spend as a tree of the Scheme nested list shape (range / Mastercard category / MCC), with levels sorted by <code>categoryOrder</code> and MCC by <code>mccOrder</code>. */
+		public Node getSchemeTree(Iso18245MerchantCategoryCode.ListOrder categoryOrder, Iso18245MerchantCategoryCode.ListOrder mccOrder) {
+			return Iso18245MerchantCategoryCode.SchemeNestedListHolder.LIST.getSpendTree(amounts, counts, categoryOrder, mccOrder);
+		}
+		
+		/** Returns the spend as a tree of the Thomson Reuters nested list shape (4 TRBC levels / MCC), with levels sorted by <code>categoryOrder</code> and MCC by <code>mccOrder</code>. */
+		public Node getThomsonReutersTree(Iso18245MerchantCategoryCode.ListOrder categoryOrder, Iso18245MerchantCategoryCode.ListOrder mccOrder) {
+			return Iso18245MerchantCategoryCode.ThomsonReutersNestedListHolder.LIST.getSpendTree(amounts, counts, categoryOrder, mccOrder);
+		}
+		
+		/** Returns the rolled up sums, computing them if needed */
+		private RollUp getRollUp() {
+			if (rollUp == null) rollUp = new RollUp(amounts, counts);
+			return rollUp;
+		}
+		
+		/** Throws an IllegalArgumentException if <code>mccs</code> and <code>amounts</code> lengths differ */
+		private static void checkLengths(int[] mccs, long[] amounts) throws IllegalArgumentException {
+			if (mccs.length != amounts.length) throw new IllegalArgumentException ("MCC and amount arrays lengths differ: " + mccs.length + " / " + amounts.length); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		
+		/** A node of a spend tree: a classification level (or a MCC for leaves) with the sum of amounts and number of transactions it covers. */
+		public static final class Node implements Serializable, ITaxonomyList {
+			
+			/** For compatibility when serialized (as pojo or RMI argument) */
+			private static final long serialVersionUID = 2876459018853611062L;
+			/** The taxonomy level code, or MCC code for leaves */
+			@Expose private final int code;
+			/** The taxonomy level description, or MCC description for leaves */
+			@Expose private final String label;
+			/** The sum of amounts (minor units) */
+			@Expose private final long amount;
+			/** The number of transactions */
+			@Expose private final long count;
+			/** The sub-levels (empty for MCC leaves) */
+			@Expose private final List<Node> list;
+			
+			/** Builds a spend tree node */
+			private Node(int code, String label, long amount, long count, List<Node> list) {
+				this.code = code;
+				this.label = label;
+				this.amount = amount;
+				this.count = count;
+				this.list = list;
+			}
+			
+			/** Returns the code of this level (taxonomy or MCC code) */
+			@Override public int getCode() { return code; }
+			/** Returns the label of this level (taxonomy or MCC description) */
+			@Override public String getLabel() { return label; }
+			/** Returns the sub-levels, as an unmodifiable list of Node (empty for MCC leaves) */
+			@Override public List<Node> getList() { return list; }
+			/** Returns the sum of amounts (minor units) */
+			public long getAmount() { return amount; }
+			/** Returns the number of transactions */
+			public long getCount() { return count; }
+			
+			/** Return a Human readable representation of this node. */
+			@Override public String toString() {
+				return label + " (" + code + "): " + amount + " / " + count; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+		}
+		
+		/** Sums rolled up by taxonomy ordinal, for each classification */
+		private static final class RollUp {
+			
+			private final long[] rangeAmounts = new long[MerchantCategoryRange.values().length], rangeCounts = new long[rangeAmounts.length];
+			private final long[] headCategoryAmounts = new long[MastercardMerchantCategory.values().length], headCategoryCounts = new long[headCategoryAmounts.length];
+			private final long[] economicSectorAmounts = new long[TRBCEconomicSector.values().length], economicSectorCounts = new long[economicSectorAmounts.length];
+			private final long[] businessSectorAmounts = new long[TRBCBusinessSector.values().length], businessSectorCounts = new long[businessSectorAmounts.length];
+			private final long[] industryGroupAmounts = new long[TRBCIndustryGroup.values().length], industryGroupCounts = new long[industryGroupAmounts.length];
+			private final long[] industryAmounts = new long[TRBCIndustry.values().length], industryCounts = new long[industryAmounts.length];
+			private long totalAmount, totalCount;
+			
+			/** Rolls up the sums by MCC ordinal */
+			private RollUp(long[] amounts, long[] counts) {
+				Iso18245MerchantCategoryCode[] mccs = Iso18245MerchantCategoryCode.values();
+				for (int i=0; i<mccs.length; i++) {
+					if (counts[i] == 0) continue;
+					long amount = amounts[i], count = counts[i];
+					int range = Iso18245MerchantCategoryCode.MerchantCategoryColumns.getRangeOrdinal(i), headCategory = Iso18245MerchantCategoryCode.MerchantCategoryColumns.getHeadCategoryOrdinal(i);
+					TRBCIndustry industry = mccs[i].getTRBCClassification();
+					TRBCIndustryGroup industryGroup = industry.industryGroup;
+					TRBCBusinessSector businessSector = industryGroup.businessSector;
+					rangeAmounts[range] += amount; rangeCounts[range] += count;
+					headCategoryAmounts[headCategory] += amount; headCategoryCounts[headCategory] += count;
+					industryAmounts[industry.ordinal()] += amount; industryCounts[industry.ordinal()] += count;
+					industryGroupAmounts[industryGroup.ordinal()] += amount; industryGroupCounts[industryGroup.ordinal()] += count;
+					businessSectorAmounts[businessSector.ordinal()] += amount; businessSectorCounts[businessSector.ordinal()] += count;
+					economicSectorAmounts[businessSector.economicSector.ordinal()] += amount; economicSectorCounts[businessSector.economicSector.ordinal()] += count;
+					totalAmount += amount; totalCount += count;
+				}
+			}
+			
+			/** Returns the amounts array of the classification of <code>taxonomy</code> */
+			private long[] amounts(ITaxonomy taxonomy) throws IllegalArgumentException {
+				if (taxonomy instanceof MerchantCategoryRange) return rangeAmounts;
+				if (taxonomy instanceof MastercardMerchantCategory) return headCategoryAmounts;
+				if (taxonomy instanceof TRBCEconomicSector) return economicSectorAmounts;
+				if (taxonomy instanceof TRBCBusinessSector) return businessSectorAmounts;
+				if (taxonomy instanceof TRBCIndustryGroup) return industryGroupAmounts;
+				if (taxonomy instanceof TRBCIndustry) return industryAmounts;
+				throw new IllegalArgumentException ("Unsupported taxonomy " + taxonomy); //$NON-NLS-1$
+			}
+			
+			/** Returns the counts array of the classification of <code>taxonomy</code> */
+			private long[] counts(ITaxonomy taxonomy) throws IllegalArgumentException {
+				if (taxonomy instanceof MerchantCategoryRange) return rangeCounts;
+				if (taxonomy instanceof MastercardMerchantCategory) return headCategoryCounts;
+				if (taxonomy instanceof TRBCEconomicSector) return economicSectorCounts;
+				if (taxonomy instanceof TRBCBusinessSector) return businessSectorCounts;
+				if (taxonomy instanceof TRBCIndustryGroup) return industryGroupCounts;
+				if (taxonomy instanceof TRBCIndustry) return industryCounts;
+				throw new IllegalArgumentException ("Unsupported taxonomy " + taxonomy); //$NON-NLS-1$
+			}
+		}
+		
+		/** Fork/join aggregation of a slice of the transaction arrays: each task returns its own partial accumulator, merged when joined. */
+		@SuppressWarnings("serial") private static final class AggregateTask extends RecursiveTask<MerchantCategorySpend> {
+			
+			/** The transactions MCC and amounts */
+			private final int[] mccs;
+			private final long[] amounts;
+			/** The slice of this task */
+			private final int offset, length;
+			
+			private AggregateTask(int[] mccs, long[] amounts, int offset, int length) {
+				this.mccs = mccs;
+				this.amounts = amounts;
+				this.offset = offset;
+				this.length = length;
+			}
+			
+			/** Aggregates this slice directly if small enough, otherwise forks two half slices. */
+			@Override protected MerchantCategorySpend compute() {
+				if (length <= PARALLEL_THRESHOLD) {
+					MerchantCategorySpend spend = new MerchantCategorySpend();
+					spend.addAll(mccs, amounts, offset, length);
+					return spend;
+				}
+				int half = length >>> 1;
+				AggregateTask left = new AggregateTask(mccs, amounts, offset, half);
+				AggregateTask right = new AggregateTask(mccs, amounts, offset + half, length - half);
+				left.fork();
+				return right.compute().merge(left.join());
+			}
+		}
+		
+	}
+
 }
@@ -1,13 +1,20 @@
 package org.iso4j;
 
+import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 public class Messages {
 	private static final String BUNDLE_NAME = "com.mobilipay.shared.iso.messages"; //$NON-NLS-1$
 
 	private static final ResourceBundle RESOURCE_BUNDLE = ResourceBundle.getBundle(BUNDLE_NAME);
 
+	/** Bundle lookup without fallback to the default locale, so that several locales can be served from the same JVM */
+	private static final ResourceBundle.Control NO_FALLBACK = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
 	private Messages() {
 	}
 
@@ -18,4 +25,78 @@ public class Messages {
 			return '!' + key + '!';
 		}
 	}
+
+	/** Returns the messages bundle for <code>locale</code> (the base bundle if there is none for this locale) */
+	public static ResourceBundle getBundle(Locale locale) {
+		return ResourceBundle.getBundle(BUNDLE_NAME, locale, NO_FALLBACK);
+	}
+
+	/** Returns the message for <code>key</code> in <code>locale</code> */
+	public static String getString(String key, Locale locale) {
+		try {
+			return getBundle(locale).getString(key);
+		} catch (MissingResourceException e) {
+			return '!' + key + '!';
+		}
+	}
+
+	/**
+	 * Localised texts of an enumeration, resolved on first use for each locale into a table indexed by enumeration value ordinal.
+	 * <p>
+	 * Enumeration values keep a message key (or a not localised text) instead of resolving it when constructed, so that 
+	 * class initialisation does not pay for the bundle lookups and texts are available in any locale. A missing key renders as 
+	 * <code>!key!</code>. Tables are built once per bundle found (requested locales without a bundle of their own share the 
+	 * table of the bundle they fall back to), and at most {@link #MAX_LOCALES} requested locales are remembered.
+	 */
+	public static final class Table<E extends Enum<E>> {
+
+		/** Maximum number of requested locales remembered (other ones are resolved through the bundle lookup on each call) */
+		private static final int MAX_LOCALES = 64;
+
+		/** The enumeration */
+		private final Class<E> type;
+		/** Gets the message key (or not localised text) of an enumeration value */
+		private final Function<E, String> key;
+		/** The prefix of message keys: values whose text does not start with it hold a not localised text */
+		private final String keyPrefix;
+		/** The texts by ordinal, by locale of the bundle found */
+		private final ConcurrentMap<Locale, String[]> texts = new ConcurrentHashMap<>();
+		/** The texts by ordinal, by requested locale (shared with {@link #texts}) */
+		private final ConcurrentMap<Locale, String[]> requested = new ConcurrentHashMap<>();
+
+		/** Builds the table of an enumeration whose values all hold a message key */
+		public Table(Class<E> type, Function<E, String> key) {
+			this(type, key, ""); //$NON-NLS-1$
+		}
+
+		/** Builds the table of an enumeration whose values hold a message key starting with <code>keyPrefix</code>, or a not localised text (e.g. a brand name) */
+		public Table(Class<E> type, Function<E, String> key, String keyPrefix) {
+			this.type = type;
+			this.key = key;
+			this.keyPrefix = keyPrefix;
+		}
+
+		/** Returns the text of <code>value</code> in <code>locale</code> */
+		public String get(E value, Locale locale) {
+			String[] table = requested.get(locale);
+			if (table == null) {
+				ResourceBundle bundle = getBundle(locale);
+				table = texts.computeIfAbsent(bundle.getLocale(), found -> load(bundle));
+				if (requested.size() < MAX_LOCALES) requested.putIfAbsent(locale, table);
+			}
+			return table[value.ordinal()];
+		}
+
+		/** Resolves the texts of all enumeration values in <code>bundle</code> */
+		private String[] load(ResourceBundle bundle) {
+			E[] values = type.getEnumConstants();
+			String[] table = new String[values.length];
+			for (E value : values) {
+				String text = key.apply(value);
+				if (!text.startsWith(keyPrefix)) table[value.ordinal()] = text;
+				else table[value.ordinal()] = bundle.containsKey(text) ? bundle.getString(text) : '!' + text + '!';
+			}
+			return table;
+		}
+	}
 }
@@ -1,21 +1,78 @@
 package org.iso4j;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
 
 import org.iso4j.ICountries.Iso3166CountryCode;
 import org.iso4j.ICurrencies.Iso4217CurrencyCode;
+import org.iso4j.IDecisionTables.DecisionTable;
+import org.iso4j.IDecisionTables.DecisionTable.RuleBuilder;
+import org.iso4j.IDecisionTables.LiveDecisionTable;
 import org.iso4j.ILanguages.Iso639LanguageCode;
+import org.iso4j.IMerchantCategoryCodes.CardControlProfile;
+import org.iso4j.IMerchantCategoryCodes.ITRBCTaxonomy;
+import org.iso4j.IMerchantCategoryCodes.ITaxonomy;
 import org.iso4j.IMerchantCategoryCodes.Iso18245MerchantCategoryCode;
+import org.iso4j.IMerchantCategoryCodes.Iso18245MerchantCategoryCode.Classification;
+import org.iso4j.IMerchantCategoryCodes.Iso18245MerchantCategoryCode.DigitEncoding;
+import org.iso4j.IMerchantCategoryCodes.Iso18245MerchantCategoryCode.JsonArtifact;
+import org.iso4j.IMerchantCategoryCodes.Iso18245MerchantCategoryCode.ListOrder;
 import org.iso4j.IMerchantCategoryCodes.Iso18245MerchantCategoryCode.MerchantCategoryCode;
+import org.iso4j.IMerchantCategoryCodes.Iso18245MerchantCategoryCode.MerchantCategoryColumns;
 import org.iso4j.IMerchantCategoryCodes.Iso18245MerchantCategoryCode.MerchantCategoryList;
+import org.iso4j.IMerchantCategoryCodes.Iso18245MerchantCategoryCode.TreeItem;
+import org.iso4j.IMerchantCategoryCodes.Iso18245MerchantCategoryCode.TreePage;
+import org.iso4j.IMerchantCategoryCodes.MastercardMerchantCategory;
+import org.iso4j.IMerchantCategoryCodes.MastercardTransactionCategoryCode;
+import org.iso4j.IMerchantCategoryCodes.MerchantCategoryBatch;
+import org.iso4j.IMerchantCategoryCodes.MerchantCategoryRange;
+import org.iso4j.IMerchantCategoryCodes.MerchantCategorySearchIndex;
+import org.iso4j.IMerchantCategoryCodes.MerchantCategorySet;
+import org.iso4j.IMerchantCategoryCodes.MerchantCategorySpend;
+import org.iso4j.IMerchantCategoryCodes.MerchantCategoryValidator;
+import org.iso4j.IMerchantCategoryCodes.PaymentScheme;
+import org.iso4j.IMerchantCategoryCodes.TRBCBusinessSector;
+import org.iso4j.IMerchantCategoryCodes.TRBCEconomicSector;
+import org.iso4j.IMerchantCategoryCodes.TRBCIndustry;
+import org.iso4j.IMerchantCategoryCodes.TRBCIndustryGroup;
+import org.iso4j.IMerchantCategoryCodes.UnknownCodePolicy;
+import org.iso4j.IMerchantCategoryCodes.VisaMerchantCategoryGroup;
 
 public class Test {
 
@@ -64,6 +121,7 @@ public class Test {
 		out.println("*            MCC              *");
 		out.println("*******************************");
 		//testEnum(out);
+		//testValueOfThroughput(out);
 		//testFlatListCode(out);
 		//testFlatListDesc(out);
 		//testSchemeNestedListCodeCode(out);
@@ -85,6 +143,40 @@ public class Test {
 		
 	}
 	
+	/** Checks the MCC data structures against the MCC getters (or a linear scan), throwing on the first mismatch */
+	private static void checkMCC(PrintStream out) throws Exception {
+		checkColumns();
+		checkBatchClassification(out);
+		checkFlatListOrderings();
+		checkNestedListCache();
+		checkJsonArtifacts();
+		checkJsonStreaming();
+		checkWireCodec();
+		checkGroupSets();
+		checkNavigation();
+		checkSearchIndex(out);
+		checkDescriptions();
+		checkLazyLists(out);
+		checkChildLookup();
+		checkTRBCHierarchy();
+		checkSpendAggregation();
+		checkBrandAbbreviations();
+		checkNestedListSnapshots();
+		checkRenderer();
+		checkGroupedNestedLists();
+		checkTreePage();
+		checkSchemeCodeLookups();
+		checkCardControlProfile();
+		checkDecisionTable();
+		checkSchemeValidity();
+		out.println("MCC checks passed");
+	}
+
+	/** Throws if <code>condition</code> does not hold, naming the failed check and its subject */
+	private static void check(boolean condition, String message, Object subject) {
+		if (!condition) throw new IllegalStateException ("Check failed: " + message + " " + subject);
+	}
+
 	private static void testEnum(PrintStream out) {
 		out.println();
 		out.println();
@@ -97,6 +189,40 @@ public class Test {
 		out.println();
 	}
 	
+	/** Former implementation of Iso18245MerchantCategoryCode.valueOf(int), kept as the throughput baseline */
+	private static Iso18245MerchantCategoryCode scanValueOf(int code) {
+		for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) if (mcc.getCode() == code) return mcc;
+		throw new IllegalArgumentException ("Invalid MCC " + code);
+	}
+	
+	private static void testValueOfThroughput(PrintStream out) {
+		out.println();
+		out.println();
+		out.println("---------------------------------------------");
+		out.println(" MCC valueOf(int) throughput (scan vs table) ");
+		out.println("---------------------------------------------");
+		Iso18245MerchantCategoryCode[] mccs = Iso18245MerchantCategoryCode.values();
+		int[] codes = new int[1 << 16];
+		for (int i=0 ; i<codes.length; i++) codes[i] = mccs[(i * 7919) % mccs.length].getCode();
+		int rounds = 200, check = 0;
+		for (int warmup=0 ; warmup<2; warmup++) {
+			long start = System.nanoTime();
+			for (int r=0 ; r<rounds / 20; r++) for (int i=0 ; i<codes.length; i++) check += scanValueOf(codes[i]).ordinal();
+			long scan = System.nanoTime() - start;
+			start = System.nanoTime();
+			for (int r=0 ; r<rounds; r++) for (int i=0 ; i<codes.length; i++) check += Iso18245MerchantCategoryCode.valueOf(codes[i]).ordinal();
+			long table = System.nanoTime() - start;
+			if (warmup == 0) continue;
+			double scanOps = (rounds / 20) * (double) codes.length / scan * 1e9;
+			double tableOps = rounds * (double) codes.length / table * 1e9;
+			out.println(String.format("scan  : %,.0f lookups/s", scanOps));
+			out.println(String.format("table : %,.0f lookups/s (x%.0f)", tableOps, tableOps / scanOps));
+		}
+		out.println("(checksum " + check + ")");
+		out.println();
+		out.println();
+	}
+	
 	private static void testFlatListCode(PrintStream out) {
 		out.println();
 		out.println();
@@ -316,6 +442,683 @@ public class Test {
 		out.println();
 	}
 
+	/** Checks the MCC columns and packed values against the MCC getters, for every code */
+	private static void checkColumns() {
+		for (int code=-1; code<=Iso18245MerchantCategoryCode.MAX_CODE+1; code++) {
+			Iso18245MerchantCategoryCode mcc = Iso18245MerchantCategoryCode.lookup(code);
+			int ordinal = MerchantCategoryColumns.ordinalOf(code);
+			long packed = MerchantCategoryColumns.getPacked(code);
+			if (mcc == null) {
+				check(ordinal == MerchantCategoryColumns.NONE && packed == MerchantCategoryColumns.UNKNOWN, "columns of unknown code", code);
+				continue;
+			}
+			int tcc = mcc.getSchemeTCC() == null ? MerchantCategoryColumns.NONE : mcc.getSchemeTCC().ordinal();
+			int mcg = mcc.getSchemeMCG() == null ? MerchantCategoryColumns.NONE : mcc.getSchemeMCG().ordinal();
+			check(ordinal == mcc.ordinal() && packed == MerchantCategoryColumns.getPackedByOrdinal(ordinal) && MerchantCategoryColumns.unpackCode(packed) == code
+					&& MerchantCategoryColumns.getRangeOrdinal(ordinal) == mcc.getCategoryRange().ordinal() && MerchantCategoryColumns.unpackRangeOrdinal(packed) == mcc.getCategoryRange().ordinal()
+					&& MerchantCategoryColumns.getHeadCategoryOrdinal(ordinal) == mcc.getHeadCategory().ordinal() && MerchantCategoryColumns.unpackHeadCategoryOrdinal(packed) == mcc.getHeadCategory().ordinal()
+					&& MerchantCategoryColumns.getTCCOrdinal(ordinal) == tcc && MerchantCategoryColumns.unpackTCCOrdinal(packed) == tcc
+					&& MerchantCategoryColumns.getMCGOrdinal(ordinal) == mcg && MerchantCategoryColumns.unpackMCGOrdinal(packed) == mcg
+					&& MerchantCategoryColumns.getTRBCOrdinal(ordinal) == mcc.getTRBCClassification().ordinal() && MerchantCategoryColumns.unpackTRBCOrdinal(packed) == mcc.getTRBCClassification().ordinal(), "columns of code", code);
+		}
+	}
+
+	/** Checks the batch classification of random (partly unknown) codes against the MCC getters, and prints its cost per code */
+	private static void checkBatchClassification(PrintStream out) {
+		Iso18245MerchantCategoryCode[] mccs = Iso18245MerchantCategoryCode.values();
+		int[] codes = new int[1000000];
+		Random random = new Random(18245);
+		for (int i=0; i<codes.length; i++) codes[i] = i % 20 == 0 ? random.nextInt(12000) - 1000 : mccs[random.nextInt(mccs.length)].getCode();
+		MerchantCategoryBatch batch = new MerchantCategoryBatch(codes.length);
+		int unknown = 0;
+		long elapsed = 0;
+		for (int round=0; round<3; round++) { // first rounds as warm-up
+			long start = System.nanoTime();
+			unknown = batch.classify(codes, 0, codes.length, UnknownCodePolicy.FILL_NONE);
+			elapsed = System.nanoTime() - start;
+		}
+		int expectedUnknown = 0;
+		for (int i=0; i<codes.length; i++) {
+			Iso18245MerchantCategoryCode mcc = Iso18245MerchantCategoryCode.lookup(codes[i]);
+			if (mcc == null) expectedUnknown++;
+			check(batch.getOrdinals()[i] == (mcc == null ? -1 : mcc.ordinal())
+					&& batch.getTCCs()[i] == (mcc == null || mcc.getSchemeTCC() == null ? '\0' : mcc.getSchemeTCC().getCode())
+					&& batch.getMCGs()[i] == (mcc == null || mcc.getSchemeMCG() == null ? 0 : mcc.getSchemeMCG().getCode())
+					&& batch.getRangeOrdinals()[i] == (mcc == null ? -1 : mcc.getCategoryRange().ordinal())
+					&& batch.getTRBCCodes()[i] == (mcc == null ? 0 : mcc.getTRBCClassification().getCode()), "batch row of code", codes[i]);
+		}
+		check(unknown == expectedUnknown && batch.classifyParallel(codes, 0, codes.length, UnknownCodePolicy.FILL_NONE) == expectedUnknown, "unknown codes in batch", unknown);
+		out.println(String.format("batch classification : %.1f ns/code", (double) elapsed / codes.length));
+	}
+
+	/** Checks that the flat lists hold each MCC once, in their order, and are shared and immutable */
+	private static void checkFlatListOrderings() {
+		Comparator<MerchantCategoryCode> byMCG = Comparator.comparing((MerchantCategoryCode mcc) -> mcc.getMCC().getSchemeMCG(), Comparator.nullsLast(Comparator.naturalOrder()))
+				.thenComparingInt(MerchantCategoryCode::getCode);
+		List<MerchantCategoryCode> registered = Iso18245MerchantCategoryCode.registerFlatListOrdering("MCG", byMCG);
+		List<List<MerchantCategoryCode>> lists = Arrays.asList(Iso18245MerchantCategoryCode.getFlatListOrderedByCode(), Iso18245MerchantCategoryCode.getFlatListOrderedByDescription(), registered);
+		List<Comparator<MerchantCategoryCode>> orders = Arrays.asList(Comparator.comparingInt(MerchantCategoryCode::getCode), Comparator.comparing(MerchantCategoryCode::getDescription), byMCG);
+		for (int order=0; order<lists.size(); order++) {
+			List<MerchantCategoryCode> list = lists.get(order);
+			Set<Iso18245MerchantCategoryCode> mccs = new HashSet<>();
+			for (int i=0; i<list.size(); i++) {
+				check(mccs.add(list.get(i).getMCC()) && (i == 0 || orders.get(order).compare(list.get(i - 1), list.get(i)) <= 0), "flat list order at", list.get(i));
+			}
+			check(mccs.size() == Iso18245MerchantCategoryCode.values().length, "flat list size", list.size());
+			try {
+				list.set(0, list.get(1));
+				check(false, "immutable flat list from", list.get(0));
+			} catch (UnsupportedOperationException e) {
+				// expected: flat lists are shared
+			}
+		}
+		check(Iso18245MerchantCategoryCode.getFlatListOrderedByCode() == lists.get(0), "cached flat list", "by code");
+		check(Iso18245MerchantCategoryCode.getFlatListOrderedBy("MCG") == registered && Iso18245MerchantCategoryCode.getFlatListOrderedBy("unknown") == null, "registered ordering", "MCG");
+		check(Iso18245MerchantCategoryCode.registerFlatListOrdering("MCG", Comparator.comparingInt(MerchantCategoryCode::getCode)) == registered, "ordering registered twice", "MCG");
+	}
+
+	/** Checks that the nested lists are cached for each pair of orders, and hold each MCC under its levels */
+	private static void checkNestedListCache() {
+		for (ListOrder categoryOrder : ListOrder.values()) {
+			for (ListOrder mccOrder : ListOrder.values()) {
+				MerchantCategoryList scheme = Iso18245MerchantCategoryCode.getSchemeNestedList(categoryOrder, mccOrder);
+				MerchantCategoryList trbc = Iso18245MerchantCategoryCode.getThomsonReutersNestedList(categoryOrder, mccOrder);
+				check(scheme == Iso18245MerchantCategoryCode.getSchemeNestedList(categoryOrder, mccOrder) && trbc == Iso18245MerchantCategoryCode.getThomsonReutersNestedList(categoryOrder, mccOrder), "cached nested lists", categoryOrder + "/" + mccOrder);
+				Map<Iso18245MerchantCategoryCode, List<Integer>> schemePaths = new HashMap<>();
+				Map<Iso18245MerchantCategoryCode, List<Integer>> trbcPaths = new HashMap<>();
+				collectPaths(scheme, new ArrayList<>(), schemePaths);
+				collectPaths(trbc, new ArrayList<>(), trbcPaths);
+				for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) {
+					List<Integer> trbcPath = new ArrayList<>();
+					for (ITaxonomy level = mcc.getTRBCClassification(); level != null; level = level.getParent()) trbcPath.add(0, level.getCode());
+					check(Arrays.asList(mcc.getCategoryRange().getCode(), mcc.getHeadCategory().getCode()).equals(schemePaths.get(mcc)) && trbcPath.equals(trbcPaths.get(mcc)), "nested list levels of", mcc);
+				}
+			}
+		}
+	}
+
+	/** Records in <code>paths</code> the codes of the levels above each MCC of <code>list</code>, <code>path</code> being the codes above <code>list</code> */
+	private static void collectPaths(MerchantCategoryList list, List<Integer> path, Map<Iso18245MerchantCategoryCode, List<Integer>> paths) {
+		for (Object element : list.getList()) {
+			if (element instanceof MerchantCategoryList) {
+				List<Integer> subPath = new ArrayList<>(path);
+				subPath.add(((MerchantCategoryList) element).getCode());
+				collectPaths((MerchantCategoryList) element, subPath, paths);
+			} else {
+				paths.put(((MerchantCategoryCode) element).getMCC(), path);
+			}
+		}
+	}
+
+	/** Checks that the cached JSON artifacts hold the JSON serialization of the nested lists */
+	private static void checkJsonArtifacts() throws IOException, NoSuchAlgorithmException {
+		Gson gson = new GsonBuilder().excludeFieldsWithoutExposeAnnotation().setPrettyPrinting().create();
+		for (ListOrder categoryOrder : ListOrder.values()) {
+			for (ListOrder mccOrder : ListOrder.values()) {
+				JsonArtifact scheme = Iso18245MerchantCategoryCode.getSchemeNestedListAsJsonArtifact(categoryOrder, mccOrder);
+				JsonArtifact trbc = Iso18245MerchantCategoryCode.getThomsonReutersNestedListAsJsonArtifact(categoryOrder, mccOrder);
+				check(scheme == Iso18245MerchantCategoryCode.getSchemeNestedListAsJsonArtifact(categoryOrder, mccOrder) && trbc == Iso18245MerchantCategoryCode.getThomsonReutersNestedListAsJsonArtifact(categoryOrder, mccOrder), "cached JSON artifacts", categoryOrder + "/" + mccOrder);
+				checkArtifact(scheme, gson.toJson(Iso18245MerchantCategoryCode.getSchemeNestedList(categoryOrder, mccOrder)));
+				checkArtifact(trbc, gson.toJson(Iso18245MerchantCategoryCode.getThomsonReutersNestedList(categoryOrder, mccOrder)));
+			}
+		}
+	}
+
+	/** Checks the JSON text, UTF-8 and gzip bytes and ETag of <code>artifact</code> against the JSON serialization <code>json</code> of its nested list */
+	private static void checkArtifact(JsonArtifact artifact, String json) throws IOException, NoSuchAlgorithmException {
+		byte[] utf8 = json.getBytes(StandardCharsets.UTF_8);
+		ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+		artifact.writeGzipTo(gzip);
+		ByteArrayOutputStream gunzipped = new ByteArrayOutputStream();
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.toByteArray()))) {
+			byte[] buf = new byte[8192];
+			for (int n; (n = in.read(buf)) > 0; ) gunzipped.write(buf, 0, n);
+		}
+		StringBuilder etag = new StringBuilder("\"");
+		for (byte b : MessageDigest.getInstance("SHA-256").digest(utf8)) etag.append(String.format("%02x", b));
+		check(artifact.getJson().equals(json) && artifact.getContentLength() == utf8.length && artifact.asByteBuffer().remaining() == utf8.length, "JSON of artifact", artifact.getETag());
+		check(Arrays.equals(gunzipped.toByteArray(), utf8) && artifact.getGzipContentLength() == gzip.size(), "gzip bytes of artifact", artifact.getETag());
+		check(artifact.getETag().equals(etag.append('"').toString()), "ETag of artifact", artifact.getETag());
+	}
+
+	/** Checks that the nested lists streamed as JSON, pretty or compact, match their Gson serialization */
+	private static void checkJsonStreaming() throws IOException {
+		Gson pretty = new GsonBuilder().excludeFieldsWithoutExposeAnnotation().setPrettyPrinting().create();
+		Gson compact = new GsonBuilder().excludeFieldsWithoutExposeAnnotation().create();
+		for (ListOrder categoryOrder : ListOrder.values()) {
+			for (ListOrder mccOrder : ListOrder.values()) {
+				StringBuilder scheme = new StringBuilder(), trbc = new StringBuilder();
+				ByteArrayOutputStream schemeBytes = new ByteArrayOutputStream(), trbcBytes = new ByteArrayOutputStream();
+				Iso18245MerchantCategoryCode.writeSchemeNestedListAsJson(categoryOrder, mccOrder, scheme, true);
+				Iso18245MerchantCategoryCode.writeThomsonReutersNestedListAsJson(categoryOrder, mccOrder, trbc, true);
+				Iso18245MerchantCategoryCode.writeSchemeNestedListAsJson(categoryOrder, mccOrder, schemeBytes, false);
+				Iso18245MerchantCategoryCode.writeThomsonReutersNestedListAsJson(categoryOrder, mccOrder, trbcBytes, false);
+				check(scheme.toString().equals(pretty.toJson(Iso18245MerchantCategoryCode.getSchemeNestedList(categoryOrder, mccOrder)))
+						&& trbc.toString().equals(pretty.toJson(Iso18245MerchantCategoryCode.getThomsonReutersNestedList(categoryOrder, mccOrder))), "pretty JSON stream", categoryOrder + "/" + mccOrder);
+				check(new String(schemeBytes.toByteArray(), StandardCharsets.UTF_8).equals(compact.toJson(Iso18245MerchantCategoryCode.getSchemeNestedList(categoryOrder, mccOrder)))
+						&& new String(trbcBytes.toByteArray(), StandardCharsets.UTF_8).equals(compact.toJson(Iso18245MerchantCategoryCode.getThomsonReutersNestedList(categoryOrder, mccOrder))), "compact JSON stream", categoryOrder + "/" + mccOrder);
+			}
+		}
+		StringWriter json = new StringWriter();
+		JsonWriter writer = new JsonWriter(json);
+		writer.setHtmlSafe(true); // as Gson does
+		Iso18245MerchantCategoryCode.writeSchemeNestedListAsJson(ListOrder.BY_DESCRIPTION, ListOrder.BY_CODE, writer);
+		writer.flush();
+		check(json.toString().equals(compact.toJson(Iso18245MerchantCategoryCode.getSchemeNestedList(ListOrder.BY_DESCRIPTION, ListOrder.BY_CODE))), "JsonWriter stream", ListOrder.BY_DESCRIPTION);
+	}
+
+	/** Checks the wire decoding of every code against lookup(int), and the encoding of each MCC back to the same bytes */
+	private static void checkWireCodec() {
+		for (DigitEncoding encoding : DigitEncoding.values()) {
+			for (int code=0; code<=Iso18245MerchantCategoryCode.MAX_CODE; code++) {
+				String digits = String.format("%04d", code);
+				byte[] message = new byte[3 + encoding.getLength()]; // the code after 3 bytes of other fields
+				for (int i=0; i<4; i++) {
+					int digit = digits.charAt(i) - '0';
+					if (encoding == DigitEncoding.BCD) message[3 + i / 2] |= i % 2 == 0 ? digit << 4 : digit;
+					else message[3 + i] = (byte) ((encoding == DigitEncoding.ASCII ? 0x30 : 0xF0) + digit);
+				}
+				Iso18245MerchantCategoryCode mcc = Iso18245MerchantCategoryCode.lookup(code);
+				check(Iso18245MerchantCategoryCode.decode(message, 3, encoding) == mcc && Iso18245MerchantCategoryCode.decode(ByteBuffer.wrap(message), 3, encoding) == mcc, "decoding of " + encoding, digits);
+				if (mcc == null) continue;
+				byte[] encoded = new byte[message.length];
+				ByteBuffer buffer = ByteBuffer.allocate(message.length);
+				check(mcc.encode(encoded, 3, encoding) == message.length && mcc.encode(buffer, 3, encoding) == message.length
+						&& Arrays.equals(encoded, message) && Arrays.equals(buffer.array(), message), "encoding in " + encoding, digits);
+			}
+		}
+		check(Iso18245MerchantCategoryCode.decode("12A4".getBytes(StandardCharsets.US_ASCII), 0, DigitEncoding.ASCII) == null, "decoding of invalid digits", "12A4");
+	}
+
+	/** Checks the MCG, TCC, head category and range sets, and the set operations, against the MCC getters */
+	private static void checkGroupSets() {
+		for (VisaMerchantCategoryGroup mcg : VisaMerchantCategoryGroup.values()) checkSet(MerchantCategorySet.of(mcg), mcc -> mcc.getSchemeMCG() == mcg, mcg);
+		for (MastercardTransactionCategoryCode tcc : MastercardTransactionCategoryCode.values()) checkSet(MerchantCategorySet.of(tcc), mcc -> mcc.getSchemeTCC() == tcc, tcc);
+		for (MastercardMerchantCategory headCategory : MastercardMerchantCategory.values()) checkSet(MerchantCategorySet.of(headCategory), mcc -> mcc.getHeadCategory() == headCategory, headCategory);
+		for (MerchantCategoryRange range : MerchantCategoryRange.values()) checkSet(MerchantCategorySet.of(range), mcc -> mcc.getCategoryRange() == range, range);
+		MerchantCategorySet grocery = MerchantCategorySet.ofCodes(5411, 5499);
+		checkSet(MerchantCategorySet.all(), mcc -> true, "all");
+		checkSet(MerchantCategorySet.all().intersection(grocery), mcc -> mcc.getCode() == 5411 || mcc.getCode() == 5499, "grocery");
+		checkSet(grocery.union(MerchantCategorySet.of(Iso18245MerchantCategoryCode.lookup(5812))), mcc -> mcc.getCode() == 5411 || mcc.getCode() == 5499 || mcc.getCode() == 5812, "grocery and restaurants");
+		check(MerchantCategorySet.EMPTY.intersection(grocery).isEmpty(), "intersection with", MerchantCategorySet.EMPTY);
+	}
+
+	/** Checks that <code>set</code> holds the codes of the MCC matching <code>member</code>, and only them */
+	private static void checkSet(MerchantCategorySet set, Predicate<Iso18245MerchantCategoryCode> member, Object name) {
+		Set<Integer> codes = new TreeSet<>();
+		for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) if (member.test(mcc)) codes.add(mcc.getCode());
+		int[] expected = new int[codes.size()];
+		int i = 0;
+		for (int code : codes) expected[i++] = code;
+		check(Arrays.equals(set.toCodeArray(), expected) && set.size() == expected.length, "codes of set", name);
+		for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) check(set.contains(mcc) == codes.contains(mcc.getCode()) && set.contains(mcc.getCode()) == set.contains(mcc), "membership of " + mcc.getCodeAsString() + " in", name);
+		check(!set.contains(-1) && !set.contains(Iso18245MerchantCategoryCode.MAX_CODE + 1), "codes out of range in", name);
+	}
+
+	/** Checks floor, ceiling, subRange and count against a linear scan of lookup(int) */
+	private static void checkNavigation() {
+		Iso18245MerchantCategoryCode floor = null, ceiling = null;
+		for (int code=-2; code<=Iso18245MerchantCategoryCode.MAX_CODE+2; code++) {
+			if (Iso18245MerchantCategoryCode.lookup(code) != null) floor = Iso18245MerchantCategoryCode.lookup(code);
+			check(Iso18245MerchantCategoryCode.floor(code) == floor, "floor of", code);
+		}
+		for (int code=Iso18245MerchantCategoryCode.MAX_CODE+2; code>=-2; code--) {
+			if (Iso18245MerchantCategoryCode.lookup(code) != null) ceiling = Iso18245MerchantCategoryCode.lookup(code);
+			check(Iso18245MerchantCategoryCode.ceiling(code) == ceiling, "ceiling of", code);
+		}
+		Random random = new Random(18245);
+		for (int i=0; i<1000; i++) {
+			int from = random.nextInt(10004) - 2, to = random.nextInt(10004) - 2;
+			List<Iso18245MerchantCategoryCode> expected = new ArrayList<>();
+			for (int code=Math.max(from, 0); code<=Math.min(to, Iso18245MerchantCategoryCode.MAX_CODE); code++) if (Iso18245MerchantCategoryCode.lookup(code) != null) expected.add(Iso18245MerchantCategoryCode.lookup(code));
+			check(Iso18245MerchantCategoryCode.subRange(from, to).equals(expected) && Iso18245MerchantCategoryCode.count(from, to) == expected.size(), "sub-range", from + ".." + to);
+		}
+	}
+
+	/** Checks that each word of the MCC descriptions finds the MCC holding it, and prints the cost of a typeahead query */
+	private static void checkSearchIndex(PrintStream out) {
+		MerchantCategorySearchIndex index = MerchantCategorySearchIndex.getInstance();
+		Map<String, List<Iso18245MerchantCategoryCode>> mccsByWord = new HashMap<>();
+		for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) {
+			String folded = Normalizer.normalize(mcc.getDescription(), Normalizer.Form.NFD).replaceAll("\\p{M}+", "").toLowerCase(Locale.getDefault());
+			for (String word : new HashSet<>(Arrays.asList(folded.split("[^\\p{L}\\p{Nd}]+")))) {
+				if (!word.isEmpty() && !word.matches("\\d+")) mccsByWord.computeIfAbsent(word, w -> new ArrayList<>()).add(mcc); // numbers also match codes
+			}
+		}
+		for (Map.Entry<String, List<Iso18245MerchantCategoryCode>> entry : mccsByWord.entrySet()) {
+			List<Iso18245MerchantCategoryCode> expected = entry.getValue();
+			expected.sort(Comparator.comparingInt(Iso18245MerchantCategoryCode::getCode)); // exact matches all score the same: by code
+			check(index.search(entry.getKey(), expected.size()).equals(expected), "search of", entry.getKey());
+		}
+		Set<Iso18245MerchantCategoryCode> hotels = new HashSet<>();
+		for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) if (mcc.getCodeAsString().startsWith("35")) hotels.add(mcc);
+		check(new HashSet<>(index.search("35", hotels.size())).equals(hotels), "search of code prefix", "35");
+		check(index.search("vetrinary", 1).equals(Arrays.asList(Iso18245MerchantCategoryCode.lookup(742))), "search of misspelled word", "vetrinary");
+		String[] typeahead = {"v", "ve", "vet", "vete", "veterinary", "vetrinary", "hotel par", "taxi", "30", "restaurants fast", "airline"};
+		long elapsed = 0;
+		for (int round=0; round<2; round++) { // first round as warm-up
+			long start = System.nanoTime();
+			for (int i=0; i<1000; i++) for (String query : typeahead) index.search(query, 10);
+			elapsed = System.nanoTime() - start;
+		}
+		out.println(String.format("typeahead search : %.1f us/query", elapsed / 1000.0 / (1000 * typeahead.length)));
+	}
+
+	/** Checks that every MCC has a description in each bundle, unknown locales getting the base one, and that a missing key renders as !key! */
+	private static void checkDescriptions() {
+		for (Locale locale : new Locale[] { Locale.ROOT, Locale.FRANCE, new Locale("us", "US"), new Locale("xx", "YY") }) {
+			for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) {
+				String description = mcc.getDescription(locale);
+				check(!description.startsWith("!") && !description.startsWith("IMerchantCategoryCodes."), "description in " + locale + " of", mcc.getCodeAsString());
+			}
+		}
+		Iso18245MerchantCategoryCode mcc = Iso18245MerchantCategoryCode.lookup(5411);
+		check(mcc.getDescription(new Locale("xx", "YY")).equals(mcc.getDescription(Locale.ROOT)), "description in an unknown locale of", mcc.getCodeAsString());
+		Messages.Table<PaymentScheme> missing = new Messages.Table<>(PaymentScheme.class, scheme -> "Missing." + scheme.name(), "Missing.");
+		check(missing.get(PaymentScheme.VISA, Locale.ROOT).equals("!Missing.VISA!"), "text of missing key", "Missing.VISA");
+	}
+
+	/** Checks in a fresh class loader that lookups do not build the lists, which match once built on first use, and prints the costs */
+	private static void checkLazyLists(PrintStream out) throws IOException, ReflectiveOperationException {
+		List<URL> urls = new ArrayList<>();
+		for (String path : System.getProperty("java.class.path").split(File.pathSeparator)) urls.add(new File(path).toURI().toURL());
+		// a fresh class loader, so that the MCC classes are initialised again whatever the checks already run
+		try (URLClassLoader loader = new URLClassLoader(urls.toArray(new URL[urls.size()]), ClassLoader.getSystemClassLoader().getParent())) {
+			Class<?> type = Class.forName(Iso18245MerchantCategoryCode.class.getName(), false, loader);
+			long start = System.nanoTime();
+			Object mcc = type.getMethod("lookup", int.class).invoke(null, 5411);
+			long init = System.nanoTime() - start;
+			start = System.nanoTime();
+			List<?> flatList = (List<?>) type.getMethod("getFlatListOrderedByCode").invoke(null);
+			long flat = System.nanoTime() - start;
+			start = System.nanoTime();
+			String json = (String) type.getMethod("getSchemeNestedListAsJsonOrderedByCodeWithListOrderedByCode").invoke(null);
+			long nested = System.nanoTime() - start;
+			check(mcc.toString().equals(Iso18245MerchantCategoryCode.lookup(5411).toString()), "lookup in fresh class loader", mcc);
+			check(flatList.toString().equals(Iso18245MerchantCategoryCode.getFlatListOrderedByCode().toString()), "flat list in fresh class loader", flatList.size());
+			check(json.equals(Iso18245MerchantCategoryCode.getSchemeNestedListAsJsonOrderedByCodeWithListOrderedByCode()), "nested list in fresh class loader", json.length());
+			out.println(String.format("class init : %.1f ms, flat list : %.1f ms, nested list : %.1f ms on first use", init / 1e6, flat / 1e6, nested / 1e6));
+		}
+	}
+
+	/** Checks that the levels found by code while building the nested lists have children of distinct codes */
+	private static void checkChildLookup() {
+		checkChildCodes(Iso18245MerchantCategoryCode.getSchemeNestedList(ListOrder.BY_CODE, ListOrder.BY_CODE));
+		checkChildCodes(Iso18245MerchantCategoryCode.getThomsonReutersNestedList(ListOrder.BY_CODE, ListOrder.BY_CODE));
+	}
+
+	/** Checks that the sub-levels of <code>list</code> have distinct codes, and so on down */
+	private static void checkChildCodes(MerchantCategoryList list) {
+		Set<Integer> codes = new HashSet<>();
+		for (Object element : list.getList()) {
+			if (!(element instanceof MerchantCategoryList)) continue;
+			check(codes.add(((MerchantCategoryList) element).getCode()), "distinct level codes under", list.getLabel());
+			checkChildCodes((MerchantCategoryList) element);
+		}
+	}
+
+	/** Checks isDescendantOf on every pair of TRBC nodes against the parent links */
+	private static void checkTRBCHierarchy() {
+		List<ITRBCTaxonomy> nodes = new ArrayList<>();
+		nodes.addAll(Arrays.asList(TRBCEconomicSector.values()));
+		nodes.addAll(Arrays.asList(TRBCBusinessSector.values()));
+		nodes.addAll(Arrays.asList(TRBCIndustryGroup.values()));
+		nodes.addAll(Arrays.asList(TRBCIndustry.values()));
+		for (ITRBCTaxonomy node : nodes) {
+			for (ITRBCTaxonomy other : nodes) check(node.isDescendantOf(other) == (node != other && isUnder(node, other)), "descendants of", other);
+		}
+	}
+
+	/** Checks the spend aggregated sequentially, in parallel and by the collector against sums over the MCC getters */
+	private static void checkSpendAggregation() {
+		Iso18245MerchantCategoryCode[] mccs = Iso18245MerchantCategoryCode.values();
+		int[] codes = new int[100000];
+		long[] amounts = new long[codes.length];
+		Random random = new Random(18245);
+		for (int i=0; i<codes.length; i++) {
+			codes[i] = i % 50 == 0 ? random.nextInt(12000) - 1000 : mccs[random.nextInt(mccs.length)].getCode();
+			amounts[i] = 1 + random.nextInt(100000);
+		}
+		long[] amountByOrdinal = new long[mccs.length], countByOrdinal = new long[mccs.length];
+		long unknownAmount = 0, totalAmount = 0;
+		for (int i=0; i<codes.length; i++) {
+			Iso18245MerchantCategoryCode mcc = Iso18245MerchantCategoryCode.lookup(codes[i]);
+			if (mcc == null) {
+				unknownAmount += amounts[i];
+				continue;
+			}
+			amountByOrdinal[mcc.ordinal()] += amounts[i];
+			countByOrdinal[mcc.ordinal()]++;
+			totalAmount += amounts[i];
+		}
+		List<ITaxonomy> taxonomies = new ArrayList<>();
+		taxonomies.addAll(Arrays.asList(MerchantCategoryRange.values()));
+		taxonomies.addAll(Arrays.asList(MastercardMerchantCategory.values()));
+		taxonomies.addAll(Arrays.asList(TRBCEconomicSector.values()));
+		taxonomies.addAll(Arrays.asList(TRBCBusinessSector.values()));
+		taxonomies.addAll(Arrays.asList(TRBCIndustryGroup.values()));
+		taxonomies.addAll(Arrays.asList(TRBCIndustry.values()));
+		MerchantCategorySpend collected = IntStream.range(0, codes.length).boxed().parallel().collect(MerchantCategorySpend.collector(i -> codes[i], i -> amounts[i]));
+		for (MerchantCategorySpend spend : Arrays.asList(MerchantCategorySpend.aggregate(codes, amounts), MerchantCategorySpend.aggregateParallel(codes, amounts), collected)) {
+			check(spend.getUnknownAmount() == unknownAmount && spend.getTotalAmount() == totalAmount && spend.getUnknownCount() + spend.getTotalCount() == codes.length, "total spend", spend.getTotalAmount());
+			for (Iso18245MerchantCategoryCode mcc : mccs) check(spend.getAmount(mcc) == amountByOrdinal[mcc.ordinal()] && spend.getCount(mcc) == countByOrdinal[mcc.ordinal()], "spend of", mcc);
+			for (ITaxonomy taxonomy : taxonomies) {
+				long amount = 0, count = 0;
+				for (Iso18245MerchantCategoryCode mcc : mccs) {
+					if (mcc.getCategoryRange() == taxonomy || mcc.getHeadCategory() == taxonomy || isUnder(mcc.getTRBCClassification(), taxonomy)) {
+						amount += amountByOrdinal[mcc.ordinal()];
+						count += countByOrdinal[mcc.ordinal()];
+					}
+				}
+				check(spend.getAmount(taxonomy) == amount && spend.getCount(taxonomy) == count, "spend of", taxonomy);
+			}
+			check(spend.getSchemeTree(ListOrder.BY_CODE, ListOrder.BY_CODE).getAmount() == totalAmount && spend.getThomsonReutersTree(ListOrder.BY_CODE, ListOrder.BY_CODE).getAmount() == totalAmount, "spend trees", totalAmount);
+		}
+	}
+
+	/** Returns true if <code>node</code> is <code>taxonomy</code> or one of its descendants, following the parent links */
+	private static boolean isUnder(ITaxonomy node, ITaxonomy taxonomy) {
+		for (; node != null; node = node.getParent()) if (node == taxonomy) return true;
+		return false;
+	}
+
+	/** Checks the brand abbreviation lookups, from strings, fixed-width fields and bytes, against the MCC getters */
+	private static void checkBrandAbbreviations() {
+		for (PaymentScheme scheme : PaymentScheme.values()) {
+			Map<String, List<Iso18245MerchantCategoryCode>> expected = new HashMap<>();
+			for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) {
+				String abbreviation = mcc.getBrandAbbreviation(scheme);
+				if (abbreviation != null && !abbreviation.trim().isEmpty()) expected.computeIfAbsent(abbreviation.trim().toUpperCase(Locale.ROOT), a -> new ArrayList<>()).add(mcc);
+			}
+			for (Map.Entry<String, List<Iso18245MerchantCategoryCode>> entry : expected.entrySet()) {
+				String record = "|" + entry.getKey().toLowerCase(Locale.ROOT) + "    |"; // as found in a fixed-width record field
+				byte[] bytes = record.getBytes(StandardCharsets.ISO_8859_1);
+				Iso18245MerchantCategoryCode mcc = Iso18245MerchantCategoryCode.lookupBrandAbbreviation(scheme, entry.getKey());
+				check(entry.getValue().contains(mcc)
+						&& Iso18245MerchantCategoryCode.lookupBrandAbbreviation(scheme, record, 1, record.length() - 1) == mcc
+						&& Iso18245MerchantCategoryCode.lookupBrandAbbreviation(scheme, bytes, 1, bytes.length - 2) == mcc
+						&& Iso18245MerchantCategoryCode.lookupBrandAbbreviation(scheme, ByteBuffer.wrap(bytes), 1, bytes.length - 2) == mcc, "brand abbreviation of " + scheme, entry.getKey());
+			}
+			check(Iso18245MerchantCategoryCode.lookupBrandAbbreviation(scheme, "#?") == null, "unknown brand abbreviation of " + scheme, "#?");
+		}
+	}
+
+	/** Checks that the nested list snapshots are immutable at every level, and share their leaf levels across category orders */
+	private static void checkNestedListSnapshots() {
+		MerchantCategoryList byCode = Iso18245MerchantCategoryCode.getSchemeNestedList(ListOrder.BY_CODE, ListOrder.BY_CODE);
+		MerchantCategoryList byDescription = Iso18245MerchantCategoryCode.getSchemeNestedList(ListOrder.BY_DESCRIPTION, ListOrder.BY_CODE);
+		checkImmutable(byCode);
+		checkImmutable(Iso18245MerchantCategoryCode.getThomsonReutersNestedList(ListOrder.BY_DESCRIPTION, ListOrder.BY_DESCRIPTION));
+		Map<Iso18245MerchantCategoryCode, MerchantCategoryList> leaves = new HashMap<>();
+		collectLeaves(byCode, leaves);
+		collectLeaves(byDescription, leaves);
+	}
+
+	/** Checks that <code>list</code> and its sub-levels cannot be modified */
+	private static void checkImmutable(MerchantCategoryList list) {
+		try {
+			list.getList().clear();
+			check(false, "immutable level", list.getLabel());
+		} catch (UnsupportedOperationException e) {
+			// expected: levels are shared
+		}
+		for (Object element : list.getList()) if (element instanceof MerchantCategoryList) checkImmutable((MerchantCategoryList) element);
+	}
+
+	/** Records in <code>leaves</code> the leaf level of each MCC of <code>list</code>, checking that it is the one already recorded if any */
+	private static void collectLeaves(MerchantCategoryList list, Map<Iso18245MerchantCategoryCode, MerchantCategoryList> leaves) {
+		for (Object element : list.getList()) {
+			if (element instanceof MerchantCategoryList) {
+				collectLeaves((MerchantCategoryList) element, leaves);
+			} else {
+				MerchantCategoryList leaf = leaves.putIfAbsent(((MerchantCategoryCode) element).getMCC(), list);
+				check(leaf == null || leaf == list, "shared leaf level", list.getLabel());
+			}
+		}
+	}
+
+	/** Checks the nested list renderings against renderings built from the getters, also when rendered concurrently */
+	private static void checkRenderer() throws IOException {
+		List<MerchantCategoryList> lists = Arrays.asList(
+				Iso18245MerchantCategoryCode.getSchemeNestedList(ListOrder.BY_CODE, ListOrder.BY_DESCRIPTION), 
+				Iso18245MerchantCategoryCode.getThomsonReutersNestedList(ListOrder.BY_DESCRIPTION, ListOrder.BY_CODE));
+		List<String> expected = new ArrayList<>();
+		for (MerchantCategoryList list : lists) {
+			StringBuilder twoSpaces = new StringBuilder(), tab = new StringBuilder(), rendered = new StringBuilder();
+			renderExpected(twoSpaces, list, "  ", 1);
+			renderExpected(tab, list, "\t", 1);
+			list.render(rendered, "\t");
+			check(list.toString().equals(twoSpaces.toString()) && rendered.toString().equals(tab.toString()), "rendering of", list.getLabel());
+			expected.add(twoSpaces.toString());
+		}
+		// concurrent renderings must not interfere with each other
+		check(IntStream.range(0, 64).parallel().allMatch(i -> lists.get(i % 2).toString().equals(expected.get(i % 2))), "concurrent renderings of", lists.size() + " nested lists");
+	}
+
+	/** Appends to <code>out</code> the expected rendering of <code>list</code>, from its getters, its label being indented <code>depth</code> times */
+	private static void renderExpected(StringBuilder out, MerchantCategoryList list, String indent, int depth) {
+		for (int i=0; i<depth; i++) out.append(indent);
+		out.append(list.getLabel()).append(" {\n");
+		for (Object element : list.getList()) {
+			if (element instanceof MerchantCategoryList) {
+				renderExpected(out, (MerchantCategoryList) element, indent, depth + 1);
+			} else {
+				MerchantCategoryCode mcc = (MerchantCategoryCode) element;
+				for (int i=0; i<=depth; i++) out.append(indent);
+				out.append('(').append(mcc.getCodeAsString()).append(") ").append(mcc.getDescription()).append('\n');
+			}
+		}
+		for (int i=0; i<depth; i++) out.append(indent);
+		out.append("}\n");
+	}
+
+	/** Checks that the nested lists grouped by one or two classifications hold each classified MCC under its levels */
+	private static void checkGroupedNestedLists() throws IOException {
+		for (Classification first : Classification.values()) {
+			for (Classification second : Classification.values()) {
+				Classification[] classifications = first == second ? new Classification[] {first} : new Classification[] {first, second};
+				MerchantCategoryList list = Iso18245MerchantCategoryCode.getNestedList(ListOrder.BY_CODE, ListOrder.BY_DESCRIPTION, classifications);
+				check(list == Iso18245MerchantCategoryCode.getNestedList(ListOrder.BY_CODE, ListOrder.BY_DESCRIPTION, classifications.clone()), "cached nested list by", Arrays.toString(classifications));
+				Map<Iso18245MerchantCategoryCode, List<Integer>> paths = new HashMap<>();
+				collectPaths(list, new ArrayList<>(), paths);
+				for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) {
+					List<Integer> expected = new ArrayList<>();
+					for (Classification classification : classifications) expected.add(levelCode(classification, mcc));
+					if (expected.contains(null)) expected = null; // not classified: left out
+					check(Objects.equals(paths.get(mcc), expected), "levels by " + Arrays.toString(classifications) + " of", mcc);
+				}
+			}
+		}
+		Gson gson = new GsonBuilder().excludeFieldsWithoutExposeAnnotation().create();
+		StringWriter json = new StringWriter();
+		JsonWriter writer = new JsonWriter(json);
+		writer.setHtmlSafe(true); // as Gson does
+		Iso18245MerchantCategoryCode.writeNestedListAsJson(ListOrder.BY_CODE, ListOrder.BY_CODE, writer, Classification.VISA_MERCHANT_CATEGORY_GROUP, Classification.MASTERCARD_TRANSACTION_CATEGORY);
+		writer.flush();
+		check(json.toString().equals(gson.toJson(Iso18245MerchantCategoryCode.getNestedList(ListOrder.BY_CODE, ListOrder.BY_CODE, Classification.VISA_MERCHANT_CATEGORY_GROUP, Classification.MASTERCARD_TRANSACTION_CATEGORY))), "JSON stream of nested list by", "MCG/TCC");
+	}
+
+	/** Returns the code of the level of <code>mcc</code> in <code>classification</code>, from the MCC getters, null if not classified */
+	private static Integer levelCode(Classification classification, Iso18245MerchantCategoryCode mcc) {
+		switch (classification) {
+			case MERCHANT_CATEGORY_RANGE: return mcc.getCategoryRange().getCode();
+			case MASTERCARD_MERCHANT_CATEGORY: return mcc.getHeadCategory().getCode();
+			case VISA_MERCHANT_CATEGORY_GROUP: return mcc.getSchemeMCG() == null ? null : mcc.getSchemeMCG().getCode();
+			case MASTERCARD_TRANSACTION_CATEGORY: return mcc.getSchemeTCC() == null ? null : mcc.getSchemeTCC().ordinal();
+			default: return mcc.getTRBCClassification().getCode();
+		}
+	}
+
+	/** Checks the pages of every level of the nested lists against the level children, and the rejection of cursors of other levels */
+	private static void checkTreePage() {
+		for (ListOrder categoryOrder : ListOrder.values()) {
+			for (ListOrder mccOrder : ListOrder.values()) {
+				checkTreePages(true, Iso18245MerchantCategoryCode.getSchemeNestedList(categoryOrder, mccOrder), new int[0], categoryOrder, mccOrder);
+				checkTreePages(false, Iso18245MerchantCategoryCode.getThomsonReutersNestedList(categoryOrder, mccOrder), new int[0], categoryOrder, mccOrder);
+			}
+		}
+		String cursor = Iso18245MerchantCategoryCode.getSchemeNestedListPage(ListOrder.BY_CODE, ListOrder.BY_CODE, new int[0], null, 1).getNextCursor();
+		check(!isRejected(true, new int[0], ListOrder.BY_CODE, cursor), "cursor of its own level", cursor);
+		check(isRejected(false, new int[0], ListOrder.BY_CODE, cursor) && isRejected(true, new int[0], ListOrder.BY_DESCRIPTION, cursor), "cursor of another level", cursor);
+		check(isRejected(true, new int[0], ListOrder.BY_CODE, "#"), "malformed cursor", "#");
+	}
+
+	/** Pages through the level <code>list</code> at <code>path</code> and its sub-levels, checking the pages against the list children */
+	private static void checkTreePages(boolean scheme, MerchantCategoryList list, int[] path, ListOrder categoryOrder, ListOrder mccOrder) {
+		List<TreeItem> items = new ArrayList<>();
+		String cursor = null;
+		do {
+			TreePage page = scheme ? Iso18245MerchantCategoryCode.getSchemeNestedListPage(categoryOrder, mccOrder, path, cursor, 7)
+					: Iso18245MerchantCategoryCode.getThomsonReutersNestedListPage(categoryOrder, mccOrder, path, cursor, 7);
+			items.addAll(page.getItems());
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+		check(items.size() == list.getList().size(), "page items of level", Arrays.toString(path));
+		for (int i=0; i<items.size(); i++) {
+			TreeItem item = items.get(i);
+			Object child = list.getList().get(i);
+			if (child instanceof MerchantCategoryList) {
+				MerchantCategoryList level = (MerchantCategoryList) child;
+				check(item.getCode() == level.getCode() && item.getLabel().equals(level.getLabel()) && item.getChildCount() == level.getList().size(), "page item of level", level.getLabel());
+				int[] subPath = Arrays.copyOf(path, path.length + 1);
+				subPath[path.length] = level.getCode();
+				checkTreePages(scheme, level, subPath, categoryOrder, mccOrder);
+			} else {
+				MerchantCategoryCode mcc = (MerchantCategoryCode) child;
+				check(item.getCode() == mcc.getCode() && item.getLabel().equals(mcc.getDescription()) && item.isLeaf(), "page item of MCC", mcc);
+			}
+		}
+	}
+
+	/** Returns true if <code>cursor</code> is rejected by the page request */
+	private static boolean isRejected(boolean scheme, int[] path, ListOrder categoryOrder, String cursor) {
+		try {
+			if (scheme) Iso18245MerchantCategoryCode.getSchemeNestedListPage(categoryOrder, ListOrder.BY_CODE, path, cursor, 1);
+			else Iso18245MerchantCategoryCode.getThomsonReutersNestedListPage(categoryOrder, ListOrder.BY_CODE, path, cursor, 1);
+			return false;
+		} catch (IllegalArgumentException e) {
+			return true;
+		}
+	}
+
+	/** Checks the range, MCG and TCC lookups by code against a linear scan of their values */
+	private static void checkSchemeCodeLookups() {
+		for (int code=-2; code<=Iso18245MerchantCategoryCode.MAX_CODE+2; code++) {
+			MerchantCategoryRange expected = null;
+			for (MerchantCategoryRange range : MerchantCategoryRange.values()) if (expected == null && range.getStartRange() <= code && code <= range.getEndRange()) expected = range;
+			check(MerchantCategoryRange.lookup(code) == expected, "range of", code);
+		}
+		for (int code=-2; code<=1000; code++) {
+			VisaMerchantCategoryGroup expected = null;
+			for (VisaMerchantCategoryGroup mcg : VisaMerchantCategoryGroup.values()) if (mcg.getCode() == code) expected = mcg;
+			check(VisaMerchantCategoryGroup.lookup(code) == expected, "MCG of", code);
+		}
+		for (char code=0; code<256; code++) {
+			Set<MastercardTransactionCategoryCode> expected = new HashSet<>();
+			for (MastercardTransactionCategoryCode tcc : MastercardTransactionCategoryCode.values()) if (tcc.getCode() == code) expected.add(tcc);
+			check(MastercardTransactionCategoryCode.lookup(code).equals(expected), "TCCs of", (int) code);
+		}
+	}
+
+	/** Checks the MCC allowed by single-rule card control profiles against the MCC classifications */
+	private static void checkCardControlProfile() {
+		List<ITRBCTaxonomy> nodes = new ArrayList<>();
+		nodes.addAll(Arrays.asList(TRBCEconomicSector.values()));
+		nodes.addAll(Arrays.asList(TRBCBusinessSector.values()));
+		nodes.addAll(Arrays.asList(TRBCIndustryGroup.values()));
+		nodes.addAll(Arrays.asList(TRBCIndustry.values()));
+		for (ITRBCTaxonomy node : nodes) {
+			CardControlProfile profile = CardControlProfile.allowByDefault().deny(node).build();
+			Set<Integer> denied = new HashSet<>(); // by code, as several MCC may share a code
+			for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) if (isUnder(mcc.getTRBCClassification(), node)) denied.add(mcc.getCode());
+			for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) check(profile.isAllowed(mcc) != denied.contains(mcc.getCode()), "deny " + node.getDescription() + " for", mcc);
+		}
+		for (VisaMerchantCategoryGroup mcg : VisaMerchantCategoryGroup.values()) {
+			CardControlProfile profile = CardControlProfile.denyByDefault().allow(mcg).build();
+			for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) check(mcc.getSchemeMCG() != mcg || profile.isAllowed(mcc), "allow " + mcg + " for", mcc);
+		}
+		for (MastercardTransactionCategoryCode tcc : MastercardTransactionCategoryCode.values()) {
+			CardControlProfile profile = CardControlProfile.allowByDefault().deny(tcc).build();
+			for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) check(mcc.getSchemeTCC() != tcc || !profile.isAllowed(mcc), "deny " + tcc + " for", mcc);
+		}
+		CardControlProfile conglomerates = CardControlProfile.allowByDefault().deny(TRBCBusinessSector.INDUSTRIAL_CONGLOMERATES).build();
+		check(conglomerates == CardControlProfile.allowByDefault().deny(TRBCBusinessSector.INDUSTRIAL_CONGLOMERATES).build(), "interned profile", conglomerates);
+	}
+
+	/** Checks the decision table of random rules, also swapped into a live table, against the first matching rule */
+	private static void checkDecisionTable() {
+		Iso18245MerchantCategoryCode[] mccs = Iso18245MerchantCategoryCode.values();
+		Iso3166CountryCode[] countries = Iso3166CountryCode.values();
+		Iso4217CurrencyCode[] currencies = Iso4217CurrencyCode.values();
+		VisaMerchantCategoryGroup[] mcgs = VisaMerchantCategoryGroup.values();
+		Random random = new Random(18245);
+		List<MerchantCategorySet> ruleMccs = new ArrayList<>();
+		List<Set<Iso3166CountryCode>> ruleCountries = new ArrayList<>();
+		List<Set<Iso4217CurrencyCode>> ruleCurrencies = new ArrayList<>();
+		DecisionTable.Builder<Integer> builder = DecisionTable.builder(-1);
+		for (int rule=0; rule<200; rule++) { // the value of a rule is its rank
+			RuleBuilder<Integer> when = builder.when();
+			MerchantCategorySet mccSet = null;
+			switch (random.nextInt(4)) {
+				case 0: break; // any MCC
+				case 1: mccSet = MerchantCategorySet.of(mcgs[random.nextInt(mcgs.length)]); break;
+				case 2: int from = random.nextInt(9000); mccSet = MerchantCategorySet.ofRange(from, from + random.nextInt(1000)); break;
+				default: mccSet = MerchantCategorySet.of(mccs[random.nextInt(mccs.length)], mccs[random.nextInt(mccs.length)]); break;
+			}
+			if (mccSet != null) when.mcc(mccSet);
+			Set<Iso3166CountryCode> countrySet = random.nextBoolean() ? null : new HashSet<>();
+			if (countrySet != null) for (int i=random.nextInt(5); i>=0; i--) countrySet.add(countries[random.nextInt(countries.length)]);
+			if (countrySet != null) when.country(countrySet.toArray(new Iso3166CountryCode[countrySet.size()]));
+			Set<Iso4217CurrencyCode> currencySet = random.nextBoolean() ? null : new HashSet<>();
+			if (currencySet != null) for (int i=random.nextInt(3); i>=0; i--) currencySet.add(currencies[random.nextInt(currencies.length)]);
+			if (currencySet != null) when.currency(currencySet.toArray(new Iso4217CurrencyCode[currencySet.size()]));
+			when.then(rule);
+			ruleMccs.add(mccSet);
+			ruleCountries.add(countrySet);
+			ruleCurrencies.add(currencySet);
+		}
+		DecisionTable<Integer> table = builder.build();
+		LiveDecisionTable<Integer> live = new LiveDecisionTable<>(DecisionTable.builder(-1).build());
+		live.swap(table);
+		for (int i=0; i<50000; i++) {
+			int mcc = i % 10 == 0 ? random.nextInt(12000) - 1000 : mccs[random.nextInt(mccs.length)].getCode();
+			Iso3166CountryCode country = i % 50 == 0 ? null : countries[random.nextInt(countries.length)];
+			Iso4217CurrencyCode currency = i % 50 == 1 ? null : currencies[random.nextInt(currencies.length)];
+			int expected = -1;
+			for (int rule=0; rule<ruleMccs.size() && expected < 0; rule++) {
+				if ((ruleMccs.get(rule) == null || ruleMccs.get(rule).contains(mcc)) 
+						&& (ruleCountries.get(rule) == null || ruleCountries.get(rule).contains(country))
+						&& (ruleCurrencies.get(rule) == null || ruleCurrencies.get(rule).contains(currency))) expected = rule;
+			}
+			Iso18245MerchantCategoryCode value = Iso18245MerchantCategoryCode.lookup(mcc);
+			check(table.get(mcc, country, currency) == expected && live.get(mcc, country, currency) == expected && (value == null || table.get(value, country, currency) == expected), "decision of " + country + "/" + currency + " for", mcc);
+		}
+	}
+
+	/** Checks the sets of codes valid per scheme, and the validation of random rows, against the MCC data */
+	private static void checkSchemeValidity() {
+		for (PaymentScheme scheme : PaymentScheme.values()) {
+			Set<Integer> expected = new HashSet<>();
+			for (Iso18245MerchantCategoryCode mcc : Iso18245MerchantCategoryCode.values()) if (mcc.isValidFor(scheme)) expected.add(mcc.getCode());
+			MerchantCategorySet valid = MerchantCategorySet.of(scheme);
+			for (int code=-1; code<=Iso18245MerchantCategoryCode.MAX_CODE+1; code++) check(valid.contains(code) == expected.contains(code), "validity for " + scheme + " of", code);
+		}
+		int[] codes = new int[100000];
+		PaymentScheme[] schemes = new PaymentScheme[codes.length];
+		for (int i=0; i<codes.length; i++) {
+			codes[i] = (i * 7919) % 11000 - 500;
+			schemes[i] = i % 50 == 0 ? null : PaymentScheme.values()[i % 3];
+		}
+		MerchantCategoryValidator validator = new MerchantCategoryValidator(codes.length);
+		int invalid = validator.validate(codes, schemes, 0, codes.length), expected = 0;
+		for (int i=0; i<codes.length; i++) {
+			boolean isInvalid = schemes[i] == null || !MerchantCategorySet.of(schemes[i]).contains(codes[i]);
+			if (isInvalid) expected++;
+			check(validator.isInvalid(i) == isInvalid, "validation of row", i);
+		}
+		check(invalid == expected && validator.validateParallel(codes, schemes, 0, codes.length) == expected, "invalid rows", invalid);
+	}
+
 	private static String getFinalFileName(String path) {
 		File tmp = new File (path);
 		String date = new SimpleDateFormat("YYYY-MMDDThh:mm:ss.ss").format(Calendar.getInstance());
@@ -354,9 +1157,11 @@ public class Test {
 			//step = "ISO 4217 Currency Code"; testCurrencies(printer);
 			//step = "ISO 639 Language Code"; testLanguages(printer);
 			//step = "ISO 18245 Merchant Category Code"; testMCC(printer);
+			step = "ISO 18245 Merchant Category Code checks"; checkMCC(printer);
 		} catch (Throwable e) {
 			printer.println("Caught unexpected error while testing " + step);
 			e.printStackTrace(printer);
+			System.exit(1);
 		}
 
 	}